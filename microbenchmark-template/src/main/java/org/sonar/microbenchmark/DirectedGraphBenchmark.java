@@ -0,0 +1,192 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.microbenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sonar.graph.CompactDirectedGraph;
+import org.sonar.graph.CycleDetector;
+import org.sonar.graph.DirectedGraph;
+import org.sonar.graph.DirectedGraphAccessor;
+import org.sonar.graph.Dsm;
+import org.sonar.graph.StringEdge;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DirectedGraph} (nested hash maps) with {@link CompactDirectedGraph} (int arrays).
+ * Memory allocated to build each implementation is reported by the GC profiler
+ * (metric gc.alloc.rate.norm of build_directed_graph and build_compact_graph):
+ * <pre>java -jar target/microbenchmark.jar DirectedGraphBenchmark -prof gc</pre>
+ * Both builds reuse the same vertex and edge objects, so they are not counted in any of them. The allocations
+ * of the compact graph include its array of weights.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+public class DirectedGraphBenchmark {
+
+  private static final int MAX_SEARCH_DEPTH = 4;
+
+  @Param({"100", "1000", "5000"})
+  public int size;
+
+  DirectedGraph<String, StringEdge> graph;
+  CompactDirectedGraph<String, StringEdge> compactGraph;
+
+  @Setup
+  public void setup() throws Exception {
+    graph = newGraph(size);
+    compactGraph = CompactDirectedGraph.copyOf(graph);
+  }
+
+  @Benchmark
+  public Object build_directed_graph() throws Exception {
+    DirectedGraph<String, StringEdge> copy = DirectedGraph.createStringDirectedGraph();
+    copy.addVertices(graph.getVertices());
+    for (String vertex : graph.getVertices()) {
+      for (StringEdge edge : graph.getOutgoingEdges(vertex)) {
+        copy.addEdge(edge);
+      }
+    }
+    return copy;
+  }
+
+  @Benchmark
+  public Object build_compact_graph() throws Exception {
+    return CompactDirectedGraph.copyOf(graph);
+  }
+
+  @Benchmark
+  public int lookup_edges_in_directed_graph() throws Exception {
+    return lookupEdges(graph);
+  }
+
+  @Benchmark
+  public int lookup_edges_in_compact_graph() throws Exception {
+    return lookupEdges(compactGraph);
+  }
+
+  @Benchmark
+  public int lookup_weights_in_directed_graph() throws Exception {
+    int weight = 0;
+    for (String vertex : graph.getVertices()) {
+      for (StringEdge edge : graph.getOutgoingEdges(vertex)) {
+        weight += graph.getEdge(vertex, edge.getTo()).getWeight();
+      }
+    }
+    return weight;
+  }
+
+  @Benchmark
+  public int lookup_weights_in_compact_graph() throws Exception {
+    int weight = 0;
+    for (String vertex : compactGraph.getVertices()) {
+      for (StringEdge edge : compactGraph.getOutgoingEdges(vertex)) {
+        weight += compactGraph.getWeight(vertex, edge.getTo());
+      }
+    }
+    return weight;
+  }
+
+  @Benchmark
+  public boolean detect_cycles_in_directed_graph() throws Exception {
+    return new CycleDetector<String>(graph).detectCyclesWithMaxSearchDepth(MAX_SEARCH_DEPTH).isEmpty();
+  }
+
+  @Benchmark
+  public boolean detect_cycles_in_compact_graph() throws Exception {
+    return new CycleDetector<String>(compactGraph).detectCyclesWithMaxSearchDepth(MAX_SEARCH_DEPTH).isEmpty();
+  }
+
+  @Benchmark
+  public int dsm_of_directed_graph() throws Exception {
+    return new Dsm<String>(graph).getDimension();
+  }
+
+  @Benchmark
+  public int dsm_of_compact_graph() throws Exception {
+    return new Dsm<String>(compactGraph).getDimension();
+  }
+
+  private static int lookupEdges(DirectedGraphAccessor<String, StringEdge> graph) {
+    int weight = 0;
+    for (String vertex : graph.getVertices()) {
+      for (StringEdge edge : graph.getOutgoingEdges(vertex)) {
+        weight += edge.getWeight();
+        if (graph.hasEdge(edge.getTo(), vertex)) {
+          weight++;
+        }
+      }
+    }
+    return weight;
+  }
+
+  /**
+   * Layered graph similar to dependencies between files: each vertex mostly depends on
+   * the next vertices, and 2% of edges go backward and create local cycles.
+   */
+  static DirectedGraph<String, StringEdge> newGraph(int size) {
+    Random random = new Random(size);
+    DirectedGraph<String, StringEdge> graph = DirectedGraph.createStringDirectedGraph();
+    for (int i = 0; i < size; i++) {
+      graph.addVertex("org/sonar/File" + i + ".java");
+    }
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < 5; j++) {
+        int target = random.nextInt(50) < 1 ? Math.max(0, i - 1 - random.nextInt(10)) : Math.min(size - 1, i + 1 + random.nextInt(20));
+        String from = "org/sonar/File" + i + ".java";
+        String to = "org/sonar/File" + target + ".java";
+        if (target != i && !graph.hasEdge(from, to)) {
+          graph.addEdge(from, to, 1 + random.nextInt(10));
+        }
+      }
+    }
+    return graph;
+  }
+
+  /**
+   * You can this benchmark with maven command-line (see run.sh) or by executing this method
+   * in IDE
+   */
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+      .include(DirectedGraphBenchmark.class.getSimpleName())
+      .build();
+    new Runner(opt).run();
+  }
+}
@@ -23,6 +23,7 @@ import org.sonar.batch.components.TimeMachineConfiguration;
 
 import org.sonar.batch.components.PastSnapshot;
 import org.sonar.batch.components.PastMeasuresLoader;
+import org.sonar.batch.components.ModulePastMeasures;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang.StringUtils;
 import org.sonar.api.batch.Decorator;
@@ -38,13 +39,12 @@ import org.sonar.api.measures.RuleMeasure;
 import org.sonar.api.resources.Project;
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.api.resources.Resource;
+import org.sonar.api.resources.ResourceUtils;
 import org.sonar.api.resources.Scopes;
 import org.sonar.api.rules.Rule;
 import org.sonar.api.rules.RuleFinder;
 import org.sonar.api.technicaldebt.batch.Characteristic;
 
-import javax.annotation.Nullable;
-
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +56,7 @@ public class VariationDecorator implements Decorator {
   private MetricFinder metricFinder;
   private PastMeasuresLoader pastMeasuresLoader;
   private RuleFinder ruleFinder;
+  private final Map<Integer, ModulePastMeasures> pastMeasuresByPeriodIndex = Maps.newHashMap();
 
   public VariationDecorator(PastMeasuresLoader pastMeasuresLoader, MetricFinder metricFinder, TimeMachineConfiguration timeMachineConfiguration, RuleFinder ruleFinder) {
     this(pastMeasuresLoader, metricFinder, timeMachineConfiguration.getProjectPastSnapshots(), ruleFinder);
@@ -80,11 +81,15 @@ public class VariationDecorator implements Decorator {
 
   @Override
   public void decorate(Resource resource, DecoratorContext context) {
-    for (PastSnapshot projectPastSnapshot : projectPastSnapshots) {
-      if (shouldComputeVariation(resource)) {
+    if (shouldComputeVariation(resource)) {
+      for (PastSnapshot projectPastSnapshot : projectPastSnapshots) {
         computeVariation(resource, context, projectPastSnapshot);
       }
     }
+    if (ResourceUtils.isProject(resource)) {
+      // the module is the last decorated resource
+      pastMeasuresByPeriodIndex.clear();
+    }
   }
 
   boolean shouldComputeVariation(Resource resource) {
@@ -97,16 +102,26 @@ public class VariationDecorator implements Decorator {
   }
 
   private void computeVariation(Resource resource, DecoratorContext context, PastSnapshot pastSnapshot) {
-    List<Object[]> pastMeasures = pastMeasuresLoader.getPastMeasures(resource, pastSnapshot);
-    compareWithPastMeasures(context, pastSnapshot.getIndex(), pastMeasures);
+    ModulePastMeasures pastMeasures = getPastMeasuresOfModule(context.getProject(), pastSnapshot);
+    if (pastMeasures.hasComponent(resource.getEffectiveKey())) {
+      compareWithPastMeasures(context, resource.getEffectiveKey(), pastSnapshot.getIndex(), pastMeasures);
+    }
   }
 
-  private void compareWithPastMeasures(DecoratorContext context, int index, List<Object[]> pastMeasures) {
-    Map<MeasureKey, Object[]> pastMeasuresByKey = Maps.newHashMap();
-    for (Object[] pastMeasure : pastMeasures) {
-      pastMeasuresByKey.put(new MeasureKey(pastMeasure), pastMeasure);
+  /**
+   * Past measures of all the directories of the module are loaded at once, instead of
+   * executing one query per directory and per period.
+   */
+  private ModulePastMeasures getPastMeasuresOfModule(Project module, PastSnapshot pastSnapshot) {
+    ModulePastMeasures pastMeasures = pastMeasuresByPeriodIndex.get(pastSnapshot.getIndex());
+    if (pastMeasures == null) {
+      pastMeasures = pastMeasuresLoader.getPastMeasuresOfModule(module.getEffectiveKey(), pastSnapshot);
+      pastMeasuresByPeriodIndex.put(pastSnapshot.getIndex(), pastMeasures);
     }
+    return pastMeasures;
+  }
 
+  private void compareWithPastMeasures(DecoratorContext context, String componentKey, int index, ModulePastMeasures pastMeasures) {
     // for each measure, search equivalent past measure
     for (Measure measure : context.getMeasures(MeasuresFilters.all())) {
       // compare with past measure
@@ -129,16 +144,19 @@ public class VariationDecorator implements Decorator {
         }
       }
 
-      Object[] pastMeasure = pastMeasuresByKey.get(new MeasureKey(metricId, characteristicId, personId, ruleId));
-      if (updateVariation(measure, pastMeasure, index)) {
+      double pastValue = pastMeasures.getValue(componentKey, metricId, ruleId, characteristicId, personId);
+      if (updateVariation(measure, pastValue, index)) {
         context.saveMeasure(measure);
       }
     }
   }
 
-  boolean updateVariation(Measure measure, Object[] pastMeasure, int index) {
-    if (pastMeasure != null && PastMeasuresLoader.hasValue(pastMeasure) && measure.getValue() != null) {
-      double variation = measure.getValue() - PastMeasuresLoader.getValue(pastMeasure);
+  /**
+   * @param pastValue {@link Double#NaN} if there is no past value
+   */
+  boolean updateVariation(Measure measure, double pastValue, int index) {
+    if (!Double.isNaN(pastValue) && measure.getValue() != null) {
+      double variation = measure.getValue() - pastValue;
       measure.setVariation(index, variation);
       return true;
     }
@@ -149,58 +167,4 @@ public class VariationDecorator implements Decorator {
   public String toString() {
     return getClass().getSimpleName();
   }
-
-  static final class MeasureKey {
-    int metricId;
-    Integer characteristicId;
-    Integer personId;
-    Integer ruleId;
-
-    MeasureKey(Object[] pastFields) {
-      metricId = PastMeasuresLoader.getMetricId(pastFields);
-      characteristicId = PastMeasuresLoader.getCharacteristicId(pastFields);
-      personId = PastMeasuresLoader.getPersonId(pastFields);
-      ruleId = PastMeasuresLoader.getRuleId(pastFields);
-    }
-
-    MeasureKey(int metricId, @Nullable Integer characteristicId, @Nullable Integer personId, @Nullable Integer ruleId) {
-      this.metricId = metricId;
-      this.characteristicId = characteristicId;
-      this.personId = personId;
-      this.ruleId = ruleId;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      MeasureKey that = (MeasureKey) o;
-      if (metricId != that.metricId) {
-        return false;
-      }
-      if (characteristicId != null ? !characteristicId.equals(that.characteristicId) : that.characteristicId != null) {
-        return false;
-      }
-      if (personId != null ? !personId.equals(that.personId) : that.personId != null) {
-        return false;
-      }
-      if (ruleId != null ? !ruleId.equals(that.ruleId) : that.ruleId != null) {
-        return false;
-      }
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      int result = metricId;
-      result = 31 * result + (characteristicId != null ? characteristicId.hashCode() : 0);
-      result = 31 * result + (personId != null ? personId.hashCode() : 0);
-      result = 31 * result + (ruleId != null ? ruleId.hashCode() : 0);
-      return result;
-    }
-  }
 }
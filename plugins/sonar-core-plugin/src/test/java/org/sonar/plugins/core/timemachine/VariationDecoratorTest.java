@@ -23,6 +23,7 @@ import org.sonar.batch.components.TimeMachineConfiguration;
 
 import org.sonar.batch.components.PastSnapshot;
 import org.sonar.batch.components.PastMeasuresLoader;
+import org.sonar.batch.components.ModulePastMeasures;
 import org.junit.Test;
 import org.mockito.Matchers;
 import org.sonar.api.batch.DecoratorContext;
@@ -50,6 +51,9 @@ import static org.mockito.Mockito.when;
 
 public class VariationDecoratorTest extends AbstractDbUnitTestCase {
 
+  private static final String PROJECT_KEY = "project";
+  private static final String DIR_KEY = "project:org/foo";
+
   public static final int NCLOC_ID = 12;
   public static final Metric NCLOC = new Metric("ncloc").setId(NCLOC_ID);
 
@@ -70,23 +74,25 @@ public class VariationDecoratorTest extends AbstractDbUnitTestCase {
 
   @Test
   public void shouldCompareAndSaveVariation() {
-    Resource dir = Directory.create("org/foo");
+    Resource dir = Directory.create("org/foo").setEffectiveKey(DIR_KEY);
 
     PastMeasuresLoader pastMeasuresLoader = mock(PastMeasuresLoader.class);
     PastSnapshot pastSnapshot1 = new PastSnapshot("days", new Date()).setIndex(1);
     PastSnapshot pastSnapshot3 = new PastSnapshot("days", new Date()).setIndex(3);
 
     // first past analysis
-    when(pastMeasuresLoader.getPastMeasures(dir, pastSnapshot1)).thenReturn(Arrays.asList(
-      new Object[] {NCLOC_ID, null, null, null, 180.0},
-      new Object[] {COVERAGE_ID, null, null, null, 75.0}));
+    ModulePastMeasures pastMeasures1 = new ModulePastMeasures();
+    pastMeasures1.add(DIR_KEY, NCLOC_ID, null, null, null, 180.0);
+    pastMeasures1.add(DIR_KEY, COVERAGE_ID, null, null, null, 75.0);
+    when(pastMeasuresLoader.getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot1)).thenReturn(pastMeasures1);
 
     // second past analysis
-    when(pastMeasuresLoader.getPastMeasures(dir, pastSnapshot3)).thenReturn(Arrays.<Object[]>asList(
-      new Object[] {NCLOC_ID, null, null, null, 240.0}));
+    ModulePastMeasures pastMeasures3 = new ModulePastMeasures();
+    pastMeasures3.add(DIR_KEY, NCLOC_ID, null, null, null, 240.0);
+    when(pastMeasuresLoader.getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot3)).thenReturn(pastMeasures3);
 
     // current analysis
-    DecoratorContext context = mock(DecoratorContext.class);
+    DecoratorContext context = newContext();
     Measure currentNcloc = newMeasure(NCLOC, 200.0);
     Measure currentCoverage = newMeasure(COVERAGE, 80.0);
     when(context.getMeasures(Matchers.<MeasuresFilter>anyObject())).thenReturn(Arrays.asList(currentNcloc, currentCoverage));
@@ -118,19 +124,23 @@ public class VariationDecoratorTest extends AbstractDbUnitTestCase {
     when(ruleFinder.findByKey(rule1.ruleKey())).thenReturn(rule1);
     when(ruleFinder.findByKey(rule2.ruleKey())).thenReturn(rule2);
 
-    Resource dir = Directory.create("org/foo");
+    Resource dir = Directory.create("org/foo").setEffectiveKey(DIR_KEY);
 
     PastMeasuresLoader pastMeasuresLoader = mock(PastMeasuresLoader.class);
     PastSnapshot pastSnapshot1 = new PastSnapshot("days", new Date()).setIndex(1);
 
     // first past analysis
-    when(pastMeasuresLoader.getPastMeasures(dir, pastSnapshot1)).thenReturn(Arrays.asList(
-      new Object[] {VIOLATIONS_ID, null, null, null, 180.0},// total
-      new Object[] {VIOLATIONS_ID, null, null, rule1.getId(), 100.0},// rule 1
-      new Object[] {VIOLATIONS_ID, null, null, rule2.getId(), 80.0})); // rule 2
+    ModulePastMeasures pastMeasures = new ModulePastMeasures();
+    // total
+    pastMeasures.add(DIR_KEY, VIOLATIONS_ID, null, null, null, 180.0);
+    // rule 1
+    pastMeasures.add(DIR_KEY, VIOLATIONS_ID, rule1.getId(), null, null, 100.0);
+    // rule 2
+    pastMeasures.add(DIR_KEY, VIOLATIONS_ID, rule2.getId(), null, null, 80.0);
+    when(pastMeasuresLoader.getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot1)).thenReturn(pastMeasures);
 
     // current analysis
-    DecoratorContext context = mock(DecoratorContext.class);
+    DecoratorContext context = newContext();
     Measure violations = newMeasure(VIOLATIONS, 200.0);
     Measure violationsRule1 = RuleMeasure.createForRule(VIOLATIONS, rule1, 130.0);
     Measure violationsRule2 = RuleMeasure.createForRule(VIOLATIONS, rule2, 70.0);
@@ -143,6 +153,41 @@ public class VariationDecoratorTest extends AbstractDbUnitTestCase {
     verify(context, times(3)).saveMeasure(Matchers.<Measure>anyObject());
 
     assertThat(violations.getVariation1()).isEqualTo(20.0);
+    assertThat(violationsRule1.getVariation1()).isEqualTo(30.0);
+    assertThat(violationsRule2.getVariation1()).isEqualTo(-10.0);
+  }
+
+  @Test
+  public void load_past_measures_once_per_module_and_period() {
+    Resource dir1 = Directory.create("org/foo").setEffectiveKey(DIR_KEY);
+    Resource dir2 = Directory.create("org/bar").setEffectiveKey(PROJECT_KEY + ":org/bar");
+
+    PastMeasuresLoader pastMeasuresLoader = mock(PastMeasuresLoader.class);
+    PastSnapshot pastSnapshot1 = new PastSnapshot("days", new Date()).setIndex(1);
+    ModulePastMeasures pastMeasures = new ModulePastMeasures();
+    pastMeasures.add(DIR_KEY, NCLOC_ID, null, null, null, 180.0);
+    when(pastMeasuresLoader.getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot1)).thenReturn(pastMeasures);
+
+    DecoratorContext context = newContext();
+    Measure currentNcloc = newMeasure(NCLOC, 200.0);
+    when(context.getMeasures(Matchers.<MeasuresFilter>anyObject())).thenReturn(Arrays.asList(currentNcloc));
+
+    VariationDecorator decorator = new VariationDecorator(pastMeasuresLoader, mock(MetricFinder.class), Arrays.asList(pastSnapshot1), mock(RuleFinder.class));
+    decorator.decorate(dir1, context);
+    decorator.decorate(dir2, context);
+
+    verify(pastMeasuresLoader, times(1)).getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot1);
+    // no past measures on dir2
+    verify(context, times(1)).saveMeasure(Matchers.<Measure>anyObject());
+    assertThat(currentNcloc.getVariation1()).isEqualTo(20.0);
+  }
+
+  private DecoratorContext newContext() {
+    DecoratorContext context = mock(DecoratorContext.class);
+    Project project = new Project(PROJECT_KEY);
+    project.setEffectiveKey(PROJECT_KEY);
+    when(context.getProject()).thenReturn(project);
+    return context;
   }
 
   private Measure newMeasure(Metric metric, double value) {
@@ -19,9 +19,14 @@
  */
 package org.sonar.plugins.emailnotifications;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.sun.mail.smtp.SMTPSendFailedException;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.mail.EmailException;
 import org.apache.commons.mail.SimpleEmail;
+import org.picocontainer.Startable;
 import org.sonar.api.config.EmailSettings;
 import org.sonar.api.database.model.User;
 import org.sonar.api.notifications.Notification;
@@ -33,6 +38,10 @@ import org.sonar.api.utils.log.Loggers;
 import org.sonar.plugins.emailnotifications.api.EmailMessage;
 import org.sonar.plugins.emailnotifications.api.EmailTemplate;
 
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+
 import java.net.MalformedURLException;
 import java.net.URL;
 
@@ -46,7 +55,7 @@ import java.net.URL;
  *
  * @since 2.10
  */
-public class EmailNotificationChannel extends NotificationChannel {
+public class EmailNotificationChannel extends NotificationChannel implements Startable {
 
   private static final Logger LOG = Loggers.get(EmailNotificationChannel.class);
 
@@ -83,14 +92,51 @@ public class EmailNotificationChannel extends NotificationChannel {
   private static final String FROM_NAME_DEFAULT = "SonarQube";
   private static final String SUBJECT_DEFAULT = "Notification";
 
+  /**
+   * Maximum number of SMTP connections kept open. It should not be lower than the number of threads
+   * delivering notifications on this channel (property "sonar.notifications.channelThreads").
+   */
+  private static final int MAX_CONNECTIONS = 4;
+
+  /**
+   * Connections idle for longer are closed before being reused. Most SMTP servers drop
+   * idle clients after 5 minutes.
+   */
+  private static final long MAX_IDLE_MS = 60000L;
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final long RETRY_DELAY_MS = 1000L;
+
   private EmailSettings configuration;
   private EmailTemplate[] templates;
   private UserFinder userFinder;
+  private final SmtpTransportPool transports;
+  private final long retryDelayMs;
 
   public EmailNotificationChannel(EmailSettings configuration, EmailTemplate[] templates, UserFinder userFinder) {
+    this(configuration, templates, userFinder, new SmtpTransportPool(MAX_CONNECTIONS, MAX_IDLE_MS), RETRY_DELAY_MS);
+  }
+
+  @VisibleForTesting
+  EmailNotificationChannel(EmailSettings configuration, EmailTemplate[] templates, UserFinder userFinder, SmtpTransportPool transports, long retryDelayMs) {
     this.configuration = configuration;
     this.templates = templates;
     this.userFinder = userFinder;
+    this.transports = transports;
+    this.retryDelayMs = retryDelayMs;
+  }
+
+  @Override
+  public void start() {
+    // nothing to do, SMTP connections are opened on demand
+  }
+
+  /**
+   * Closes the idle SMTP connections kept open by the pool.
+   */
+  @Override
+  public void stop() {
+    transports.close();
   }
 
   @Override
@@ -126,64 +172,132 @@ public class EmailNotificationChannel extends NotificationChannel {
       LOG.debug("SMTP host was not configured - email will not be sent");
       return;
     }
+    for (int attempt = 1;; attempt++) {
+      try {
+        sendWithPooledTransport(emailMessage);
+        return;
+      } catch (EmailException e) {
+        LOG.error("Unable to send email", e);
+        return;
+      } catch (MessagingException e) {
+        if (attempt >= MAX_ATTEMPTS || !isTransient(e)) {
+          LOG.error("Unable to send email", e);
+          return;
+        }
+        LOG.warn("Unable to send email (attempt {}/{}), will retry: {}", attempt, MAX_ATTEMPTS, e.getMessage());
+        if (!sleep(retryDelayMs << (attempt - 1))) {
+          LOG.error("Interrupted before retrying to send email", e);
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Rejected recipients and authentication failures are definitive. Connection failures
+   * and SMTP replies 4xx (for example "421 Service not available") are worth a retry.
+   */
+  private static boolean isTransient(MessagingException e) {
+    if (e instanceof AuthenticationFailedException) {
+      return false;
+    }
+    if (e instanceof SMTPSendFailedException) {
+      int code = ((SMTPSendFailedException) e).getReturnCode();
+      return code >= 400 && code < 500;
+    }
+    return !(e instanceof SendFailedException);
+  }
+
+  private static boolean sleep(long ms) {
     try {
-      send(emailMessage);
-    } catch (EmailException e) {
-      LOG.error("Unable to send email", e);
+      Thread.sleep(ms);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Sends through a SMTP connection that is kept open and reused for the next messages.
+   */
+  private void sendWithPooledTransport(EmailMessage emailMessage) throws EmailException, MessagingException {
+    ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+    try {
+      SimpleEmail email = createEmail(emailMessage);
+      email.buildMimeMessage();
+      transports.send(settingsKey(), email.getMailSession(), email.getMimeMessage());
+    } finally {
+      Thread.currentThread().setContextClassLoader(classloader);
     }
   }
 
+  /**
+   * Sends through a new SMTP connection, closed once the message is sent.
+   */
   private void send(EmailMessage emailMessage) throws EmailException {
     // Trick to correctly initilize javax.mail library
     ClassLoader classloader = Thread.currentThread().getContextClassLoader();
     Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+    try {
+      createEmail(emailMessage).send();
+    } finally {
+      Thread.currentThread().setContextClassLoader(classloader);
+    }
+  }
 
+  private SimpleEmail createEmail(EmailMessage emailMessage) throws EmailException {
+    LOG.debug("Sending email: {}", emailMessage);
+    String host = null;
     try {
-      LOG.debug("Sending email: {}", emailMessage);
-      String host = null;
-      try {
-        host = new URL(configuration.getServerBaseURL()).getHost();
-      } catch (MalformedURLException e) {
-        // ignore
-      }
+      host = new URL(configuration.getServerBaseURL()).getHost();
+    } catch (MalformedURLException e) {
+      // ignore
+    }
 
-      SimpleEmail email = new SimpleEmail();
-      if (StringUtils.isNotBlank(host)) {
-        /*
-         * Set headers for proper threading: GMail will not group messages, even if they have same subject, but don't have "In-Reply-To" and
-         * "References" headers. TODO investigate threading in other clients like KMail, Thunderbird, Outlook
-         */
-        if (StringUtils.isNotEmpty(emailMessage.getMessageId())) {
-          String messageId = "<" + emailMessage.getMessageId() + "@" + host + ">";
-          email.addHeader(IN_REPLY_TO_HEADER, messageId);
-          email.addHeader(REFERENCES_HEADER, messageId);
-        }
-        // Set headers for proper filtering
-        email.addHeader(LIST_ID_HEADER, "SonarQube <sonar." + host + ">");
-        email.addHeader(LIST_ARCHIVE_HEADER, configuration.getServerBaseURL());
+    SimpleEmail email = new SimpleEmail();
+    if (StringUtils.isNotBlank(host)) {
+      /*
+       * Set headers for proper threading: GMail will not group messages, even if they have same subject, but don't have "In-Reply-To" and
+       * "References" headers. TODO investigate threading in other clients like KMail, Thunderbird, Outlook
+       */
+      if (StringUtils.isNotEmpty(emailMessage.getMessageId())) {
+        String messageId = "<" + emailMessage.getMessageId() + "@" + host + ">";
+        email.addHeader(IN_REPLY_TO_HEADER, messageId);
+        email.addHeader(REFERENCES_HEADER, messageId);
       }
-      // Set general information
-      email.setCharset("UTF-8");
-      String from = StringUtils.isBlank(emailMessage.getFrom()) ? FROM_NAME_DEFAULT : emailMessage.getFrom() + " (SonarQube)";
-      email.setFrom(configuration.getFrom(), from);
-      email.addTo(emailMessage.getTo(), " ");
-      String subject = StringUtils.defaultIfBlank(StringUtils.trimToEmpty(configuration.getPrefix()) + " ", "")
-        + StringUtils.defaultString(emailMessage.getSubject(), SUBJECT_DEFAULT);
-      email.setSubject(subject);
-      email.setMsg(emailMessage.getMessage());
-      // Send
-      email.setHostName(configuration.getSmtpHost());
-      configureSecureConnection(email);
-      if (StringUtils.isNotBlank(configuration.getSmtpUsername()) || StringUtils.isNotBlank(configuration.getSmtpPassword())) {
-        email.setAuthentication(configuration.getSmtpUsername(), configuration.getSmtpPassword());
-      }
-      email.setSocketConnectionTimeout(SOCKET_TIMEOUT);
-      email.setSocketTimeout(SOCKET_TIMEOUT);
-      email.send();
-
-    } finally {
-      Thread.currentThread().setContextClassLoader(classloader);
+      // Set headers for proper filtering
+      email.addHeader(LIST_ID_HEADER, "SonarQube <sonar." + host + ">");
+      email.addHeader(LIST_ARCHIVE_HEADER, configuration.getServerBaseURL());
     }
+    // Set general information
+    email.setCharset("UTF-8");
+    String from = StringUtils.isBlank(emailMessage.getFrom()) ? FROM_NAME_DEFAULT : emailMessage.getFrom() + " (SonarQube)";
+    email.setFrom(configuration.getFrom(), from);
+    email.addTo(emailMessage.getTo(), " ");
+    String subject = StringUtils.defaultIfBlank(StringUtils.trimToEmpty(configuration.getPrefix()) + " ", "")
+      + StringUtils.defaultString(emailMessage.getSubject(), SUBJECT_DEFAULT);
+    email.setSubject(subject);
+    email.setMsg(emailMessage.getMessage());
+    // Set connection
+    email.setHostName(configuration.getSmtpHost());
+    configureSecureConnection(email);
+    if (StringUtils.isNotBlank(configuration.getSmtpUsername()) || StringUtils.isNotBlank(configuration.getSmtpPassword())) {
+      email.setAuthentication(configuration.getSmtpUsername(), configuration.getSmtpPassword());
+    }
+    email.setSocketConnectionTimeout(SOCKET_TIMEOUT);
+    email.setSocketTimeout(SOCKET_TIMEOUT);
+    return email;
+  }
+
+  /**
+   * Pooled connections can't be reused when these settings are changed by administrators. The key is hashed,
+   * so that the SMTP password is not kept in clear in the pool.
+   */
+  private String settingsKey() {
+    return DigestUtils.sha256Hex(Joiner.on('|').useForNull("").join(configuration.getSmtpHost(), configuration.getSmtpPort(),
+      configuration.getSecureConnection(), configuration.getSmtpUsername(), configuration.getSmtpPassword()));
   }
 
   private void configureSecureConnection(SimpleEmail email) {
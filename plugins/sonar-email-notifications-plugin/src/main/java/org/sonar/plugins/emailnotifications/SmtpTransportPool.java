@@ -0,0 +1,185 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.plugins.emailnotifications;
+
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import javax.annotation.CheckForNull;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small pool of connected and authenticated SMTP transports. A transport is reused for consecutive messages,
+ * so that the TCP connection, the TLS handshake and the authentication are done once per connection
+ * instead of once per message.
+ * <p/>
+ * Transports are bound to the SMTP settings they have been opened with. They are closed as soon as
+ * settings change, when they have been idle for too long or when the connection failed.
+ */
+class SmtpTransportPool {
+
+  private static final Logger LOG = Loggers.get(SmtpTransportPool.class);
+
+  private final int maxTransports;
+  private final long maxIdleMs;
+  private final Semaphore permits;
+  private final Deque<PooledTransport> idle = new ArrayDeque<>();
+  private final AtomicLong openedConnections = new AtomicLong();
+  private String settingsKey = null;
+
+  SmtpTransportPool(int maxTransports, long maxIdleMs) {
+    this.maxTransports = maxTransports;
+    this.maxIdleMs = maxIdleMs;
+    this.permits = new Semaphore(maxTransports, true);
+  }
+
+  /**
+   * Sends the message through a pooled transport, opened from the given session if none is available.
+   *
+   * @param settingsKey identifies the SMTP settings (host, port, security, credentials) used to create <code>session</code>.
+   *                    It must not contain credentials in clear.
+   * @throws MessagingException if the message can not be sent. The transport is then closed and not reused, except
+   * if the message has been rejected by a connected server, for example because of an invalid recipient.
+   */
+  void send(String settingsKey, Session session, MimeMessage message) throws MessagingException {
+    acquirePermit();
+    PooledTransport transport = null;
+    boolean reusable = false;
+    try {
+      transport = borrow(settingsKey, session);
+      message.saveChanges();
+      transport.transport.sendMessage(message, message.getAllRecipients());
+      reusable = true;
+    } catch (SendFailedException e) {
+      // the message is rejected, but the connection may still be healthy
+      reusable = transport != null && transport.transport.isConnected();
+      throw e;
+    } finally {
+      if (transport != null) {
+        giveBack(settingsKey, transport, reusable);
+      }
+      permits.release();
+    }
+  }
+
+  /**
+   * Closes all idle transports. Transports in use are closed when given back.
+   */
+  synchronized void close() {
+    settingsKey = null;
+    closeIdle();
+  }
+
+  int maxTransports() {
+    return maxTransports;
+  }
+
+  synchronized int idleTransports() {
+    return idle.size();
+  }
+
+  long openedConnections() {
+    return openedConnections.get();
+  }
+
+  private void acquirePermit() throws MessagingException {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("Interrupted while waiting for a SMTP connection", e);
+    }
+  }
+
+  private PooledTransport borrow(String key, Session session) throws MessagingException {
+    PooledTransport pooled = pollIdle(key);
+    // liveness is checked out of the lock, as it requires a round-trip to server
+    if (pooled != null) {
+      if (pooled.transport.isConnected()) {
+        return pooled;
+      }
+      close(pooled);
+    }
+    Transport transport = session.getTransport();
+    transport.connect();
+    openedConnections.incrementAndGet();
+    return new PooledTransport(transport);
+  }
+
+  @CheckForNull
+  private synchronized PooledTransport pollIdle(String key) {
+    if (!key.equals(settingsKey)) {
+      closeIdle();
+      settingsKey = key;
+    }
+    long now = System.currentTimeMillis();
+    PooledTransport pooled;
+    while ((pooled = idle.pollFirst()) != null && now - pooled.lastUsedAt > maxIdleMs) {
+      close(pooled);
+    }
+    return pooled;
+  }
+
+  private void giveBack(String key, PooledTransport pooled, boolean reusable) {
+    synchronized (this) {
+      if (reusable && key.equals(settingsKey)) {
+        pooled.lastUsedAt = System.currentTimeMillis();
+        // LIFO, so that the most recently used connections are kept warm and the others expire
+        idle.addFirst(pooled);
+        return;
+      }
+    }
+    close(pooled);
+  }
+
+  private void closeIdle() {
+    PooledTransport pooled;
+    while ((pooled = idle.pollFirst()) != null) {
+      close(pooled);
+    }
+  }
+
+  private static void close(PooledTransport pooled) {
+    try {
+      pooled.transport.close();
+    } catch (MessagingException e) {
+      LOG.debug("Fail to close SMTP connection", e);
+    }
+  }
+
+  private static class PooledTransport {
+    private final Transport transport;
+    private long lastUsedAt;
+
+    PooledTransport(Transport transport) {
+      this.transport = transport;
+      this.lastUsedAt = System.currentTimeMillis();
+    }
+  }
+}
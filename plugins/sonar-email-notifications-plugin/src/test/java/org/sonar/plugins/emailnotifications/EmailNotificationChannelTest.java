@@ -19,6 +19,7 @@
  */
 package org.sonar.plugins.emailnotifications;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.mail.EmailException;
 import org.junit.After;
 import org.junit.Before;
@@ -27,14 +28,24 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.sonar.api.config.EmailSettings;
 import org.sonar.plugins.emailnotifications.api.EmailMessage;
+import org.subethamail.smtp.MessageContext;
+import org.subethamail.smtp.MessageHandler;
+import org.subethamail.smtp.MessageHandlerFactory;
+import org.subethamail.smtp.RejectException;
+import org.subethamail.smtp.server.SMTPServer;
 import org.subethamail.wiser.Wiser;
 import org.subethamail.wiser.WiserMessage;
 
 import javax.mail.internet.MimeMessage;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.ServerSocket;
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static junit.framework.Assert.fail;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +60,7 @@ public class EmailNotificationChannelTest {
   private int port;
   private Wiser server;
   private EmailSettings configuration;
+  private SmtpTransportPool transports;
   private EmailNotificationChannel channel;
 
   private static int getNextAvailablePort() {
@@ -70,11 +82,13 @@ public class EmailNotificationChannelTest {
     server.start();
 
     configuration = mock(EmailSettings.class);
-    channel = new EmailNotificationChannel(configuration, null, null);
+    transports = new SmtpTransportPool(2, 60000L);
+    channel = new EmailNotificationChannel(configuration, null, null, transports, 10L);
   }
 
   @After
   public void tearDown() {
+    transports.close();
     server.stop();
   }
 
@@ -187,6 +201,164 @@ public class EmailNotificationChannelTest {
     channel.deliver(emailMessage);
   }
 
+  @Test
+  public void reuse_connection_for_consecutive_emails() throws Exception {
+    configure();
+    int count = 200;
+
+    for (int i = 0; i < count; i++) {
+      channel.deliver(new EmailMessage().setTo("user" + i + "@nowhere").setSubject("Foo " + i).setMessage("Bar"));
+    }
+
+    assertThat(server.getMessages()).hasSize(count);
+    assertThat(server.getMessages().get(count - 1).getEnvelopeReceiver()).isEqualTo("user" + (count - 1) + "@nowhere");
+    assertThat(transports.openedConnections()).isEqualTo(1);
+    assertThat(transports.idleTransports()).isEqualTo(1);
+  }
+
+  @Test
+  public void pooled_emails_share_one_smtp_connection_whereas_test_emails_do_not() throws Exception {
+    ConnectionCountingServer countingServer = new ConnectionCountingServer();
+    try {
+      configure();
+      when(configuration.getSmtpPort()).thenReturn(countingServer.port);
+
+      for (int i = 0; i < 20; i++) {
+        channel.deliver(new EmailMessage().setTo("user" + i + "@nowhere").setSubject("Foo " + i).setMessage("Bar"));
+      }
+      assertThat(countingServer.messages).isEqualTo(20);
+      assertThat(countingServer.connections).hasSize(1);
+
+      // test emails are not sent through the pool
+      countingServer.connections.clear();
+      for (int i = 0; i < 3; i++) {
+        channel.sendTestEmail("user@nowhere", "Test", "Test");
+      }
+      assertThat(countingServer.messages).isEqualTo(23);
+      assertThat(countingServer.connections).hasSize(3);
+    } finally {
+      countingServer.stop();
+    }
+  }
+
+  @Test
+  public void keep_connection_when_recipient_is_rejected() throws Exception {
+    ConnectionCountingServer countingServer = new ConnectionCountingServer();
+    try {
+      configure();
+      when(configuration.getSmtpPort()).thenReturn(countingServer.port);
+
+      channel.deliver(new EmailMessage().setTo("rejected@nowhere").setSubject("Foo").setMessage("Bar"));
+      channel.deliver(new EmailMessage().setTo("user@nowhere").setSubject("Foo").setMessage("Bar"));
+
+      assertThat(countingServer.messages).isEqualTo(1);
+      assertThat(countingServer.connections).hasSize(1);
+      assertThat(transports.openedConnections()).isEqualTo(1);
+    } finally {
+      countingServer.stop();
+    }
+  }
+
+  /**
+   * Records the client address of each SMTP session, so that it counts TCP connections. Recipient
+   * rejected@nowhere is rejected.
+   */
+  private static class ConnectionCountingServer implements MessageHandlerFactory {
+    private final int port = getNextAvailablePort();
+    private final Set<SocketAddress> connections = Collections.synchronizedSet(new HashSet<SocketAddress>());
+    private final SMTPServer smtpServer = new SMTPServer(this);
+    private volatile int messages = 0;
+
+    ConnectionCountingServer() {
+      smtpServer.setPort(port);
+      smtpServer.start();
+    }
+
+    @Override
+    public MessageHandler create(MessageContext context) {
+      connections.add(context.getRemoteAddress());
+      return new MessageHandler() {
+        @Override
+        public void from(String from) {
+          // accepted
+        }
+
+        @Override
+        public void recipient(String recipient) {
+          if ("rejected@nowhere".equals(recipient)) {
+            throw new RejectException(550, "Unknown recipient");
+          }
+        }
+
+        @Override
+        public void data(InputStream data) throws IOException {
+          IOUtils.toByteArray(data);
+          messages++;
+        }
+
+        @Override
+        public void done() {
+          // nothing to do
+        }
+      };
+    }
+
+    void stop() {
+      smtpServer.stop();
+    }
+  }
+
+  @Test
+  public void close_idle_connections_on_stop() throws Exception {
+    configure();
+    channel.start();
+    channel.deliver(new EmailMessage().setTo("user@nowhere").setSubject("Foo").setMessage("Bar"));
+    assertThat(transports.idleTransports()).isEqualTo(1);
+
+    channel.stop();
+
+    assertThat(transports.idleTransports()).isEqualTo(0);
+    assertThat(server.getMessages()).hasSize(1);
+  }
+
+  @Test
+  public void reconnect_when_connection_is_closed_by_server() throws Exception {
+    configure();
+    channel.deliver(new EmailMessage().setTo("user@nowhere").setSubject("Foo").setMessage("Bar"));
+    server.stop();
+    server = new Wiser();
+    server.setPort(port);
+    server.start();
+
+    channel.deliver(new EmailMessage().setTo("user@nowhere").setSubject("Foo").setMessage("Bar"));
+
+    assertThat(server.getMessages()).hasSize(1);
+    assertThat(transports.openedConnections()).isEqualTo(2);
+  }
+
+  @Test
+  public void open_new_connection_when_settings_change() throws Exception {
+    configure();
+    channel.deliver(new EmailMessage().setTo("user@nowhere").setSubject("Foo").setMessage("Bar"));
+
+    Wiser otherServer = new Wiser();
+    int otherPort = getNextAvailablePort();
+    otherServer.setPort(otherPort);
+    otherServer.start();
+    try {
+      when(configuration.getSmtpPort()).thenReturn(otherPort);
+      channel.deliver(new EmailMessage().setTo("user@nowhere").setSubject("Foo").setMessage("Bar"));
+
+      assertThat(server.getMessages()).hasSize(1);
+      assertThat(otherServer.getMessages()).hasSize(1);
+      assertThat(transports.openedConnections()).isEqualTo(2);
+      assertThat(transports.idleTransports()).isEqualTo(1);
+    } finally {
+      transports.close();
+      otherServer.stop();
+    }
+  }
+
   @Test
   public void shouldSendTestEmailWithSTARTTLS() throws Exception {
     server.getServer().setEnableTLS(true);
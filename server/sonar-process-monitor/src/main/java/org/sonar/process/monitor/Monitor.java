@@ -23,9 +23,11 @@ import org.slf4j.LoggerFactory;
 import org.sonar.process.Lifecycle;
 import org.sonar.process.Lifecycle.State;
 import org.sonar.process.ProcessCommands;
+import org.sonar.process.ProcessTelemetry;
 import org.sonar.process.SystemExit;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Monitor {
@@ -34,6 +36,7 @@ public class Monitor {
   private final TerminatorThread terminator;
   private final JavaProcessLauncher launcher;
   private final Lifecycle lifecycle = new Lifecycle();
+  private final TelemetrySampler telemetrySampler = new TelemetrySampler(processes);
 
   private final SystemExit systemExit;
   private Thread shutdownHook = new Thread(new MonitorShutdownHook(), "Monitor Shutdown Hook");
@@ -91,6 +94,7 @@ public class Monitor {
       stop();
       throw new IllegalStateException("Stopped during startup");
     }
+    telemetrySampler.start();
   }
 
   private void monitor(ProcessRef processRef) {
@@ -142,11 +146,20 @@ public class Monitor {
    */
   public void stopAsync() {
     if (lifecycle.tryToMoveTo(State.STOPPING)) {
+      telemetrySampler.stopSampling();
       terminator.setProcesses(processes);
       terminator.start();
     }
   }
 
+  /**
+   * Last health samples of processes, by process key. Processes which are down or
+   * which did not publish telemetry yet are excluded.
+   */
+  public Map<String, ProcessTelemetry> getTelemetry() {
+    return telemetrySampler.getLastSamples();
+  }
+
   public State getState() {
     return lifecycle.getState();
   }
@@ -22,8 +22,11 @@ package org.sonar.process.monitor;
 import org.slf4j.LoggerFactory;
 import org.sonar.process.MessageException;
 import org.sonar.process.ProcessCommands;
+import org.sonar.process.ProcessTelemetry;
 import org.sonar.process.ProcessUtils;
 
+import javax.annotation.CheckForNull;
+
 class ProcessRef {
 
   private final String key;
@@ -76,6 +79,17 @@ class ProcessRef {
     return stopped;
   }
 
+  /**
+   * Last health sample published by process, or null if process is down or did not publish yet
+   */
+  @CheckForNull
+  ProcessTelemetry getTelemetry() {
+    if (isStopped()) {
+      return null;
+    }
+    return commands.readTelemetry();
+  }
+
   void askForGracefulAsyncStop() {
     commands.askForStop();
   }
@@ -0,0 +1,90 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process.monitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.process.ProcessTelemetry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically reads the telemetry published by monitored processes in shared memory. No JMX nor HTTP
+ * connection is opened, so sampling is cheap enough to be executed at sub-second intervals.
+ * Samples are logged at DEBUG level.
+ */
+class TelemetrySampler extends Thread {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TelemetrySampler.class);
+
+  private final List<ProcessRef> processes;
+  private final long delayMs;
+  private volatile boolean sampling = true;
+  private volatile Map<String, ProcessTelemetry> lastSamples = Collections.emptyMap();
+
+  TelemetrySampler(List<ProcessRef> processes) {
+    this(processes, 1000L);
+  }
+
+  TelemetrySampler(List<ProcessRef> processes, long delayMs) {
+    super("Telemetry Sampler");
+    setDaemon(true);
+    this.processes = processes;
+    this.delayMs = delayMs;
+  }
+
+  @Override
+  public void run() {
+    while (sampling) {
+      sample();
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException ignored) {
+        sampling = false;
+      }
+    }
+  }
+
+  void sample() {
+    Map<String, ProcessTelemetry> samples = new LinkedHashMap<String, ProcessTelemetry>();
+    for (ProcessRef process : processes) {
+      ProcessTelemetry telemetry = process.getTelemetry();
+      if (telemetry != null) {
+        samples.put(process.getKey(), telemetry);
+        LOGGER.debug("{} {}", process, telemetry);
+      }
+    }
+    lastSamples = Collections.unmodifiableMap(samples);
+  }
+
+  /**
+   * Last samples, by process key
+   */
+  Map<String, ProcessTelemetry> getLastSamples() {
+    return lastSamples;
+  }
+
+  void stopSampling() {
+    sampling = false;
+  }
+}
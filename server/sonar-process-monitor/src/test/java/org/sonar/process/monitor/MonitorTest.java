@@ -138,6 +138,21 @@ public class MonitorTest {
     assertThat(monitor.getState()).isEqualTo(State.STOPPED);
   }
 
+  @Test
+  public void sample_telemetry_of_started_processes() throws Exception {
+    monitor = newDefaultMonitor();
+    HttpProcessClient client = new HttpProcessClient("test");
+    monitor.start(Arrays.asList(client.newCommand()));
+
+    while (!monitor.getTelemetry().containsKey("test")) {
+      Thread.sleep(100L);
+    }
+    assertThat(monitor.getTelemetry().get("test").getHeapUsed()).isGreaterThan(0L);
+    assertThat(monitor.getTelemetry().get("test").getThreadCount()).isGreaterThan(0L);
+
+    monitor.stop();
+  }
+
   @Test
   public void start_then_stop_sequence_of_commands() throws Exception {
     monitor = newDefaultMonitor();
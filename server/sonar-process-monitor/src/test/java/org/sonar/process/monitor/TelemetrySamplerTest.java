@@ -0,0 +1,65 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process.monitor;
+
+import org.junit.Test;
+import org.sonar.process.ProcessTelemetry;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TelemetrySamplerTest {
+
+  @Test
+  public void keep_last_samples_of_processes() throws Exception {
+    ProcessRef web = mock(ProcessRef.class);
+    when(web.getKey()).thenReturn("web");
+    ProcessTelemetry webTelemetry = new ProcessTelemetry().setHeapUsed(100L);
+    when(web.getTelemetry()).thenReturn(webTelemetry);
+    ProcessRef search = mock(ProcessRef.class);
+    when(search.getKey()).thenReturn("search");
+    // not published yet
+    when(search.getTelemetry()).thenReturn(null);
+
+    TelemetrySampler sampler = new TelemetrySampler(Arrays.asList(web, search));
+    assertThat(sampler.getLastSamples()).isEmpty();
+
+    sampler.sample();
+    assertThat(sampler.getLastSamples()).hasSize(1).containsEntry("web", webTelemetry);
+  }
+
+  @Test(timeout = 2000L)
+  public void stop_sampling() throws Exception {
+    ProcessRef web = mock(ProcessRef.class);
+    when(web.getKey()).thenReturn("web");
+    when(web.getTelemetry()).thenReturn(new ProcessTelemetry());
+
+    TelemetrySampler sampler = new TelemetrySampler(Arrays.asList(web), 10L);
+    sampler.start();
+    while (sampler.getLastSamples().isEmpty()) {
+      Thread.sleep(10L);
+    }
+    sampler.stopSampling();
+    sampler.join();
+  }
+}
@@ -22,6 +22,8 @@ package org.sonar.process;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.CheckForNull;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -33,6 +35,7 @@ import java.nio.channels.FileChannel;
  * <ul>
  *   <li>share status of child process</li>
  *   <li>stop child process</li>
+ *   <li>publish health telemetry of child process (heap, GC, threads, requests)</li>
  * </ul>
  *
  * <p/>
@@ -47,23 +50,42 @@ import java.nio.channels.FileChannel;
 public class ProcessCommands {
 
   /**
-   * The ByteBuffer will contains :
-   * <ul>
-   *   <li>First byte will contains 0x00 until stop command is issued = 0xFF</li>
-   *   <li>Then each 10 bytes will be reserved for each process</li>
-   * </ul>
-   *
-   * Description of ten bytes of each process :
+   * The ByteBuffer reserves {@link #BYTE_LENGTH_FOR_ONE_PROCESS} bytes for each process :
    * <ul>
    *   <li>First byte will contains the state 0x00 until READY 0x01</li>
    *   <li>The second byte will contains the request for stopping 0x00 or STOP (0xFF)</li>
    *   <li>The next 8 bytes contains a long (System.currentTimeInMillis for ping)</li>
+   *   <li>6 bytes of padding, so that telemetry is aligned on 8 bytes</li>
+   *   <li>The telemetry block, written by child process only. See {@link #writeTelemetry(ProcessTelemetry)}</li>
    * </ul>
+   *
+   * Telemetry block is a sequence of longs. The first one is a sequence number, which is odd
+   * while the child process is writing the block, so that monitor can detect torn reads and retry
+   * without any lock. It is zero as long as no telemetry has been published. The last long is a checksum
+   * of the sequence and of the other fields. As the Java memory model does not order accesses to memory
+   * shared with another process, the checksum rejects the reads that mix values of distinct writes.
    */
   final MappedByteBuffer mappedByteBuffer;
   private final RandomAccessFile sharedMemory;
   private static final int MAX_PROCESSES = 50;
-  private static final int BYTE_LENGTH_FOR_ONE_PROCESS = 1 + 1 + 8;
+
+  private static final int TELEMETRY_OFFSET = 16;
+  private static final int TELEMETRY_SEQUENCE = 0;
+  private static final int TELEMETRY_SAMPLED_AT = 8;
+  private static final int TELEMETRY_HEAP_USED = 16;
+  private static final int TELEMETRY_HEAP_MAX = 24;
+  private static final int TELEMETRY_GC_COUNT = 32;
+  private static final int TELEMETRY_GC_TIME = 40;
+  private static final int TELEMETRY_THREADS = 48;
+  private static final int TELEMETRY_DAEMON_THREADS = 56;
+  private static final int TELEMETRY_REQUESTS = 64;
+  private static final int TELEMETRY_REQUEST_RATE = 72;
+  private static final int TELEMETRY_COMPUTE_QUEUE = 80;
+  private static final int TELEMETRY_CHECKSUM = 88;
+  private static final int TELEMETRY_LENGTH = 96;
+  private static final int MAX_TELEMETRY_READ_ATTEMPTS = 10;
+
+  private static final int BYTE_LENGTH_FOR_ONE_PROCESS = TELEMETRY_OFFSET + TELEMETRY_LENGTH;
 
   // With this shared memory we can handle up to MAX_PROCESSES processes
   private static final int MAX_SHARED_MEMORY = BYTE_LENGTH_FOR_ONE_PROCESS * MAX_PROCESSES;
@@ -74,6 +96,12 @@ public class ProcessCommands {
 
   private int processNumber;
 
+  /**
+   * Last sequence written by {@link #writeTelemetry(ProcessTelemetry)}. The volatile write is a release:
+   * the fields written in the buffer before it are not reordered after it.
+   */
+  private volatile long publishedSequence = -1L;
+
   public ProcessCommands(File directory, int processNumber) {
     // processNumber should not excess MAX_PROCESSES and must not be below -1
     assert processNumber <= MAX_PROCESSES : "Incorrect process number";
@@ -131,6 +159,104 @@ public class ProcessCommands {
     return mappedByteBuffer.get(offset() + 1) == STOP;
   }
 
+  /**
+   * To be executed by child process to publish its health. Must not be called concurrently.
+   */
+  public void writeTelemetry(ProcessTelemetry telemetry) {
+    if (!isValidProcessNumber()) {
+      return;
+    }
+    int base = offset() + TELEMETRY_OFFSET;
+    long oddSequence = mappedByteBuffer.getLong(base + TELEMETRY_SEQUENCE) | 1L;
+    long sequence = oddSequence + 1L;
+    // odd sequence: write in progress
+    mappedByteBuffer.putLong(base + TELEMETRY_SEQUENCE, oddSequence);
+    mappedByteBuffer.putLong(base + TELEMETRY_SAMPLED_AT, telemetry.getSampledAt());
+    mappedByteBuffer.putLong(base + TELEMETRY_HEAP_USED, telemetry.getHeapUsed());
+    mappedByteBuffer.putLong(base + TELEMETRY_HEAP_MAX, telemetry.getHeapMax());
+    mappedByteBuffer.putLong(base + TELEMETRY_GC_COUNT, telemetry.getGcCount());
+    mappedByteBuffer.putLong(base + TELEMETRY_GC_TIME, telemetry.getGcTime());
+    mappedByteBuffer.putLong(base + TELEMETRY_THREADS, telemetry.getThreadCount());
+    mappedByteBuffer.putLong(base + TELEMETRY_DAEMON_THREADS, telemetry.getDaemonThreadCount());
+    mappedByteBuffer.putLong(base + TELEMETRY_REQUESTS, telemetry.getRequestCount());
+    mappedByteBuffer.putDouble(base + TELEMETRY_REQUEST_RATE, telemetry.getRequestRate());
+    mappedByteBuffer.putLong(base + TELEMETRY_COMPUTE_QUEUE, telemetry.getComputeQueueSize());
+    mappedByteBuffer.putLong(base + TELEMETRY_CHECKSUM, checksum(base, sequence));
+    publishedSequence = sequence;
+    mappedByteBuffer.putLong(base + TELEMETRY_SEQUENCE, sequence);
+  }
+
+  /**
+   * To be executed by monitor process. Returns the last telemetry published by child process, or
+   * null if none has been published yet or if the block is being continuously rewritten.
+   */
+  @CheckForNull
+  public ProcessTelemetry readTelemetry() {
+    if (!isValidProcessNumber()) {
+      return null;
+    }
+    int base = offset() + TELEMETRY_OFFSET;
+    for (int attempt = 0; attempt < MAX_TELEMETRY_READ_ATTEMPTS; attempt++) {
+      long sequence = mappedByteBuffer.getLong(base + TELEMETRY_SEQUENCE);
+      if (sequence == 0L) {
+        return null;
+      }
+      if ((sequence & 1L) == 0L) {
+        ProcessTelemetry telemetry = new ProcessTelemetry()
+          .setSampledAt(mappedByteBuffer.getLong(base + TELEMETRY_SAMPLED_AT))
+          .setHeapUsed(mappedByteBuffer.getLong(base + TELEMETRY_HEAP_USED))
+          .setHeapMax(mappedByteBuffer.getLong(base + TELEMETRY_HEAP_MAX))
+          .setGcCount(mappedByteBuffer.getLong(base + TELEMETRY_GC_COUNT))
+          .setGcTime(mappedByteBuffer.getLong(base + TELEMETRY_GC_TIME))
+          .setThreadCount(mappedByteBuffer.getLong(base + TELEMETRY_THREADS))
+          .setDaemonThreadCount(mappedByteBuffer.getLong(base + TELEMETRY_DAEMON_THREADS))
+          .setRequestCount(mappedByteBuffer.getLong(base + TELEMETRY_REQUESTS))
+          .setRequestRate(mappedByteBuffer.getDouble(base + TELEMETRY_REQUEST_RATE))
+          .setComputeQueueSize(mappedByteBuffer.getLong(base + TELEMETRY_COMPUTE_QUEUE));
+        long checksum = mappedByteBuffer.getLong(base + TELEMETRY_CHECKSUM);
+        if (mappedByteBuffer.getLong(base + TELEMETRY_SEQUENCE) == sequence && checksum == checksum(sequence, telemetry)) {
+          return telemetry;
+        }
+      }
+      Thread.yield();
+    }
+    return null;
+  }
+
+  private long checksum(int base, long sequence) {
+    long hash = sequence;
+    for (int field = TELEMETRY_SAMPLED_AT; field < TELEMETRY_CHECKSUM; field += 8) {
+      hash = mix(hash, mappedByteBuffer.getLong(base + field));
+    }
+    return hash;
+  }
+
+  private static long checksum(long sequence, ProcessTelemetry telemetry) {
+    long hash = sequence;
+    hash = mix(hash, telemetry.getSampledAt());
+    hash = mix(hash, telemetry.getHeapUsed());
+    hash = mix(hash, telemetry.getHeapMax());
+    hash = mix(hash, telemetry.getGcCount());
+    hash = mix(hash, telemetry.getGcTime());
+    hash = mix(hash, telemetry.getThreadCount());
+    hash = mix(hash, telemetry.getDaemonThreadCount());
+    hash = mix(hash, telemetry.getRequestCount());
+    hash = mix(hash, Double.doubleToRawLongBits(telemetry.getRequestRate()));
+    return mix(hash, telemetry.getComputeQueueSize());
+  }
+
+  private static long mix(long hash, long value) {
+    long result = (hash ^ value) * 0x9E3779B97F4A7C15L;
+    return result ^ (result >>> 32);
+  }
+
+  /**
+   * Last sequence published by this process, -1 if none
+   */
+  long publishedSequence() {
+    return publishedSequence;
+  }
+
   public void endWatch() {
     IOUtils.closeQuietly(sharedMemory);
   }
@@ -139,8 +265,12 @@ public class ProcessCommands {
     return BYTE_LENGTH_FOR_ONE_PROCESS * processNumber;
   }
 
+  private boolean isValidProcessNumber() {
+    return processNumber >= 0 && processNumber < MAX_PROCESSES;
+  }
+
   private boolean canBeMonitored() {
-    boolean result = processNumber >= 0 && processNumber < MAX_PROCESSES;
+    boolean result = isValidProcessNumber();
     if (!result) {
       LoggerFactory.getLogger(getClass()).info("This process cannot be monitored. Process Id : [{}]", processNumber);
     }
@@ -35,6 +35,7 @@ public class ProcessEntryPoint implements Stoppable {
   private volatile Monitored monitored;
   private volatile StopperThread stopperThread;
   private final StopWatcher stopWatcher;
+  private final TelemetryPublisher telemetryPublisher;
 
   // new Runnable() is important to avoid conflict of call to ProcessEntryPoint#stop() with Thread#stop()
   private Thread shutdownHook = new Thread(new Runnable() {
@@ -50,6 +51,7 @@ public class ProcessEntryPoint implements Stoppable {
     this.exit = exit;
     this.commands = commands;
     this.stopWatcher = new StopWatcher(commands, this);
+    this.telemetryPublisher = new TelemetryPublisher(commands);
   }
 
   public Props getProps() {
@@ -73,6 +75,7 @@ public class ProcessEntryPoint implements Stoppable {
       LoggerFactory.getLogger(getClass()).info("Starting " + getKey());
       Runtime.getRuntime().addShutdownHook(shutdownHook);
       stopWatcher.start();
+      telemetryPublisher.start();
 
       monitored.start();
       boolean ready = false;
@@ -121,6 +124,7 @@ public class ProcessEntryPoint implements Stoppable {
       stopperThread = new StopperThread(monitored, commands, Long.parseLong(props.nonNullValue(PROPERTY_TERMINATION_TIMEOUT)));
       stopperThread.start();
       stopWatcher.stopWatching();
+      telemetryPublisher.stopPublishing();
     }
   }
 
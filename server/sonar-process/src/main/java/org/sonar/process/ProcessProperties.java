@@ -44,6 +44,9 @@ public class ProcessProperties {
   public static final String JDBC_MAX_WAIT = "sonar.jdbc.maxWait";
   public static final String JDBC_MIN_EVICTABLE_IDLE_TIME_MILLIS = "sonar.jdbc.minEvictableIdleTimeMillis";
   public static final String JDBC_TIME_BETWEEN_EVICTION_RUNS_MILLIS = "sonar.jdbc.timeBetweenEvictionRunsMillis";
+  public static final String JDBC_STATISTICS = "sonar.jdbc.statistics";
+  public static final String JDBC_SLOW_STATEMENT_THRESHOLD_MS = "sonar.jdbc.slowStatementThresholdMs";
+  public static final String JDBC_LONG_SESSION_THRESHOLD_MS = "sonar.jdbc.longSessionThresholdMs";
 
   public static final String PATH_DATA = "sonar.path.data";
   public static final String PATH_HOME = "sonar.path.home";
@@ -123,6 +126,9 @@ public class ProcessProperties {
     defaults.put(ProcessProperties.JDBC_MAX_WAIT, "5000");
     defaults.put(ProcessProperties.JDBC_MIN_EVICTABLE_IDLE_TIME_MILLIS, "600000");
     defaults.put(ProcessProperties.JDBC_TIME_BETWEEN_EVICTION_RUNS_MILLIS, "30000");
+    defaults.put(ProcessProperties.JDBC_STATISTICS, "false");
+    defaults.put(ProcessProperties.JDBC_SLOW_STATEMENT_THRESHOLD_MS, "1000");
+    defaults.put(ProcessProperties.JDBC_LONG_SESSION_THRESHOLD_MS, "30000");
     return defaults;
   }
 
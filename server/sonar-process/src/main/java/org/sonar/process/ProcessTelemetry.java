@@ -0,0 +1,158 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+/**
+ * Health sample of a child process, published through {@link ProcessCommands}
+ * by {@link TelemetryPublisher}
+ */
+public class ProcessTelemetry {
+
+  private long sampledAt;
+  private long heapUsed;
+  private long heapMax;
+  private long gcCount;
+  private long gcTime;
+  private long threadCount;
+  private long daemonThreadCount;
+  private long requestCount;
+  private double requestRate;
+  private long computeQueueSize;
+
+  /**
+   * Date of sample, in milliseconds
+   */
+  public long getSampledAt() {
+    return sampledAt;
+  }
+
+  public ProcessTelemetry setSampledAt(long l) {
+    this.sampledAt = l;
+    return this;
+  }
+
+  /**
+   * Used heap, in bytes
+   */
+  public long getHeapUsed() {
+    return heapUsed;
+  }
+
+  public ProcessTelemetry setHeapUsed(long l) {
+    this.heapUsed = l;
+    return this;
+  }
+
+  /**
+   * Maximum heap, in bytes. -1 if undefined.
+   */
+  public long getHeapMax() {
+    return heapMax;
+  }
+
+  public ProcessTelemetry setHeapMax(long l) {
+    this.heapMax = l;
+    return this;
+  }
+
+  /**
+   * Total number of garbage collections since process startup
+   */
+  public long getGcCount() {
+    return gcCount;
+  }
+
+  public ProcessTelemetry setGcCount(long l) {
+    this.gcCount = l;
+    return this;
+  }
+
+  /**
+   * Total time spent in garbage collections since process startup, in milliseconds
+   */
+  public long getGcTime() {
+    return gcTime;
+  }
+
+  public ProcessTelemetry setGcTime(long l) {
+    this.gcTime = l;
+    return this;
+  }
+
+  public long getThreadCount() {
+    return threadCount;
+  }
+
+  public ProcessTelemetry setThreadCount(long l) {
+    this.threadCount = l;
+    return this;
+  }
+
+  public long getDaemonThreadCount() {
+    return daemonThreadCount;
+  }
+
+  public ProcessTelemetry setDaemonThreadCount(long l) {
+    this.daemonThreadCount = l;
+    return this;
+  }
+
+  /**
+   * Total number of requests since process startup
+   */
+  public long getRequestCount() {
+    return requestCount;
+  }
+
+  public ProcessTelemetry setRequestCount(long l) {
+    this.requestCount = l;
+    return this;
+  }
+
+  /**
+   * Requests per second since the previous sample
+   */
+  public double getRequestRate() {
+    return requestRate;
+  }
+
+  public ProcessTelemetry setRequestRate(double d) {
+    this.requestRate = d;
+    return this;
+  }
+
+  /**
+   * Number of analysis reports waiting or being processed
+   */
+  public long getComputeQueueSize() {
+    return computeQueueSize;
+  }
+
+  public ProcessTelemetry setComputeQueueSize(long l) {
+    this.computeQueueSize = l;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("heap=%dMb/%dMb gc=%d (%dms) threads=%d (%d daemon) requests=%d (%.1f/s) computeQueue=%d",
+      heapUsed / 1024 / 1024, heapMax / 1024 / 1024, gcCount, gcTime, threadCount, daemonThreadCount, requestCount, requestRate, computeQueueSize);
+  }
+}
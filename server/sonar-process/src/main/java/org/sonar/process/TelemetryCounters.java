@@ -0,0 +1,61 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application counters of the current process, published with JVM metrics by {@link TelemetryPublisher}.
+ * Updates are lock-free and can be executed on hot paths, for instance on each HTTP request.
+ */
+public final class TelemetryCounters {
+
+  private static final AtomicLong REQUESTS = new AtomicLong();
+  private static final AtomicLong COMPUTE_QUEUE_SIZE = new AtomicLong();
+
+  private TelemetryCounters() {
+    // only static methods
+  }
+
+  public static void incrementRequests() {
+    REQUESTS.incrementAndGet();
+  }
+
+  public static long getRequests() {
+    return REQUESTS.get();
+  }
+
+  public static void setComputeQueueSize(long size) {
+    COMPUTE_QUEUE_SIZE.set(size);
+  }
+
+  public static void addToComputeQueueSize(long delta) {
+    COMPUTE_QUEUE_SIZE.addAndGet(delta);
+  }
+
+  public static long getComputeQueueSize() {
+    return COMPUTE_QUEUE_SIZE.get();
+  }
+
+  static void reset() {
+    REQUESTS.set(0L);
+    COMPUTE_QUEUE_SIZE.set(0L);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Periodically samples the JVM and {@link TelemetryCounters}, then publishes the result
+ * in the shared memory of {@link ProcessCommands}, where it can be read by monitor.
+ */
+public class TelemetryPublisher extends Thread {
+
+  private final ProcessCommands commands;
+  private final long delayMs;
+  private volatile boolean publishing = true;
+
+  private long lastSampledAt = -1L;
+  private long lastRequests = 0L;
+
+  public TelemetryPublisher(ProcessCommands commands) {
+    this(commands, 500L);
+  }
+
+  TelemetryPublisher(ProcessCommands commands, long delayMs) {
+    super("Telemetry Publisher");
+    setDaemon(true);
+    this.commands = commands;
+    this.delayMs = delayMs;
+  }
+
+  @Override
+  public void run() {
+    while (publishing) {
+      commands.writeTelemetry(sample());
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException ignored) {
+        publishing = false;
+      }
+    }
+  }
+
+  public void stopPublishing() {
+    publishing = false;
+  }
+
+  ProcessTelemetry sample() {
+    long now = System.currentTimeMillis();
+    ProcessTelemetry telemetry = new ProcessTelemetry().setSampledAt(now);
+
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    telemetry.setHeapUsed(heap.getUsed()).setHeapMax(heap.getMax());
+
+    long gcCount = 0L;
+    long gcTime = 0L;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      // -1 if undefined
+      gcCount += Math.max(0L, gc.getCollectionCount());
+      gcTime += Math.max(0L, gc.getCollectionTime());
+    }
+    telemetry.setGcCount(gcCount).setGcTime(gcTime);
+
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    telemetry.setThreadCount(threads.getThreadCount()).setDaemonThreadCount(threads.getDaemonThreadCount());
+
+    long requests = TelemetryCounters.getRequests();
+    telemetry.setRequestCount(requests).setComputeQueueSize(TelemetryCounters.getComputeQueueSize());
+    if (lastSampledAt >= 0L && now > lastSampledAt) {
+      telemetry.setRequestRate((requests - lastRequests) * 1000.0 / (now - lastSampledAt));
+    }
+    lastSampledAt = now;
+    lastRequests = requests;
+    return telemetry;
+  }
+}
@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
@@ -79,6 +80,98 @@ public class ProcessCommandsTest {
     assertThat(commands.mappedByteBuffer.get(commands.offset() + 1)).isEqualTo(ProcessCommands.STOP);
   }
 
+  @Test
+  public void monitor_reads_telemetry_published_by_child_process() throws Exception {
+    File dir = temp.newFolder();
+    ProcessCommands child = new ProcessCommands(dir, 1);
+    ProcessCommands monitor = new ProcessCommands(dir, 1);
+    ProcessCommands otherChild = new ProcessCommands(dir, 2);
+    assertThat(monitor.readTelemetry()).isNull();
+
+    child.writeTelemetry(new ProcessTelemetry().setSampledAt(1000L).setHeapUsed(200L).setHeapMax(500L)
+      .setGcCount(3L).setGcTime(40L).setThreadCount(25L).setDaemonThreadCount(20L)
+      .setRequestCount(150L).setRequestRate(12.5).setComputeQueueSize(4L));
+    child.writeTelemetry(new ProcessTelemetry().setSampledAt(2000L).setHeapUsed(300L).setHeapMax(500L)
+      .setGcCount(4L).setGcTime(45L).setThreadCount(26L).setDaemonThreadCount(21L)
+      .setRequestCount(160L).setRequestRate(10.0).setComputeQueueSize(2L));
+
+    ProcessTelemetry telemetry = monitor.readTelemetry();
+    assertThat(telemetry.getSampledAt()).isEqualTo(2000L);
+    assertThat(telemetry.getHeapUsed()).isEqualTo(300L);
+    assertThat(telemetry.getHeapMax()).isEqualTo(500L);
+    assertThat(telemetry.getGcCount()).isEqualTo(4L);
+    assertThat(telemetry.getGcTime()).isEqualTo(45L);
+    assertThat(telemetry.getThreadCount()).isEqualTo(26L);
+    assertThat(telemetry.getDaemonThreadCount()).isEqualTo(21L);
+    assertThat(telemetry.getRequestCount()).isEqualTo(160L);
+    assertThat(telemetry.getRequestRate()).isEqualTo(10.0);
+    assertThat(telemetry.getComputeQueueSize()).isEqualTo(2L);
+
+    // telemetry does not overlap status of processes
+    assertThat(monitor.isReady()).isFalse();
+    assertThat(monitor.askedForStop()).isFalse();
+    assertThat(otherChild.readTelemetry()).isNull();
+  }
+
+  @Test
+  public void telemetry_is_not_read_while_being_written() throws Exception {
+    File dir = temp.newFolder();
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+    commands.writeTelemetry(new ProcessTelemetry().setHeapUsed(200L));
+
+    // simulate a write in progress
+    commands.mappedByteBuffer.putLong(commands.offset() + 16, 3L);
+
+    assertThat(commands.readTelemetry()).isNull();
+  }
+
+  @Test
+  public void telemetry_mixing_values_of_distinct_writes_is_rejected() throws Exception {
+    File dir = temp.newFolder();
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+    commands.writeTelemetry(new ProcessTelemetry().setHeapUsed(200L).setHeapMax(500L));
+    assertThat(commands.publishedSequence()).isEqualTo(2L);
+    assertThat(commands.readTelemetry().getHeapUsed()).isEqualTo(200L);
+
+    // heap used is visible before the sequence of next write
+    commands.mappedByteBuffer.putLong(commands.offset() + 16 + 16, 300L);
+
+    assertThat(commands.readTelemetry()).isNull();
+  }
+
+  @Test
+  public void read_consistent_telemetry_while_being_written() throws Exception {
+    File dir = temp.newFolder();
+    final ProcessCommands child = new ProcessCommands(dir, 1);
+    ProcessCommands monitor = new ProcessCommands(dir, 1);
+    final AtomicBoolean stop = new AtomicBoolean(false);
+    Thread writer = new Thread() {
+      @Override
+      public void run() {
+        for (long i = 1L; !stop.get(); i++) {
+          // all the fields of a sample have the same value
+          child.writeTelemetry(new ProcessTelemetry().setSampledAt(i).setHeapUsed(i).setHeapMax(i).setGcCount(i).setGcTime(i)
+            .setThreadCount(i).setDaemonThreadCount(i).setRequestCount(i).setRequestRate(i).setComputeQueueSize(i));
+        }
+      }
+    };
+    writer.start();
+    try {
+      for (int i = 0; i < 100000; i++) {
+        ProcessTelemetry telemetry = monitor.readTelemetry();
+        if (telemetry != null) {
+          long value = telemetry.getSampledAt();
+          assertThat(new long[] {telemetry.getHeapUsed(), telemetry.getHeapMax(), telemetry.getGcCount(), telemetry.getGcTime(),
+            telemetry.getThreadCount(), telemetry.getDaemonThreadCount(), telemetry.getRequestCount(), (long) telemetry.getRequestRate(),
+            telemetry.getComputeQueueSize()}).containsOnly(value);
+        }
+      }
+    } finally {
+      stop.set(true);
+      writer.join();
+    }
+  }
+
   @Test
   public void test_max_processes() throws Exception {
     File dir = temp.newFolder();
@@ -0,0 +1,77 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TelemetryPublisherTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @After
+  public void tearDown() {
+    TelemetryCounters.reset();
+  }
+
+  @Test
+  public void sample_jvm_and_counters() throws Exception {
+    TelemetryPublisher publisher = new TelemetryPublisher(new ProcessCommands(temp.newFolder(), 1));
+    TelemetryCounters.setComputeQueueSize(3L);
+    TelemetryCounters.incrementRequests();
+
+    ProcessTelemetry telemetry = publisher.sample();
+    assertThat(telemetry.getSampledAt()).isGreaterThan(0L);
+    assertThat(telemetry.getHeapUsed()).isGreaterThan(0L);
+    assertThat(telemetry.getThreadCount()).isGreaterThan(0L);
+    assertThat(telemetry.getRequestCount()).isEqualTo(1L);
+    assertThat(telemetry.getComputeQueueSize()).isEqualTo(3L);
+    // no previous sample
+    assertThat(telemetry.getRequestRate()).isEqualTo(0.0);
+
+    Thread.sleep(20L);
+    TelemetryCounters.incrementRequests();
+    TelemetryCounters.addToComputeQueueSize(-1L);
+    telemetry = publisher.sample();
+    assertThat(telemetry.getRequestCount()).isEqualTo(2L);
+    assertThat(telemetry.getRequestRate()).isGreaterThan(0.0);
+    assertThat(telemetry.getComputeQueueSize()).isEqualTo(2L);
+  }
+
+  @Test(timeout = 2000L)
+  public void publish_in_shared_memory() throws Exception {
+    ProcessCommands commands = new ProcessCommands(temp.newFolder(), 1);
+    TelemetryPublisher publisher = new TelemetryPublisher(commands, 10L);
+    publisher.start();
+
+    while (commands.readTelemetry() == null) {
+      Thread.sleep(10L);
+    }
+    publisher.stopPublishing();
+    publisher.join();
+
+    assertThat(commands.readTelemetry().getHeapUsed()).isGreaterThan(0L);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.benchmark;
+
+import org.apache.commons.io.Charsets;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.sonar.api.utils.text.JsonWriter;
+import org.sonar.server.es.EsUtils;
+import org.sonar.server.source.db.FileSourceDb;
+import org.sonar.server.source.index.SourceLineIndexDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Former conversion of source lines to documents, with a {@link JsonWriter} and a new buffer per line.
+ * It is kept as a reference to compare with {@link org.sonar.server.source.index.SourceFileResultSetIterator#toRow}.
+ */
+class JsonSourceLineConverter {
+
+  private JsonSourceLineConverter() {
+    // only static methods
+  }
+
+  static List<UpdateRequest> toUpdateRequests(String projectUuid, String fileUuid, Date updatedAt, FileSourceDb.Data data) {
+    List<UpdateRequest> result = new ArrayList<>();
+    for (FileSourceDb.Line line : data.getLinesList()) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+      // all the fields must be present, even if value is null
+      JsonWriter writer = JsonWriter.of(new OutputStreamWriter(bytes, Charsets.UTF_8)).setSerializeNulls(true);
+      writer.beginObject();
+      writer.prop(SourceLineIndexDefinition.FIELD_PROJECT_UUID, projectUuid);
+      writer.prop(SourceLineIndexDefinition.FIELD_FILE_UUID, fileUuid);
+      writer.prop(SourceLineIndexDefinition.FIELD_LINE, line.getLine());
+      writer.prop(SourceLineIndexDefinition.FIELD_UPDATED_AT, EsUtils.formatDateTime(updatedAt));
+      writer.prop(SourceLineIndexDefinition.FIELD_SCM_REVISION, line.getScmRevision());
+      writer.prop(SourceLineIndexDefinition.FIELD_SCM_AUTHOR, line.getScmAuthor());
+      writer.prop(SourceLineIndexDefinition.FIELD_SCM_DATE, EsUtils.formatDateTime(line.hasScmDate() ? new Date(line.getScmDate()) : null));
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_UT_LINE_HITS, line.hasUtLineHits(), line.getUtLineHits());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_UT_CONDITIONS, line.hasUtConditions(), line.getUtConditions());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_UT_COVERED_CONDITIONS, line.hasUtCoveredConditions(), line.getUtCoveredConditions());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_IT_LINE_HITS, line.hasItLineHits(), line.getItLineHits());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_IT_CONDITIONS, line.hasItConditions(), line.getItConditions());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_IT_COVERED_CONDITIONS, line.hasItCoveredConditions(), line.getItCoveredConditions());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_OVERALL_LINE_HITS, line.hasOverallLineHits(), line.getOverallLineHits());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_OVERALL_CONDITIONS, line.hasOverallConditions(), line.getOverallConditions());
+      writeNullable(writer, SourceLineIndexDefinition.FIELD_OVERALL_COVERED_CONDITIONS, line.hasOverallCoveredConditions(), line.getOverallCoveredConditions());
+      writer.prop(SourceLineIndexDefinition.FIELD_HIGHLIGHTING, line.hasHighlighting() ? line.getHighlighting() : null);
+      writer.prop(SourceLineIndexDefinition.FIELD_SYMBOLS, line.hasSymbols() ? line.getSymbols() : null);
+      writer.name(SourceLineIndexDefinition.FIELD_DUPLICATIONS).valueObject(line.getDuplicationList());
+      writer.prop(SourceLineIndexDefinition.FIELD_SOURCE, line.hasSource() ? line.getSource() : null);
+      writer.endObject().close();
+
+      byte[] jsonDoc = bytes.toByteArray();
+      result.add(new UpdateRequest(SourceLineIndexDefinition.INDEX, SourceLineIndexDefinition.TYPE, SourceLineIndexDefinition.docKey(fileUuid, line.getLine()))
+        .routing(projectUuid)
+        .doc(jsonDoc)
+        .upsert(jsonDoc));
+    }
+    return result;
+  }
+
+  private static void writeNullable(JsonWriter writer, String field, boolean hasValue, int value) {
+    if (hasValue) {
+      writer.prop(field, value);
+    } else {
+      writer.name(field).valueObject(null);
+    }
+  }
+}
@@ -20,6 +20,7 @@
 
 package org.sonar.server.benchmark;
 
+import com.sun.management.ThreadMXBean;
 import org.apache.commons.io.FileUtils;
 import org.junit.Rule;
 import org.junit.Test;
@@ -30,6 +31,7 @@ import org.sonar.server.source.db.FileSourceDb;
 import org.sonar.server.source.index.*;
 import org.sonar.server.tester.ServerTester;
 
+import java.lang.management.ManagementFactory;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -38,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * Performance tests of the Elasticsearch index sourcelines
  * <ul>
+ *   <li>throughput and allocations of conversion of db rows to documents, compared to former JSON encoding</li>
  *   <li>throughput of indexing of documents</li>
  *   <li>size of ES data directory</li>
  *   <li>time to request index</li>
@@ -48,6 +51,7 @@ public class SourceIndexBenchmarkTest {
   private static final Logger LOGGER = LoggerFactory.getLogger("benchmarkSourceIndexing");
   private static final long FILES = 1000L;
   private static final int LINES_PER_FILE = 3220;
+  private static final long CONVERTED_FILES = 200L;
 
   @Rule
   public ServerTester tester = new ServerTester();
@@ -57,6 +61,9 @@ public class SourceIndexBenchmarkTest {
 
   @Test
   public void benchmark() throws Exception {
+    // convert db rows to documents
+    benchmarkConversion();
+
     // index source lines
     benchmarkIndexing();
 
@@ -64,6 +71,74 @@ public class SourceIndexBenchmarkTest {
     benchmarkQueries();
   }
 
+  /**
+   * Compares the conversion of db rows to documents with the former encoding based on {@link org.sonar.api.utils.text.JsonWriter}.
+   * Both encoders convert the same file.
+   */
+  private void benchmarkConversion() {
+    LOGGER.info("Converting source lines to documents");
+    final FileSourceDb.Data data = new SourceIterator(1L, LINES_PER_FILE).nextData();
+
+    ConversionResult json = measureConversion("JSON writer", new Converter() {
+      @Override
+      public int convert(String fileUuid) {
+        return JsonSourceLineConverter.toUpdateRequests("P1", fileUuid, new Date(), data).size();
+      }
+    });
+    ConversionResult recycled = measureConversion("recycled buffer", new Converter() {
+      @Override
+      public int convert(String fileUuid) {
+        return SourceFileResultSetIterator.toRow("P1", fileUuid, new Date(), data).getLineUpdateRequests().size();
+      }
+    });
+
+    LOGGER.info(String.format("Recycled buffer: %.1f times the throughput and %.1f%% of the allocations of JSON writer",
+      (double) recycled.linesPerSecond / json.linesPerSecond, 100.0 * recycled.bytesPerLine / json.bytesPerLine));
+    // allocations do not depend on the box, contrary to throughput
+    assertThat(recycled.bytesPerLine).isLessThan(json.bytesPerLine);
+  }
+
+  private ConversionResult measureConversion(String label, Converter converter) {
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    // warm-up
+    for (int i = 0; i < 50; i++) {
+      converter.convert("FILE" + i);
+    }
+
+    long nbLines = 0L;
+    long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < CONVERTED_FILES; i++) {
+      nbLines += converter.convert("FILE" + i);
+    }
+    long period = Math.max(1L, System.currentTimeMillis() - start);
+    long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    ConversionResult result = new ConversionResult(1000L * nbLines / period, allocated / nbLines);
+    LOGGER.info(String.format("%s: %d lines converted in %d ms (%d lines/second, %d bytes allocated per line)",
+      label, nbLines, period, result.linesPerSecond, result.bytesPerLine));
+    return result;
+  }
+
+  private interface Converter {
+    /**
+     * @return number of converted lines
+     */
+    int convert(String fileUuid);
+  }
+
+  private static class ConversionResult {
+    private final long linesPerSecond;
+    private final long bytesPerLine;
+
+    ConversionResult(long linesPerSecond, long bytesPerLine) {
+      this.linesPerSecond = linesPerSecond;
+      this.bytesPerLine = bytesPerLine;
+    }
+  }
+
   private void benchmarkIndexing() {
     LOGGER.info("Indexing source lines");
 
@@ -128,6 +203,15 @@ public class SourceIndexBenchmarkTest {
     public SourceFileResultSetIterator.Row next() {
       String projectUuid = "P" + currentProject;
       String fileUuid = "FILE" + count.get();
+      FileSourceDb.Data data = nextData();
+      count.incrementAndGet();
+      if (count.get() % 500 == 0) {
+        currentProject++;
+      }
+      return SourceFileResultSetIterator.toRow(projectUuid, fileUuid, new Date(), data);
+    }
+
+    private FileSourceDb.Data nextData() {
       dataBuilder.clear();
 
       for (int indexLine = 1; indexLine <= nbLinesPerFile; indexLine++) {
@@ -151,11 +235,7 @@ public class SourceIndexBenchmarkTest {
           .addAllDuplication(Arrays.asList(19, 33, 141))
           .build());
       }
-      count.incrementAndGet();
-      if (count.get() % 500 == 0) {
-        currentProject++;
-      }
-      return SourceFileResultSetIterator.toRow(projectUuid, fileUuid, new Date(), dataBuilder.build());
+      return dataBuilder.build();
     }
 
     @Override
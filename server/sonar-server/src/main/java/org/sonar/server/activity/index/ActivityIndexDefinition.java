@@ -20,9 +20,7 @@
 package org.sonar.server.activity.index;
 
 import com.google.common.collect.ImmutableMap;
-import org.elasticsearch.cluster.metadata.IndexMetaData;
 import org.sonar.api.config.Settings;
-import org.sonar.process.ProcessProperties;
 import org.sonar.server.es.IndexDefinition;
 import org.sonar.server.es.NewIndex;
 
@@ -50,16 +48,11 @@ public class ActivityIndexDefinition implements IndexDefinition {
   @Override
   public void define(IndexDefinitionContext context) {
     NewIndex index = context.create(INDEX);
-    index.getSettings().put("index.refresh_interval", "-1");
+    index.setRefreshInterval("-1");
     index.getSettings().put("analysis.analyzer.default.type", "keyword");
 
-    // shards
-    boolean clusterMode = settings.getBoolean(ProcessProperties.CLUSTER_ACTIVATE);
-    if (clusterMode) {
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_SHARDS, 4);
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_REPLICAS, 1);
-      // else keep defaults (one shard)
-    }
+    // shards, replicas and refresh interval, default or configured for this index
+    index.configure(settings);
 
     // type "activity"
     NewIndex.NewIndexType mapping = index.createType(TYPE);
@@ -56,6 +56,7 @@ class EmbeddedTomcat {
     tomcat.getHost().setCreateDirs(false);
     tomcat.getHost().setDeployOnStartup(true);
     new TomcatAccessLog().configure(tomcat, props);
+    tomcat.getHost().getPipeline().addValve(new RequestCounterValve());
     TomcatConnectors.configure(tomcat, props);
     webappContext = Webapp.configure(tomcat, props);
     try {
@@ -0,0 +1,108 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.batch;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.sonar.api.ServerComponent;
+import org.sonar.api.utils.System2;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.core.qualityprofile.db.QualityProfileDto;
+
+import javax.annotation.CheckForNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of the active rules of quality profiles, as they are sent to batch by {@link ProjectRepositoryLoader}.
+ * <p/>
+ * An entry is identified by a version of profile, which changes each time the active rules of the profile are
+ * updated ({@link #invalidate(String)}) or when rules are registered at server startup ({@link #invalidateAll()}).
+ * The version is also sent to batch, which gives it back on next analysis so that unchanged
+ * active rules are not sent again.
+ */
+public class ActiveRulesCache implements ServerComponent {
+
+  private final System2 system2;
+
+  // changed each time the whole cache is invalidated, so that versions are never reused, even after a server restart
+  private long generation;
+  private long updates = 0L;
+  private final Map<String, Long> updatesByProfile = new HashMap<>();
+  private final Map<String, Entry> entriesByProfile = new HashMap<>();
+
+  public ActiveRulesCache(System2 system2) {
+    this.system2 = system2;
+    this.generation = system2.now();
+  }
+
+  public synchronized String version(QualityProfileDto profile) {
+    Long profileUpdates = updatesByProfile.get(profile.getKey());
+    return DigestUtils.md5Hex(profile.getKey() + "|" + generation + "|" + (profileUpdates == null ? 0L : profileUpdates) + "|" + profile.getRulesUpdatedAt());
+  }
+
+  @CheckForNull
+  public synchronized List<ActiveRule> get(String profileKey, String version) {
+    Entry entry = entriesByProfile.get(profileKey);
+    if (entry != null && entry.version.equals(version)) {
+      return entry.activeRules;
+    }
+    return null;
+  }
+
+  public synchronized void put(String profileKey, String version, List<ActiveRule> activeRules) {
+    entriesByProfile.put(profileKey, new Entry(version, activeRules));
+  }
+
+  /**
+   * Called when active rules of profile are updated, even if the database transaction is not committed yet
+   */
+  public synchronized void invalidate(String profileKey) {
+    updates++;
+    updatesByProfile.put(profileKey, updates);
+    entriesByProfile.remove(profileKey);
+  }
+
+  /**
+   * Called when definitions of rules (name, internal key, ...) may have changed
+   */
+  public synchronized void invalidateAll() {
+    generation = Math.max(generation + 1, system2.now());
+    updatesByProfile.clear();
+    entriesByProfile.clear();
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return entriesByProfile.size();
+  }
+
+  private static class Entry {
+    private final String version;
+    private final List<ActiveRule> activeRules;
+
+    Entry(String version, List<ActiveRule> activeRules) {
+      this.version = version;
+      this.activeRules = activeRules;
+    }
+  }
+}
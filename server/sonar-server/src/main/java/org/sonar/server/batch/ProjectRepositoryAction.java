@@ -20,19 +20,28 @@
 
 package org.sonar.server.batch;
 
-import org.apache.commons.io.IOUtils;
+import com.google.common.base.Charsets;
 import org.sonar.api.server.ws.Request;
 import org.sonar.api.server.ws.RequestHandler;
 import org.sonar.api.server.ws.Response;
 import org.sonar.api.server.ws.WebService;
+import org.sonar.batch.protocol.input.FileData;
 import org.sonar.batch.protocol.input.ProjectRepositories;
+import org.sonar.batch.protocol.input.ProjectRepositoriesWriter;
 import org.sonar.server.plugins.MimeTypes;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
 public class ProjectRepositoryAction implements RequestHandler {
 
   private static final String PARAM_KEY = "key";
   private static final String PARAM_PROFILE = "profile";
   private static final String PARAM_PREVIEW = "preview";
+  private static final String PARAM_FORMAT = "format";
+  private static final String PARAM_KNOWN_ACTIVE_RULES_VERSIONS = "knownActiveRulesVersions";
+  private static final String FORMAT_JSON = "json";
+  private static final String FORMAT_PROTOBUF = "protobuf";
 
   private final ProjectRepositoryLoader projectReferentialsLoader;
 
@@ -63,16 +72,58 @@ public class ProjectRepositoryAction implements RequestHandler {
       .setDescription("Preview mode or not")
       .setDefaultValue(false)
       .setBooleanPossibleValues();
+
+    action
+      .createParam(PARAM_FORMAT)
+      .setDescription("Format of response. Protocol buffers are streamed, so they are preferred on large projects. Since 5.2.")
+      .setDefaultValue(FORMAT_JSON)
+      .setPossibleValues(FORMAT_JSON, FORMAT_PROTOBUF);
+
+    action
+      .createParam(PARAM_KNOWN_ACTIVE_RULES_VERSIONS)
+      .setDescription("Comma-separated list of the versions of active rules that are already known by batch, as an equivalent of the HTTP header If-None-Match. " +
+        "Active rules of the quality profiles having one of these versions are not returned. Since 5.2.")
+      .setExampleValue("0f4e2e3b4c5d,8f3e2a3b4c5d");
   }
 
   @Override
   public void handle(Request request, Response response) throws Exception {
-    ProjectRepositories ref = projectReferentialsLoader.load(ProjectRepositoryQuery.create()
+    ProjectRepositoryQuery query = ProjectRepositoryQuery.create()
       .setModuleKey(request.mandatoryParam(PARAM_KEY))
       .setProfileName(request.param(PARAM_PROFILE))
-      .setPreview(request.mandatoryParamAsBoolean(PARAM_PREVIEW)));
-    response.stream().setMediaType(MimeTypes.JSON);
-    IOUtils.write(ref.toJson(), response.stream().output());
+      .setPreview(request.mandatoryParamAsBoolean(PARAM_PREVIEW))
+      .setKnownActiveRulesVersions(request.paramAsStrings(PARAM_KNOWN_ACTIVE_RULES_VERSIONS));
+    if (FORMAT_PROTOBUF.equals(request.mandatoryParam(PARAM_FORMAT))) {
+      writeProtobuf(query, response);
+    } else {
+      ProjectRepositories ref = projectReferentialsLoader.load(query);
+      response.stream().setMediaType(MimeTypes.JSON);
+      Writer writer = new OutputStreamWriter(response.stream().output(), Charsets.UTF_8);
+      ref.toJson(writer);
+      writer.flush();
+    }
+  }
+
+  /**
+   * Metadata, settings, quality profiles and active rules are written first. File data, which can be numerous, are
+   * then written as soon as they are loaded. The end record is written only if loading succeeded, so that batch
+   * detects a truncated response.
+   */
+  private void writeProtobuf(ProjectRepositoryQuery query, Response response) {
+    response.stream().setMediaType(MimeTypes.PROTOBUF);
+    final ProjectRepositoriesWriter writer = new ProjectRepositoriesWriter(response.stream().output());
+    projectReferentialsLoader.load(query, new ProjectRepositoryLoader.FileDataHandler() {
+      @Override
+      public void start(ProjectRepositories repositoriesWithoutFileData) {
+        writer.start(repositoriesWithoutFileData);
+      }
+
+      @Override
+      public void handle(String moduleKey, String path, FileData fileData) {
+        writer.writeFileData(moduleKey, path, fileData);
+      }
+    });
+    writer.end();
   }
 
 }
@@ -24,6 +24,8 @@ import com.google.common.base.Function;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.resources.Language;
 import org.sonar.api.resources.Languages;
@@ -70,25 +72,51 @@ public class ProjectRepositoryLoader implements ServerComponent {
   private final QProfileLoader qProfileLoader;
   private final RuleService ruleService;
   private final Languages languages;
+  private final ActiveRulesCache activeRulesCache;
 
   public ProjectRepositoryLoader(DbClient dbClient, QProfileFactory qProfileFactory, QProfileLoader qProfileLoader, RuleService ruleService,
-    Languages languages) {
+    Languages languages, ActiveRulesCache activeRulesCache) {
     this.dbClient = dbClient;
     this.qProfileFactory = qProfileFactory;
     this.qProfileLoader = qProfileLoader;
     this.ruleService = ruleService;
     this.languages = languages;
+    this.activeRulesCache = activeRulesCache;
   }
 
   public ProjectRepositories load(ProjectRepositoryQuery query) {
+    final ProjectRepositories ref = new ProjectRepositories();
+    return load(query, ref, new FileDataHandler() {
+      @Override
+      public void start(ProjectRepositories repositoriesWithoutFileData) {
+        // file data are added to the same repositories
+      }
+
+      @Override
+      public void handle(String moduleKey, String path, FileData fileData) {
+        ref.addFileData(moduleKey, path, fileData);
+      }
+    });
+  }
+
+  /**
+   * Same as {@link #load(ProjectRepositoryQuery)}, except that file data are not kept in the returned
+   * repositories but given to handler as soon as they are loaded. File data are loaded last, once the
+   * other data are given to the handler.
+   */
+  public ProjectRepositories load(ProjectRepositoryQuery query, FileDataHandler fileDataHandler) {
+    return load(query, new ProjectRepositories(), fileDataHandler);
+  }
+
+  private ProjectRepositories load(ProjectRepositoryQuery query, ProjectRepositories ref, FileDataHandler fileDataHandler) {
     boolean hasScanPerm = UserSession.get().hasGlobalPermission(GlobalPermissions.SCAN_EXECUTION);
     checkPermission(query.isPreview());
 
     DbSession session = dbClient.openSession(false);
     try {
-      ProjectRepositories ref = new ProjectRepositories();
       String projectKey = query.getModuleKey();
       ComponentDto module = dbClient.componentDao().getNullableByKey(session, query.getModuleKey());
+      List<ComponentDto> modulesTree = null;
       // Current project/module can be null when analysing a new project
       if (module != null) {
         // Scan permission is enough to analyze all projects but preview permission is limited to projects user can access
@@ -102,7 +130,7 @@ public class ProjectRepositoryLoader implements ServerComponent {
           projectKey = project.key();
         }
 
-        List<ComponentDto> modulesTree = dbClient.componentDao().selectEnabledDescendantModules(session, module.uuid());
+        modulesTree = dbClient.componentDao().selectEnabledDescendantModules(session, module.uuid());
         Map<String, String> moduleUuidsByKey = moduleUuidsByKey(module, modulesTree);
         Map<String, Long> moduleIdsByKey = moduleIdsByKey(module, modulesTree);
 
@@ -110,7 +138,6 @@ public class ProjectRepositoryLoader implements ServerComponent {
         TreeModuleSettings treeModuleSettings = new TreeModuleSettings(moduleUuidsByKey, moduleIdsByKey, modulesTree, modulesTreeSettings, module);
 
         addSettingsToChildrenModules(ref, query.getModuleKey(), Maps.<String, String>newHashMap(), treeModuleSettings, hasScanPerm, session);
-        addFileData(session, ref, modulesTree, module.uuid());
 
         // FIXME need real value but actually only used to know if there is a previous analysis in local issue tracking mode so any value is
         // ok
@@ -120,8 +147,13 @@ public class ProjectRepositoryLoader implements ServerComponent {
       }
 
       addProfiles(ref, projectKey, query.getProfileName(), session);
-      addActiveRules(ref);
+      addActiveRules(ref, query.getKnownActiveRulesVersions());
       addManualRules(ref);
+
+      fileDataHandler.start(ref);
+      if (module != null) {
+        addFileData(session, fileDataHandler, modulesTree, module.uuid());
+      }
       return ref;
     } finally {
       MyBatis.closeQuietly(session);
@@ -202,7 +234,8 @@ public class ProjectRepositoryLoader implements ServerComponent {
         qualityProfileDto.getKey(),
         qualityProfileDto.getName(),
         qualityProfileDto.getLanguage(),
-        UtcDateUtils.parseDateTime(qualityProfileDto.getRulesUpdatedAt())));
+        UtcDateUtils.parseDateTime(qualityProfileDto.getRulesUpdatedAt()))
+        .setActiveRulesVersion(activeRulesCache.version(qualityProfileDto)));
     }
   }
 
@@ -226,37 +259,55 @@ public class ProjectRepositoryLoader implements ServerComponent {
     }
   }
 
-  private void addActiveRules(ProjectRepositories ref) {
+  private void addActiveRules(ProjectRepositories ref, Set<String> knownVersions) {
     for (org.sonar.batch.protocol.input.QProfile qProfile : ref.qProfiles()) {
-      // Load all rules of the profile language (only needed fields are loaded)
-      Map<RuleKey, Rule> languageRules = ruleByRuleKey(ruleService.search(new RuleQuery().setLanguages(newArrayList(qProfile.language())),
-        new QueryContext().setLimit(100).setFieldsToReturn(newArrayList(
-          RuleNormalizer.RuleField.KEY.field(), RuleNormalizer.RuleField.NAME.field(), RuleNormalizer.RuleField.INTERNAL_KEY.field(), RuleNormalizer.RuleField.TEMPLATE_KEY.field()
-          )).setScroll(true))
-        .scroll());
-      for (Iterator<ActiveRule> activeRuleIterator = qProfileLoader.findActiveRulesByProfile(qProfile.key()); activeRuleIterator.hasNext();) {
-        ActiveRule activeRule = activeRuleIterator.next();
-        Rule rule = languageRules.get(activeRule.key().ruleKey());
-        if (rule == null) {
-          // It should never happen, but we need some log in case it happens
-          LOG.warn("Rule could not be found on active rule '{}'", activeRule.key());
-        } else {
-          RuleKey templateKey = rule.templateKey();
-          org.sonar.batch.protocol.input.ActiveRule inputActiveRule = new org.sonar.batch.protocol.input.ActiveRule(
-            activeRule.key().ruleKey().repository(),
-            activeRule.key().ruleKey().rule(),
-            templateKey != null ? templateKey.rule() : null,
-            rule.name(),
-            activeRule.severity(),
-            rule.internalKey(),
-            qProfile.language());
-          for (Map.Entry<String, String> entry : activeRule.params().entrySet()) {
-            inputActiveRule.addParam(entry.getKey(), entry.getValue());
-          }
-          ref.addActiveRule(inputActiveRule);
+      String version = qProfile.activeRulesVersion();
+      if (knownVersions.contains(version)) {
+        // batch already has these active rules in its local cache
+        continue;
+      }
+      List<org.sonar.batch.protocol.input.ActiveRule> activeRules = activeRulesCache.get(qProfile.key(), version);
+      if (activeRules == null) {
+        activeRules = loadActiveRules(qProfile);
+        activeRulesCache.put(qProfile.key(), version, activeRules);
+      }
+      for (org.sonar.batch.protocol.input.ActiveRule activeRule : activeRules) {
+        ref.addActiveRule(activeRule);
+      }
+    }
+  }
+
+  private List<org.sonar.batch.protocol.input.ActiveRule> loadActiveRules(org.sonar.batch.protocol.input.QProfile qProfile) {
+    List<org.sonar.batch.protocol.input.ActiveRule> result = newArrayList();
+    // Load all rules of the profile language (only needed fields are loaded)
+    Map<RuleKey, Rule> languageRules = ruleByRuleKey(ruleService.search(new RuleQuery().setLanguages(newArrayList(qProfile.language())),
+      new QueryContext().setLimit(100).setFieldsToReturn(newArrayList(
+        RuleNormalizer.RuleField.KEY.field(), RuleNormalizer.RuleField.NAME.field(), RuleNormalizer.RuleField.INTERNAL_KEY.field(), RuleNormalizer.RuleField.TEMPLATE_KEY.field()
+        )).setScroll(true))
+      .scroll());
+    for (Iterator<ActiveRule> activeRuleIterator = qProfileLoader.findActiveRulesByProfile(qProfile.key()); activeRuleIterator.hasNext();) {
+      ActiveRule activeRule = activeRuleIterator.next();
+      Rule rule = languageRules.get(activeRule.key().ruleKey());
+      if (rule == null) {
+        // It should never happen, but we need some log in case it happens
+        LOG.warn("Rule could not be found on active rule '{}'", activeRule.key());
+      } else {
+        RuleKey templateKey = rule.templateKey();
+        org.sonar.batch.protocol.input.ActiveRule inputActiveRule = new org.sonar.batch.protocol.input.ActiveRule(
+          activeRule.key().ruleKey().repository(),
+          activeRule.key().ruleKey().rule(),
+          templateKey != null ? templateKey.rule() : null,
+          rule.name(),
+          activeRule.severity(),
+          rule.internalKey(),
+          qProfile.language());
+        for (Map.Entry<String, String> entry : activeRule.params().entrySet()) {
+          inputActiveRule.addParam(entry.getKey(), entry.getValue());
         }
+        result.add(inputActiveRule);
       }
     }
+    return result;
   }
 
   private Map<RuleKey, Rule> ruleByRuleKey(Iterator<Rule> rules) {
@@ -282,17 +333,21 @@ public class ProjectRepositoryLoader implements ServerComponent {
     }
   }
 
-  private void addFileData(DbSession session, ProjectRepositories ref, List<ComponentDto> moduleChildren, String moduleKey) {
-    Map<String, String> moduleKeysByUuid = newHashMap();
+  private void addFileData(DbSession session, final FileDataHandler fileDataHandler, List<ComponentDto> moduleChildren, String moduleKey) {
+    final Map<String, String> moduleKeysByUuid = newHashMap();
     for (ComponentDto module : moduleChildren) {
       moduleKeysByUuid.put(module.uuid(), module.key());
     }
 
-    for (FilePathWithHashDto file : dbClient.componentDao().selectEnabledDescendantFiles(session, moduleKey)) {
-      // TODO should query E/S to know if blame is missing on this file
-      FileData fileData = new FileData(file.getSrcHash(), true);
-      ref.addFileData(moduleKeysByUuid.get(file.getModuleUuid()), file.getPath(), fileData);
-    }
+    dbClient.componentDao().selectEnabledDescendantFiles(session, moduleKey, new ResultHandler() {
+      @Override
+      public void handleResult(ResultContext context) {
+        FilePathWithHashDto file = (FilePathWithHashDto) context.getResultObject();
+        // TODO should query E/S to know if blame is missing on this file
+        FileData fileData = new FileData(file.getSrcHash(), true);
+        fileDataHandler.handle(moduleKeysByUuid.get(file.getModuleUuid()), file.getPath(), fileData);
+      }
+    });
   }
 
   private void checkPermission(boolean preview) {
@@ -327,6 +382,15 @@ public class ProjectRepositoryLoader implements ServerComponent {
     return moduleIdsByKey;
   }
 
+  public interface FileDataHandler {
+    /**
+     * Called once all the data except file data are loaded, before the first call to {@link #handle(String, String, FileData)}
+     */
+    void start(ProjectRepositories repositoriesWithoutFileData);
+
+    void handle(String moduleKey, String path, FileData fileData);
+  }
+
   private static class TreeModuleSettings {
 
     private Map<String, Long> moduleIdsByKey;
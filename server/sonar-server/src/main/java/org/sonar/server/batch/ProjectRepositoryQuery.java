@@ -23,11 +23,17 @@ package org.sonar.server.batch;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 public class ProjectRepositoryQuery {
 
   private String projectOrModuleKey;
   private String profileName;
   private boolean preview;
+  private Set<String> knownActiveRulesVersions = Collections.emptySet();
 
   private ProjectRepositoryQuery() {
     // No direct call
@@ -61,6 +67,18 @@ public class ProjectRepositoryQuery {
     return this;
   }
 
+  /**
+   * Versions of active rules that batch already has in its local cache
+   */
+  public Set<String> getKnownActiveRulesVersions() {
+    return knownActiveRulesVersions;
+  }
+
+  public ProjectRepositoryQuery setKnownActiveRulesVersions(@Nullable Collection<String> versions) {
+    this.knownActiveRulesVersions = versions == null ? Collections.<String>emptySet() : new HashSet<>(versions);
+    return this;
+  }
+
   public static ProjectRepositoryQuery create() {
     return new ProjectRepositoryQuery();
   }
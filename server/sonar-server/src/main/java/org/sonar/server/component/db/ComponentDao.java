@@ -21,6 +21,7 @@
 package org.sonar.server.component.db;
 
 import com.google.common.base.Function;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.api.resources.Scopes;
@@ -102,8 +103,11 @@ public class ComponentDao extends BaseDao<ComponentMapper, ComponentDto, String>
     return mapper(session).selectDescendantModules(rootComponentUuid, Scopes.PROJECT, true);
   }
 
-  public List<FilePathWithHashDto> selectEnabledDescendantFiles(DbSession session, String rootComponentUuid) {
-    return mapper(session).selectDescendantFiles(rootComponentUuid, Scopes.FILE, true);
+  /**
+   * Streams to the handler the enabled files of a module and of its sub-modules. Rows are {@link FilePathWithHashDto}.
+   */
+  public void selectEnabledDescendantFiles(DbSession session, String rootComponentUuid, ResultHandler handler) {
+    mapper(session).selectDescendantFiles(rootComponentUuid, Scopes.FILE, true, handler);
   }
 
   public List<ComponentDto> getByIds(final DbSession session, Collection<Long> ids) {
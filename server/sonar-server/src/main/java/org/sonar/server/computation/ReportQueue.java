@@ -29,6 +29,7 @@ import org.sonar.core.computation.db.AnalysisReportDto;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 import org.sonar.process.ProcessProperties;
+import org.sonar.process.TelemetryCounters;
 import org.sonar.server.computation.db.AnalysisReportDao;
 import org.sonar.server.db.DbClient;
 
@@ -60,6 +61,7 @@ public class ReportQueue implements ServerComponent {
 
       saveReportOnDisk(reportData, file);
       AnalysisReportDto dto = saveReportMetadataInDatabase(projectKey, uuid, session);
+      TelemetryCounters.addToComputeQueueSize(1L);
 
       return new Item(dto, file);
     } catch (Exception e) {
@@ -98,6 +100,7 @@ public class ReportQueue implements ServerComponent {
       FileUtils.deleteQuietly(item.zipFile);
       dao().delete(session, item.dto.getId());
       session.commit();
+      TelemetryCounters.addToComputeQueueSize(-1L);
     } finally {
       MyBatis.closeQuietly(session);
     }
@@ -116,6 +119,7 @@ public class ReportQueue implements ServerComponent {
         Loggers.get(getClass()).error("Analysis report not found: " + file.getAbsolutePath());
         dao().delete(session, dto.getId());
         session.commit();
+        TelemetryCounters.addToComputeQueueSize(-1L);
       }
       return null;
     } finally {
@@ -147,6 +151,7 @@ public class ReportQueue implements ServerComponent {
     try {
       dao().truncate(session);
       session.commit();
+      TelemetryCounters.setComputeQueueSize(0L);
     } finally {
       MyBatis.closeQuietly(session);
     }
@@ -157,6 +162,7 @@ public class ReportQueue implements ServerComponent {
     try {
       dao().resetAllToPendingStatus(session);
       session.commit();
+      TelemetryCounters.setComputeQueueSize(dao().selectAll(session).size());
     } finally {
       MyBatis.closeQuietly(session);
     }
@@ -21,15 +21,23 @@ package org.sonar.server.computation.issue;
 
 import org.sonar.api.rule.RuleKey;
 import org.sonar.core.rule.RuleDto;
+import org.sonar.server.exceptions.NotFoundException;
 import org.sonar.server.util.cache.MemoryCache;
 
 import javax.annotation.CheckForNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Cache of the rules involved during the current analysis
  */
 public class RuleCache extends MemoryCache<RuleKey, RuleDto> {
 
+  // rules indexed by their ref in the dictionary of report. Null if rule does not exist.
+  private RuleDto[] rulesByRef = new RuleDto[0];
+
   public RuleCache(RuleCacheLoader loader) {
     super(loader);
   }
@@ -39,4 +47,28 @@ public class RuleCache extends MemoryCache<RuleKey, RuleDto> {
     RuleDto rule = getNullable(key);
     return rule != null ? rule.getName() : null;
   }
+
+  /**
+   * Parses and loads in a single request the rules of the report dictionary, so that
+   * {@link #getByRef(int)} is a simple array lookup.
+   */
+  public void preload(List<String> dictionary) {
+    List<RuleKey> keys = new ArrayList<>(dictionary.size());
+    for (String key : dictionary) {
+      keys.add(RuleKey.parse(key));
+    }
+    Map<RuleKey, RuleDto> rules = getAll(keys);
+    rulesByRef = new RuleDto[keys.size()];
+    for (int ref = 0; ref < rulesByRef.length; ref++) {
+      rulesByRef[ref] = rules.get(keys.get(ref));
+    }
+  }
+
+  public RuleDto getByRef(int ref) {
+    RuleDto rule = ref >= 0 && ref < rulesByRef.length ? rulesByRef[ref] : null;
+    if (rule == null) {
+      throw new NotFoundException(String.format("Not found: rule ref %d", ref));
+    }
+    return rule;
+  }
 }
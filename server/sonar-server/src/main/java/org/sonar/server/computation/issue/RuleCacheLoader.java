@@ -26,7 +26,9 @@ import org.sonar.core.rule.RuleDto;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.util.cache.CacheLoader;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 public class RuleCacheLoader implements CacheLoader<RuleKey, RuleDto> {
@@ -49,6 +51,15 @@ public class RuleCacheLoader implements CacheLoader<RuleKey, RuleDto> {
 
   @Override
   public Map<RuleKey, RuleDto> loadAll(Collection<? extends RuleKey> keys) {
-    throw new UnsupportedOperationException("See RuleDao");
+    DbSession session = dbClient.openSession(false);
+    try {
+      Map<RuleKey, RuleDto> result = new HashMap<>();
+      for (RuleDto rule : dbClient.ruleDao().getByKeys(session, new ArrayList<RuleKey>(keys))) {
+        result.put(rule.getKey(), rule);
+      }
+      return result;
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
   }
 }
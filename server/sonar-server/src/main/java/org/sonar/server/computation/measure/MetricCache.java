@@ -33,6 +33,8 @@ import java.util.Map;
 
 public class MetricCache {
   private final Map<String, MetricDto> metrics;
+  // metrics indexed by their ref in the dictionary of report. Null if metric is not enabled.
+  private MetricDto[] metricsByRef = new MetricDto[0];
 
   public MetricCache(DbClient dbClient) {
     DbSession dbSession = dbClient.openSession(false);
@@ -57,4 +59,23 @@ public class MetricCache {
 
     return metric;
   }
+
+  /**
+   * Resolves once the metric keys of the report dictionary, so that {@link #getByRef(int)}
+   * is a simple array lookup.
+   */
+  public void preload(List<String> dictionary) {
+    metricsByRef = new MetricDto[dictionary.size()];
+    for (int ref = 0; ref < metricsByRef.length; ref++) {
+      metricsByRef[ref] = metrics.get(dictionary.get(ref));
+    }
+  }
+
+  public MetricDto getByRef(int ref) {
+    MetricDto metric = ref >= 0 && ref < metricsByRef.length ? metricsByRef[ref] : null;
+    if (metric == null) {
+      throw new NotFoundException(String.format("Not found: metric ref %d", ref));
+    }
+    return metric;
+  }
 }
@@ -21,6 +21,7 @@
 package org.sonar.server.computation.step;
 
 import org.sonar.api.resources.Qualifiers;
+import org.sonar.core.component.ComponentDto;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 
@@ -39,7 +40,8 @@ public class ApplyPermissionsStep implements ComputationStep {
 
   @Override
   public void execute(ComputationContext context) {
-    indexer.index();
+    ComponentDto project = context.getProject();
+    indexer.indexProject(project.uuid(), project.getAuthorizationUpdatedAt());
   }
 
   @Override
@@ -53,6 +53,7 @@ public class ComputationSteps {
 
       // Switch snapshot and purge
       SwitchSnapshotStep.class,
+      PersistLastMeasuresStep.class,
       IndexComponentsStep.class,
       PurgeDatastoresStep.class,
 
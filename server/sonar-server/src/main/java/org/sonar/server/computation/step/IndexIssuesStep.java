@@ -21,6 +21,7 @@
 package org.sonar.server.computation.step;
 
 import org.sonar.api.resources.Qualifiers;
+import org.sonar.core.component.ComponentDto;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 import org.sonar.server.issue.index.IssueIndexer;
@@ -42,7 +43,8 @@ public class IndexIssuesStep implements ComputationStep {
 
   @Override
   public void execute(ComputationContext context) {
-    authorizationIndexer.index();
+    ComponentDto project = context.getProject();
+    authorizationIndexer.indexProject(project.uuid(), project.getAuthorizationUpdatedAt());
     indexer.index();
   }
 
@@ -27,6 +27,7 @@ import org.sonar.api.rule.RuleKey;
 import org.sonar.batch.protocol.output.BatchReport;
 import org.sonar.batch.protocol.output.BatchReportReader;
 import org.sonar.core.measure.db.MeasureDto;
+import org.sonar.core.measure.db.MetricDto;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.computation.issue.RuleCache;
@@ -69,6 +70,9 @@ public class PersistMeasuresStep implements ComputationStep {
   @Override
   public void execute(ComputationContext context) {
     int rootComponentRef = context.getReportMetadata().getRootComponentRef();
+    BatchReport.Dictionaries dictionaries = context.getReportReader().readDictionaries();
+    metricCache.preload(dictionaries.getMetricKeyList());
+    ruleCache.preload(dictionaries.getRuleKeyList());
     try (DbSession dbSession = dbClient.openSession(true)) {
       recursivelyProcessComponent(dbSession, context, rootComponentRef);
       dbSession.commit();
@@ -87,9 +91,6 @@ public class PersistMeasuresStep implements ComputationStep {
 
   private void persistMeasures(DbSession dbSession, List<BatchReport.Measure> batchReportMeasures, final BatchReport.Component component) {
     for (BatchReport.Measure measure : batchReportMeasures) {
-      if (FORBIDDEN_METRIC_KEYS.contains(measure.getMetricKey())) {
-        throw new IllegalStateException(String.format("Measures on metric '%s' cannot be send in the report", measure.getMetricKey()));
-      }
       dbClient.measureDao().insert(dbSession, toMeasureDto(measure, component));
     }
   }
@@ -99,8 +100,9 @@ public class PersistMeasuresStep implements ComputationStep {
     if (!in.hasValueType()) {
       throw new IllegalStateException(String.format("Measure %s does not have value type", in));
     }
-    if (!in.hasMetricKey()) {
-      throw new IllegalStateException(String.format("Measure %s does not have metric key", in));
+    MetricDto metric = metric(in);
+    if (FORBIDDEN_METRIC_KEYS.contains(metric.getKey())) {
+      throw new IllegalStateException(String.format("Measures on metric '%s' cannot be send in the report", metric.getKey()));
     }
 
     MeasureDto out = new MeasureDto();
@@ -116,8 +118,8 @@ public class PersistMeasuresStep implements ComputationStep {
     out.setSeverity(in.hasSeverity() ? in.getSeverity().name() : null);
     out.setComponentId(component.getId());
     out.setSnapshotId(component.getSnapshotId());
-    out.setMetricId(metricCache.get(in.getMetricKey()).getId());
-    out.setRuleId(in.hasRuleKey() ? ruleCache.get(RuleKey.parse(in.getRuleKey())).getId() : null);
+    out.setMetricId(metric.getId());
+    out.setRuleId(ruleId(in));
     out.setCharacteristicId(in.hasCharactericId() ? in.getCharactericId() : null);
     out.setPersonId(in.hasPersonId() ? in.getPersonId() : null);
     out.setValue(valueAsDouble(in));
@@ -125,6 +127,31 @@ public class PersistMeasuresStep implements ComputationStep {
     return out;
   }
 
+  /**
+   * Metrics and rules are referenced by their index in the dictionaries of report. Keys are
+   * still accepted for the reports generated by older batches.
+   */
+  private MetricDto metric(BatchReport.Measure in) {
+    if (in.hasMetricRef()) {
+      return metricCache.getByRef(in.getMetricRef());
+    }
+    if (in.hasMetricKey()) {
+      return metricCache.get(in.getMetricKey());
+    }
+    throw new IllegalStateException(String.format("Measure %s does not have metric key", in));
+  }
+
+  @CheckForNull
+  private Integer ruleId(BatchReport.Measure in) {
+    if (in.hasRuleRef()) {
+      return ruleCache.getByRef(in.getRuleRef()).getId();
+    }
+    if (in.hasRuleKey()) {
+      return ruleCache.get(RuleKey.parse(in.getRuleKey())).getId();
+    }
+    return null;
+  }
+
   /**
    * return the numerical value as a double. It's the type used in db.
    * Returns null if no numerical value found
@@ -28,7 +28,7 @@ import org.sonar.server.computation.issue.IssueCache;
 import org.sonar.server.computation.issue.RuleCache;
 import org.sonar.server.issue.notification.*;
 import org.sonar.server.notifications.NotificationService;
-import org.sonar.server.util.CloseableIterator;
+import org.sonar.core.util.CloseableIterator;
 
 import java.util.Date;
 import java.util.Map;
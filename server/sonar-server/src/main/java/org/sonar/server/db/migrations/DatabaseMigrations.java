@@ -32,6 +32,7 @@ import org.sonar.server.db.migrations.v451.DeleteUnescapedActivities;
 import org.sonar.server.db.migrations.v50.*;
 import org.sonar.server.db.migrations.v51.*;
 import org.sonar.server.db.migrations.v52.FeedEventsComponentUuid;
+import org.sonar.server.db.migrations.v52.FeedLastMeasures;
 import org.sonar.server.db.migrations.v52.FeedProjectLinksComponentUuid;
 import org.sonar.server.db.migrations.v52.MoveProjectProfileAssociation;
 
@@ -102,6 +103,7 @@ public interface DatabaseMigrations {
     // 5.2
     FeedProjectLinksComponentUuid.class,
     FeedEventsComponentUuid.class,
-    MoveProjectProfileAssociation.class
+    MoveProjectProfileAssociation.class,
+    FeedLastMeasures.class
     );
 }
@@ -0,0 +1,98 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.db.migrations.v52;
+
+import org.sonar.core.measure.db.MeasureDto;
+import org.sonar.core.persistence.Database;
+import org.sonar.server.db.migrations.BaseDataChange;
+import org.sonar.server.db.migrations.Select;
+import org.sonar.server.db.migrations.Upsert;
+import org.sonar.server.db.migrations.UpsertImpl;
+import org.sonar.server.measure.persistence.LastMeasuresVector;
+
+import java.sql.SQLException;
+
+/**
+ * Feeds the new table LAST_MEASURES with the measures of the last snapshots
+ */
+public class FeedLastMeasures extends BaseDataChange {
+
+  public FeedLastMeasures(Database db) {
+    super(db);
+  }
+
+  @Override
+  public void execute(Context context) throws SQLException {
+    Select select = context.prepareSelect("SELECT s.id, s.project_id, s.root_project_id, pm.metric_id, pm.value, " +
+      "pm.variation_value_1, pm.variation_value_2, pm.variation_value_3, pm.variation_value_4, pm.variation_value_5, pm.text_value " +
+      "FROM project_measures pm " +
+      "INNER JOIN snapshots s ON s.id=pm.snapshot_id " +
+      "INNER JOIN metrics m ON m.id=pm.metric_id " +
+      "WHERE s.islast=? AND pm.rule_id IS NULL AND pm.rule_priority IS NULL AND pm.characteristic_id IS NULL AND pm.person_id IS NULL " +
+      "AND m.val_type NOT IN ('DATA', 'DISTRIB') " +
+      "ORDER BY s.id");
+    select.setBoolean(1, true);
+    Upsert insert = context.prepareUpsert("INSERT INTO last_measures (snapshot_id, project_id, root_project_id, measures_data) VALUES (?, ?, ?, ?)");
+    RowsHandler handler = new RowsHandler(insert);
+    select.scroll(handler);
+    handler.flush();
+    if (((UpsertImpl) insert).getBatchCount() > 0L) {
+      insert.execute().commit();
+    }
+    insert.close();
+  }
+
+  private static class RowsHandler implements Select.RowHandler {
+    private final Upsert insert;
+    private final LastMeasuresVector.Builder vector = new LastMeasuresVector.Builder();
+    private long snapshotId = -1L;
+    private long projectId;
+    private long rootProjectId;
+
+    RowsHandler(Upsert insert) {
+      this.insert = insert;
+    }
+
+    @Override
+    public void handle(Select.Row row) throws SQLException {
+      if (row.getLong(1) != snapshotId) {
+        flush();
+        snapshotId = row.getLong(1);
+        projectId = row.getLong(2);
+        rootProjectId = row.getLong(3);
+      }
+      MeasureDto measure = new MeasureDto()
+        .setMetricId(row.getInt(4))
+        .setValue(row.getNullableDouble(5))
+        .setData(row.getNullableString(11));
+      for (int period = 1; period <= 5; period++) {
+        measure.setVariation(period, row.getNullableDouble(5 + period));
+      }
+      vector.add(measure);
+    }
+
+    void flush() throws SQLException {
+      if (!vector.isEmpty()) {
+        insert.setLong(1, snapshotId).setLong(2, projectId).setLong(3, rootProjectId).setBytes(4, vector.encode()).addBatch();
+        vector.clear();
+      }
+    }
+  }
+}
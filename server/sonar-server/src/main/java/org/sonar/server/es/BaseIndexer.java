@@ -19,12 +19,30 @@
  */
 package org.sonar.server.es;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.commons.dbutils.DbUtils;
 import org.picocontainer.Startable;
 import org.sonar.api.ServerComponent;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.MyBatis;
+import org.sonar.core.template.LoadedTemplateDto;
+import org.sonar.server.db.DbClient;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -32,6 +50,14 @@ import java.util.concurrent.TimeUnit;
 
 public abstract class BaseIndexer implements ServerComponent, Startable {
 
+  private static final Logger LOGGER = Loggers.get(BaseIndexer.class);
+
+  /**
+   * Number of partitions per worker, so that workers stay busy even if partitions have
+   * different sizes.
+   */
+  private static final int PARTITIONS_PER_WORKER = 8;
+
   private final ThreadPoolExecutor executor;
   private final String indexName, typeName, dateFieldName;
   protected final EsClient esClient;
@@ -48,6 +74,8 @@ public abstract class BaseIndexer implements ServerComponent, Startable {
    */
   private boolean enabled = false;
 
+  private int partitionWorkers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
   protected BaseIndexer(EsClient client, long threadKeepAliveSeconds, String indexName, String typeName,
                         String dateFieldName) {
     this.indexName = indexName;
@@ -81,6 +109,196 @@ public abstract class BaseIndexer implements ServerComponent, Startable {
 
   protected abstract long doIndex(long lastUpdatedAt);
 
+  /**
+   * Max date of the documents indexed since startup, or zero if none
+   */
+  protected long getLastUpdatedAt() {
+    return lastUpdatedAt;
+  }
+
+  /**
+   * Indexes a partition of a db table, using its own db connection and {@link BulkIndexer}.
+   * See {@link #doIndexPartitions(DbClient, String, PartitionIndexer)}.
+   */
+  protected interface PartitionIndexer {
+    /**
+     * @return the max date of indexed rows
+     */
+    long index(BulkIndexer bulk, Connection connection, IndexPartition partition);
+  }
+
+  /**
+   * Indexes from scratch all the rows of a table. The rows are partitioned by ranges of project UUIDs
+   * and partitions are processed concurrently, each worker having its own db connection and
+   * {@link BulkIndexer}.
+   * <p/>
+   * The planned partitions are recorded in db and each of them is removed when completed, so that an
+   * interrupted indexing (for example a server crash) is resumed on next call with the same partitions,
+   * without indexing again the completed ones. See {@link #hasPendingPartitions(DbClient)}.
+   *
+   * @param projectUuidsSql SQL request that returns the distinct, sorted and not null project UUIDs of the table
+   * @return the max date of indexed rows
+   */
+  protected long doIndexPartitions(final DbClient dbClient, String projectUuidsSql, final PartitionIndexer partitionIndexer) {
+    List<IndexPartition> partitions;
+    if (hasPendingPartitions(dbClient)) {
+      partitions = loadPendingPartitions(dbClient);
+    } else {
+      partitions = planPartitions(dbClient, projectUuidsSql);
+    }
+
+    // replicas and refresh are disabled during the whole indexing, not by each worker
+    BulkIndexer largeBulk = new BulkIndexer(esClient, indexName).setLarge(true);
+    largeBulk.start();
+    ExecutorService workers = Executors.newFixedThreadPool(partitionWorkers, new ThreadFactoryBuilder()
+      .setNameFormat("Indexer[" + indexName + "]-%d").build());
+    long maxDate = 0L;
+    try {
+      List<Future<Long>> futures = new ArrayList<>();
+      for (final IndexPartition partition : partitions) {
+        futures.add(workers.submit(new Callable<Long>() {
+          @Override
+          public Long call() {
+            return indexPartition(dbClient, partitionIndexer, partition);
+          }
+        }));
+      }
+      LOGGER.info(String.format("Index %s: %d partitions to be processed by %d workers", indexName, futures.size(), partitionWorkers));
+      for (Future<Long> future : futures) {
+        maxDate = Math.max(maxDate, Uninterruptibles.getUninterruptibly(future));
+      }
+    } catch (ExecutionException e) {
+      workers.shutdownNow();
+      throw Throwables.propagate(e.getCause());
+    } finally {
+      workers.shutdown();
+      // replicas and refresh must be restored even if indexing fails
+      largeBulk.stop();
+    }
+    deleteCheckpoints(dbClient);
+    return maxDate;
+  }
+
+  /**
+   * Whether an indexing started by {@link #doIndexPartitions(DbClient, String, PartitionIndexer)} has been
+   * interrupted and must be resumed.
+   */
+  protected boolean hasPendingPartitions(DbClient dbClient) {
+    return dbClient.loadedTemplateDao().countByTypeAndKey(LoadedTemplateDto.INDEX_PARTITION_TYPE, indexName) > 0;
+  }
+
+  private long indexPartition(DbClient dbClient, PartitionIndexer partitionIndexer, IndexPartition partition) {
+    BulkIndexer bulk = new BulkIndexer(esClient, indexName);
+    // refresh is done once all partitions are indexed
+    bulk.setDisableRefresh(true);
+    DbSession dbSession = dbClient.openSession(false);
+    Connection dbConnection = dbSession.getConnection();
+    long maxDate;
+    try {
+      maxDate = partitionIndexer.index(bulk, dbConnection, partition);
+    } finally {
+      DbUtils.closeQuietly(dbConnection);
+      MyBatis.closeQuietly(dbSession);
+    }
+    dbSession = dbClient.openSession(false);
+    try {
+      dbClient.loadedTemplateDao().delete(dbSession, LoadedTemplateDto.INDEX_PARTITION_TYPE, checkpointKey(partition));
+      dbSession.commit();
+    } finally {
+      MyBatis.closeQuietly(dbSession);
+    }
+    return maxDate;
+  }
+
+  /**
+   * Splits the project UUIDs in contiguous ranges, the first and last ones being unbounded, and records
+   * them in db along with the marker of indexing in progress.
+   */
+  private List<IndexPartition> planPartitions(DbClient dbClient, String projectUuidsSql) {
+    List<String> projectUuids = loadProjectUuids(dbClient, projectUuidsSql);
+
+    // bounds are taken from the list sorted by db, so that ranges are consistent with db collation
+    List<IndexPartition> partitions = new ArrayList<>();
+    int maxPartitions = partitionWorkers * PARTITIONS_PER_WORKER;
+    int partitionSize = Math.max(1, (projectUuids.size() + maxPartitions - 1) / maxPartitions);
+    String from = null;
+    for (int i = partitionSize; i < projectUuids.size(); i += partitionSize) {
+      String to = projectUuids.get(i);
+      partitions.add(new IndexPartition(from, to));
+      from = to;
+    }
+    partitions.add(new IndexPartition(from, null));
+
+    DbSession dbSession = dbClient.openSession(false);
+    try {
+      for (IndexPartition partition : partitions) {
+        dbClient.loadedTemplateDao().insert(new LoadedTemplateDto(checkpointKey(partition), LoadedTemplateDto.INDEX_PARTITION_TYPE), dbSession);
+      }
+      dbClient.loadedTemplateDao().insert(new LoadedTemplateDto(indexName, LoadedTemplateDto.INDEX_PARTITION_TYPE), dbSession);
+      dbSession.commit();
+    } finally {
+      MyBatis.closeQuietly(dbSession);
+    }
+    return partitions;
+  }
+
+  private List<String> loadProjectUuids(DbClient dbClient, String projectUuidsSql) {
+    List<String> projectUuids = new ArrayList<>();
+    DbSession dbSession = dbClient.openSession(false);
+    Connection dbConnection = dbSession.getConnection();
+    PreparedStatement stmt = null;
+    ResultSet rs = null;
+    try {
+      stmt = dbClient.newScrollingSelectStatement(dbConnection, projectUuidsSql);
+      rs = stmt.executeQuery();
+      while (rs.next()) {
+        projectUuids.add(rs.getString(1));
+      }
+      return projectUuids;
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to load the project UUIDs to be indexed in " + indexName, e);
+    } finally {
+      DbUtils.closeQuietly(dbConnection, stmt, rs);
+      MyBatis.closeQuietly(dbSession);
+    }
+  }
+
+  private List<IndexPartition> loadPendingPartitions(DbClient dbClient) {
+    List<IndexPartition> partitions = new ArrayList<>();
+    String prefix = indexName + ":";
+    for (String key : dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.INDEX_PARTITION_TYPE)) {
+      if (key.startsWith(prefix)) {
+        partitions.add(IndexPartition.parse(key.substring(prefix.length())));
+      }
+    }
+    return partitions;
+  }
+
+  private void deleteCheckpoints(DbClient dbClient) {
+    DbSession dbSession = dbClient.openSession(false);
+    try {
+      String prefix = indexName + ":";
+      for (String key : dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.INDEX_PARTITION_TYPE)) {
+        if (key.equals(indexName) || key.startsWith(prefix)) {
+          dbClient.loadedTemplateDao().delete(dbSession, LoadedTemplateDto.INDEX_PARTITION_TYPE, key);
+        }
+      }
+      dbSession.commit();
+    } finally {
+      MyBatis.closeQuietly(dbSession);
+    }
+  }
+
+  private String checkpointKey(IndexPartition partition) {
+    return indexName + ":" + partition;
+  }
+
+  @VisibleForTesting
+  public BaseIndexer setPartitionWorkers(int i) {
+    this.partitionWorkers = i;
+    return this;
+  }
+
   public BaseIndexer setEnabled(boolean b) {
     this.enabled = b;
     return this;
@@ -0,0 +1,122 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+
+/**
+ * Adapts the size and the number of concurrent requests of the {@link BulkIndexer}s of an index to the load of
+ * Elasticsearch. The limit of concurrent requests applies to all the indexers that share the controller.
+ * Values are increased additively and decreased multiplicatively:
+ * <ul>
+ *   <li>flush size and concurrency are halved when Elasticsearch rejects items because its queues are full</li>
+ *   <li>flush size is halved when latency of bulk requests is high</li>
+ *   <li>flush size and concurrency are progressively increased up to their max values while latency is low</li>
+ * </ul>
+ */
+class BulkController {
+
+  static final long MIN_FLUSH_BYTE_SIZE = new ByteSizeValue(128, ByteSizeUnit.KB).bytes();
+  static final long DEFAULT_FLUSH_BYTE_SIZE = new ByteSizeValue(1, ByteSizeUnit.MB).bytes();
+  static final long MAX_FLUSH_BYTE_SIZE = new ByteSizeValue(5, ByteSizeUnit.MB).bytes();
+  static final int DEFAULT_MAX_CONCURRENCY = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+  static final long LOW_LATENCY_MS = 500L;
+  static final long HIGH_LATENCY_MS = 3000L;
+
+  private final int maxConcurrency;
+  private final long minFlushByteSize;
+  private final long maxFlushByteSize;
+  private final long flushByteSizeStep;
+  private int concurrency;
+  private long flushByteSize;
+  private int inFlight = 0;
+
+  BulkController(int maxConcurrency, long initialFlushByteSize, long maxFlushByteSize) {
+    this.maxConcurrency = maxConcurrency;
+    this.minFlushByteSize = Math.min(MIN_FLUSH_BYTE_SIZE, maxFlushByteSize);
+    this.maxFlushByteSize = maxFlushByteSize;
+    this.flushByteSizeStep = Math.max(1L, maxFlushByteSize / 10);
+    this.concurrency = maxConcurrency;
+    this.flushByteSize = Math.min(initialFlushByteSize, maxFlushByteSize);
+  }
+
+  /**
+   * Controller shared by all the {@link BulkIndexer}s of an index, see {@link EsClient#bulkController(String)}
+   */
+  static BulkController createDefault() {
+    return new BulkController(DEFAULT_MAX_CONCURRENCY, DEFAULT_FLUSH_BYTE_SIZE, MAX_FLUSH_BYTE_SIZE);
+  }
+
+  /**
+   * Blocks until a new bulk request can be sent
+   */
+  synchronized void acquire() {
+    while (inFlight >= concurrency) {
+      doWait(0L);
+    }
+    inFlight++;
+  }
+
+  synchronized void release() {
+    inFlight--;
+    notifyAll();
+  }
+
+  synchronized void onSuccess(long latencyMs) {
+    if (latencyMs > HIGH_LATENCY_MS) {
+      flushByteSize = Math.max(minFlushByteSize, flushByteSize / 2);
+    } else if (latencyMs < LOW_LATENCY_MS) {
+      flushByteSize = Math.min(maxFlushByteSize, flushByteSize + flushByteSizeStep);
+      if (concurrency < maxConcurrency) {
+        concurrency++;
+        notifyAll();
+      }
+    }
+  }
+
+  synchronized void onRejection() {
+    concurrency = Math.max(1, concurrency / 2);
+    flushByteSize = Math.max(minFlushByteSize, flushByteSize / 2);
+  }
+
+  synchronized long flushByteSize() {
+    return flushByteSize;
+  }
+
+  synchronized int concurrency() {
+    return concurrency;
+  }
+
+  @VisibleForTesting
+  synchronized int inFlight() {
+    return inFlight;
+  }
+
+  private void doWait(long timeoutMs) {
+    try {
+      wait(timeoutMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for Elasticsearch bulk requests", e);
+    }
+  }
+}
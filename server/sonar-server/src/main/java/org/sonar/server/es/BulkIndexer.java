@@ -21,6 +21,8 @@ package org.sonar.server.es;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.elasticsearch.ExceptionsHelper;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.ActionRequest;
 import org.elasticsearch.action.admin.indices.settings.get.GetSettingsResponse;
@@ -32,24 +34,31 @@ import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.search.SearchType;
 import org.elasticsearch.cluster.metadata.IndexMetaData;
-import org.elasticsearch.common.unit.ByteSizeUnit;
-import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.search.SearchHit;
 import org.picocontainer.Startable;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.server.util.ProgressLogger;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Semaphore;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Helper to bulk requests in an efficient way :
  * <ul>
- *   <li>bulk request is sent on the wire when its size is higher than 5Mb</li>
+ *   <li>bulk request is sent on the wire when its size is higher than a threshold, between 128Kb and 5Mb</li>
+ *   <li>size and number of concurrent bulk requests are adapted to the load of Elasticsearch, see {@link BulkController}.
+ *   The controller is shared by all the indexers of the same index.</li>
+ *   <li>documents rejected because Elasticsearch queues are full are retried with exponential backoff</li>
  *   <li>on large table indexing, replicas and automatic refresh can be temporarily disabled</li>
  *   <li>index refresh is optional (enabled by default)</li>
  * </ul>
@@ -57,20 +66,24 @@ import java.util.concurrent.atomic.AtomicLong;
 public class BulkIndexer implements Startable {
 
   private static final Logger LOGGER = Loggers.get(BulkIndexer.class);
-  private static final long FLUSH_BYTE_SIZE = new ByteSizeValue(1, ByteSizeUnit.MB).bytes();
+  private static final int MAX_RETRIES = 5;
+  private static final long RETRY_INITIAL_DELAY_MS = 100L;
+  private static final long STOP_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
   private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
   private static final String ALREADY_STARTED_MESSAGE = "Bulk indexing is already started";
 
   private final EsClient client;
   private final String indexName;
   private boolean large = false;
-  private long flushByteSize = FLUSH_BYTE_SIZE;
   private boolean disableRefresh = false;
   private BulkRequestBuilder bulkRequest = null;
   private Map<String, Object> largeInitialSettings = null;
   private final AtomicLong counter = new AtomicLong(0L);
-  private final int concurrentRequests;
-  private final Semaphore semaphore;
+  private final BulkIndexerStats stats;
+  private BulkController controller;
+  // requests of this indexer, whereas controller can be shared with other indexers
+  private int inFlight = 0;
+  private final Queue<Retry> retries = new ConcurrentLinkedQueue<>();
   private final ProgressLogger progress;
 
   public BulkIndexer(EsClient client, String indexName) {
@@ -79,8 +92,8 @@ public class BulkIndexer implements Startable {
     this.progress = new ProgressLogger(String.format("Progress[BulkIndexer[%s]]", indexName), counter, LOGGER)
       .setPluralLabel("requests");
 
-    this.concurrentRequests = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
-    this.semaphore = new Semaphore(concurrentRequests);
+    this.stats = client.bulkIndexerStats(indexName);
+    this.controller = client.bulkController(indexName);
   }
 
   /**
@@ -93,8 +106,13 @@ public class BulkIndexer implements Startable {
     return this;
   }
 
+  /**
+   * Fixed size of bulk requests. By default size is adapted to the load of Elasticsearch. The indexer then
+   * does not share the limit of concurrent requests with the other indexers of the index.
+   */
   public BulkIndexer setFlushByteSize(long flushByteSize) {
-    this.flushByteSize = flushByteSize;
+    Preconditions.checkState(bulkRequest == null, ALREADY_STARTED_MESSAGE);
+    this.controller = new BulkController(BulkController.DEFAULT_MAX_CONCURRENCY, flushByteSize, flushByteSize);
     return this;
   }
 
@@ -136,9 +154,12 @@ public class BulkIndexer implements Startable {
 
   public void add(ActionRequest request) {
     bulkRequest.request().add(request);
-    if (bulkRequest.request().estimatedSizeInBytes() >= flushByteSize) {
+    if (bulkRequest.request().estimatedSizeInBytes() >= controller.flushByteSize()) {
       executeBulk();
     }
+    if (!retries.isEmpty()) {
+      executeDueRetries();
+    }
   }
 
   public void addDeletion(SearchRequestBuilder searchRequest) {
@@ -151,7 +172,7 @@ public class BulkIndexer implements Startable {
 
     // this search is synchronous. An optimization would be to be non-blocking,
     // but it requires to tracking pending requests in close().
-    // Same semaphore can't be reused because of potential deadlock (requires to acquire
+    // Same permits of in-flight requests can't be reused because of potential deadlock (requires to acquire
     // two locks)
     SearchResponse searchResponse = searchRequest.get();
 
@@ -185,13 +206,7 @@ public class BulkIndexer implements Startable {
     if (bulkRequest.numberOfActions() > 0) {
       executeBulk();
     }
-    try {
-      if (semaphore.tryAcquire(concurrentRequests, 10, TimeUnit.MINUTES)) {
-        semaphore.release(concurrentRequests);
-      }
-    } catch (InterruptedException e) {
-      throw new IllegalStateException("Elasticsearch bulk requests still being executed after 10 minutes", e);
-    }
+    awaitCompletion();
     progress.stop();
 
     if (!disableRefresh) {
@@ -217,37 +232,163 @@ public class BulkIndexer implements Startable {
   private void executeBulk() {
     final BulkRequestBuilder req = this.bulkRequest;
     this.bulkRequest = client.prepareBulk().setRefresh(false);
-    semaphore.acquireUninterruptibly();
-    req.execute(new BulkResponseActionListener(req));
+    execute(req, 0);
+  }
+
+  private void execute(BulkRequestBuilder req, int attempt) {
+    controller.acquire();
+    synchronized (this) {
+      inFlight++;
+    }
+    stats.onBulkSent(req.numberOfActions());
+    req.execute(new BulkResponseActionListener(req, attempt));
+  }
+
+  private void release() {
+    controller.release();
+    synchronized (this) {
+      inFlight--;
+      notifyAll();
+    }
+  }
+
+  /**
+   * @return false if some requests of this indexer are still being executed after the timeout
+   */
+  private synchronized boolean awaitNoneInFlight(long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    while (inFlight > 0) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0L) {
+        return false;
+      }
+      try {
+        wait(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for Elasticsearch bulk requests", e);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Waits for the in-flight requests and for the rejected documents to be retried
+   */
+  private void awaitCompletion() {
+    long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MS;
+    while (true) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0L || !awaitNoneInFlight(remaining)) {
+        throw new IllegalStateException("Elasticsearch bulk requests still being executed after 10 minutes");
+      }
+      if (retries.isEmpty()) {
+        // requests are all completed and retries are scheduled before completion
+        return;
+      }
+      executeDueRetries();
+      if (!retries.isEmpty()) {
+        Uninterruptibles.sleepUninterruptibly(RETRY_INITIAL_DELAY_MS, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void executeDueRetries() {
+    long now = System.currentTimeMillis();
+    Iterator<Retry> it = retries.iterator();
+    while (it.hasNext()) {
+      Retry retry = it.next();
+      if (retry.notBefore <= now) {
+        it.remove();
+        BulkRequestBuilder req = client.prepareBulk().setRefresh(false);
+        for (ActionRequest request : retry.requests) {
+          req.request().add(request);
+        }
+        stats.onRetrySent(retry.requests.size());
+        execute(req, retry.attempt);
+      }
+    }
+  }
+
+  private void scheduleRetry(List<ActionRequest> requests, int attempt) {
+    if (attempt > MAX_RETRIES) {
+      LOGGER.error(String.format("Fail to index %d documents in index [%s], Elasticsearch rejected them %d times", requests.size(), indexName, MAX_RETRIES));
+      return;
+    }
+    stats.onRetryScheduled(requests.size());
+    long delay = RETRY_INITIAL_DELAY_MS << (attempt - 1);
+    retries.add(new Retry(requests, attempt, System.currentTimeMillis() + delay));
+  }
+
+  private static boolean isRejection(Throwable e) {
+    return ExceptionsHelper.unwrapCause(e) instanceof EsRejectedExecutionException;
+  }
+
+  private static class Retry {
+    private final List<ActionRequest> requests;
+    private final int attempt;
+    private final long notBefore;
+
+    Retry(List<ActionRequest> requests, int attempt, long notBefore) {
+      this.requests = requests;
+      this.attempt = attempt;
+      this.notBefore = notBefore;
+    }
   }
 
   private class BulkResponseActionListener implements ActionListener<BulkResponse> {
     private final BulkRequestBuilder req;
+    private final int attempt;
+    private final long startedAt = System.currentTimeMillis();
 
-    public BulkResponseActionListener(BulkRequestBuilder req) {
+    public BulkResponseActionListener(BulkRequestBuilder req, int attempt) {
       this.req = req;
+      this.attempt = attempt;
     }
 
     @Override
     public void onResponse(BulkResponse response) {
-      semaphore.release();
-      counter.addAndGet(response.getItems().length);
-
+      List<ActionRequest> rejected = new ArrayList<>();
+      int failed = 0;
       for (BulkItemResponse item : response.getItems()) {
         if (item.isFailed()) {
-          StringBuilder sb = new StringBuilder();
-          String msg = sb
-            .append("index [").append(item.getIndex()).append("], type [").append(item.getType()).append("], id [").append(item.getId())
-            .append("], message [").append(item.getFailureMessage()).append("]").toString();
-          LOGGER.error(msg);
+          if (item.getFailure().getStatus() == RestStatus.TOO_MANY_REQUESTS) {
+            rejected.add(req.request().requests().get(item.getItemId()));
+          } else {
+            failed++;
+            StringBuilder sb = new StringBuilder();
+            String msg = sb
+              .append("index [").append(item.getIndex()).append("], type [").append(item.getType()).append("], id [").append(item.getId())
+              .append("], message [").append(item.getFailureMessage()).append("]").toString();
+            LOGGER.error(msg);
+          }
         }
       }
+      int items = response.getItems().length;
+      counter.addAndGet(items - rejected.size());
+      if (rejected.isEmpty()) {
+        controller.onSuccess(System.currentTimeMillis() - startedAt);
+      } else {
+        controller.onRejection();
+        scheduleRetry(rejected, attempt + 1);
+      }
+      stats.onBulkDone(items, items - rejected.size() - failed, failed, rejected.size());
+      // released after scheduling of retries, so that stop() does not miss them
+      release();
     }
 
     @Override
     public void onFailure(Throwable e) {
-      semaphore.release();
-      LOGGER.error("Fail to execute bulk index request: " + req, e);
+      int items = req.numberOfActions();
+      if (isRejection(e)) {
+        controller.onRejection();
+        scheduleRetry(new ArrayList<>(req.request().requests()), attempt + 1);
+        stats.onBulkDone(items, 0, 0, items);
+      } else {
+        LOGGER.error("Fail to execute bulk index request: " + req, e);
+        stats.onBulkDone(items, 0, items, 0);
+      }
+      release();
     }
   }
 }
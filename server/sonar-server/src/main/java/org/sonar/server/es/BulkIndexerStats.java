@@ -0,0 +1,141 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import org.sonar.api.utils.System2;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live statistics of the {@link BulkIndexer}s of an index, see {@link EsClient#bulkIndexerStats(String)}
+ */
+public class BulkIndexerStats {
+
+  /**
+   * Throughput is the average of the last complete seconds
+   */
+  static final int THROUGHPUT_WINDOW_SECONDS = 10;
+
+  private final System2 system2;
+  private final AtomicLong indexedDocs = new AtomicLong(0L);
+  private final AtomicLong failedDocs = new AtomicLong(0L);
+  private final AtomicLong rejectedDocs = new AtomicLong(0L);
+  private final AtomicLong retriedDocs = new AtomicLong(0L);
+  private final AtomicLong bulkRequests = new AtomicLong(0L);
+  private final AtomicLong inFlightRequests = new AtomicLong(0L);
+  private final AtomicLong backlog = new AtomicLong(0L);
+
+  // number of indexed documents per second, in a ring of buckets
+  private final long[] indexedDocsPerSecond = new long[THROUGHPUT_WINDOW_SECONDS + 1];
+  private final long[] bucketSeconds = new long[THROUGHPUT_WINDOW_SECONDS + 1];
+
+  public BulkIndexerStats() {
+    this(System2.INSTANCE);
+  }
+
+  BulkIndexerStats(System2 system2) {
+    this.system2 = system2;
+  }
+
+  void onBulkSent(int docs) {
+    bulkRequests.incrementAndGet();
+    inFlightRequests.incrementAndGet();
+    backlog.addAndGet(docs);
+  }
+
+  void onBulkDone(int docs, int indexed, int failed, int rejected) {
+    inFlightRequests.decrementAndGet();
+    backlog.addAndGet(-docs);
+    indexedDocs.addAndGet(indexed);
+    failedDocs.addAndGet(failed);
+    rejectedDocs.addAndGet(rejected);
+    addIndexedDocsOfCurrentSecond(indexed);
+  }
+
+  private synchronized void addIndexedDocsOfCurrentSecond(int docs) {
+    long second = system2.now() / 1000L;
+    int bucket = (int) (second % bucketSeconds.length);
+    if (bucketSeconds[bucket] != second) {
+      bucketSeconds[bucket] = second;
+      indexedDocsPerSecond[bucket] = 0L;
+    }
+    indexedDocsPerSecond[bucket] += docs;
+  }
+
+  void onRetryScheduled(int docs) {
+    retriedDocs.addAndGet(docs);
+    backlog.addAndGet(docs);
+  }
+
+  void onRetrySent(int docs) {
+    backlog.addAndGet(-docs);
+  }
+
+  public long getIndexedDocs() {
+    return indexedDocs.get();
+  }
+
+  public long getFailedDocs() {
+    return failedDocs.get();
+  }
+
+  /**
+   * Number of documents rejected by Elasticsearch because its queues were full. These documents
+   * are retried.
+   */
+  public long getRejectedDocs() {
+    return rejectedDocs.get();
+  }
+
+  public long getRetriedDocs() {
+    return retriedDocs.get();
+  }
+
+  public long getBulkRequests() {
+    return bulkRequests.get();
+  }
+
+  public long getInFlightRequests() {
+    return inFlightRequests.get();
+  }
+
+  /**
+   * Number of documents that are being sent or that are waiting for retry
+   */
+  public long getBacklog() {
+    return backlog.get();
+  }
+
+  /**
+   * Average number of indexed documents per second during the last {@link #THROUGHPUT_WINDOW_SECONDS} complete
+   * seconds. Reading the value does not change it, so it can be called concurrently.
+   */
+  public synchronized long getThroughput() {
+    long currentSecond = system2.now() / 1000L;
+    long docs = 0L;
+    for (int i = 0; i < bucketSeconds.length; i++) {
+      long age = currentSecond - bucketSeconds[i];
+      if (age >= 1L && age <= THROUGHPUT_WINDOW_SECONDS) {
+        docs += indexedDocsPerSecond[i];
+      }
+    }
+    return docs / THROUGHPUT_WINDOW_SECONDS;
+  }
+}
@@ -71,6 +71,11 @@ import org.sonar.server.es.request.ProxySearchRequestBuilder;
 import org.sonar.server.es.request.ProxySearchScrollRequestBuilder;
 import org.sonar.server.search.SearchClient;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Facade to connect to Elasticsearch node. Handles correctly errors (logging + exceptions
  * with context) and profiling of requests.
@@ -79,6 +84,8 @@ public class EsClient implements Startable {
 
   public static final Logger LOGGER = Loggers.get("es");
   private final Client client;
+  private final ConcurrentMap<String, BulkIndexerStats> bulkIndexerStats = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, BulkController> bulkControllers = new ConcurrentHashMap<>();
 
   public EsClient(SearchClient deprecatedClient) {
     this.client = deprecatedClient;
@@ -88,6 +95,44 @@ public class EsClient implements Startable {
     this.client = client;
   }
 
+  /**
+   * Statistics of the bulk requests sent to the given index since startup, shared by all its {@link BulkIndexer}s
+   */
+  public BulkIndexerStats bulkIndexerStats(String indexName) {
+    BulkIndexerStats stats = bulkIndexerStats.get(indexName);
+    if (stats == null) {
+      BulkIndexerStats newStats = new BulkIndexerStats();
+      stats = bulkIndexerStats.putIfAbsent(indexName, newStats);
+      if (stats == null) {
+        stats = newStats;
+      }
+    }
+    return stats;
+  }
+
+  /**
+   * Statistics of bulk requests by index, for the indices that have been updated since startup
+   */
+  public Map<String, BulkIndexerStats> bulkIndexerStats() {
+    return Collections.unmodifiableMap(bulkIndexerStats);
+  }
+
+  /**
+   * Controller shared by all the {@link BulkIndexer}s of the given index, so that the number of concurrent
+   * bulk requests is limited for the index, even when it is populated by several threads
+   */
+  BulkController bulkController(String indexName) {
+    BulkController controller = bulkControllers.get(indexName);
+    if (controller == null) {
+      BulkController newController = BulkController.createDefault();
+      controller = bulkControllers.putIfAbsent(indexName, newController);
+      if (controller == null) {
+        controller = newController;
+      }
+    }
+    return controller;
+  }
+
   public RefreshRequestBuilder prepareRefresh(String... indices) {
     return new ProxyRefreshRequestBuilder(client).setIndices(indices);
   }
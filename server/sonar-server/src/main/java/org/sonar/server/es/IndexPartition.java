@@ -0,0 +1,98 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Range of project UUIDs indexed by a single worker of
+ * {@link BaseIndexer#doIndexPartitions(org.sonar.server.db.DbClient, String, BaseIndexer.PartitionIndexer)}.
+ * Lower bound is inclusive and upper bound is exclusive. A null bound means that the range is not
+ * limited on this side, so that the partitions of an indexing cover all the project UUIDs, including
+ * the ones created after the partitions are planned.
+ * Bounds are compared by the database, so they follow its collation.
+ */
+public class IndexPartition {
+
+  private static final char SEPARATOR = ':';
+
+  private final String fromProjectUuid;
+  private final String toProjectUuid;
+
+  public IndexPartition(@Nullable String fromProjectUuid, @Nullable String toProjectUuid) {
+    this.fromProjectUuid = fromProjectUuid;
+    this.toProjectUuid = toProjectUuid;
+  }
+
+  @CheckForNull
+  public String getFromProjectUuid() {
+    return fromProjectUuid;
+  }
+
+  @CheckForNull
+  public String getToProjectUuid() {
+    return toProjectUuid;
+  }
+
+  /**
+   * SQL condition on the given column. Its parameters are set by {@link #setParameters(PreparedStatement)}.
+   */
+  public String sqlCondition(String projectUuidColumn) {
+    StringBuilder sql = new StringBuilder();
+    sql.append(projectUuidColumn).append(" is not null");
+    if (fromProjectUuid != null) {
+      sql.append(" and ").append(projectUuidColumn).append(">=?");
+    }
+    if (toProjectUuid != null) {
+      sql.append(" and ").append(projectUuidColumn).append("<?");
+    }
+    return sql.toString();
+  }
+
+  public void setParameters(PreparedStatement stmt) throws SQLException {
+    int index = 1;
+    if (fromProjectUuid != null) {
+      stmt.setString(index, fromProjectUuid);
+      index++;
+    }
+    if (toProjectUuid != null) {
+      stmt.setString(index, toProjectUuid);
+    }
+  }
+
+  /**
+   * Inverse of {@link #toString()}
+   */
+  static IndexPartition parse(String s) {
+    int separatorIndex = s.indexOf(SEPARATOR);
+    return new IndexPartition(StringUtils.trimToNull(s.substring(0, separatorIndex)), StringUtils.trimToNull(s.substring(separatorIndex + 1)));
+  }
+
+  @Override
+  public String toString() {
+    return StringUtils.defaultString(fromProjectUuid) + SEPARATOR + StringUtils.defaultString(toProjectUuid);
+  }
+}
@@ -23,7 +23,10 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 import org.apache.commons.lang.StringUtils;
+import org.elasticsearch.cluster.metadata.IndexMetaData;
 import org.elasticsearch.common.settings.ImmutableSettings;
+import org.sonar.api.config.Settings;
+import org.sonar.process.ProcessProperties;
 import org.sonar.server.search.IndexField;
 
 import javax.annotation.CheckForNull;
@@ -68,6 +71,14 @@ public class NewIndex {
       return this;
     }
 
+    /**
+     * Documents are routed to shards according to the value of the given field. Routing is
+     * then required when indexing, getting or deleting documents.
+     */
+    public NewIndexType setRouting(String fieldName) {
+      return setAttribute("_routing", ImmutableMap.of("required", true, "path", fieldName));
+    }
+
     public StringFieldBuilder stringFieldBuilder(String fieldName) {
       return new StringFieldBuilder(this, fieldName);
     }
@@ -227,6 +238,10 @@ public class NewIndex {
     }
   }
 
+  static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+  static final int CLUSTER_SHARDS = 4;
+  static final int CLUSTER_REPLICAS = 1;
+
   private final String indexName;
   private final ImmutableSettings.Builder settings = DefaultIndexSettings.defaults();
   private final SortedMap<String, NewIndexType> types = new TreeMap<String, NewIndexType>();
@@ -244,6 +259,63 @@ public class NewIndex {
     return settings;
   }
 
+  public NewIndex setShards(int shards) {
+    Preconditions.checkArgument(shards > 0, "Number of shards of index " + indexName + " must be strictly positive: " + shards);
+    settings.put(IndexMetaData.SETTING_NUMBER_OF_SHARDS, shards);
+    return this;
+  }
+
+  public NewIndex setReplicas(int replicas) {
+    Preconditions.checkArgument(replicas >= 0, "Number of replicas of index " + indexName + " must be positive: " + replicas);
+    settings.put(IndexMetaData.SETTING_NUMBER_OF_REPLICAS, replicas);
+    return this;
+  }
+
+  /**
+   * Interval of periodic refresh, for example "30s". Use "-1" when refresh is handled by indexers.
+   */
+  public NewIndex setRefreshInterval(String interval) {
+    settings.put(REFRESH_INTERVAL_SETTING, interval);
+    return this;
+  }
+
+  /**
+   * Applies the shard layout and the refresh interval configured for this index. The default
+   * is one shard without replica, or {@link #CLUSTER_SHARDS} shards and {@link #CLUSTER_REPLICAS} replica
+   * in cluster mode. It can be overridden by the properties sonar.search.[index].shards,
+   * sonar.search.[index].replicas and sonar.search.[index].refreshInterval. Any change is detected
+   * by {@link IndexDefinitionHash}, so the index is then re-created and re-populated.
+   */
+  public NewIndex configure(Settings props) {
+    if (props.getBoolean(ProcessProperties.CLUSTER_ACTIVATE)) {
+      setShards(CLUSTER_SHARDS);
+      setReplicas(CLUSTER_REPLICAS);
+    }
+    if (props.hasKey(shardsProperty(indexName))) {
+      setShards(props.getInt(shardsProperty(indexName)));
+    }
+    if (props.hasKey(replicasProperty(indexName))) {
+      setReplicas(props.getInt(replicasProperty(indexName)));
+    }
+    String refreshInterval = props.getString(refreshIntervalProperty(indexName));
+    if (StringUtils.isNotBlank(refreshInterval)) {
+      setRefreshInterval(refreshInterval);
+    }
+    return this;
+  }
+
+  public static String shardsProperty(String indexName) {
+    return "sonar.search." + indexName + ".shards";
+  }
+
+  public static String replicasProperty(String indexName) {
+    return "sonar.search." + indexName + ".replicas";
+  }
+
+  public static String refreshIntervalProperty(String indexName) {
+    return "sonar.search." + indexName + ".refreshInterval";
+  }
+
   public NewIndexType createType(String typeName) {
     NewIndexType type = new NewIndexType(typeName);
     types.put(typeName, type);
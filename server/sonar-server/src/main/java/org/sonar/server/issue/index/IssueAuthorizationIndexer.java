@@ -30,10 +30,13 @@ import org.sonar.server.es.BaseIndexer;
 import org.sonar.server.es.BulkIndexer;
 import org.sonar.server.es.EsClient;
 
+import javax.annotation.Nullable;
+
 import java.sql.Connection;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages the synchronization of index issues/authorization with authorization settings defined in database :
@@ -41,11 +44,16 @@ import java.util.Map;
  *   <li>index the projects with recent permission changes</li>
  *   <li>delete project orphans from index</li>
  * </ul>
+ * The version of permissions of a project is the column PROJECTS.AUTHORIZATION_UPDATED_AT, which is
+ * updated on each permission change. Only the projects with a new version are pushed to index.
  */
 public class IssueAuthorizationIndexer extends BaseIndexer {
 
   private final DbClient dbClient;
 
+  // versions of permissions pushed to index since startup, by project UUID
+  private final Map<String, Long> indexedVersions = new ConcurrentHashMap<>();
+
   public IssueAuthorizationIndexer(DbClient dbClient, EsClient esClient) {
     super(esClient, 0L, IssueIndexDefinition.INDEX, IssueIndexDefinition.TYPE_AUTHORIZATION, IssueIndexDefinition.FIELD_ISSUE_TECHNICAL_UPDATED_AT);
     this.dbClient = dbClient;
@@ -70,6 +78,29 @@ public class IssueAuthorizationIndexer extends BaseIndexer {
     }
   }
 
+  /**
+   * Indexes the permissions of the given project, unless its version is already indexed. In this case
+   * neither db nor index are requested.
+   *
+   * @param version the value of PROJECTS.AUTHORIZATION_UPDATED_AT, null if unknown
+   */
+  public void indexProject(String projectUuid, @Nullable Long version) {
+    if (!isIndexed(projectUuid, version)) {
+      index();
+    }
+  }
+
+  @VisibleForTesting
+  boolean isIndexed(String projectUuid, @Nullable Long version) {
+    if (version == null) {
+      return false;
+    }
+    // versions older than the last indexed one are loaded and indexed since startup, but only the
+    // versions pushed since startup are recorded. Equal dates are not trusted as another transaction
+    // may have committed the same date after indexing.
+    return version.equals(indexedVersions.get(projectUuid)) || version < getLastUpdatedAt();
+  }
+
   @VisibleForTesting
   public void index(Collection<IssueAuthorizationDao.Dto> authorizations) {
     final BulkIndexer bulk = new BulkIndexer(esClient, IssueIndexDefinition.INDEX);
@@ -78,16 +109,24 @@ public class IssueAuthorizationIndexer extends BaseIndexer {
 
   private long doIndex(BulkIndexer bulk, Collection<IssueAuthorizationDao.Dto> authorizations) {
     long maxDate = 0L;
+    if (authorizations.isEmpty()) {
+      // no changes, do not refresh index
+      return maxDate;
+    }
     bulk.start();
     for (IssueAuthorizationDao.Dto authorization : authorizations) {
       bulk.add(newUpdateRequest(authorization));
       maxDate = Math.max(maxDate, authorization.getUpdatedAt());
     }
     bulk.stop();
+    for (IssueAuthorizationDao.Dto authorization : authorizations) {
+      indexedVersions.put(authorization.getProjectUuid(), authorization.getUpdatedAt());
+    }
     return maxDate;
   }
 
   public void deleteProject(String uuid, boolean refresh) {
+    indexedVersions.remove(uuid);
     esClient
       .prepareDelete(IssueIndexDefinition.INDEX, IssueIndexDefinition.TYPE_AUTHORIZATION, uuid)
       .setRefresh(refresh)
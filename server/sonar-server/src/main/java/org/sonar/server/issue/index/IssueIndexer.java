@@ -29,6 +29,7 @@ import org.sonar.server.db.DbClient;
 import org.sonar.server.es.BaseIndexer;
 import org.sonar.server.es.BulkIndexer;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.IndexPartition;
 
 import java.sql.Connection;
 import java.util.Iterator;
@@ -44,11 +45,28 @@ public class IssueIndexer extends BaseIndexer {
 
   @Override
   protected long doIndex(long lastUpdatedAt) {
+    if (lastUpdatedAt == 0L || hasPendingPartitions(dbClient)) {
+      long maxDate = doIndexPartitions();
+      // indexing may have been resumed. Issues of completed partitions may have been updated since interruption.
+      return lastUpdatedAt == 0L ? maxDate : Math.max(maxDate, doIndex(createBulkIndexer(false), lastUpdatedAt));
+    }
     return doIndex(createBulkIndexer(false), lastUpdatedAt);
   }
 
   public void indexAll() {
-    doIndex(createBulkIndexer(true), 0L);
+    doIndexPartitions();
+  }
+
+  private long doIndexPartitions() {
+    return doIndexPartitions(dbClient, IssueResultSetIterator.SQL_PROJECT_UUIDS, new PartitionIndexer() {
+      @Override
+      public long index(BulkIndexer bulk, Connection connection, IndexPartition partition) {
+        IssueResultSetIterator rowIt = IssueResultSetIterator.create(dbClient, connection, partition);
+        long maxDate = doIndex(bulk, rowIt);
+        rowIt.close();
+        return maxDate;
+      }
+    });
   }
 
   /**
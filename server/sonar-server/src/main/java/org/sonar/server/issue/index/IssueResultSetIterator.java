@@ -30,6 +30,7 @@ import org.sonar.api.rule.RuleKey;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.db.ResultSetIterator;
 import org.sonar.server.db.migrations.SqlUtil;
+import org.sonar.server.es.IndexPartition;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -92,6 +93,8 @@ class IssueResultSetIterator extends ResultSetIterator<IssueDoc> {
 
   private static final String SQL_AFTER_DATE = SQL_ALL + " where i.updated_at>?";
 
+  static final String SQL_PROJECT_UUIDS = "select distinct project_uuid from issues where project_uuid is not null order by project_uuid";
+
   private static final Splitter TAGS_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
 
   private static final Splitter MODULE_PATH_SPLITTER = Splitter.on('.').trimResults().omitEmptyStrings();
@@ -113,6 +116,16 @@ class IssueResultSetIterator extends ResultSetIterator<IssueDoc> {
     }
   }
 
+  static IssueResultSetIterator create(DbClient dbClient, Connection connection, IndexPartition partition) {
+    try {
+      PreparedStatement stmt = dbClient.newScrollingSelectStatement(connection, SQL_ALL + " where " + partition.sqlCondition("i.project_uuid"));
+      partition.setParameters(stmt);
+      return new IssueResultSetIterator(stmt);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to prepare SQL request to select issues of partition " + partition, e);
+    }
+  }
+
   @CheckForNull
   private static String extractDirPath(@Nullable String filePath, String scope) {
     if (filePath != null) {
@@ -19,9 +19,13 @@
  */
 package org.sonar.server.measure;
 
+import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.sonar.api.measures.Metric;
+import org.sonar.server.measure.persistence.LastMeasuresVector;
+
+import java.util.List;
 
 public class MeasureFilterCondition {
   public enum Operator {
@@ -52,21 +56,32 @@ public class MeasureFilterCondition {
   private final Metric metric;
   private final Operator operator;
   private final double value;
-  private final String textValue;
+  private final List<String> textValues;
   private Integer period = null;
 
   public MeasureFilterCondition(Metric metric, Operator operator, double value) {
     this.metric = metric;
     this.operator = operator;
     this.value = value;
-    this.textValue = null;
+    this.textValues = null;
   }
 
+  /**
+   * Condition on text measures. The value is compared as is, it is not a SQL literal.
+   */
   public MeasureFilterCondition(Metric metric, Operator operator, String textValue) {
+    this(metric, operator, ImmutableList.of(textValue));
+  }
+
+  /**
+   * Condition on text measures, for example the operator IN with the values <code>OK</code> and <code>WARN</code>.
+   * Only the first value is used by the other operators.
+   */
+  public MeasureFilterCondition(Metric metric, Operator operator, List<String> textValues) {
     this.metric = metric;
     this.operator = operator;
     this.value = 0;
-    this.textValue = textValue;
+    this.textValues = ImmutableList.copyOf(textValues);
   }
 
   public MeasureFilterCondition setPeriod(Integer period) {
@@ -86,44 +101,50 @@ public class MeasureFilterCondition {
     return value;
   }
 
-  public String textValue() {
-    return textValue;
+  /**
+   * @return the values of condition on text measures, null if the condition is on numeric values
+   */
+  public List<String> textValues() {
+    return textValues;
   }
 
   public Integer period() {
     return period;
   }
 
-  StringBuilder appendSqlColumn(StringBuilder sb, int conditionIndex) {
-    sb.append("pmcond").append(conditionIndex);
-    if (period != null) {
-      sb.append(".variation_value_").append(period).toString();
-    } else if (textValue == null) {
-      sb.append(".value");
-    } else {
-      sb.append(".text_value");
+  /**
+   * Evaluates the condition on the measures of a component
+   */
+  boolean matches(LastMeasuresVector measures) {
+    if (textValues == null) {
+      double measureValue = measures.getValue(metric.getId(), period);
+      return !Double.isNaN(measureValue) && matches(Double.compare(measureValue, value));
+    }
+    String measureText = measures.getTextValue(metric.getId());
+    if (measureText == null) {
+      return false;
+    }
+    if (operator == Operator.IN) {
+      return textValues.contains(measureText);
     }
-    return sb;
+    return !textValues.isEmpty() && matches(measureText.compareTo(textValues.get(0)));
   }
 
-  StringBuilder appendSqlCondition(StringBuilder sql, int conditionIndex) {
-    String table = "pmcond" + conditionIndex;
-    sql.append(" ").append(table).append(".metric_id=");
-    sql.append(metric.getId());
-    sql.append(" AND ");
-    appendSqlColumn(sql, conditionIndex);
-    sql.append(" ").append(operator.getSql()).append(" ");
-    if (textValue == null) {
-      sql.append(value);
-    } else {
-      sql.append(textValue);
+  private boolean matches(int comparison) {
+    switch (operator) {
+      case EQUALS:
+        return comparison == 0;
+      case GREATER:
+        return comparison > 0;
+      case GREATER_OR_EQUALS:
+        return comparison >= 0;
+      case LESS:
+        return comparison < 0;
+      case LESS_OR_EQUALS:
+        return comparison <= 0;
+      default:
+        throw new IllegalStateException("Operator " + operator + " is not supported on numeric values");
     }
-    sql.append(" AND ");
-    sql.append(table).append(".rule_id IS NULL AND ");
-    sql.append(table).append(".rule_priority IS NULL AND ");
-    sql.append(table).append(".characteristic_id IS NULL AND ");
-    sql.append(table).append(".person_id IS NULL ");
-    return sql;
   }
 
   @Override
@@ -162,17 +162,16 @@ public class MeasureFilterFactory implements ServerComponent {
       }
     });
 
-    List<String> alertLevelsUppercase = Lists.transform(alertLevels, new Function<String, String>() {
-      @Override
-      public String apply(@Nullable String input) {
-        return input != null && availableLevels.contains(input.toUpperCase()) ? input.toUpperCase() : null;
+    List<String> alertLevelsUppercase = Lists.newArrayList();
+    for (String alertLevel : alertLevels) {
+      if (alertLevel != null && availableLevels.contains(alertLevel.toUpperCase())) {
+        alertLevelsUppercase.add(alertLevel.toUpperCase());
       }
-    });
-    String val = "('" + Joiner.on("', '").skipNulls().join(alertLevelsUppercase) + "')";
+    }
     Metric metric = metricFinder.findByKey(CoreMetrics.ALERT_STATUS_KEY);
     if (metric != null) {
       MeasureFilterCondition.Operator operator = MeasureFilterCondition.Operator.fromCode("in");
-      return new MeasureFilterCondition(metric, operator, val);
+      return new MeasureFilterCondition(metric, operator, alertLevelsUppercase);
     }
     return null;
   }
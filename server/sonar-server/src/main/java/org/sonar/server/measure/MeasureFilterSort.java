@@ -88,7 +88,7 @@ class MeasureFilterSort {
   }
 
   String column() {
-    // only numeric metrics can be sorted by database, else results are sorted programmatically.
+    // results are sorted programmatically. Measures are read from the encoded measures of the component.
     String column;
     switch (field) {
       case KEY:
@@ -113,7 +113,7 @@ class MeasureFilterSort {
         column = "p.created_at";
         break;
       case METRIC:
-        column = getMetricColumn();
+        column = "lm.measures_data";
         break;
       default:
         throw new IllegalArgumentException("Unsupported sorting: " + field);
@@ -121,14 +121,6 @@ class MeasureFilterSort {
     return column;
   }
 
-  private String getMetricColumn() {
-    if (metric.isNumericType()) {
-      return period != null ? "pmsort.variation_value_" + period : "pmsort.value";
-    } else {
-      return "pmsort.text_value";
-    }
-  }
-
   public static enum Field {
     KEY, NAME, VERSION, METRIC, SHORT_NAME, DESCRIPTION,
     // Sort by last analysis date
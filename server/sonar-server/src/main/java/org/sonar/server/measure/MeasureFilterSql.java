@@ -30,6 +30,7 @@ import org.sonar.core.component.SnapshotDto;
 import org.sonar.core.persistence.Database;
 import org.sonar.core.persistence.dialect.MsSql;
 import org.sonar.core.persistence.dialect.Oracle;
+import org.sonar.server.measure.persistence.LastMeasuresVector;
 
 import javax.annotation.Nullable;
 
@@ -43,6 +44,8 @@ import java.util.List;
 
 class MeasureFilterSql {
 
+  private static final LastMeasuresVector NO_MEASURES = LastMeasuresVector.decode(new LastMeasuresVector.Builder().encode());
+
   private final Database database;
   private final MeasureFilter filter;
   private final MeasureFilterContext context;
@@ -124,37 +127,33 @@ class MeasureFilterSql {
     StringBuilder sb = new StringBuilder(1000);
     sb.append("SELECT s.id, s.project_id, s.root_project_id, ");
     sb.append(filter.sort().column());
-    sb.append(" FROM snapshots s INNER JOIN projects p ON s.project_id=p.id ");
-
-    for (int index = 0; index < filter.getMeasureConditions().size(); index++) {
-      MeasureFilterCondition condition = filter.getMeasureConditions().get(index);
-      sb.append(" INNER JOIN project_measures pmcond").append(index);
-      sb.append(" ON s.id=pmcond").append(index).append(".snapshot_id AND ");
-      condition.appendSqlCondition(sb, index);
+    if (joinsMeasures() && !filter.sort().isOnMeasure()) {
+      sb.append(", lm.measures_data");
     }
+    sb.append(" FROM snapshots s INNER JOIN projects p ON s.project_id=p.id ");
 
     if (filter.isOnFavourites()) {
       sb.append(" INNER JOIN properties props ON props.resource_id=s.project_id ");
     }
 
-    if (filter.sort().isOnMeasure()) {
-      sb.append(" LEFT OUTER JOIN project_measures pmsort ON s.id=pmsort.snapshot_id AND pmsort.metric_id=");
-      sb.append(filter.sort().metric().getId());
-      sb.append(" AND pmsort.rule_id IS NULL AND pmsort.rule_priority IS NULL AND pmsort.characteristic_id IS NULL AND pmsort.person_id IS NULL ");
+    // measures are not joined once per condition but read from the encoded measures of the component.
+    // Components without measures can not match conditions.
+    if (!filter.getMeasureConditions().isEmpty()) {
+      sb.append(" INNER JOIN last_measures lm ON lm.snapshot_id=s.id ");
+    } else if (filter.sort().isOnMeasure()) {
+      sb.append(" LEFT OUTER JOIN last_measures lm ON lm.snapshot_id=s.id ");
     }
 
     sb.append(" WHERE ");
     appendResourceConditions(sb);
 
-    for (int index = 0; index < filter.getMeasureConditions().size(); index++) {
-      MeasureFilterCondition condition = filter.getMeasureConditions().get(index);
-      sb.append(" AND ");
-      condition.appendSqlCondition(sb, index);
-    }
-
     return sb.toString();
   }
 
+  private boolean joinsMeasures() {
+    return !filter.getMeasureConditions().isEmpty() || filter.sort().isOnMeasure();
+  }
+
   private void appendResourceConditions(StringBuilder sb) {
     sb.append(" s.status='P' AND s.islast=").append(database.getDialect().getTrueSqlValue());
     if (context.getBaseSnapshot() == null) {
@@ -236,24 +235,42 @@ class MeasureFilterSql {
     List<MeasureFilterRow> rows = Lists.newArrayList();
     RowProcessor rowProcessor;
     if (filter.sort().isOnNumericMeasure()) {
-      rowProcessor = new NumericSortRowProcessor();
+      rowProcessor = new NumericSortRowProcessor(filter.sort());
     } else if (filter.sort().isOnDate()) {
       rowProcessor = new DateSortRowProcessor();
     } else if (filter.sort().isOnTime()) {
       rowProcessor = new LongSortRowProcessor();
     } else if (filter.sort().isOnAlert()) {
-      rowProcessor = new AlertSortRowProcessor();
+      rowProcessor = new AlertSortRowProcessor(filter.sort());
     } else {
-      rowProcessor = new TextSortRowProcessor();
+      rowProcessor = new TextSortRowProcessor(filter.sort());
     }
 
+    boolean joinsMeasures = joinsMeasures();
+    int measuresColumn = filter.sort().isOnMeasure() ? 4 : 5;
     while (rs.next()) {
-      rows.add(rowProcessor.fetch(rs));
+      LastMeasuresVector measures = null;
+      if (joinsMeasures) {
+        byte[] data = rs.getBytes(measuresColumn);
+        measures = data != null ? LastMeasuresVector.decode(data) : NO_MEASURES;
+      }
+      if (measures == null || matchesConditions(measures)) {
+        rows.add(rowProcessor.fetch(rs, measures));
+      }
     }
 
     return rowProcessor.sort(rows, filter.sort().isAsc());
   }
 
+  private boolean matchesConditions(LastMeasuresVector measures) {
+    for (MeasureFilterCondition condition : filter.getMeasureConditions()) {
+      if (!condition.matches(measures)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Replace escape percent and underscore by adding a slash just before
    */
@@ -272,7 +289,7 @@ class MeasureFilterSql {
 
     abstract Ordering sortFieldOrdering(boolean ascending);
 
-    abstract MeasureFilterRow fetch(ResultSet rs) throws SQLException;
+    abstract MeasureFilterRow fetch(ResultSet rs, @Nullable LastMeasuresVector measures) throws SQLException;
 
     final List<MeasureFilterRow> sort(List<MeasureFilterRow> rows, boolean ascending) {
       Ordering<MeasureFilterRow> ordering = sortFieldOrdering(ascending).onResultOf(sortFieldFunction());
@@ -281,10 +298,20 @@ class MeasureFilterSql {
   }
 
   static class TextSortRowProcessor extends RowProcessor {
+    private final MeasureFilterSort sort;
+
+    TextSortRowProcessor(MeasureFilterSort sort) {
+      this.sort = sort;
+    }
+
     @Override
-    MeasureFilterRow fetch(ResultSet rs) throws SQLException {
+    MeasureFilterRow fetch(ResultSet rs, @Nullable LastMeasuresVector measures) throws SQLException {
       MeasureFilterRow row = new MeasureFilterRow(rs.getLong(1), rs.getLong(2), rs.getLong(3));
-      row.setSortText(rs.getString(4));
+      if (sort.isOnMeasure()) {
+        row.setSortText(measures != null ? measures.getTextValue(sort.metric().getId()) : null);
+      } else {
+        row.setSortText(rs.getString(4));
+      }
       return row;
     }
 
@@ -309,6 +336,10 @@ class MeasureFilterSql {
   }
 
   static class AlertSortRowProcessor extends TextSortRowProcessor {
+    AlertSortRowProcessor(MeasureFilterSort sort) {
+      super(sort);
+    }
+
     @Override
     Function sortFieldFunction() {
       return new Function<MeasureFilterRow, Integer>() {
@@ -330,11 +361,17 @@ class MeasureFilterSql {
   }
 
   static class NumericSortRowProcessor extends RowProcessor {
+    private final MeasureFilterSort sort;
+
+    NumericSortRowProcessor(MeasureFilterSort sort) {
+      this.sort = sort;
+    }
+
     @Override
-    MeasureFilterRow fetch(ResultSet rs) throws SQLException {
+    MeasureFilterRow fetch(ResultSet rs, @Nullable LastMeasuresVector measures) throws SQLException {
       MeasureFilterRow row = new MeasureFilterRow(rs.getLong(1), rs.getLong(2), rs.getLong(3));
-      double value = rs.getDouble(4);
-      if (!rs.wasNull()) {
+      double value = measures != null ? measures.getValue(sort.metric().getId(), sort.period()) : Double.NaN;
+      if (!Double.isNaN(value)) {
         row.setSortDouble(value);
       }
       return row;
@@ -358,7 +395,7 @@ class MeasureFilterSql {
 
   static class DateSortRowProcessor extends RowProcessor {
     @Override
-    MeasureFilterRow fetch(ResultSet rs) throws SQLException {
+    MeasureFilterRow fetch(ResultSet rs, @Nullable LastMeasuresVector measures) throws SQLException {
       MeasureFilterRow row = new MeasureFilterRow(rs.getLong(1), rs.getLong(2), rs.getLong(3));
       row.setSortDate(rs.getTimestamp(4).getTime());
       return row;
@@ -382,7 +419,7 @@ class MeasureFilterSql {
 
   static class LongSortRowProcessor extends RowProcessor {
     @Override
-    MeasureFilterRow fetch(ResultSet rs) throws SQLException {
+    MeasureFilterRow fetch(ResultSet rs, @Nullable LastMeasuresVector measures) throws SQLException {
       MeasureFilterRow row = new MeasureFilterRow(rs.getLong(1), rs.getLong(2), rs.getLong(3));
       row.setSortDate(rs.getLong(4));
       return row;
@@ -0,0 +1,111 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.measure.persistence;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.sonar.api.ServerComponent;
+import org.sonar.core.measure.db.LastMeasuresDto;
+import org.sonar.core.measure.db.LastMeasuresMapper;
+import org.sonar.core.measure.db.MeasureDto;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.MyBatis;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Table LAST_MEASURES denormalizes the measures of the last snapshots, one row per component, so
+ * that measure filters do not join PROJECT_MEASURES once per condition.
+ */
+public class LastMeasuresDao implements ServerComponent {
+
+  private final MyBatis mybatis;
+
+  public LastMeasuresDao(MyBatis mybatis) {
+    this.mybatis = mybatis;
+  }
+
+  /**
+   * Replaces the rows of the components of a project by the measures of their last snapshots. Measures
+   * are streamed from a dedicated session, so that rows are inserted while the result set is still open.
+   */
+  public void refresh(long rootProjectId) {
+    DbSession readSession = mybatis.openSession(false);
+    DbSession writeSession = mybatis.openSession(true);
+    try {
+      LastMeasuresMapper writeMapper = mapper(writeSession);
+      writeMapper.deleteByRootProjectId(rootProjectId);
+      RowsHandler handler = new RowsHandler(writeMapper, rootProjectId);
+      mapper(readSession).selectMeasuresOfLastSnapshots(rootProjectId, handler);
+      handler.flush();
+      writeSession.commit();
+    } finally {
+      MyBatis.closeQuietly(readSession);
+      MyBatis.closeQuietly(writeSession);
+    }
+  }
+
+  @CheckForNull
+  public LastMeasuresDto findBySnapshotId(DbSession session, long snapshotId) {
+    return mapper(session).selectBySnapshotId(snapshotId);
+  }
+
+  private static LastMeasuresMapper mapper(DbSession session) {
+    return session.getMapper(LastMeasuresMapper.class);
+  }
+
+  /**
+   * Measures are ordered by snapshot, so a row is inserted each time the snapshot changes.
+   */
+  private static class RowsHandler implements ResultHandler {
+    private final LastMeasuresMapper mapper;
+    private final long rootProjectId;
+    private final LastMeasuresVector.Builder vector = new LastMeasuresVector.Builder();
+    private Long snapshotId = null;
+    private Long componentId = null;
+
+    RowsHandler(LastMeasuresMapper mapper, long rootProjectId) {
+      this.mapper = mapper;
+      this.rootProjectId = rootProjectId;
+    }
+
+    @Override
+    public void handleResult(ResultContext context) {
+      MeasureDto measure = (MeasureDto) context.getResultObject();
+      if (!measure.getSnapshotId().equals(snapshotId)) {
+        flush();
+        snapshotId = measure.getSnapshotId();
+        componentId = measure.getComponentId();
+      }
+      vector.add(measure);
+    }
+
+    void flush() {
+      if (!vector.isEmpty()) {
+        mapper.insert(new LastMeasuresDto()
+          .setSnapshotId(snapshotId)
+          .setProjectId(componentId)
+          .setRootProjectId(rootProjectId)
+          .setMeasuresData(vector.encode()));
+        vector.clear();
+      }
+    }
+  }
+}
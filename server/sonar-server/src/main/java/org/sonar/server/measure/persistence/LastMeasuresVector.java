@@ -0,0 +1,164 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.measure.persistence;
+
+import org.sonar.core.measure.db.MeasureDto;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measures of a component as stored in column LAST_MEASURES.MEASURES_DATA. Only numeric values,
+ * variations and text values are kept.
+ * <p/>
+ * Format: number of metrics, then for each metric sorted by id: the metric id, a bit mask of the
+ * defined fields (value, variations 1 to 5, text value), the defined doubles and the text value.
+ */
+public class LastMeasuresVector {
+
+  private static final int DOUBLES_PER_METRIC = 6;
+  private static final int TEXT_FLAG = 1 << DOUBLES_PER_METRIC;
+
+  private final int[] metricIds;
+  // value and variations 1 to 5 of each metric, NaN if not defined
+  private final double[] doubles;
+  private final String[] texts;
+
+  private LastMeasuresVector(int[] metricIds, double[] doubles, String[] texts) {
+    this.metricIds = metricIds;
+    this.doubles = doubles;
+    this.texts = texts;
+  }
+
+  public static LastMeasuresVector decode(byte[] data) {
+    try {
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+      int size = input.readInt();
+      int[] metricIds = new int[size];
+      double[] doubles = new double[size * DOUBLES_PER_METRIC];
+      Arrays.fill(doubles, Double.NaN);
+      String[] texts = new String[size];
+      for (int i = 0; i < size; i++) {
+        metricIds[i] = input.readInt();
+        int mask = input.readUnsignedByte();
+        for (int field = 0; field < DOUBLES_PER_METRIC; field++) {
+          if ((mask & (1 << field)) != 0) {
+            doubles[i * DOUBLES_PER_METRIC + field] = input.readDouble();
+          }
+        }
+        if ((mask & TEXT_FLAG) != 0) {
+          texts[i] = input.readUTF();
+        }
+      }
+      return new LastMeasuresVector(metricIds, doubles, texts);
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to decode measures", e);
+    }
+  }
+
+  public int size() {
+    return metricIds.length;
+  }
+
+  public boolean hasMetric(int metricId) {
+    return Arrays.binarySearch(metricIds, metricId) >= 0;
+  }
+
+  /**
+   * Value of the metric, or its variation if <code>period</code> is set. Returns {@link Double#NaN}
+   * if the value is not defined.
+   */
+  public double getValue(int metricId, @Nullable Integer period) {
+    if (period != null && (period < 1 || period >= DOUBLES_PER_METRIC)) {
+      throw new IllegalArgumentException("Period should be in range from 1 to 5: " + period);
+    }
+    int index = Arrays.binarySearch(metricIds, metricId);
+    if (index < 0) {
+      return Double.NaN;
+    }
+    return doubles[index * DOUBLES_PER_METRIC + (period == null ? 0 : period)];
+  }
+
+  @CheckForNull
+  public String getTextValue(int metricId) {
+    int index = Arrays.binarySearch(metricIds, metricId);
+    return index < 0 ? null : texts[index];
+  }
+
+  public static class Builder {
+    private final Map<Integer, MeasureDto> measuresByMetricId = new TreeMap<>();
+
+    public Builder add(MeasureDto measure) {
+      measuresByMetricId.put(measure.getMetricId(), measure);
+      return this;
+    }
+
+    public boolean isEmpty() {
+      return measuresByMetricId.isEmpty();
+    }
+
+    public Builder clear() {
+      measuresByMetricId.clear();
+      return this;
+    }
+
+    public byte[] encode() {
+      try {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(measuresByMetricId.size());
+        for (MeasureDto measure : measuresByMetricId.values()) {
+          Double[] fields = {measure.getValue(), measure.getVariation(1), measure.getVariation(2), measure.getVariation(3),
+            measure.getVariation(4), measure.getVariation(5)};
+          String text = measure.getData();
+          int mask = text != null ? TEXT_FLAG : 0;
+          for (int field = 0; field < DOUBLES_PER_METRIC; field++) {
+            if (fields[field] != null) {
+              mask |= 1 << field;
+            }
+          }
+          output.writeInt(measure.getMetricId());
+          output.writeByte(mask);
+          for (Double field : fields) {
+            if (field != null) {
+              output.writeDouble(field);
+            }
+          }
+          if (text != null) {
+            output.writeUTF(text);
+          }
+        }
+        output.flush();
+        return bytes.toByteArray();
+      } catch (IOException e) {
+        throw new IllegalStateException("Fail to encode measures", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.notifications;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.sonar.api.notifications.Notification;
+import org.sonar.api.notifications.NotificationChannel;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers notifications through a {@link NotificationChannel} with a bounded pool of threads.
+ * When the queue of pending deliveries is full, the delivery is executed by the calling thread, which
+ * slows down the processing of the notification queue (back-pressure).
+ */
+class ChannelDeliveryQueue {
+
+  private static final Logger LOG = Loggers.get(ChannelDeliveryQueue.class);
+
+  private final NotificationChannel channel;
+  private final ThreadPoolExecutor executor;
+  private final AtomicLong pending = new AtomicLong(0L);
+  private final AtomicLong delivered = new AtomicLong(0L);
+  private final AtomicLong failed = new AtomicLong(0L);
+  private final AtomicLong deliveryTimeMs = new AtomicLong(0L);
+
+  ChannelDeliveryQueue(NotificationChannel channel, int threads, int capacity) {
+    this.channel = channel;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<Runnable>(capacity),
+      new ThreadFactoryBuilder().setNameFormat("Notifications[" + channel.getKey() + "]-%d").setDaemon(true).build(),
+      new RejectedExecutionHandler() {
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+          // queue is full or pool is stopped
+          runnable.run();
+        }
+      });
+  }
+
+  void deliver(Notification notification, String username) {
+    deliver(new DispatchedNotification(notification), username);
+  }
+
+  void deliver(DispatchedNotification notification, String username) {
+    pending.incrementAndGet();
+    executor.execute(new Delivery(notification, username));
+  }
+
+  private synchronized void onDone() {
+    if (pending.decrementAndGet() == 0L) {
+      notifyAll();
+    }
+  }
+
+  /**
+   * Blocks until all the pending deliveries are executed
+   */
+  synchronized void awaitPending() throws InterruptedException {
+    while (pending.get() > 0L) {
+      wait();
+    }
+  }
+
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Stops the pool, then waits for the running deliveries to complete. The deliveries that are not started yet
+   * are cancelled if none of the deliveries of their notification is started, even through another channel.
+   * These notifications are returned, so that they can be pushed back to the database queue as a whole.
+   * Otherwise the remaining deliveries are executed by the calling thread, so that no recipient receives a
+   * notification twice.
+   */
+  List<DispatchedNotification> stop(long timeout, TimeUnit unit) throws InterruptedException {
+    shutdown();
+    List<Runnable> notStarted = new ArrayList<>();
+    executor.getQueue().drainTo(notStarted);
+    List<DispatchedNotification> pushedBack = new ArrayList<>();
+    for (Runnable runnable : notStarted) {
+      Delivery delivery = (Delivery) runnable;
+      if (delivery.notification.pushBack()) {
+        if (!pushedBack.contains(delivery.notification)) {
+          pushedBack.add(delivery.notification);
+        }
+        onDone();
+      } else {
+        delivery.run();
+      }
+    }
+    executor.awaitTermination(timeout, unit);
+    return pushedBack;
+  }
+
+  NotificationChannel channel() {
+    return channel;
+  }
+
+  long pending() {
+    return pending.get();
+  }
+
+  long delivered() {
+    return delivered.get();
+  }
+
+  long failed() {
+    return failed.get();
+  }
+
+  /**
+   * Number of notifications delivered per second by each thread of the pool
+   */
+  double deliveryRatePerThread() {
+    long time = deliveryTimeMs.get();
+    long count = delivered.get() + failed.get();
+    return time == 0L ? 0.0 : (1000.0 * count / time);
+  }
+
+  /**
+   * Notification removed from the database queue and dispatched to its recipients, possibly through several
+   * channels. Either all its deliveries are executed, or none of them and it is pushed back to queue.
+   */
+  static class DispatchedNotification {
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int PUSHED_BACK = 2;
+
+    private final Notification notification;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    DispatchedNotification(Notification notification) {
+      this.notification = notification;
+    }
+
+    Notification notification() {
+      return notification;
+    }
+
+    /**
+     * @return false if the notification is pushed back to queue, so the delivery must not be executed
+     */
+    private boolean start() {
+      return state.compareAndSet(PENDING, STARTED) || state.get() == STARTED;
+    }
+
+    /**
+     * @return false if deliveries are already started, so the remaining ones must be executed
+     */
+    private boolean pushBack() {
+      return state.compareAndSet(PENDING, PUSHED_BACK) || state.get() == PUSHED_BACK;
+    }
+  }
+
+  private class Delivery implements Runnable {
+    private final DispatchedNotification notification;
+    private final String username;
+
+    Delivery(DispatchedNotification notification, String username) {
+      this.notification = notification;
+      this.username = username;
+    }
+
+    @Override
+    public void run() {
+      if (!notification.start()) {
+        // the whole notification is pushed back to queue on stop
+        onDone();
+        return;
+      }
+      long start = System.currentTimeMillis();
+      try {
+        channel.deliver(notification.notification(), username);
+        delivered.incrementAndGet();
+      } catch (Exception e) {
+        // catch all exceptions in order to deliver via other channels
+        failed.incrementAndGet();
+        LOG.warn("Unable to deliver notification " + notification.notification() + " for user " + username + " via " + channel, e);
+      } finally {
+        deliveryTimeMs.addAndGet(System.currentTimeMillis() - start);
+        onDone();
+      }
+    }
+  }
+}
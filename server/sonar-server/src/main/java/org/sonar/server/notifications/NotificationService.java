@@ -38,9 +38,12 @@ import org.sonar.server.db.DbClient;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -60,6 +63,12 @@ import java.util.concurrent.TimeUnit;
     defaultValue = "600",
     name = "Delay before reporting notification status, in seconds",
     project = false,
+    global = false),
+  @Property(
+    key = NotificationService.PROPERTY_CHANNEL_THREADS,
+    defaultValue = "4",
+    name = "Number of threads delivering notifications, per channel",
+    project = false,
     global = false)
 })
 public class NotificationService implements ServerComponent, Startable {
@@ -68,15 +77,29 @@ public class NotificationService implements ServerComponent, Startable {
 
   public static final String PROPERTY_DELAY = "sonar.notifications.delay";
   public static final String PROPERTY_DELAY_BEFORE_REPORTING_STATUS = "sonar.notifications.runningDelayBeforeReportingStatus";
+  public static final String PROPERTY_CHANNEL_THREADS = "sonar.notifications.channelThreads";
+
+  /**
+   * Number of notifications removed from queue at once
+   */
+  private static final int BATCH_SIZE = 100;
+
+  /**
+   * Max number of deliveries waiting for a thread, per channel
+   */
+  private static final int CHANNEL_QUEUE_CAPACITY = 1000;
 
   private final long delayInSeconds;
   private final long delayBeforeReportingStatusInSeconds;
+  private final int channelThreads;
   private final DefaultNotificationManager manager;
   private final List<NotificationDispatcher> dispatchers;
   private final DbClient dbClient;
 
+  private final ConcurrentMap<NotificationChannel, ChannelDeliveryQueue> deliveryQueues = new ConcurrentHashMap<>();
+
   private ScheduledExecutorService executorService;
-  private boolean stopping = false;
+  private volatile boolean stopping = false;
 
   /**
    * Constructor for {@link NotificationService}
@@ -84,6 +107,7 @@ public class NotificationService implements ServerComponent, Startable {
   public NotificationService(Settings settings, DefaultNotificationManager manager, DbClient dbClient, NotificationDispatcher[] dispatchers) {
     this.delayInSeconds = settings.getLong(PROPERTY_DELAY);
     this.delayBeforeReportingStatusInSeconds = settings.getLong(PROPERTY_DELAY_BEFORE_REPORTING_STATUS);
+    this.channelThreads = Math.max(1, settings.getInt(PROPERTY_CHANNEL_THREADS));
     this.manager = manager;
     this.dbClient = dbClient;
     this.dispatchers = ImmutableList.copyOf(dispatchers);
@@ -117,6 +141,21 @@ public class NotificationService implements ServerComponent, Startable {
     try {
       stopping = true;
       executorService.shutdown();
+      // deliveries are cancelled before waiting for the processing of queue, as it waits for pending deliveries.
+      // Notifications have already been removed from db queue when their deliveries were submitted. Those
+      // that no recipient received yet are pushed back to queue, the others are completed.
+      Set<ChannelDeliveryQueue.DispatchedNotification> notDelivered = new LinkedHashSet<>();
+      for (ChannelDeliveryQueue deliveryQueue : deliveryQueues.values()) {
+        notDelivered.addAll(deliveryQueue.stop(5, TimeUnit.SECONDS));
+      }
+      if (!notDelivered.isEmpty()) {
+        LOG.info("{} notifications not delivered are pushed back to queue", notDelivered.size());
+        List<Notification> notifications = new ArrayList<>();
+        for (ChannelDeliveryQueue.DispatchedNotification dispatched : notDelivered) {
+          notifications.add(dispatched.notification());
+        }
+        manager.scheduleForSending(notifications);
+      }
       executorService.awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
       LOG.error("Error during stop of notification service", e);
@@ -125,26 +164,43 @@ public class NotificationService implements ServerComponent, Startable {
   }
 
   @VisibleForTesting
-  synchronized void processQueue() {
+  synchronized void processQueue() throws InterruptedException {
     long start = now();
     long lastLog = start;
     long notifSentCount = 0;
 
-    Notification notifToSend = manager.getFromQueue();
-    while (notifToSend != null) {
-      deliver(notifToSend);
-      notifSentCount++;
-      if (stopping) {
-        break;
-      }
-      long now = now();
-      if (now - lastLog > delayBeforeReportingStatusInSeconds * 1000) {
-        long remainingNotifCount = manager.count();
-        lastLog = now;
-        long spentTimeInMinutes = (now - start) / (60 * 1000);
-        log(notifSentCount, remainingNotifCount, spentTimeInMinutes);
+    List<Notification> notifsToSend = manager.getFromQueue(BATCH_SIZE);
+    while (!notifsToSend.isEmpty()) {
+      // notifications of a batch are generally related to the same projects
+      manager.startCachingSubscribers();
+      try {
+        for (int i = 0; i < notifsToSend.size(); i++) {
+          deliver(notifsToSend.get(i));
+          notifSentCount++;
+          if (stopping) {
+            // notifications of the batch have already been removed from queue
+            List<Notification> notSent = notifsToSend.subList(i + 1, notifsToSend.size());
+            if (!notSent.isEmpty()) {
+              manager.scheduleForSending(new ArrayList<>(notSent));
+            }
+            return;
+          }
+          long now = now();
+          if (now - lastLog > delayBeforeReportingStatusInSeconds * 1000) {
+            long remainingNotifCount = manager.count();
+            lastLog = now;
+            long spentTimeInMinutes = (now - start) / (60 * 1000);
+            log(notifSentCount, remainingNotifCount, spentTimeInMinutes);
+            logDeliveryRates();
+          }
+        }
+      } finally {
+        manager.stopCachingSubscribers();
       }
-      notifToSend = manager.getFromQueue();
+      notifsToSend = manager.getFromQueue(BATCH_SIZE);
+    }
+    for (ChannelDeliveryQueue deliveryQueue : deliveryQueues.values()) {
+      deliveryQueue.awaitPending();
     }
   }
 
@@ -153,6 +209,13 @@ public class NotificationService implements ServerComponent, Startable {
     LOG.info("{} notifications sent during the past {} minutes and {} still waiting to be sent", new Object[] {notifSentCount, spentTimeInMinutes, remainingNotifCount});
   }
 
+  private void logDeliveryRates() {
+    for (ChannelDeliveryQueue deliveryQueue : deliveryQueues.values()) {
+      LOG.info(String.format("Channel %s: %d notifications delivered, %d failures, %d pending, %.1f deliveries/second per thread",
+        deliveryQueue.channel().getKey(), deliveryQueue.delivered(), deliveryQueue.failed(), deliveryQueue.pending(), deliveryQueue.deliveryRatePerThread()));
+    }
+  }
+
   @VisibleForTesting
   long now() {
     return System.currentTimeMillis();
@@ -184,20 +247,32 @@ public class NotificationService implements ServerComponent, Startable {
     dispatch(notification, recipients);
   }
 
+  /**
+   * Deliveries are executed asynchronously by the pool of threads of each channel
+   */
   private void dispatch(Notification notification, SetMultimap<String, NotificationChannel> recipients) {
+    ChannelDeliveryQueue.DispatchedNotification dispatched = new ChannelDeliveryQueue.DispatchedNotification(notification);
     for (Map.Entry<String, Collection<NotificationChannel>> entry : recipients.asMap().entrySet()) {
       String username = entry.getKey();
       Collection<NotificationChannel> userChannels = entry.getValue();
       LOG.debug("For user {} via {}", username, userChannels);
       for (NotificationChannel channel : userChannels) {
-        try {
-          channel.deliver(notification, username);
-        } catch (Exception e) {
-          // catch all exceptions in order to deliver via other channels
-          LOG.warn("Unable to deliver notification " + notification + " for user " + username + " via " + channel, e);
-        }
+        deliveryQueue(channel).deliver(dispatched, username);
+      }
+    }
+  }
+
+  private ChannelDeliveryQueue deliveryQueue(NotificationChannel channel) {
+    ChannelDeliveryQueue deliveryQueue = deliveryQueues.get(channel);
+    if (deliveryQueue == null) {
+      deliveryQueue = new ChannelDeliveryQueue(channel, channelThreads, CHANNEL_QUEUE_CAPACITY);
+      ChannelDeliveryQueue existing = deliveryQueues.putIfAbsent(channel, deliveryQueue);
+      if (existing != null) {
+        deliveryQueue.shutdown();
+        deliveryQueue = existing;
       }
     }
+    return deliveryQueue;
   }
 
   @VisibleForTesting
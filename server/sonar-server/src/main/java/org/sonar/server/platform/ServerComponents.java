@@ -20,6 +20,7 @@
 package org.sonar.server.platform;
 
 import com.google.common.collect.Lists;
+import org.picocontainer.Startable;
 import org.sonar.api.config.EmailSettings;
 import org.sonar.api.issue.action.Actions;
 import org.sonar.api.platform.ComponentContainer;
@@ -54,6 +55,7 @@ import org.sonar.core.metric.DefaultMetricFinder;
 import org.sonar.core.notification.DefaultNotificationManager;
 import org.sonar.core.permission.PermissionFacade;
 import org.sonar.core.persistence.*;
+import org.sonar.core.persistence.dialect.H2;
 import org.sonar.core.purge.PurgeProfiler;
 import org.sonar.core.qualitygate.db.ProjectQgateAssociationDao;
 import org.sonar.core.qualitygate.db.QualityGateConditionDao;
@@ -133,6 +135,7 @@ import org.sonar.server.language.ws.ListAction;
 import org.sonar.server.measure.MeasureFilterEngine;
 import org.sonar.server.measure.MeasureFilterExecutor;
 import org.sonar.server.measure.MeasureFilterFactory;
+import org.sonar.server.measure.persistence.LastMeasuresDao;
 import org.sonar.server.measure.persistence.MeasureDao;
 import org.sonar.server.measure.persistence.MetricDao;
 import org.sonar.server.measure.ws.ManualMeasuresWs;
@@ -169,6 +172,7 @@ import org.sonar.server.search.IndexQueue;
 import org.sonar.server.search.IndexSynchronizer;
 import org.sonar.server.search.SearchClient;
 import org.sonar.server.source.HtmlSourceDecorator;
+import org.sonar.server.source.SourceLinesLoader;
 import org.sonar.server.source.SourceService;
 import org.sonar.server.source.index.SourceLineIndex;
 import org.sonar.server.source.index.SourceLineIndexDefinition;
@@ -204,6 +208,7 @@ import org.sonar.server.ws.WebServiceEngine;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 class ServerComponents {
@@ -274,6 +279,7 @@ class ServerComponents {
 
       // measures
       MeasureDao.class,
+      LastMeasuresDao.class,
       MetricDao.class,
       MeasureFilterDao.class,
 
@@ -360,6 +366,7 @@ class ServerComponents {
     pico.addSingleton(GlobalRepositoryAction.class);
     pico.addSingleton(ProjectRepositoryAction.class);
     pico.addSingleton(ProjectRepositoryLoader.class);
+    pico.addSingleton(ActiveRulesCache.class);
     pico.addSingleton(SubmitReportWsAction.class);
     pico.addSingleton(IssuesAction.class);
     pico.addSingleton(BatchWs.class);
@@ -605,6 +612,7 @@ class ServerComponents {
 
     // source
     pico.addSingleton(HtmlSourceDecorator.class);
+    pico.addSingleton(SourceLinesLoader.class);
     pico.addSingleton(SourceService.class);
     pico.addSingleton(SourcesWs.class);
     pico.addSingleton(ShowAction.class);
@@ -666,8 +674,11 @@ class ServerComponents {
     pico.addSingletons(Arrays.asList(
       SystemRestartWsAction.class,
       SystemInfoWsAction.class,
+      SystemSqlStatisticsWsAction.class,
+      SystemDbSessionsWsAction.class,
       SystemWs.class,
       SystemMonitor.class,
+      StartupTaskTimings.class,
       SonarQubeMonitor.class,
       EsMonitor.class,
       PluginsMonitor.class,
@@ -723,22 +734,139 @@ class ServerComponents {
     startupContainer.addSingleton(RegisterIssueFilters.class);
     startupContainer.addSingleton(RenameIssueWidgets.class);
 
-    DoPrivileged.execute(new DoPrivileged.Task() {
+    // Startup tasks are started by the scheduler, not by the container, and they
+    // don't need to be stopped. The container is removed even if startup fails, as
+    // it can't be stopped in the state "not started".
+    try {
+      final IndexSynchronizer indexSynchronizer = startupContainer.getComponentByType(IndexSynchronizer.class);
+      DoPrivileged.execute(new DoPrivileged.Task() {
+        @Override
+        protected void doPrivileged() {
+          indexSynchronizer.executeDeprecated();
+        }
+      });
+
+      // Dependencies are declared when a task reads data written by another one,
+      // or when both update the same rows.
+      DatabaseSessionFactory sessionFactory = pico.getComponentByType(DatabaseSessionFactory.class);
+      StartupTaskScheduler scheduler = new StartupTaskScheduler();
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterMetrics.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterQualityGates.class, RegisterMetrics.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterDebtModel.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterRules.class, RegisterDebtModel.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterQualityProfiles.class, RegisterRules.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, JdbcDriverDeployer.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, GeneratePluginIndex.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterNewMeasureFilters.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterIssueFilters.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterDashboards.class, RegisterNewMeasureFilters.class, RegisterIssueFilters.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterPermissionTemplates.class, RegisterQualityProfiles.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RenameDeprecatedPropertyKeys.class, RegisterPermissionTemplates.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, LogServerId.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RegisterServletFilters.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, CopyRequirementsFromCharacteristicsToRules.class, RegisterRules.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, ReportQueueCleaner.class);
+      addStartupTask(scheduler, startupContainer, sessionFactory, RenameIssueWidgets.class, RegisterDashboards.class);
+      scheduler.add("Index activities", new PrivilegedStartupTask(sessionFactory) {
+        @Override
+        void execute() {
+          indexSynchronizer.indexActivities();
+        }
+      }, RegisterQualityProfiles.class.getSimpleName());
+      scheduler.add("Index issues", new PrivilegedStartupTask(sessionFactory) {
+        @Override
+        void execute() {
+          indexSynchronizer.indexIssues();
+        }
+      }, RegisterRules.class.getSimpleName());
+      scheduler.add("Index source lines", new PrivilegedStartupTask(sessionFactory) {
+        @Override
+        void execute() {
+          indexSynchronizer.indexSourceLines();
+        }
+      });
+      scheduler.add("Index users", new PrivilegedStartupTask(sessionFactory) {
+        @Override
+        void execute() {
+          indexSynchronizer.indexUsers();
+        }
+      });
+      scheduler.add("Index views", new PrivilegedStartupTask(sessionFactory) {
+        @Override
+        void execute() {
+          indexSynchronizer.indexViews();
+        }
+      });
+
+      long start = System.currentTimeMillis();
+      Map<String, Long> durations = scheduler.execute(startupThreads(pico));
+      pico.getComponentByType(StartupTaskTimings.class).set(durations, System.currentTimeMillis() - start);
+
+      DoPrivileged.execute(new DoPrivileged.Task() {
+        @Override
+        protected void doPrivileged() {
+          startupContainer.getComponentByType(ServerLifecycleNotifier.class).notifyStart();
+        }
+      });
+
+      pico.getComponentByType(DatabaseSessionFactory.class).clear();
+    } finally {
+      pico.removeChild();
+    }
+  }
+
+  /**
+   * H2 locks whole tables, so tasks could wait for each other until lock timeout. They are
+   * executed sequentially in this case.
+   */
+  private static int startupThreads(ComponentContainer pico) {
+    if (H2.ID.equals(pico.getComponentByType(Database.class).getDialect().getId())) {
+      return 1;
+    }
+    return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  }
+
+  private static void addStartupTask(StartupTaskScheduler scheduler, ComponentContainer startupContainer, DatabaseSessionFactory sessionFactory,
+    Class<? extends Startable> componentClass, Class<?>... dependencies) {
+    // component is instantiated by the current thread, as the container is not thread-safe
+    final Startable component = startupContainer.getComponentByType(componentClass);
+    String[] dependencyNames = new String[dependencies.length];
+    for (int i = 0; i < dependencies.length; i++) {
+      dependencyNames[i] = dependencies[i].getSimpleName();
+    }
+    scheduler.add(componentClass.getSimpleName(), new PrivilegedStartupTask(sessionFactory) {
       @Override
-      protected void doPrivileged() {
-        startupContainer.getComponentByType(IndexSynchronizer.class).executeDeprecated();
-        startupContainer.startComponents();
-        startupContainer.getComponentByType(IndexSynchronizer.class).execute();
-        startupContainer.getComponentByType(ServerLifecycleNotifier.class).notifyStart();
+      void execute() {
+        component.start();
       }
-    });
+    }, dependencyNames);
+  }
+
+  /**
+   * Startup tasks are executed with highest privileges. The Hibernate session bound to
+   * the worker thread is closed after each task.
+   */
+  private abstract static class PrivilegedStartupTask implements Runnable {
+    private final DatabaseSessionFactory sessionFactory;
 
-    // Do not put the following statements in a finally block.
-    // It would hide the possible exception raised during startup
-    // See SONAR-3107
-    startupContainer.stopComponents();
+    PrivilegedStartupTask(DatabaseSessionFactory sessionFactory) {
+      this.sessionFactory = sessionFactory;
+    }
 
-    pico.getComponentByType(DatabaseSessionFactory.class).clear();
-    pico.removeChild();
+    abstract void execute();
+
+    @Override
+    public void run() {
+      try {
+        DoPrivileged.execute(new DoPrivileged.Task() {
+          @Override
+          protected void doPrivileged() {
+            execute();
+          }
+        });
+      } finally {
+        sessionFactory.clear();
+      }
+    }
   }
 }
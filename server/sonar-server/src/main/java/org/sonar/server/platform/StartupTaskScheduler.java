@@ -0,0 +1,186 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform;
+
+import com.google.common.base.Throwables;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import javax.annotation.CheckForNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Executes startup tasks concurrently. A task is executed as soon as all the tasks it depends on
+ * are completed. Dependencies must be declared before the tasks that depend on them, so the graph
+ * of tasks can't contain cycles. With a single thread, tasks are executed sequentially.
+ * <p/>
+ * If a task fails, then no other task is started and the error is thrown when the running
+ * tasks are completed.
+ */
+public class StartupTaskScheduler {
+
+  private static final Logger LOGGER = Loggers.get(StartupTaskScheduler.class);
+
+  private final Map<String, TaskNode> tasks = new LinkedHashMap<>();
+
+  public StartupTaskScheduler add(String name, Runnable task, String... dependencies) {
+    checkArgument(!tasks.containsKey(name), "Startup task is declared twice: %s", name);
+    for (String dependency : dependencies) {
+      checkArgument(tasks.containsKey(dependency), "Startup task %s depends on undeclared task %s", name, dependency);
+    }
+    tasks.put(name, new TaskNode(name, task, Arrays.asList(dependencies)));
+    return this;
+  }
+
+  /**
+   * Blocks until all tasks are executed.
+   *
+   * @return the durations in milliseconds of tasks, in order of declaration
+   */
+  public Map<String, Long> execute(int threads) {
+    checkArgument(threads > 0, "Number of threads must be strictly positive: %s", threads);
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new StartupThreadFactory());
+    try {
+      run(new ExecutorCompletionService<TaskNode>(executor));
+    } finally {
+      executor.shutdownNow();
+    }
+    Map<String, Long> durations = new LinkedHashMap<>();
+    for (TaskNode node : tasks.values()) {
+      durations.put(node.name, node.durationMs);
+    }
+    return durations;
+  }
+
+  private void run(CompletionService<TaskNode> completionService) {
+    List<TaskNode> pending = new ArrayList<>(tasks.values());
+    int running = 0;
+    Throwable failure = null;
+    while (!pending.isEmpty() || running > 0) {
+      if (failure == null) {
+        running += submitReadyTasks(completionService, pending);
+      }
+      if (running == 0) {
+        break;
+      }
+      Throwable taskFailure = awaitNextCompletion(completionService);
+      running--;
+      if (failure == null) {
+        failure = taskFailure;
+      }
+    }
+    if (failure != null) {
+      throw Throwables.propagate(failure);
+    }
+  }
+
+  private static int submitReadyTasks(CompletionService<TaskNode> completionService, List<TaskNode> pending) {
+    int submitted = 0;
+    List<TaskNode> ready = new ArrayList<>();
+    for (TaskNode node : pending) {
+      if (node.isReady()) {
+        ready.add(node);
+      }
+    }
+    for (TaskNode node : ready) {
+      pending.remove(node);
+      node.submitted = true;
+      completionService.submit(node, node);
+      submitted++;
+    }
+    return submitted;
+  }
+
+  @CheckForNull
+  private Throwable awaitNextCompletion(CompletionService<TaskNode> completionService) {
+    try {
+      TaskNode node = completionService.take().get();
+      node.completed = true;
+      LOGGER.info("Startup task {} done | time={}ms", node.name, node.durationMs);
+      return null;
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new IllegalStateException("Interrupted while executing startup tasks", e);
+    }
+  }
+
+  private class TaskNode implements Runnable {
+    private final String name;
+    private final Runnable task;
+    private final List<String> dependencies;
+    private volatile long durationMs = 0L;
+    // only accessed by the scheduling thread
+    private boolean submitted = false;
+    private boolean completed = false;
+
+    TaskNode(String name, Runnable task, List<String> dependencies) {
+      this.name = name;
+      this.task = task;
+      this.dependencies = dependencies;
+    }
+
+    boolean isReady() {
+      if (submitted) {
+        return false;
+      }
+      for (String dependency : dependencies) {
+        if (!tasks.get(dependency).completed) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public void run() {
+      long start = System.currentTimeMillis();
+      try {
+        task.run();
+      } finally {
+        durationMs = System.currentTimeMillis() - start;
+      }
+    }
+  }
+
+  private static class StartupThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    @Override
+    public Thread newThread(Runnable r) {
+      return new Thread(r, "Startup-" + counter.incrementAndGet());
+    }
+  }
+}
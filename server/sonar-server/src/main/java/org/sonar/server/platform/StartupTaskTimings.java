@@ -0,0 +1,55 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform;
+
+import org.sonar.api.ServerComponent;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Durations of the startup tasks executed by {@link ServerComponents#executeStartupTasks(org.sonar.api.platform.ComponentContainer)},
+ * as displayed by {@link org.sonar.server.platform.monitoring.SonarQubeMonitor}
+ */
+public class StartupTaskTimings implements ServerComponent {
+
+  private volatile Map<String, Long> durations = Collections.emptyMap();
+  private volatile long totalDuration = 0L;
+
+  void set(Map<String, Long> durations, long totalDuration) {
+    this.durations = Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+    this.totalDuration = totalDuration;
+  }
+
+  /**
+   * Durations in milliseconds, by task, in order of declaration. Empty if startup tasks are not executed yet.
+   */
+  public Map<String, Long> getDurations() {
+    return durations;
+  }
+
+  /**
+   * Total duration in milliseconds of startup tasks, zero if not executed yet
+   */
+  public long getTotalDuration() {
+    return totalDuration;
+  }
+}
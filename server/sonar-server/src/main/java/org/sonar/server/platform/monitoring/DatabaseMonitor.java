@@ -25,8 +25,14 @@ import org.apache.commons.dbutils.DbUtils;
 import org.sonar.core.persistence.DatabaseVersion;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
+import org.sonar.core.persistence.profiling.PoolStatistics;
+import org.sonar.core.persistence.profiling.ProfiledDataSource;
+import org.sonar.core.persistence.profiling.SqlStatistics;
 import org.sonar.server.db.DbClient;
 
+import javax.annotation.CheckForNull;
+import javax.sql.DataSource;
+
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -34,7 +40,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Information about database and connection pool
+ * Information about database, connection pool and executed SQL requests
  */
 public class DatabaseMonitor extends BaseMonitorMBean implements DatabaseMonitorMBean {
 
@@ -101,14 +107,106 @@ public class DatabaseMonitor extends BaseMonitorMBean implements DatabaseMonitor
     return commonsDbcp().getRemoveAbandonedTimeout();
   }
 
+  @Override
+  public long getSqlExecutions() {
+    SqlStatistics statistics = sqlStatistics();
+    return statistics == null ? 0L : statistics.getExecutionCount();
+  }
+
+  @Override
+  public long getSqlSlowStatements() {
+    SqlStatistics statistics = sqlStatistics();
+    return statistics == null ? 0L : statistics.getSlowStatementCount();
+  }
+
+  @Override
+  public long getPoolAverageWaitMillis() {
+    PoolStatistics statistics = poolStatistics();
+    return statistics == null ? 0L : statistics.getConnectionAverageWaitMs();
+  }
+
+  @Override
+  public long getPoolAverageHeldMillis() {
+    PoolStatistics statistics = poolStatistics();
+    return statistics == null ? 0L : statistics.getConnectionAverageHeldMs();
+  }
+
+  @Override
+  public int getOpenSessions() {
+    PoolStatistics statistics = poolStatistics();
+    return statistics == null ? 0 : statistics.getOpenSessionCount();
+  }
+
+  @Override
+  public int getLongSessions() {
+    PoolStatistics statistics = poolStatistics();
+    return statistics == null ? 0 : statistics.getLongSessions().size();
+  }
+
+  /**
+   * Statistics of SQL requests, or null if disabled by property "sonar.jdbc.statistics"
+   */
+  @CheckForNull
+  public SqlStatistics sqlStatistics() {
+    ProfiledDataSource dataSource = profiledDataSource();
+    return dataSource == null ? null : dataSource.getStatistics();
+  }
+
+  /**
+   * Statistics of connections and sessions, or null if disabled by property "sonar.jdbc.statistics"
+   */
+  @CheckForNull
+  public PoolStatistics poolStatistics() {
+    ProfiledDataSource dataSource = profiledDataSource();
+    return dataSource == null ? null : dataSource.getPoolStatistics();
+  }
+
+  @CheckForNull
+  private ProfiledDataSource profiledDataSource() {
+    DataSource dataSource = dbClient.database().getDataSource();
+    if (dataSource instanceof ProfiledDataSource) {
+      return (ProfiledDataSource) dataSource;
+    }
+    return null;
+  }
+
   @Override
   public LinkedHashMap<String, Object> attributes() {
     LinkedHashMap<String, Object> attributes = new LinkedHashMap<>();
     completeDbAttributes(attributes);
     completePoolAttributes(attributes);
+    completeSqlAttributes(attributes);
+    completeSessionAttributes(attributes);
     return attributes;
   }
 
+  private void completeSessionAttributes(Map<String, Object> attributes) {
+    PoolStatistics statistics = poolStatistics();
+    if (statistics != null) {
+      attributes.put("Pool Borrowed Connections", statistics.getConnectionBorrowCount());
+      attributes.put("Pool Average Wait (ms)", statistics.getConnectionAverageWaitMs());
+      attributes.put("Pool Max Wait Duration (ms)", statistics.getConnectionMaxWaitMs());
+      attributes.put("Pool Average Held Duration (ms)", statistics.getConnectionAverageHeldMs());
+      attributes.put("Pool Max Held Duration (ms)", statistics.getConnectionMaxHeldMs());
+      attributes.put("Opened Sessions", statistics.getOpenedSessionCount());
+      attributes.put("Open Sessions", statistics.getOpenSessionCount());
+      attributes.put("Open Sessions by Caller", statistics.getOpenSessionsByCaller());
+      attributes.put("Long Session Threshold (ms)", statistics.getLongSessionThresholdMs());
+      attributes.put("Long Open Sessions", statistics.getLongSessions().size());
+      attributes.put("Long Closed Sessions", statistics.getClosedLongSessionCount());
+    }
+  }
+
+  private void completeSqlAttributes(Map<String, Object> attributes) {
+    SqlStatistics statistics = sqlStatistics();
+    attributes.put("SQL Statistics Enabled", statistics != null);
+    if (statistics != null) {
+      attributes.put("SQL Executions", statistics.getExecutionCount());
+      attributes.put("SQL Slow Statements", statistics.getSlowStatementCount());
+      attributes.put("SQL Slow Statement Threshold (ms)", statistics.getSlowThresholdMs());
+    }
+  }
+
   private void completePoolAttributes(Map<String, Object> attributes) {
     attributes.put("Pool Active Connections", getPoolActiveConnections());
     attributes.put("Pool Max Connections", getPoolMaxActiveConnections());
@@ -69,4 +69,34 @@ public interface DatabaseMonitorMBean {
    * Timeout in seconds before an abandoned connection can be removed.
    */
   int getPoolRemoveAbandonedTimeoutSeconds();
+
+  /**
+   * Number of SQL requests executed since startup, or zero if statistics are disabled.
+   */
+  long getSqlExecutions();
+
+  /**
+   * Number of SQL requests slower than the threshold defined by property "sonar.jdbc.slowStatementThresholdMs".
+   */
+  long getSqlSlowStatements();
+
+  /**
+   * Average time in milliseconds spent to get a connection from pool, or zero if statistics are disabled.
+   */
+  long getPoolAverageWaitMillis();
+
+  /**
+   * Average time in milliseconds during which connections are borrowed from pool, or zero if statistics are disabled.
+   */
+  long getPoolAverageHeldMillis();
+
+  /**
+   * Number of database sessions currently opened, or zero if statistics are disabled.
+   */
+  int getOpenSessions();
+
+  /**
+   * Number of database sessions opened for longer than the threshold defined by property "sonar.jdbc.longSessionThresholdMs".
+   */
+  int getLongSessions();
 }
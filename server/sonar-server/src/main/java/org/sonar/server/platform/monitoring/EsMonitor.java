@@ -26,6 +26,7 @@ import org.elasticsearch.action.admin.cluster.node.stats.NodesStatsResponse;
 import org.elasticsearch.action.admin.cluster.stats.ClusterStatsResponse;
 import org.elasticsearch.action.admin.indices.stats.IndexStats;
 import org.elasticsearch.action.admin.indices.stats.IndicesStatsResponse;
+import org.sonar.server.es.BulkIndexerStats;
 import org.sonar.server.es.EsClient;
 
 import java.util.LinkedHashMap;
@@ -71,6 +72,41 @@ public class EsMonitor extends BaseMonitorMBean implements EsMonitorMBean {
     attributes.put("Indices", indexAttributes());
     attributes.put("Number of Nodes", getNumberOfNodes());
     attributes.put("Nodes", nodeAttributes());
+    attributes.put("Bulk Indexing", bulkAttributes());
+    return attributes;
+  }
+
+  /**
+   * Live statistics of the bulk requests sent by server since startup, summed over all indices
+   */
+  private LinkedHashMap<String, Object> bulkAttributes() {
+    long throughput = 0L;
+    long backlog = 0L;
+    long inFlightRequests = 0L;
+    long bulkRequests = 0L;
+    long indexedDocs = 0L;
+    long rejectedDocs = 0L;
+    long retriedDocs = 0L;
+    long failedDocs = 0L;
+    for (BulkIndexerStats stats : esClient.bulkIndexerStats().values()) {
+      throughput += stats.getThroughput();
+      backlog += stats.getBacklog();
+      inFlightRequests += stats.getInFlightRequests();
+      bulkRequests += stats.getBulkRequests();
+      indexedDocs += stats.getIndexedDocs();
+      rejectedDocs += stats.getRejectedDocs();
+      retriedDocs += stats.getRetriedDocs();
+      failedDocs += stats.getFailedDocs();
+    }
+    LinkedHashMap<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("Throughput (docs/s)", throughput);
+    attributes.put("Backlog (docs)", backlog);
+    attributes.put("In-flight Requests", inFlightRequests);
+    attributes.put("Requests", bulkRequests);
+    attributes.put("Indexed Docs", indexedDocs);
+    attributes.put("Rejected Docs", rejectedDocs);
+    attributes.put("Retried Docs", retriedDocs);
+    attributes.put("Failed Docs", failedDocs);
     return attributes;
   }
 
@@ -25,6 +25,7 @@ import org.sonar.api.config.Settings;
 import org.sonar.api.platform.Server;
 import org.sonar.api.security.SecurityRealm;
 import org.sonar.process.ProcessProperties;
+import org.sonar.server.platform.StartupTaskTimings;
 import org.sonar.server.user.SecurityRealmFactory;
 
 import java.io.File;
@@ -37,12 +38,14 @@ public class SonarQubeMonitor extends BaseMonitorMBean implements SonarQubeMonit
   private final Settings settings;
   private final SecurityRealmFactory securityRealmFactory;
   private final Server server;
+  private final StartupTaskTimings startupTaskTimings;
 
   public SonarQubeMonitor(Settings settings, SecurityRealmFactory securityRealmFactory,
-    Server server) {
+    Server server, StartupTaskTimings startupTaskTimings) {
     this.settings = settings;
     this.securityRealmFactory = securityRealmFactory;
     this.server = server;
+    this.startupTaskTimings = startupTaskTimings;
   }
 
   @Override
@@ -102,6 +105,8 @@ public class SonarQubeMonitor extends BaseMonitorMBean implements SonarQubeMonit
     attributes.put("Data Dir", settings.getString(ProcessProperties.PATH_DATA));
     attributes.put("Logs Dir", settings.getString(ProcessProperties.PATH_LOGS));
     attributes.put("Temp Dir", settings.getString(ProcessProperties.PATH_TEMP));
+    attributes.put("Startup Tasks Duration (ms)", startupTaskTimings.getTotalDuration());
+    attributes.put("Startup Task Durations (ms)", startupTaskTimings.getDurations());
     return attributes;
 
   }
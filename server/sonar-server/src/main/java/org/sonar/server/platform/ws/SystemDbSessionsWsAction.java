@@ -0,0 +1,101 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.ws;
+
+import org.sonar.api.server.ws.Request;
+import org.sonar.api.server.ws.Response;
+import org.sonar.api.server.ws.WebService;
+import org.sonar.api.utils.DateUtils;
+import org.sonar.api.utils.text.JsonWriter;
+import org.sonar.core.permission.GlobalPermissions;
+import org.sonar.core.persistence.profiling.PoolStatistics;
+import org.sonar.server.platform.monitoring.DatabaseMonitor;
+import org.sonar.server.user.UserSession;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Database sessions currently opened by web server, including the ones opened for too long
+ * with the stack of their callers when it has been sampled.
+ */
+public class SystemDbSessionsWsAction implements SystemWsAction {
+
+  private final DatabaseMonitor databaseMonitor;
+
+  public SystemDbSessionsWsAction(DatabaseMonitor databaseMonitor) {
+    this.databaseMonitor = databaseMonitor;
+  }
+
+  @Override
+  public void define(WebService.NewController controller) {
+    controller.createAction("db_sessions")
+      .setDescription("Database sessions currently opened by web server, grouped by caller, and sessions opened for longer than " +
+        "the threshold defined by property sonar.jdbc.longSessionThresholdMs. At most 1000 sessions are listed. " +
+        "Requires system administration permission.")
+      .setSince("5.2")
+      .setInternal(true)
+      .setResponseExample(getClass().getResource("/org/sonar/server/platform/ws/example-system-db_sessions.json"))
+      .setHandler(this);
+  }
+
+  @Override
+  public void handle(Request request, Response response) {
+    UserSession.get().checkGlobalPermission(GlobalPermissions.SYSTEM_ADMIN);
+    PoolStatistics statistics = databaseMonitor.poolStatistics();
+    JsonWriter json = response.newJsonWriter();
+    json.beginObject();
+    json.prop("enabled", statistics != null);
+    if (statistics != null) {
+      writeStatistics(statistics, json);
+    }
+    json.endObject();
+    json.close();
+  }
+
+  private static void writeStatistics(PoolStatistics statistics, JsonWriter json) {
+    json.prop("openSessions", statistics.getOpenSessionCount());
+    json.prop("longSessionThresholdMs", statistics.getLongSessionThresholdMs());
+    json.name("openSessionsByCaller").beginObject();
+    for (Map.Entry<String, Integer> entry : statistics.getOpenSessionsByCaller().entrySet()) {
+      json.prop(entry.getKey(), entry.getValue());
+    }
+    json.endObject();
+
+    long now = System.currentTimeMillis();
+    json.name("longSessions").beginArray();
+    for (PoolStatistics.OpenSession session : statistics.getLongSessions()) {
+      json.beginObject()
+        .prop("openedAt", DateUtils.formatDateTime(new Date(session.getOpenedAt())))
+        .prop("durationMs", now - session.getOpenedAt())
+        .prop("caller", session.getCaller());
+      StackTraceElement[] stack = session.getStack();
+      if (stack != null) {
+        json.name("stack").beginArray();
+        for (StackTraceElement element : stack) {
+          json.value(element.toString());
+        }
+        json.endArray();
+      }
+      json.endObject();
+    }
+    json.endArray();
+  }
+}
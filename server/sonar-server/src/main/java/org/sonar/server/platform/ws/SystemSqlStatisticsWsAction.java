@@ -0,0 +1,125 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.ws;
+
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Longs;
+import org.sonar.api.server.ws.Request;
+import org.sonar.api.server.ws.Response;
+import org.sonar.api.server.ws.WebService;
+import org.sonar.api.utils.DateUtils;
+import org.sonar.api.utils.text.JsonWriter;
+import org.sonar.core.permission.GlobalPermissions;
+import org.sonar.core.persistence.profiling.SqlStatistics;
+import org.sonar.server.platform.monitoring.DatabaseMonitor;
+import org.sonar.server.user.UserSession;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Latency histograms of the SQL requests executed since startup, plus the last slow requests.
+ */
+public class SystemSqlStatisticsWsAction implements SystemWsAction {
+
+  static final String PARAM_PAGE_SIZE = "ps";
+
+  private static final Ordering<SqlStatistics.StatementStats> BY_TOTAL_DURATION_DESC = new Ordering<SqlStatistics.StatementStats>() {
+    @Override
+    public int compare(SqlStatistics.StatementStats left, SqlStatistics.StatementStats right) {
+      return Longs.compare(right.getTotalDurationMs(), left.getTotalDurationMs());
+    }
+  };
+
+  private final DatabaseMonitor databaseMonitor;
+
+  public SystemSqlStatisticsWsAction(DatabaseMonitor databaseMonitor) {
+    this.databaseMonitor = databaseMonitor;
+  }
+
+  @Override
+  public void define(WebService.NewController controller) {
+    WebService.NewAction action = controller.createAction("sql_statistics")
+      .setDescription("Statistics of the SQL requests executed by web server since startup, grouped by request without literal values and " +
+        "sorted by total duration. Requires system administration permission. " +
+        "Statistics are collected only when property sonar.jdbc.statistics is true.")
+      .setSince("5.2")
+      .setInternal(true)
+      .setResponseExample(getClass().getResource("/org/sonar/server/platform/ws/example-system-sql_statistics.json"))
+      .setHandler(this);
+
+    action.createParam(PARAM_PAGE_SIZE)
+      .setDescription("Maximum number of returned requests")
+      .setDefaultValue("50")
+      .setExampleValue("20");
+  }
+
+  @Override
+  public void handle(Request request, Response response) {
+    UserSession.get().checkGlobalPermission(GlobalPermissions.SYSTEM_ADMIN);
+    SqlStatistics statistics = databaseMonitor.sqlStatistics();
+    JsonWriter json = response.newJsonWriter();
+    json.beginObject();
+    json.prop("enabled", statistics != null);
+    if (statistics != null) {
+      writeStatistics(statistics, request.mandatoryParamAsInt(PARAM_PAGE_SIZE), json);
+    }
+    json.endObject();
+    json.close();
+  }
+
+  private static void writeStatistics(SqlStatistics statistics, int pageSize, JsonWriter json) {
+    json.prop("executions", statistics.getExecutionCount());
+    json.prop("slowThresholdMs", statistics.getSlowThresholdMs());
+    json.name("bucketBoundsMs").beginArray();
+    for (long bound : SqlStatistics.StatementStats.getBucketBoundsMs()) {
+      json.value(bound);
+    }
+    json.endArray();
+
+    json.name("statements").beginArray();
+    List<SqlStatistics.StatementStats> statements = BY_TOTAL_DURATION_DESC.leastOf(statistics.getStatements(), pageSize);
+    for (SqlStatistics.StatementStats stats : statements) {
+      json.beginObject()
+        .prop("sql", stats.getTemplate())
+        .prop("executions", stats.getExecutionCount())
+        .prop("totalMs", stats.getTotalDurationMs())
+        .prop("maxMs", stats.getMaxDurationMs())
+        .prop("rows", stats.getRows());
+      json.name("histogram").beginArray();
+      for (long count : stats.getHistogram()) {
+        json.value(count);
+      }
+      json.endArray();
+      json.endObject();
+    }
+    json.endArray();
+
+    json.name("slowStatements").beginArray();
+    for (SqlStatistics.SlowStatement slow : statistics.getSlowStatements()) {
+      json.beginObject()
+        .prop("sql", slow.getTemplate())
+        .prop("durationMs", slow.getDurationMs())
+        .prop("executedAt", DateUtils.formatDateTime(new Date(slow.getExecutedAt())))
+        .endObject();
+    }
+    json.endArray();
+  }
+}
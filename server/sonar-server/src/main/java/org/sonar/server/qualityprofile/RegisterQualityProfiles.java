@@ -25,6 +25,7 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang.StringUtils;
+import org.picocontainer.Startable;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.profiles.ProfileDefinition;
 import org.sonar.api.profiles.RulesProfile;
@@ -48,7 +49,7 @@ import java.util.*;
 /**
  * Synchronize Quality profiles during server startup
  */
-public class RegisterQualityProfiles implements ServerComponent {
+public class RegisterQualityProfiles implements ServerComponent, Startable {
 
   private static final Logger LOGGER = Loggers.get(RegisterQualityProfiles.class);
   private static final String DEFAULT_PROFILE_NAME = "Sonar way";
@@ -79,6 +80,7 @@ public class RegisterQualityProfiles implements ServerComponent {
     this.languages = languages;
   }
 
+  @Override
   public void start() {
     Profiler profiler = Profiler.create(Loggers.get(getClass())).startInfo("Register quality profiles");
     DbSession session = dbClient.openSession(false);
@@ -97,6 +99,11 @@ public class RegisterQualityProfiles implements ServerComponent {
     }
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   private boolean verifyLanguage(String language, List<RulesProfile> profiles) {
     if (languages.get(language) == null) {
       LOGGER.info(String.format("Language %s is not installed, related Quality profiles are ignored", language));
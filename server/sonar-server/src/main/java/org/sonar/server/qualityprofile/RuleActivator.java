@@ -31,6 +31,7 @@ import org.sonar.core.qualityprofile.db.QualityProfileDto;
 import org.sonar.core.rule.RuleDto;
 import org.sonar.core.rule.RuleParamDto;
 import org.sonar.server.activity.ActivityService;
+import org.sonar.server.batch.ActiveRulesCache;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.exceptions.BadRequestException;
 import org.sonar.server.qualityprofile.db.ActiveRuleDao;
@@ -63,15 +64,17 @@ public class RuleActivator implements ServerComponent {
   private final RuleActivatorContextFactory contextFactory;
   private final IndexClient index;
   private final ActivityService activityService;
+  private final ActiveRulesCache activeRulesCache;
 
   public RuleActivator(DbClient db, IndexClient index,
     RuleActivatorContextFactory contextFactory, TypeValidations typeValidations,
-    ActivityService activityService) {
+    ActivityService activityService, ActiveRulesCache activeRulesCache) {
     this.db = db;
     this.index = index;
     this.contextFactory = contextFactory;
     this.typeValidations = typeValidations;
     this.activityService = activityService;
+    this.activeRulesCache = activeRulesCache;
   }
 
   public List<ActiveRuleChange> activate(DbSession dbSession, RuleActivation activation, String profileKey) {
@@ -150,6 +153,7 @@ public class RuleActivator implements ServerComponent {
   private void updateProfileDate(DbSession dbSession, RuleActivatorContext context) {
     context.profile().setRulesUpdatedAtAsDate(context.getInitDate());
     db.qualityProfileDao().update(dbSession, context.profile());
+    activeRulesCache.invalidate(context.profile().getKey());
   }
 
   /**
@@ -21,9 +21,13 @@ package org.sonar.server.rule;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
@@ -45,6 +49,8 @@ import org.sonar.core.rule.RuleDto.Format;
 import org.sonar.core.rule.RuleParamDto;
 import org.sonar.core.technicaldebt.db.CharacteristicDao;
 import org.sonar.core.technicaldebt.db.CharacteristicDto;
+import org.sonar.core.template.LoadedTemplateDto;
+import org.sonar.server.batch.ActiveRulesCache;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.qualityprofile.RuleActivator;
 import org.sonar.server.startup.RegisterDebtModel;
@@ -62,27 +68,31 @@ import static com.google.common.collect.Lists.newArrayList;
 public class RegisterRules implements Startable {
 
   private static final Logger LOG = Loggers.get(RegisterRules.class);
+  private static final char FINGERPRINT_SEPARATOR = ':';
 
   private final RuleDefinitionsLoader defLoader;
   private final RuleActivator ruleActivator;
   private final DbClient dbClient;
   private final Languages languages;
+  private final ActiveRulesCache activeRulesCache;
   private final CharacteristicDao characteristicDao;
 
   /**
    * @param registerDebtModel used only to be started after init of the technical debt model
    */
-  public RegisterRules(RuleDefinitionsLoader defLoader, RuleActivator ruleActivator, DbClient dbClient, Languages languages, RegisterDebtModel registerDebtModel) {
-    this(defLoader, ruleActivator, dbClient, languages);
+  public RegisterRules(RuleDefinitionsLoader defLoader, RuleActivator ruleActivator, DbClient dbClient, Languages languages, ActiveRulesCache activeRulesCache,
+    RegisterDebtModel registerDebtModel) {
+    this(defLoader, ruleActivator, dbClient, languages, activeRulesCache);
   }
 
   @VisibleForTesting
   RegisterRules(RuleDefinitionsLoader defLoader, RuleActivator ruleActivator,
-    DbClient dbClient, Languages languages) {
+    DbClient dbClient, Languages languages, ActiveRulesCache activeRulesCache) {
     this.defLoader = defLoader;
     this.ruleActivator = ruleActivator;
     this.dbClient = dbClient;
     this.languages = languages;
+    this.activeRulesCache = activeRulesCache;
     this.characteristicDao = dbClient.debtCharacteristicDao();
   }
 
@@ -93,19 +103,36 @@ public class RegisterRules implements Startable {
     try {
       Map<RuleKey, RuleDto> allRules = loadRules(session);
       Map<String, CharacteristicDto> allCharacteristics = loadCharacteristics(session);
+      Map<String, String> fingerprints = loadFingerprints();
+      // loaded only if at least one repository changed
+      Multimap<Integer, RuleParamDto> allParams = null;
 
       RulesDefinition.Context context = defLoader.load();
-      for (RulesDefinition.ExtendedRepository repoDef : getRepositories(context)) {
-        if (languages.get(repoDef.language()) != null) {
-          for (RulesDefinition.Rule ruleDef : repoDef.rules()) {
-            registerRule(ruleDef, allRules, allCharacteristics, session);
-          }
-          session.commit();
+      Multimap<String, RulesDefinition.Rule> rulesByRepository = getRulesByRepository(context);
+      for (Map.Entry<String, Collection<RulesDefinition.Rule>> repoRules : rulesByRepository.asMap().entrySet()) {
+        String repoKey = repoRules.getKey();
+        Collection<RulesDefinition.Rule> ruleDefs = repoRules.getValue();
+        String fingerprint = RulesDefinitionFingerprint.of(ruleDefs, allCharacteristics);
+        if (fingerprint.equals(fingerprints.get(repoKey)) && areRegistered(ruleDefs, allRules)) {
+          LOG.debug(String.format("Rules of repository %s did not change", repoKey));
+          continue;
+        }
+        if (allParams == null) {
+          allParams = loadParams(session);
         }
+        for (RulesDefinition.Rule ruleDef : ruleDefs) {
+          registerRule(ruleDef, allRules, allCharacteristics, allParams, session);
+        }
+        saveFingerprint(repoKey, fingerprints.get(repoKey), fingerprint, session);
+        session.commit();
       }
+      // rules of uninstalled repositories are disabled, so they must be registered again if the repositories are re-installed
+      deleteFingerprints(Maps.filterKeys(fingerprints, Predicates.not(Predicates.in(rulesByRepository.keySet()))), session);
       List<RuleDto> activeRules = processRemainingDbRules(allRules.values(), session);
       removeActiveRulesOnStillExistingRepositories(session, activeRules, context);
       session.commit();
+      // names, internal keys or templates of active rules may have changed
+      activeRulesCache.invalidateAll();
       profiler.stopDebug();
     } finally {
       session.close();
@@ -117,7 +144,8 @@ public class RegisterRules implements Startable {
     // nothing
   }
 
-  private void registerRule(RulesDefinition.Rule ruleDef, Map<RuleKey, RuleDto> allRules, Map<String, CharacteristicDto> allCharacteristics, DbSession session) {
+  private void registerRule(RulesDefinition.Rule ruleDef, Map<RuleKey, RuleDto> allRules, Map<String, CharacteristicDto> allCharacteristics,
+    Multimap<Integer, RuleParamDto> allParams, DbSession session) {
     RuleKey ruleKey = RuleKey.of(ruleDef.repository().key(), ruleDef.key());
 
     RuleDto rule = allRules.containsKey(ruleKey) ? allRules.remove(ruleKey) : createRuleDto(ruleDef, session);
@@ -140,7 +168,57 @@ public class RegisterRules implements Startable {
       dbClient.ruleDao().update(session, rule);
     }
 
-    mergeParams(ruleDef, rule, session);
+    mergeParams(ruleDef, rule, allParams.get(rule.getId()), session);
+  }
+
+  /**
+   * Rules of a repository which is not registered again are removed from allRules, so that they are not disabled.
+   * Returns false if some rules are missing or disabled in database.
+   */
+  private static boolean areRegistered(Collection<RulesDefinition.Rule> ruleDefs, Map<RuleKey, RuleDto> allRules) {
+    List<RuleKey> ruleKeys = newArrayList();
+    for (RulesDefinition.Rule ruleDef : ruleDefs) {
+      RuleKey ruleKey = RuleKey.of(ruleDef.repository().key(), ruleDef.key());
+      RuleDto rule = allRules.get(ruleKey);
+      if (rule == null || rule.getStatus() != ruleDef.status()) {
+        return false;
+      }
+      ruleKeys.add(ruleKey);
+    }
+    allRules.keySet().removeAll(ruleKeys);
+    return true;
+  }
+
+  private Map<String, String> loadFingerprints() {
+    Map<String, String> fingerprints = new HashMap<>();
+    for (String key : dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.RULE_REPOSITORY_TYPE)) {
+      int separator = key.lastIndexOf(FINGERPRINT_SEPARATOR);
+      if (separator > 0) {
+        fingerprints.put(key.substring(0, separator), key.substring(separator + 1));
+      }
+    }
+    return fingerprints;
+  }
+
+  private void saveFingerprint(String repoKey, @Nullable String previousFingerprint, String fingerprint, DbSession session) {
+    if (previousFingerprint != null) {
+      dbClient.loadedTemplateDao().delete(session, LoadedTemplateDto.RULE_REPOSITORY_TYPE, repoKey + FINGERPRINT_SEPARATOR + previousFingerprint);
+    }
+    dbClient.loadedTemplateDao().insert(new LoadedTemplateDto(repoKey + FINGERPRINT_SEPARATOR + fingerprint, LoadedTemplateDto.RULE_REPOSITORY_TYPE), session);
+  }
+
+  private void deleteFingerprints(Map<String, String> fingerprintsByRepository, DbSession session) {
+    for (Map.Entry<String, String> entry : fingerprintsByRepository.entrySet()) {
+      dbClient.loadedTemplateDao().delete(session, LoadedTemplateDto.RULE_REPOSITORY_TYPE, entry.getKey() + FINGERPRINT_SEPARATOR + entry.getValue());
+    }
+  }
+
+  private Multimap<Integer, RuleParamDto> loadParams(DbSession session) {
+    Multimap<Integer, RuleParamDto> params = ArrayListMultimap.create();
+    for (RuleParamDto param : dbClient.ruleDao().findAllRuleParams(session)) {
+      params.put(param.getRuleId(), param);
+    }
+    return params;
   }
 
   private Map<RuleKey, RuleDto> loadRules(DbSession session) {
@@ -181,19 +259,29 @@ public class RegisterRules implements Startable {
     return characteristicDto;
   }
 
-  private List<RulesDefinition.ExtendedRepository> getRepositories(RulesDefinition.Context context) {
-    List<RulesDefinition.ExtendedRepository> repositories = new ArrayList<RulesDefinition.ExtendedRepository>();
+  /**
+   * Rules of the repositories of installed languages, grouped by repository key. Rules of extended repositories
+   * are grouped with the rules of the repository that they extend.
+   */
+  private Multimap<String, RulesDefinition.Rule> getRulesByRepository(RulesDefinition.Context context) {
+    Multimap<String, RulesDefinition.Rule> rulesByRepository = LinkedListMultimap.create();
     for (RulesDefinition.Repository repoDef : context.repositories()) {
-      repositories.add(repoDef);
+      addRules(repoDef, rulesByRepository);
     }
     for (RulesDefinition.ExtendedRepository extendedRepoDef : context.extendedRepositories()) {
       if (context.repository(extendedRepoDef.key()) == null) {
         LOG.warn(String.format("Extension is ignored, repository %s does not exist", extendedRepoDef.key()));
       } else {
-        repositories.add(extendedRepoDef);
+        addRules(extendedRepoDef, rulesByRepository);
       }
     }
-    return repositories;
+    return rulesByRepository;
+  }
+
+  private void addRules(RulesDefinition.ExtendedRepository repoDef, Multimap<String, RulesDefinition.Rule> rulesByRepository) {
+    if (languages.get(repoDef.language()) != null) {
+      rulesByRepository.putAll(repoDef.key(), repoDef.rules());
+    }
   }
 
   private RuleDto createRuleDto(RulesDefinition.Rule ruleDef, DbSession session) {
@@ -312,8 +400,7 @@ public class RegisterRules implements Startable {
     return changed;
   }
 
-  private void mergeParams(RulesDefinition.Rule ruleDef, RuleDto rule, DbSession session) {
-    List<RuleParamDto> paramDtos = dbClient.ruleDao().findRuleParamsByRuleKey(session, rule.getKey());
+  private void mergeParams(RulesDefinition.Rule ruleDef, RuleDto rule, Collection<RuleParamDto> paramDtos, DbSession session) {
     Map<String, RuleParamDto> existingParamsByName = Maps.newHashMap();
 
     for (RuleParamDto paramDto : paramDtos) {
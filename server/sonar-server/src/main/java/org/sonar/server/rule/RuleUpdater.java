@@ -36,6 +36,7 @@ import org.sonar.core.qualityprofile.db.ActiveRuleParamDto;
 import org.sonar.core.rule.RuleDto;
 import org.sonar.core.rule.RuleParamDto;
 import org.sonar.core.technicaldebt.db.CharacteristicDto;
+import org.sonar.server.batch.ActiveRulesCache;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.user.UserSession;
 
@@ -49,10 +50,12 @@ import static com.google.common.collect.Lists.newArrayList;
 public class RuleUpdater implements ServerComponent {
 
   private final DbClient dbClient;
+  private final ActiveRulesCache activeRulesCache;
   private final System2 system;
 
-  public RuleUpdater(DbClient dbClient, System2 system) {
+  public RuleUpdater(DbClient dbClient, ActiveRulesCache activeRulesCache, System2 system) {
     this.dbClient = dbClient;
+    this.activeRulesCache = activeRulesCache;
     this.system = system;
   }
 
@@ -72,6 +75,8 @@ public class RuleUpdater implements ServerComponent {
       dbClient.ruleDao().update(dbSession, context.rule);
       updateParameters(dbSession, update, context);
       dbSession.commit();
+      // name and parameters of custom rules are sent to batch with active rules
+      activeRulesCache.invalidateAll();
       return true;
 
     } finally {
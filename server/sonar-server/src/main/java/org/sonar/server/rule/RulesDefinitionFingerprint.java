@@ -0,0 +1,127 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.rule;
+
+import com.google.common.collect.Ordering;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.sonar.api.server.debt.DebtRemediationFunction;
+import org.sonar.api.server.rule.RulesDefinition;
+import org.sonar.core.technicaldebt.db.CharacteristicDto;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash of all the fields of rule definitions that are persisted by {@link RegisterRules}. When the
+ * fingerprint of a repository did not change since last startup, its rules are not registered again.
+ */
+class RulesDefinitionFingerprint {
+
+  /**
+   * To be incremented when {@link RegisterRules} persists rules differently, so that all repositories are registered again
+   */
+  private static final String FORMAT_VERSION = "1";
+
+  private static final Comparator<RulesDefinition.Rule> RULE_KEY_COMPARATOR = new Comparator<RulesDefinition.Rule>() {
+    @Override
+    public int compare(RulesDefinition.Rule r1, RulesDefinition.Rule r2) {
+      return r1.key().compareTo(r2.key());
+    }
+  };
+
+  private static final Comparator<RulesDefinition.Param> PARAM_KEY_COMPARATOR = new Comparator<RulesDefinition.Param>() {
+    @Override
+    public int compare(RulesDefinition.Param p1, RulesDefinition.Param p2) {
+      return p1.key().compareTo(p2.key());
+    }
+  };
+
+  private final MessageDigest digest = DigestUtils.getMd5Digest();
+
+  private RulesDefinitionFingerprint() {
+    // use static method
+  }
+
+  /**
+   * @param characteristics the enabled characteristics, by key. Rules reference their ids, which depend on the debt model in database.
+   */
+  static String of(Collection<RulesDefinition.Rule> rules, Map<String, CharacteristicDto> characteristics) {
+    RulesDefinitionFingerprint fingerprint = new RulesDefinitionFingerprint();
+    fingerprint.add(FORMAT_VERSION);
+    // stable sort, so that order of repository extensions is kept if they declare the same rule
+    List<RulesDefinition.Rule> sortedRules = Ordering.from(RULE_KEY_COMPARATOR).sortedCopy(rules);
+    for (RulesDefinition.Rule rule : sortedRules) {
+      fingerprint.addRule(rule, characteristics);
+    }
+    return Hex.encodeHexString(fingerprint.digest.digest());
+  }
+
+  private void addRule(RulesDefinition.Rule rule, Map<String, CharacteristicDto> characteristics) {
+    add(rule.repository().key());
+    add(rule.repository().language());
+    add(rule.key());
+    add(rule.name());
+    add(rule.htmlDescription());
+    add(rule.markdownDescription());
+    add(rule.severity());
+    add(rule.internalKey());
+    add(String.valueOf(rule.template()));
+    add(rule.status().name());
+    add(rule.effortToFixDescription());
+    add(Ordering.natural().sortedCopy(rule.tags()).toString());
+
+    add(rule.debtSubCharacteristic());
+    CharacteristicDto characteristic = rule.debtSubCharacteristic() == null ? null : characteristics.get(rule.debtSubCharacteristic());
+    if (characteristic != null) {
+      add(String.valueOf(characteristic.getId()));
+      add(String.valueOf(characteristic.getParentId()));
+    }
+    DebtRemediationFunction function = rule.debtRemediationFunction();
+    if (function != null) {
+      add(function.type().name());
+      add(function.coefficient());
+      add(function.offset());
+    }
+
+    add(String.valueOf(rule.params().size()));
+    for (RulesDefinition.Param param : Ordering.from(PARAM_KEY_COMPARATOR).sortedCopy(rule.params())) {
+      add(param.key());
+      add(param.name());
+      add(param.description());
+      add(param.defaultValue());
+      add(param.type().toString());
+    }
+  }
+
+  private void add(@Nullable String s) {
+    if (s != null) {
+      digest.update(s.getBytes(StandardCharsets.UTF_8));
+    }
+    // separator, so that null and empty values are not confused and that fields are not concatenated
+    digest.update(s == null ? (byte) 0 : (byte) 1);
+  }
+}
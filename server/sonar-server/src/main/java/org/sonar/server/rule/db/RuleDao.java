@@ -20,9 +20,11 @@
 package org.sonar.server.rule.db;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.utils.System2;
+import org.sonar.core.persistence.DaoUtils;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.rule.RuleDto;
 import org.sonar.core.rule.RuleMapper;
@@ -31,6 +33,7 @@ import org.sonar.server.db.BaseDao;
 import org.sonar.server.search.IndexDefinition;
 
 import javax.annotation.CheckForNull;
+import java.util.Collection;
 import java.util.List;
 
 public class RuleDao extends BaseDao<RuleMapper, RuleDto, RuleKey> {
@@ -49,6 +52,16 @@ public class RuleDao extends BaseDao<RuleMapper, RuleDto, RuleKey> {
     return mapper(session).selectByKey(key);
   }
 
+  @Override
+  protected List<RuleDto> doGetByKeys(final DbSession session, Collection<RuleKey> keys) {
+    return DaoUtils.executeLargeInputs(keys, new Function<List<RuleKey>, List<RuleDto>>() {
+      @Override
+      public List<RuleDto> apply(List<RuleKey> partition) {
+        return mapper(session).selectByKeys(partition);
+      }
+    });
+  }
+
   public RuleDto getByName(String name, DbSession session) {
     return mapper(session).selectByName(name);
   }
@@ -78,20 +78,31 @@ public class IndexSynchronizer {
     }
   }
 
-  public void execute() {
+  /**
+   * The following methods can be executed concurrently, as they populate distinct indices.
+   */
+  public void indexActivities() {
     LOG.info("Index activities");
     activityIndexer.setEnabled(true).index();
+  }
 
+  public void indexIssues() {
     LOG.info("Index issues");
     issueAuthorizationIndexer.setEnabled(true).index();
     issueIndexer.setEnabled(true).index();
+  }
 
+  public void indexSourceLines() {
     LOG.info("Index source lines");
     sourceLineIndexer.setEnabled(true).index();
+  }
 
+  public void indexUsers() {
     LOG.info("Index users");
     userIndexer.setEnabled(true).index();
+  }
 
+  public void indexViews() {
     LOG.info("Index views");
     viewIndexer.setEnabled(true).index();
   }
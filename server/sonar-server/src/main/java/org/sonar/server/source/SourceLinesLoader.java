@@ -0,0 +1,178 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.source;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Function;
+import org.sonar.api.ServerComponent;
+import org.sonar.core.source.db.FileSourceDto;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.source.db.FileSourceDb;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Reads ranges of source lines directly from column FILE_SOURCES.BINARY_DATA, without
+ * requesting the Elasticsearch index "sourcelines". Only the requested range of lines is
+ * deserialized.
+ * <p/>
+ * The last decoded ranges are kept in a LRU cache, bounded by the total number of lines. An entry
+ * is used only if FILE_SOURCES.UPDATED_AT did not change since it was loaded.
+ */
+public class SourceLinesLoader implements ServerComponent {
+
+  static final int DEFAULT_MAX_CACHED_LINES = 200000;
+
+  private final DbClient dbClient;
+  private final int maxCachedLines;
+
+  // access-ordered, so that iteration starts with the least recently used file
+  private final LinkedHashMap<String, CachedLines> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private int cachedLines = 0;
+
+  public SourceLinesLoader(DbClient dbClient) {
+    this(dbClient, DEFAULT_MAX_CACHED_LINES);
+  }
+
+  @VisibleForTesting
+  SourceLinesLoader(DbClient dbClient, int maxCachedLines) {
+    this.dbClient = dbClient;
+    this.maxCachedLines = maxCachedLines;
+  }
+
+  /**
+   * Get lines of code for file with UUID <code>fileUuid</code> with line numbers
+   * between <code>from</code> and <code>to</code> (both inclusive). Line numbers
+   * start at 1. Returns an empty list if the file has no sources.
+   *
+   * @param fileUuid the UUID of the file for which to get source code
+   * @param from starting line; must be strictly positive
+   * @param to ending line; must be greater than or equal to <code>from</code>
+   */
+  public List<FileSourceDb.Line> getLines(String fileUuid, int from, int to) {
+    checkArgument(from > 0, "Minimum value for 'from' is 1");
+    checkArgument(to >= from, "'to' must be larger than or equal to 'from'");
+
+    Long updatedAt = dbClient.fileSourceDao().selectUpdatedAt(fileUuid);
+    if (updatedAt == null) {
+      invalidate(fileUuid);
+      return Collections.emptyList();
+    }
+    List<FileSourceDb.Line> lines = getCachedLines(fileUuid, updatedAt, from, to);
+    if (lines == null) {
+      DecodeLinesFunction decodeFunction = new DecodeLinesFunction(from, to);
+      dbClient.fileSourceDao().readDataStream(fileUuid, decodeFunction);
+      lines = decodeFunction.lines;
+      boolean complete = to == Integer.MAX_VALUE || lines.size() < 1 + to - from;
+      putCachedLines(fileUuid, new CachedLines(updatedAt, from, lines, complete));
+    }
+    return lines;
+  }
+
+  public synchronized void invalidate(String fileUuid) {
+    CachedLines removed = cache.remove(fileUuid);
+    if (removed != null) {
+      cachedLines -= removed.lines.size();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int cachedLines() {
+    return cachedLines;
+  }
+
+  @CheckForNull
+  private synchronized List<FileSourceDb.Line> getCachedLines(String fileUuid, long updatedAt, int from, int to) {
+    CachedLines cached = cache.get(fileUuid);
+    if (cached != null && cached.updatedAt == updatedAt) {
+      return cached.subList(from, to);
+    }
+    return null;
+  }
+
+  private synchronized void putCachedLines(String fileUuid, CachedLines lines) {
+    invalidate(fileUuid);
+    if (lines.lines.size() > maxCachedLines) {
+      return;
+    }
+    cache.put(fileUuid, lines);
+    cachedLines += lines.lines.size();
+    Iterator<Map.Entry<String, CachedLines>> it = cache.entrySet().iterator();
+    while (cachedLines > maxCachedLines && it.hasNext()) {
+      cachedLines -= it.next().getValue().lines.size();
+      it.remove();
+    }
+  }
+
+  private static class CachedLines {
+    private final long updatedAt;
+    private final int from;
+    private final List<FileSourceDb.Line> lines;
+    // true if the last line of file is loaded
+    private final boolean complete;
+
+    CachedLines(long updatedAt, int from, List<FileSourceDb.Line> lines, boolean complete) {
+      this.updatedAt = updatedAt;
+      this.from = from;
+      this.lines = lines;
+      this.complete = complete;
+    }
+
+    @CheckForNull
+    List<FileSourceDb.Line> subList(int requestedFrom, int requestedTo) {
+      long cachedTo = (long) from + lines.size() - 1;
+      if (requestedFrom < from || (!complete && requestedTo > cachedTo)) {
+        return null;
+      }
+      int fromIndex = (int) Math.min(requestedFrom - from, lines.size());
+      int toIndex = (int) Math.min((long) requestedTo - from + 1, lines.size());
+      return new ArrayList<>(lines.subList(fromIndex, toIndex));
+    }
+  }
+
+  private static class DecodeLinesFunction implements Function<InputStream, Void> {
+    private final int from, to;
+    private List<FileSourceDb.Line> lines = Collections.emptyList();
+
+    DecodeLinesFunction(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public Void apply(@Nullable InputStream input) {
+      if (input != null) {
+        lines = FileSourceDto.decodeLines(input, from, to);
+      }
+      return null;
+    }
+  }
+}
@@ -23,8 +23,7 @@ package org.sonar.server.source;
 import org.apache.commons.lang.ObjectUtils;
 import org.elasticsearch.common.collect.Lists;
 import org.sonar.api.ServerComponent;
-import org.sonar.server.source.index.SourceLineDoc;
-import org.sonar.server.source.index.SourceLineIndex;
+import org.sonar.server.source.db.FileSourceDb;
 
 import javax.annotation.Nullable;
 
@@ -33,11 +32,11 @@ import java.util.List;
 public class SourceService implements ServerComponent {
 
   private final HtmlSourceDecorator sourceDecorator;
-  private final SourceLineIndex sourceLineIndex;
+  private final SourceLinesLoader sourceLinesLoader;
 
-  public SourceService(HtmlSourceDecorator sourceDecorator, SourceLineIndex sourceLineIndex) {
+  public SourceService(HtmlSourceDecorator sourceDecorator, SourceLinesLoader sourceLinesLoader) {
     this.sourceDecorator = sourceDecorator;
-    this.sourceLineIndex = sourceLineIndex;
+    this.sourceLinesLoader = sourceLinesLoader;
   }
 
   /**
@@ -47,8 +46,8 @@ public class SourceService implements ServerComponent {
     int from = (Integer) ObjectUtils.defaultIfNull(fromParam, 1);
     int to = (Integer) ObjectUtils.defaultIfNull(toParam, Integer.MAX_VALUE);
     List<String> lines = Lists.newArrayList();
-    for (SourceLineDoc lineDoc : sourceLineIndex.getLines(fileUuid, from, to)) {
-      lines.add(lineDoc.source());
+    for (FileSourceDb.Line line : sourceLinesLoader.getLines(fileUuid, from, to)) {
+      lines.add(line.hasSource() ? line.getSource() : null);
     }
     return lines;
   }
@@ -60,8 +59,8 @@ public class SourceService implements ServerComponent {
     int from = (Integer) ObjectUtils.defaultIfNull(fromParam, 1);
     int to = (Integer) ObjectUtils.defaultIfNull(toParam, Integer.MAX_VALUE);
     List<String> lines = Lists.newArrayList();
-    for (SourceLineDoc lineDoc : sourceLineIndex.getLines(fileUuid, from, to)) {
-      lines.add(sourceDecorator.getDecoratedSourceAsHtml(lineDoc.source(), lineDoc.highlighting(), lineDoc.symbols()));
+    for (FileSourceDb.Line line : sourceLinesLoader.getLines(fileUuid, from, to)) {
+      lines.add(sourceDecorator.getDecoratedSourceAsHtml(line.hasSource() ? line.getSource() : null, line.getHighlighting(), line.getSymbols()));
     }
     return lines;
   }
@@ -19,18 +19,22 @@
  */
 package org.sonar.server.source.index;
 
-import org.apache.commons.io.Charsets;
 import org.apache.commons.lang.StringUtils;
 import org.elasticsearch.action.update.UpdateRequest;
-import org.sonar.api.utils.text.JsonWriter;
+import org.elasticsearch.common.io.stream.BytesStreamOutput;
+import org.elasticsearch.common.xcontent.XContentGenerator;
+import org.elasticsearch.common.xcontent.XContentString;
+import org.elasticsearch.common.xcontent.json.JsonXContent;
 import org.sonar.core.source.db.FileSourceDto;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.db.ResultSetIterator;
 import org.sonar.server.es.EsUtils;
+import org.sonar.server.es.IndexPartition;
 import org.sonar.server.source.db.FileSourceDb;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
+import javax.annotation.Nullable;
+
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -81,6 +85,7 @@ public class SourceFileResultSetIterator extends ResultSetIterator<SourceFileRes
   };
   private static final String SQL_ALL = "select " + StringUtils.join(FIELDS, ",") + " from file_sources";
   private static final String SQL_AFTER_DATE = SQL_ALL + " where updated_at>?";
+  static final String SQL_PROJECT_UUIDS = "select distinct project_uuid from file_sources where project_uuid is not null order by project_uuid";
 
   public static SourceFileResultSetIterator create(DbClient dbClient, Connection connection, long afterDate) {
     try {
@@ -96,6 +101,50 @@ public class SourceFileResultSetIterator extends ResultSetIterator<SourceFileRes
     }
   }
 
+  public static SourceFileResultSetIterator create(DbClient dbClient, Connection connection, IndexPartition partition) {
+    try {
+      PreparedStatement stmt = dbClient.newScrollingSingleRowSelectStatement(connection, SQL_ALL + " where " + partition.sqlCondition("project_uuid"));
+      partition.setParameters(stmt);
+      return new SourceFileResultSetIterator(stmt);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to prepare SQL request to select file sources of partition " + partition, e);
+    }
+  }
+
+  /**
+   * Buffers bigger than this size, in bytes, are not kept by threads for the next files
+   */
+  private static final int MAX_RECYCLED_BUFFER_SIZE = 10 * 1024 * 1024;
+
+  private static final ThreadLocal<BytesStreamOutput> BUFFERS = new ThreadLocal<BytesStreamOutput>() {
+    @Override
+    protected BytesStreamOutput initialValue() {
+      return new BytesStreamOutput();
+    }
+  };
+
+  // names of JSON fields are encoded once
+  private static final XContentString PROJECT_UUID = new XContentString(SourceLineIndexDefinition.FIELD_PROJECT_UUID);
+  private static final XContentString FILE_UUID = new XContentString(SourceLineIndexDefinition.FIELD_FILE_UUID);
+  private static final XContentString LINE = new XContentString(SourceLineIndexDefinition.FIELD_LINE);
+  private static final XContentString UPDATED_AT = new XContentString(SourceLineIndexDefinition.FIELD_UPDATED_AT);
+  private static final XContentString SCM_REVISION = new XContentString(SourceLineIndexDefinition.FIELD_SCM_REVISION);
+  private static final XContentString SCM_AUTHOR = new XContentString(SourceLineIndexDefinition.FIELD_SCM_AUTHOR);
+  private static final XContentString SCM_DATE = new XContentString(SourceLineIndexDefinition.FIELD_SCM_DATE);
+  private static final XContentString UT_LINE_HITS = new XContentString(SourceLineIndexDefinition.FIELD_UT_LINE_HITS);
+  private static final XContentString UT_CONDITIONS = new XContentString(SourceLineIndexDefinition.FIELD_UT_CONDITIONS);
+  private static final XContentString UT_COVERED_CONDITIONS = new XContentString(SourceLineIndexDefinition.FIELD_UT_COVERED_CONDITIONS);
+  private static final XContentString IT_LINE_HITS = new XContentString(SourceLineIndexDefinition.FIELD_IT_LINE_HITS);
+  private static final XContentString IT_CONDITIONS = new XContentString(SourceLineIndexDefinition.FIELD_IT_CONDITIONS);
+  private static final XContentString IT_COVERED_CONDITIONS = new XContentString(SourceLineIndexDefinition.FIELD_IT_COVERED_CONDITIONS);
+  private static final XContentString OVERALL_LINE_HITS = new XContentString(SourceLineIndexDefinition.FIELD_OVERALL_LINE_HITS);
+  private static final XContentString OVERALL_CONDITIONS = new XContentString(SourceLineIndexDefinition.FIELD_OVERALL_CONDITIONS);
+  private static final XContentString OVERALL_COVERED_CONDITIONS = new XContentString(SourceLineIndexDefinition.FIELD_OVERALL_COVERED_CONDITIONS);
+  private static final XContentString HIGHLIGHTING = new XContentString(SourceLineIndexDefinition.FIELD_HIGHLIGHTING);
+  private static final XContentString SYMBOLS = new XContentString(SourceLineIndexDefinition.FIELD_SYMBOLS);
+  private static final XContentString DUPLICATIONS = new XContentString(SourceLineIndexDefinition.FIELD_DUPLICATIONS);
+  private static final XContentString SOURCE = new XContentString(SourceLineIndexDefinition.FIELD_SOURCE);
+
   private SourceFileResultSetIterator(PreparedStatement stmt) throws SQLException {
     super(stmt);
   }
@@ -110,101 +159,111 @@ public class SourceFileResultSetIterator extends ResultSetIterator<SourceFileRes
   }
 
   /**
-   * Convert protobuf message to data required for Elasticsearch indexing
+   * Convert protobuf message to data required for Elasticsearch indexing.
+   * <p/>
+   * The JSON documents of all the lines of the file are written to a buffer recycled by the current thread,
+   * then copied at once to a single byte array shared by the update requests. Values that are the same
+   * for all the lines (project, file and date) are computed once per file.
    */
   public static Row toRow(String projectUuid, String fileUuid, Date updatedAt, FileSourceDb.Data data) {
     Row result = new Row(projectUuid, fileUuid, updatedAt.getTime());
-    for (FileSourceDb.Line line : data.getLinesList()) {
-      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-
-      // all the fields must be present, even if value is null
-      JsonWriter writer = JsonWriter.of(new OutputStreamWriter(bytes, Charsets.UTF_8)).setSerializeNulls(true);
-      writer.beginObject();
-      writer.prop(SourceLineIndexDefinition.FIELD_PROJECT_UUID, projectUuid);
-      writer.prop(SourceLineIndexDefinition.FIELD_FILE_UUID, fileUuid);
-      writer.prop(SourceLineIndexDefinition.FIELD_LINE, line.getLine());
-      writer.prop(SourceLineIndexDefinition.FIELD_UPDATED_AT, EsUtils.formatDateTime(updatedAt));
-      writer.prop(SourceLineIndexDefinition.FIELD_SCM_REVISION, line.getScmRevision());
-      writer.prop(SourceLineIndexDefinition.FIELD_SCM_AUTHOR, line.getScmAuthor());
-      writer.prop(SourceLineIndexDefinition.FIELD_SCM_DATE, EsUtils.formatDateTime(line.hasScmDate() ? new Date(line.getScmDate()) : null));
-
-      // unit tests
-      if (line.hasUtLineHits()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_UT_LINE_HITS,  line.getUtLineHits());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_UT_LINE_HITS).valueObject(null);
-      }
-      if (line.hasUtConditions()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_UT_CONDITIONS,  line.getUtConditions());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_UT_CONDITIONS).valueObject(null);
-      }
-      if (line.hasUtCoveredConditions()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_UT_COVERED_CONDITIONS,  line.getUtCoveredConditions());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_UT_COVERED_CONDITIONS).valueObject(null);
-      }
-
-      // IT
-      if (line.hasItLineHits()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_IT_LINE_HITS,  line.getItLineHits());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_IT_LINE_HITS).valueObject(null);
-      }
-      if (line.hasItConditions()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_IT_CONDITIONS,  line.getItConditions());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_IT_CONDITIONS).valueObject(null);
-      }
-      if (line.hasItCoveredConditions()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_IT_COVERED_CONDITIONS,  line.getItCoveredConditions());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_IT_COVERED_CONDITIONS).valueObject(null);
-      }
-
-      // Overall coverage
-      if (line.hasOverallLineHits()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_OVERALL_LINE_HITS,  line.getOverallLineHits());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_OVERALL_LINE_HITS).valueObject(null);
-      }
-      if (line.hasOverallConditions()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_OVERALL_CONDITIONS,  line.getOverallConditions());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_OVERALL_CONDITIONS).valueObject(null);
-      }
-      if (line.hasOverallCoveredConditions()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_OVERALL_COVERED_CONDITIONS,  line.getOverallCoveredConditions());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_OVERALL_COVERED_CONDITIONS).valueObject(null);
+    BytesStreamOutput buffer = BUFFERS.get();
+    int[] offsets = new int[data.getLinesCount() + 1];
+    String formattedUpdatedAt = EsUtils.formatDateTime(updatedAt);
+    try {
+      // unlike reset(), seek() keeps the allocated pages
+      buffer.seek(0L);
+      int index = 0;
+      for (FileSourceDb.Line line : data.getLinesList()) {
+        offsets[index] = buffer.size();
+        writeLine(buffer, projectUuid, fileUuid, formattedUpdatedAt, line);
+        index++;
       }
+      offsets[index] = buffer.size();
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to convert source lines of file " + fileUuid + " to JSON", e);
+    }
 
-      if (line.hasHighlighting()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_HIGHLIGHTING,  line.getHighlighting());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_HIGHLIGHTING).valueObject(null);
-      }
-      if (line.hasSymbols()) {
-        writer.prop(SourceLineIndexDefinition.FIELD_SYMBOLS,  line.getSymbols());
-      } else {
-        writer.name(SourceLineIndexDefinition.FIELD_SYMBOLS).valueObject(null);
-      }
-      writer.name(SourceLineIndexDefinition.FIELD_DUPLICATIONS).valueObject(line.getDuplicationList());
-      writer.prop(SourceLineIndexDefinition.FIELD_SOURCE, line.hasSource() ? line.getSource() : null);
-      writer.endObject().close();
-
-      // This is an optimization to reduce memory consumption and multiple conversions from Map to JSON.
-      // UpdateRequest#doc() and #upsert() take the same parameter values, so:
-      // - passing the same Map would execute two JSON serializations
-      // - Map is a useless temporarily structure: read JDBC result set -> convert to map -> convert to JSON. Generating
-      // directly JSON from result set is more efficient.
-      byte[] jsonDoc = bytes.toByteArray();
+    // This is an optimization to reduce memory consumption and multiple conversions from Map to JSON.
+    // UpdateRequest#doc() and #upsert() take the same parameter values, so:
+    // - passing the same Map would execute two JSON serializations
+    // - Map is a useless temporarily structure: read JDBC result set -> convert to map -> convert to JSON. Generating
+    // directly JSON from result set is more efficient.
+    byte[] jsonDocs = buffer.bytes().copyBytesArray().array();
+    if (buffer.size() > MAX_RECYCLED_BUFFER_SIZE) {
+      // do not keep huge files in memory
+      BUFFERS.remove();
+    }
+    int index = 0;
+    for (FileSourceDb.Line line : data.getLinesList()) {
+      int offset = offsets[index];
+      int length = offsets[index + 1] - offset;
       UpdateRequest updateRequest = new UpdateRequest(SourceLineIndexDefinition.INDEX, SourceLineIndexDefinition.TYPE, SourceLineIndexDefinition.docKey(fileUuid, line.getLine()))
         .routing(projectUuid)
-        .doc(jsonDoc)
-        .upsert(jsonDoc);
+        .doc(jsonDocs, offset, length)
+        .upsert(jsonDocs, offset, length);
       result.lineUpdateRequests.add(updateRequest);
+      index++;
     }
     return result;
   }
+
+  /**
+   * All the fields must be present, even if value is null
+   */
+  private static void writeLine(BytesStreamOutput buffer, String projectUuid, String fileUuid, String formattedUpdatedAt, FileSourceDb.Line line)
+    throws IOException {
+    XContentGenerator writer = JsonXContent.jsonXContent.createGenerator(buffer);
+    writer.writeStartObject();
+    writer.writeStringField(PROJECT_UUID, projectUuid);
+    writer.writeStringField(FILE_UUID, fileUuid);
+    writer.writeNumberField(LINE, line.getLine());
+    writer.writeStringField(UPDATED_AT, formattedUpdatedAt);
+    writer.writeStringField(SCM_REVISION, line.getScmRevision());
+    writer.writeStringField(SCM_AUTHOR, line.getScmAuthor());
+    writeNullableString(writer, SCM_DATE, line.hasScmDate() ? EsUtils.formatDateTime(new Date(line.getScmDate())) : null);
+
+    // unit tests
+    writeNullableNumber(writer, UT_LINE_HITS, line.hasUtLineHits(), line.getUtLineHits());
+    writeNullableNumber(writer, UT_CONDITIONS, line.hasUtConditions(), line.getUtConditions());
+    writeNullableNumber(writer, UT_COVERED_CONDITIONS, line.hasUtCoveredConditions(), line.getUtCoveredConditions());
+
+    // IT
+    writeNullableNumber(writer, IT_LINE_HITS, line.hasItLineHits(), line.getItLineHits());
+    writeNullableNumber(writer, IT_CONDITIONS, line.hasItConditions(), line.getItConditions());
+    writeNullableNumber(writer, IT_COVERED_CONDITIONS, line.hasItCoveredConditions(), line.getItCoveredConditions());
+
+    // Overall coverage
+    writeNullableNumber(writer, OVERALL_LINE_HITS, line.hasOverallLineHits(), line.getOverallLineHits());
+    writeNullableNumber(writer, OVERALL_CONDITIONS, line.hasOverallConditions(), line.getOverallConditions());
+    writeNullableNumber(writer, OVERALL_COVERED_CONDITIONS, line.hasOverallCoveredConditions(), line.getOverallCoveredConditions());
+
+    writeNullableString(writer, HIGHLIGHTING, line.hasHighlighting() ? line.getHighlighting() : null);
+    writeNullableString(writer, SYMBOLS, line.hasSymbols() ? line.getSymbols() : null);
+    writer.writeArrayFieldStart(DUPLICATIONS);
+    for (Integer duplication : line.getDuplicationList()) {
+      writer.writeNumber(duplication);
+    }
+    writer.writeEndArray();
+    writeNullableString(writer, SOURCE, line.hasSource() ? line.getSource() : null);
+    writer.writeEndObject();
+    // flushes to buffer and recycles the internal buffers of generator
+    writer.close();
+  }
+
+  private static void writeNullableString(XContentGenerator writer, XContentString field, @Nullable String value) throws IOException {
+    if (value == null) {
+      writer.writeNullField(field);
+    } else {
+      writer.writeStringField(field, value);
+    }
+  }
+
+  private static void writeNullableNumber(XContentGenerator writer, XContentString field, boolean hasValue, int value) throws IOException {
+    if (hasValue) {
+      writer.writeNumberField(field, value);
+    } else {
+      writer.writeNullField(field);
+    }
+  }
 }
@@ -19,10 +19,7 @@
  */
 package org.sonar.server.source.index;
 
-import com.google.common.collect.ImmutableMap;
-import org.elasticsearch.cluster.metadata.IndexMetaData;
 import org.sonar.api.config.Settings;
-import org.sonar.process.ProcessProperties;
 import org.sonar.server.es.IndexDefinition;
 import org.sonar.server.es.NewIndex;
 
@@ -30,6 +27,7 @@ public class SourceLineIndexDefinition implements IndexDefinition {
 
   public static final String INDEX = "sourcelines";
   public static final String TYPE = "sourceline";
+  public static final String TYPE_FILE = "sourcefile";
   public static final String FIELD_PROJECT_UUID = "projectUuid";
   public static final String FIELD_FILE_UUID = "fileUuid";
   public static final String FIELD_LINE = "line";
@@ -50,6 +48,7 @@ public class SourceLineIndexDefinition implements IndexDefinition {
   public static final String FIELD_SYMBOLS = "symbols";
   public static final String FIELD_DUPLICATIONS = "duplications";
   public static final String FIELD_UPDATED_AT = "updatedAt";
+  public static final String FIELD_NUMBER_OF_LINES = "numberOfLines";
 
   private final Settings settings;
 
@@ -62,19 +61,14 @@ public class SourceLineIndexDefinition implements IndexDefinition {
     NewIndex index = context.create(INDEX);
 
     // refresh is always handled by SourceLineIndexer
-    index.getSettings().put("index.refresh_interval", "-1");
+    index.setRefreshInterval("-1");
 
-    // shards
-    boolean clusterMode = settings.getBoolean(ProcessProperties.CLUSTER_ACTIVATE);
-    if (clusterMode) {
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_SHARDS, 4);
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_REPLICAS, 1);
-      // else keep defaults (one shard)
-    }
+    // shards, replicas and refresh interval, default or configured for this index
+    index.configure(settings);
 
     // type "sourceline"
     NewIndex.NewIndexType mapping = index.createType(TYPE);
-    mapping.setAttribute("_routing", ImmutableMap.of("required", true, "path", FIELD_PROJECT_UUID));
+    mapping.setRouting(FIELD_PROJECT_UUID);
     mapping.stringFieldBuilder(FIELD_PROJECT_UUID).build();
     mapping.stringFieldBuilder(FIELD_FILE_UUID).build();
     mapping.createIntegerField(FIELD_LINE);
@@ -95,6 +89,13 @@ public class SourceLineIndexDefinition implements IndexDefinition {
     mapping.stringFieldBuilder(FIELD_SYMBOLS).disableSearch().build();
     mapping.createShortField(FIELD_DUPLICATIONS);
     mapping.createDateTimeField(FIELD_UPDATED_AT);
+
+    // type "sourcefile", number of lines indexed for each file
+    NewIndex.NewIndexType fileMapping = index.createType(TYPE_FILE);
+    fileMapping.setRouting(FIELD_PROJECT_UUID);
+    fileMapping.stringFieldBuilder(FIELD_PROJECT_UUID).build();
+    fileMapping.stringFieldBuilder(FIELD_FILE_UUID).build();
+    fileMapping.createIntegerField(FIELD_NUMBER_OF_LINES);
   }
 
   public static String docKey(String fileUuid, int line) {
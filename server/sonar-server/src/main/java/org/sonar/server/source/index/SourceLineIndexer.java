@@ -19,6 +19,11 @@
  */
 package org.sonar.server.source.index;
 
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequest;
+import org.elasticsearch.action.get.MultiGetRequestBuilder;
+import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.index.query.FilterBuilders;
@@ -28,11 +33,18 @@ import org.sonar.server.db.DbClient;
 import org.sonar.server.es.BaseIndexer;
 import org.sonar.server.es.BulkIndexer;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.IndexPartition;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import static org.sonar.server.source.index.SourceLineIndexDefinition.FIELD_FILE_UUID;
+import static org.sonar.server.source.index.SourceLineIndexDefinition.FIELD_NUMBER_OF_LINES;
 import static org.sonar.server.source.index.SourceLineIndexDefinition.FIELD_PROJECT_UUID;
 
 /**
@@ -41,6 +53,13 @@ import static org.sonar.server.source.index.SourceLineIndexDefinition.FIELD_PROJ
  */
 public class SourceLineIndexer extends BaseIndexer {
 
+  /**
+   * Files are processed by batches, so that the numbers of lines previously indexed
+   * are loaded with a single request per batch.
+   */
+  private static final int MAX_FILES_PER_BATCH = 100;
+  private static final int MAX_LINES_PER_BATCH = 10000;
+
   private final DbClient dbClient;
 
   public SourceLineIndexer(DbClient dbClient, EsClient esClient) {
@@ -49,15 +68,35 @@ public class SourceLineIndexer extends BaseIndexer {
   }
 
   @Override
-  protected long doIndex(long lastUpdatedAt) {
-    final BulkIndexer bulk = new BulkIndexer(esClient, SourceLineIndexDefinition.INDEX);
-    bulk.setLarge(lastUpdatedAt == 0L);
+  protected long doIndex(final long lastUpdatedAt) {
+    if (lastUpdatedAt == 0L || hasPendingPartitions(dbClient)) {
+      long maxUpdatedAt = doIndexPartitions(dbClient, SourceFileResultSetIterator.SQL_PROJECT_UUIDS, new PartitionIndexer() {
+        @Override
+        public long index(BulkIndexer bulk, Connection connection, IndexPartition partition) {
+          SourceFileResultSetIterator rowIt = SourceFileResultSetIterator.create(dbClient, connection, partition);
+          // index is empty if lastUpdatedAt is zero, so there are no lines to be deleted
+          long maxUpdatedAt = doIndex(bulk, rowIt, lastUpdatedAt > 0L);
+          rowIt.close();
+          return maxUpdatedAt;
+        }
+      });
+      if (lastUpdatedAt == 0L) {
+        return maxUpdatedAt;
+      }
+      // resumed indexing. Files of completed partitions may have been updated since interruption.
+      return Math.max(maxUpdatedAt, doIndexSince(lastUpdatedAt));
+    }
+    return doIndexSince(lastUpdatedAt);
+  }
+
+  private long doIndexSince(long lastUpdatedAt) {
+    BulkIndexer bulk = new BulkIndexer(esClient, SourceLineIndexDefinition.INDEX);
 
     DbSession dbSession = dbClient.openSession(false);
     Connection dbConnection = dbSession.getConnection();
     try {
       SourceFileResultSetIterator rowIt = SourceFileResultSetIterator.create(dbClient, dbConnection, lastUpdatedAt);
-      long maxUpdatedAt = doIndex(bulk, rowIt);
+      long maxUpdatedAt = doIndex(bulk, rowIt, true);
       rowIt.close();
       return maxUpdatedAt;
 
@@ -68,49 +107,89 @@ public class SourceLineIndexer extends BaseIndexer {
 
   public long index(Iterator<SourceFileResultSetIterator.Row> dbRows) {
     BulkIndexer bulk = new BulkIndexer(esClient, SourceLineIndexDefinition.INDEX);
-    return doIndex(bulk, dbRows);
+    return doIndex(bulk, dbRows, true);
   }
 
-  private long doIndex(BulkIndexer bulk, Iterator<SourceFileResultSetIterator.Row> dbRows) {
+  private long doIndex(BulkIndexer bulk, Iterator<SourceFileResultSetIterator.Row> dbRows, boolean deleteRemovedLines) {
     long maxUpdatedAt = 0L;
     bulk.start();
+    List<SourceFileResultSetIterator.Row> batch = new ArrayList<>();
+    int batchLines = 0;
     while (dbRows.hasNext()) {
       SourceFileResultSetIterator.Row row = dbRows.next();
-      addDeleteRequestsForLinesGreaterThan(bulk, row);
-      for (UpdateRequest updateRequest : row.getLineUpdateRequests()) {
-        bulk.add(updateRequest);
+      batch.add(row);
+      batchLines += row.getLineUpdateRequests().size();
+      if (batch.size() >= MAX_FILES_PER_BATCH || batchLines >= MAX_LINES_PER_BATCH) {
+        indexBatch(bulk, batch, deleteRemovedLines);
+        batch.clear();
+        batchLines = 0;
       }
       maxUpdatedAt = Math.max(maxUpdatedAt, row.getUpdatedAt());
     }
+    indexBatch(bulk, batch, deleteRemovedLines);
     bulk.stop();
     return maxUpdatedAt;
   }
 
+  private void indexBatch(BulkIndexer bulk, List<SourceFileResultSetIterator.Row> rows, boolean deleteRemovedLines) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    Map<String, Integer> previousNumberOfLines = deleteRemovedLines ? loadNumberOfLines(rows) : Collections.<String, Integer>emptyMap();
+    for (SourceFileResultSetIterator.Row row : rows) {
+      int numberOfLines = row.getLineUpdateRequests().size();
+      Integer previous = previousNumberOfLines.get(row.getFileUuid());
+      if (previous != null) {
+        addDeleteRequestsForLinesGreaterThan(bulk, row, numberOfLines, previous);
+      }
+      for (UpdateRequest updateRequest : row.getLineUpdateRequests()) {
+        bulk.add(updateRequest);
+      }
+      bulk.add(new IndexRequest(SourceLineIndexDefinition.INDEX, SourceLineIndexDefinition.TYPE_FILE, row.getFileUuid())
+        .routing(row.getProjectUuid())
+        .source(FIELD_PROJECT_UUID, row.getProjectUuid(), FIELD_FILE_UUID, row.getFileUuid(), FIELD_NUMBER_OF_LINES, numberOfLines));
+    }
+  }
+
+  /**
+   * Number of lines currently indexed for each file, loaded from the documents of type "sourcefile".
+   * Files that have never been indexed are missing from the result.
+   */
+  private Map<String, Integer> loadNumberOfLines(List<SourceFileResultSetIterator.Row> rows) {
+    MultiGetRequestBuilder request = esClient.prepareMultiGet();
+    for (SourceFileResultSetIterator.Row row : rows) {
+      request.add(new MultiGetRequest.Item(SourceLineIndexDefinition.INDEX, SourceLineIndexDefinition.TYPE_FILE, row.getFileUuid())
+        .routing(row.getProjectUuid()));
+    }
+    Map<String, Integer> result = new HashMap<>();
+    for (MultiGetItemResponse item : request.get().getResponses()) {
+      if (!item.isFailed() && item.getResponse().isExists()) {
+        // documents are small, so the whole source is loaded
+        Number numberOfLines = (Number) item.getResponse().getSourceAsMap().get(FIELD_NUMBER_OF_LINES);
+        result.put(item.getId(), numberOfLines.intValue());
+      }
+    }
+    return result;
+  }
+
   /**
    * Use-case:
    * - file had 10 lines in previous analysis
    * - same file has now 5 lines
-   * Lines 6 to 10 must be removed from index.
+   * Lines 6 to 10 must be removed from index. Ids of documents are computed, so
+   * no search request is needed.
    */
-  private void addDeleteRequestsForLinesGreaterThan(BulkIndexer bulk, SourceFileResultSetIterator.Row fileRow) {
-    int numberOfLines = fileRow.getLineUpdateRequests().size();
-    SearchRequestBuilder searchRequest = esClient.prepareSearch(SourceLineIndexDefinition.INDEX)
-      .setTypes(SourceLineIndexDefinition.TYPE)
-      .setRouting(fileRow.getProjectUuid())
-      .setQuery(QueryBuilders.filteredQuery(
-        QueryBuilders.matchAllQuery(),
-        FilterBuilders.boolFilter()
-          .must(FilterBuilders.termFilter(FIELD_FILE_UUID, fileRow.getFileUuid()).cache(false))
-          .must(FilterBuilders.rangeFilter(SourceLineIndexDefinition.FIELD_LINE).gt(numberOfLines).cache(false))
-          .cache(false)
-      ));
-    bulk.addDeletion(searchRequest);
+  private static void addDeleteRequestsForLinesGreaterThan(BulkIndexer bulk, SourceFileResultSetIterator.Row fileRow, int numberOfLines, int previousNumberOfLines) {
+    for (int line = numberOfLines + 1; line <= previousNumberOfLines; line++) {
+      bulk.add(new DeleteRequest(SourceLineIndexDefinition.INDEX, SourceLineIndexDefinition.TYPE, SourceLineIndexDefinition.docKey(fileRow.getFileUuid(), line))
+        .routing(fileRow.getProjectUuid()));
+    }
   }
 
   public void deleteByFile(String fileUuid) {
     // TODO would be great to have the projectUuid for routing
     SearchRequestBuilder searchRequest = esClient.prepareSearch(SourceLineIndexDefinition.INDEX)
-      .setTypes(SourceLineIndexDefinition.TYPE)
+      .setTypes(SourceLineIndexDefinition.TYPE, SourceLineIndexDefinition.TYPE_FILE)
       .setQuery(QueryBuilders.filteredQuery(
         QueryBuilders.matchAllQuery(),
         FilterBuilders.termFilter(FIELD_FILE_UUID, fileUuid).cache(false)));
@@ -120,7 +199,7 @@ public class SourceLineIndexer extends BaseIndexer {
   public void deleteByProject(String projectUuid) {
     SearchRequestBuilder searchRequest = esClient.prepareSearch(SourceLineIndexDefinition.INDEX)
       .setRouting(projectUuid)
-      .setTypes(SourceLineIndexDefinition.TYPE)
+      .setTypes(SourceLineIndexDefinition.TYPE, SourceLineIndexDefinition.TYPE_FILE)
       .setQuery(QueryBuilders.filteredQuery(
         QueryBuilders.matchAllQuery(),
         FilterBuilders.termFilter(FIELD_PROJECT_UUID, projectUuid).cache(false)));
@@ -31,8 +31,8 @@ import org.sonar.core.component.ComponentDto;
 import org.sonar.server.component.ComponentService;
 import org.sonar.server.exceptions.NotFoundException;
 import org.sonar.server.source.HtmlSourceDecorator;
-import org.sonar.server.source.index.SourceLineDoc;
-import org.sonar.server.source.index.SourceLineIndex;
+import org.sonar.server.source.SourceLinesLoader;
+import org.sonar.server.source.db.FileSourceDb;
 import org.sonar.server.user.UserSession;
 
 import java.util.Date;
@@ -40,12 +40,12 @@ import java.util.List;
 
 public class LinesAction implements SourcesAction {
 
-  private final SourceLineIndex sourceLineIndex;
+  private final SourceLinesLoader sourceLinesLoader;
   private final HtmlSourceDecorator htmlSourceDecorator;
   private final ComponentService componentService;
 
-  public LinesAction(SourceLineIndex sourceLineIndex, HtmlSourceDecorator htmlSourceDecorator, ComponentService componentService) {
-    this.sourceLineIndex = sourceLineIndex;
+  public LinesAction(SourceLinesLoader sourceLinesLoader, HtmlSourceDecorator htmlSourceDecorator, ComponentService componentService) {
+    this.sourceLinesLoader = sourceLinesLoader;
     this.htmlSourceDecorator = htmlSourceDecorator;
     this.componentService = componentService;
   }
@@ -100,7 +100,7 @@ public class LinesAction implements SourcesAction {
     int from = Math.max(request.mandatoryParamAsInt("from"), 1);
     int to = (Integer) ObjectUtils.defaultIfNull(request.paramAsInt("to"), Integer.MAX_VALUE);
 
-    List<SourceLineDoc> sourceLines = sourceLineIndex.getLines(fileUuid, from, to);
+    List<FileSourceDb.Line> sourceLines = sourceLinesLoader.getLines(fileUuid, from, to);
     if (sourceLines.isEmpty()) {
       throw new NotFoundException("File '" + fileUuid + "' has no sources");
     }
@@ -111,23 +111,22 @@ public class LinesAction implements SourcesAction {
     json.endObject().close();
   }
 
-  private void writeSource(List<SourceLineDoc> lines, JsonWriter json) {
+  private void writeSource(List<FileSourceDb.Line> lines, JsonWriter json) {
     json.name("sources").beginArray();
-    for (SourceLineDoc line: lines) {
+    for (FileSourceDb.Line line : lines) {
       json.beginObject()
-        .prop("line", line.line())
-        .prop("code", htmlSourceDecorator.getDecoratedSourceAsHtml(line.source(), line.highlighting(), line.symbols()))
-        .prop("scmAuthor", line.scmAuthor())
-        .prop("scmRevision", line.scmRevision());
-      Date scmDate = line.scmDate();
-      json.prop("scmDate", scmDate == null ? null : DateUtils.formatDateTime(scmDate));
-      json.prop("utLineHits", line.utLineHits())
-        .prop("utConditions", line.utConditions())
-        .prop("utCoveredConditions", line.utCoveredConditions())
-        .prop("itLineHits", line.itLineHits())
-        .prop("itConditions", line.itConditions())
-        .prop("itCoveredConditions", line.itCoveredConditions());
-      if (! line.duplications().isEmpty()) {
+        .prop("line", line.getLine())
+        .prop("code", htmlSourceDecorator.getDecoratedSourceAsHtml(line.hasSource() ? line.getSource() : null, line.getHighlighting(), line.getSymbols()))
+        .prop("scmAuthor", line.hasScmAuthor() ? line.getScmAuthor() : null)
+        .prop("scmRevision", line.hasScmRevision() ? line.getScmRevision() : null);
+      json.prop("scmDate", line.hasScmDate() ? DateUtils.formatDateTime(new Date(line.getScmDate())) : null);
+      json.prop("utLineHits", line.hasUtLineHits() ? line.getUtLineHits() : null)
+        .prop("utConditions", line.hasUtConditions() ? line.getUtConditions() : null)
+        .prop("utCoveredConditions", line.hasUtCoveredConditions() ? line.getUtCoveredConditions() : null)
+        .prop("itLineHits", line.hasItLineHits() ? line.getItLineHits() : null)
+        .prop("itConditions", line.hasItConditions() ? line.getItConditions() : null)
+        .prop("itCoveredConditions", line.hasItCoveredConditions() ? line.getItCoveredConditions() : null);
+      if (line.getDuplicationCount() > 0) {
         json.prop("duplicated", true);
       }
       json.endObject();
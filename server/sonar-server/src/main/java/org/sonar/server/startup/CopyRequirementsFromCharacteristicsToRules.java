@@ -26,6 +26,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import org.apache.commons.lang.builder.EqualsBuilder;
+import org.picocontainer.Startable;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.rule.RuleStatus;
 import org.sonar.api.server.debt.DebtRemediationFunction;
@@ -57,7 +58,7 @@ import java.util.List;
  *
  * @since 4.3 this component could be removed after 4 or 5 releases.
  */
-public class CopyRequirementsFromCharacteristicsToRules implements ServerComponent {
+public class CopyRequirementsFromCharacteristicsToRules implements ServerComponent, Startable {
 
   private static final Logger LOGGER = Loggers.get(CopyRequirementsFromCharacteristicsToRules.class);
 
@@ -72,10 +73,16 @@ public class CopyRequirementsFromCharacteristicsToRules implements ServerCompone
     this.dbClient = dbClient;
   }
 
+  @Override
   public void start() {
     doExecute();
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   private void doExecute() {
     if (dbClient.loadedTemplateDao().countByTypeAndKey(LoadedTemplateDto.ONE_SHOT_TASK_TYPE, TEMPLATE_KEY) == 0) {
       LOGGER.info("Copying requirement from characteristics to rules");
@@ -22,6 +22,7 @@ package org.sonar.server.startup;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.CharUtils;
+import org.picocontainer.Startable;
 import org.sonar.api.platform.PluginMetadata;
 import org.sonar.api.platform.PluginRepository;
 import org.sonar.core.plugins.DefaultPluginMetadata;
@@ -36,7 +37,7 @@ import java.io.Writer;
 /**
  * @since 2.11
  */
-public final class GeneratePluginIndex {
+public final class GeneratePluginIndex implements Startable {
 
   private DefaultServerFileSystem fileSystem;
   private PluginRepository repository;
@@ -46,8 +47,18 @@ public final class GeneratePluginIndex {
     this.repository = repository;
   }
 
-  public void start() throws IOException {
-    writeIndex(fileSystem.getPluginIndex());
+  @Override
+  public void start() {
+    try {
+      writeIndex(fileSystem.getPluginIndex());
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to generate plugin index", e);
+    }
+  }
+
+  @Override
+  public void stop() {
+    // nothing to do
   }
 
   void writeIndex(File indexFile) throws IOException {
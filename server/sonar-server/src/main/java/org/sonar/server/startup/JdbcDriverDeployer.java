@@ -20,6 +20,7 @@
 package org.sonar.server.startup;
 
 import org.apache.commons.io.FileUtils;
+import org.picocontainer.Startable;
 import org.sonar.api.config.Settings;
 import org.sonar.home.cache.FileHashes;
 import org.sonar.process.ProcessProperties;
@@ -30,7 +31,7 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 
-public class JdbcDriverDeployer {
+public class JdbcDriverDeployer implements Startable {
 
   private final DefaultServerFileSystem fileSystem;
   private final Settings settings;
@@ -40,6 +41,7 @@ public class JdbcDriverDeployer {
     this.settings = settings;
   }
 
+  @Override
   public void start() {
     // see initialization of this property in sonar-application
     String driverPath = settings.getString(ProcessProperties.JDBC_DRIVER_PATH);
@@ -66,6 +68,11 @@ public class JdbcDriverDeployer {
     }
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   private String driverIndexContent(@Nullable File deployedDriver) {
     if (deployedDriver != null) {
       String hash = new FileHashes().of(deployedDriver);
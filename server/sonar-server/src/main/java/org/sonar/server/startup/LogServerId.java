@@ -20,6 +20,7 @@
 package org.sonar.server.startup;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.picocontainer.Startable;
 import org.sonar.api.CoreProperties;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
@@ -29,7 +30,7 @@ import org.sonar.core.properties.PropertyDto;
 /**
  * @since 3.5
  */
-public final class LogServerId {
+public final class LogServerId implements Startable {
 
   private final PropertiesDao propertiesDao;
 
@@ -37,10 +38,16 @@ public final class LogServerId {
     this.propertiesDao = propertiesDao;
   }
 
+  @Override
   public void start() {
     logServerId(Loggers.get(LogServerId.class));
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   @VisibleForTesting
   protected void logServerId(Logger logger) {
     PropertyDto serverIdProp = propertiesDao.selectGlobalProperty(CoreProperties.PERMANENT_SERVER_ID);
@@ -21,12 +21,13 @@
 package org.sonar.server.startup;
 
 
+import org.picocontainer.Startable;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.api.utils.log.Profiler;
 import org.sonar.core.technicaldebt.db.CharacteristicDao;
 import org.sonar.server.debt.DebtModelBackup;
 
-public class RegisterDebtModel {
+public class RegisterDebtModel implements Startable {
 
   private final CharacteristicDao dao;
   private final DebtModelBackup debtModelBackup;
@@ -36,6 +37,7 @@ public class RegisterDebtModel {
     this.debtModelBackup = debtModelBackup;
   }
 
+  @Override
   public void start() {
     Profiler profiler = Profiler.create(Loggers.get(getClass())).startInfo("Register technical debt model");
     if (dao.selectEnabledCharacteristics().isEmpty()) {
@@ -44,4 +46,9 @@ public class RegisterDebtModel {
     profiler.stopDebug();
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
 }
@@ -23,6 +23,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
+import org.picocontainer.Startable;
 import org.sonar.api.measures.CoreMetrics;
 import org.sonar.api.measures.Metric;
 import org.sonar.api.measures.Metrics;
@@ -37,7 +38,7 @@ import java.util.Map;
 
 import static com.google.common.collect.Lists.newArrayList;
 
-public class RegisterMetrics {
+public class RegisterMetrics implements Startable {
 
   private static final Logger LOG = Loggers.get(RegisterMetrics.class);
 
@@ -58,6 +59,7 @@ public class RegisterMetrics {
     this(measuresDao, conditionDao, new Metrics[]{});
   }
 
+  @Override
   public void start() {
     Profiler profiler = Profiler.create(LOG).startInfo("Register metrics");
     measuresDao.disableAutomaticMetrics();
@@ -70,6 +72,11 @@ public class RegisterMetrics {
     profiler.stopDebug();
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   @VisibleForTesting
   List<Metric> getMetricsRepositories() {
     List<Metric> metricsToRegister = newArrayList();
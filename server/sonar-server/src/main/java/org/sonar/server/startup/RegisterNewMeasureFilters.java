@@ -23,6 +23,7 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang.StringUtils;
+import org.picocontainer.Startable;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.api.utils.log.Profiler;
@@ -41,7 +42,7 @@ import java.util.List;
 /**
  * @since 3.1
  */
-public final class RegisterNewMeasureFilters {
+public final class RegisterNewMeasureFilters implements Startable {
   private static final Logger LOG = Loggers.get(RegisterNewMeasureFilters.class);
 
   private final List<FilterTemplate> filterTemplates;
@@ -61,6 +62,7 @@ public final class RegisterNewMeasureFilters {
     this(new FilterTemplate[] {}, filterDao, loadedTemplateDao);
   }
 
+  @Override
   public void start() {
     Profiler profiler = Profiler.create(Loggers.get(getClass())).startInfo("Register measure filters");
 
@@ -74,6 +76,11 @@ public final class RegisterNewMeasureFilters {
     profiler.stopDebug();
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   private boolean shouldRegister(String filterName) {
     return loadedTemplateDao.countByTypeAndKey(LoadedTemplateDto.FILTER_TYPE, filterName) == 0;
   }
@@ -20,6 +20,7 @@
 
 package org.sonar.server.startup;
 
+import org.picocontainer.Startable;
 import org.sonar.api.security.DefaultGroups;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
@@ -33,7 +34,7 @@ import org.sonar.core.user.GroupDto;
 import org.sonar.core.user.UserDao;
 import org.sonar.server.platform.PersistentSettings;
 
-public class RegisterPermissionTemplates {
+public class RegisterPermissionTemplates implements Startable {
 
   public static final String DEFAULT_TEMPLATE_PROPERTY = "sonar.permission.template.default";
   public static final String DEFAULT_PROJECTS_TEMPLATE_PROPERTY = "sonar.permission.template.TRK.default";
@@ -53,6 +54,7 @@ public class RegisterPermissionTemplates {
     this.settings = settings;
   }
 
+  @Override
   public void start() {
     Profiler profiler = Profiler.create(Loggers.get(getClass())).startInfo("Register permission templates");
 
@@ -69,6 +71,11 @@ public class RegisterPermissionTemplates {
     profiler.stopDebug();
   }
 
+  @Override
+  public void stop() {
+    // nothing to do
+  }
+
   private boolean hasExistingPermissionsConfig() {
     return settings.getString(DEFAULT_PROJECTS_TEMPLATE_PROPERTY) != null;
   }
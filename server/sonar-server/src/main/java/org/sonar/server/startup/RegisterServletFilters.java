@@ -19,6 +19,7 @@
  */
 package org.sonar.server.startup;
 
+import org.picocontainer.Startable;
 import org.sonar.api.web.ServletFilter;
 import org.sonar.server.platform.MasterServletFilter;
 
@@ -29,7 +30,7 @@ import java.util.Arrays;
 /**
  * @since 3.5
  */
-public class RegisterServletFilters {
+public class RegisterServletFilters implements Startable {
   private final ServletFilter[] filters;
 
   public RegisterServletFilters(ServletFilter[] filters) {
@@ -40,13 +41,23 @@ public class RegisterServletFilters {
     this(new ServletFilter[0]);
   }
 
-  public void start() throws ServletException {
+  @Override
+  public void start() {
     if (MasterServletFilter.INSTANCE != null) {
       // Probably a database upgrade. MasterSlaveFilter was instantiated by the servlet container
       // while picocontainer was not completely up.
       // See https://jira.codehaus.org/browse/SONAR-3612
-      MasterServletFilter.INSTANCE.initFilters(Arrays.asList(filters));
+      try {
+        MasterServletFilter.INSTANCE.initFilters(Arrays.asList(filters));
+      } catch (ServletException e) {
+        throw new IllegalStateException("Fail to initialize servlet filters", e);
+      }
     }
   }
+
+  @Override
+  public void stop() {
+    // nothing to do
+  }
 }
 
@@ -20,6 +20,7 @@
 package org.sonar.server.startup;
 
 import com.google.common.base.Strings;
+import org.picocontainer.Startable;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.api.config.PropertyDefinition;
 import org.sonar.api.config.PropertyDefinitions;
@@ -28,7 +29,7 @@ import org.sonar.core.properties.PropertiesDao;
 /**
  * @since 3.4
  */
-public class RenameDeprecatedPropertyKeys {
+public class RenameDeprecatedPropertyKeys implements Startable {
 
   private PropertiesDao dao;
   private PropertyDefinitions definitions;
@@ -38,6 +39,7 @@ public class RenameDeprecatedPropertyKeys {
     this.definitions = definitions;
   }
 
+  @Override
   public void start() {
     Loggers.get(RenameDeprecatedPropertyKeys.class).info("Rename deprecated property keys");
     for (PropertyDefinition definition : definitions.getAll()) {
@@ -46,4 +48,9 @@ public class RenameDeprecatedPropertyKeys {
       }
     }
   }
+
+  @Override
+  public void stop() {
+    // nothing to do
+  }
 }
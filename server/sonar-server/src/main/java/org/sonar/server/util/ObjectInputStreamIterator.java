@@ -21,6 +21,7 @@ package org.sonar.server.util;
 
 import com.google.common.base.Throwables;
 import org.apache.commons.io.IOUtils;
+import org.sonar.core.util.CloseableIterator;
 
 import java.io.EOFException;
 import java.io.IOException;
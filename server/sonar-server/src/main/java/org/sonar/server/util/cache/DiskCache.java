@@ -22,7 +22,7 @@ package org.sonar.server.util.cache;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.sonar.api.utils.System2;
-import org.sonar.server.util.CloseableIterator;
+import org.sonar.core.util.CloseableIterator;
 import org.sonar.server.util.ObjectInputStreamIterator;
 
 import java.io.*;
@@ -0,0 +1,48 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.app;
+
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.junit.Test;
+import org.sonar.process.TelemetryCounters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class RequestCounterValveTest {
+
+  @Test
+  public void count_requests_and_invoke_next_valve() throws Exception {
+    RequestCounterValve valve = new RequestCounterValve();
+    Valve next = mock(Valve.class);
+    valve.setNext(next);
+    Request request = mock(Request.class);
+    Response response = mock(Response.class);
+    long before = TelemetryCounters.getRequests();
+
+    valve.invoke(request, response);
+
+    assertThat(TelemetryCounters.getRequests()).isEqualTo(before + 1);
+    verify(next).invoke(request, response);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.batch;
+
+import org.junit.Test;
+import org.sonar.api.utils.System2;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.core.qualityprofile.db.QualityProfileDto;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ActiveRulesCacheTest {
+
+  System2 system = mock(System2.class);
+  QualityProfileDto profile = new QualityProfileDto().setKee("java-way").setRulesUpdatedAt("2015-05-01T10:00:00+0200");
+  List<ActiveRule> activeRules = Arrays.asList(new ActiveRule("squid", "S001", null, "Rule", "MAJOR", null, "java"));
+
+  @Test
+  public void version_is_stable_until_profile_is_updated() {
+    when(system.now()).thenReturn(1000L);
+    ActiveRulesCache cache = new ActiveRulesCache(system);
+
+    String version = cache.version(profile);
+    assertThat(cache.version(profile)).isEqualTo(version);
+    assertThat(cache.version(new QualityProfileDto().setKee("java-other").setRulesUpdatedAt(profile.getRulesUpdatedAt()))).isNotEqualTo(version);
+
+    cache.invalidate("java-other");
+    assertThat(cache.version(profile)).isEqualTo(version);
+
+    cache.invalidate("java-way");
+    assertThat(cache.version(profile)).isNotEqualTo(version);
+
+    profile.setRulesUpdatedAt("2015-05-02T10:00:00+0200");
+    assertThat(new ActiveRulesCache(system).version(profile)).isNotEqualTo(version);
+  }
+
+  @Test
+  public void version_changes_when_all_profiles_are_invalidated() {
+    when(system.now()).thenReturn(1000L);
+    ActiveRulesCache cache = new ActiveRulesCache(system);
+    String version = cache.version(profile);
+
+    // even if clock did not change
+    cache.invalidateAll();
+    assertThat(cache.version(profile)).isNotEqualTo(version);
+  }
+
+  @Test
+  public void get_active_rules_of_same_version() {
+    ActiveRulesCache cache = new ActiveRulesCache(system);
+    String version = cache.version(profile);
+    assertThat(cache.get("java-way", version)).isNull();
+
+    cache.put("java-way", version, activeRules);
+    assertThat(cache.get("java-way", version)).isSameAs(activeRules);
+    assertThat(cache.get("java-way", "other")).isNull();
+    assertThat(cache.get("java-other", version)).isNull();
+  }
+
+  @Test
+  public void evict_active_rules_of_updated_profile() {
+    ActiveRulesCache cache = new ActiveRulesCache(system);
+    cache.put("java-way", cache.version(profile), activeRules);
+    cache.put("java-other", "abcd", activeRules);
+
+    cache.invalidate("java-way");
+    assertThat(cache.size()).isEqualTo(1);
+
+    cache.invalidateAll();
+    assertThat(cache.size()).isEqualTo(0);
+  }
+}
@@ -20,17 +20,27 @@
 
 package org.sonar.server.batch;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.batch.protocol.input.FileData;
 import org.sonar.batch.protocol.input.ProjectRepositories;
+import org.sonar.batch.protocol.input.ProjectRepositoriesReader;
 import org.sonar.server.ws.WsTester;
 
+import java.io.ByteArrayInputStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -51,8 +61,7 @@ public class ProjectRepositoryActionTest {
   public void project_referentials() throws Exception {
     String projectKey = "org.codehaus.sonar:sonar";
 
-    ProjectRepositories projectReferentials = mock(ProjectRepositories.class);
-    when(projectReferentials.toJson()).thenReturn("{\"settingsByModule\": {}}");
+    ProjectRepositories projectReferentials = new ProjectRepositories();
 
     ArgumentCaptor<ProjectRepositoryQuery> queryArgumentCaptor = ArgumentCaptor.forClass(ProjectRepositoryQuery.class);
     when(projectRepositoryLoader.load(queryArgumentCaptor.capture())).thenReturn(projectReferentials);
@@ -60,12 +69,42 @@ public class ProjectRepositoryActionTest {
     WsTester.TestRequest request = tester.newGetRequest("batch", "project")
       .setParam("key", projectKey)
       .setParam("profile", "Default")
-      .setParam("preview", "false");
+      .setParam("preview", "false")
+      .setParam("knownActiveRulesVersions", "abcd,efgh");
     request.execute().assertJson("{\"settingsByModule\": {}}");
 
     assertThat(queryArgumentCaptor.getValue().getModuleKey()).isEqualTo(projectKey);
     assertThat(queryArgumentCaptor.getValue().getProfileName()).isEqualTo("Default");
     assertThat(queryArgumentCaptor.getValue().isPreview()).isFalse();
+    assertThat(queryArgumentCaptor.getValue().getKnownActiveRulesVersions()).containsOnly("abcd", "efgh");
+  }
+
+  @Test
+  public void stream_project_referentials_as_protobuf() throws Exception {
+    final String projectKey = "org.codehaus.sonar:sonar";
+
+    final ProjectRepositories projectReferentials = new ProjectRepositories();
+    projectReferentials.addSettings(projectKey, ImmutableMap.of("sonar.jira.project.key", "SONAR"));
+    when(projectRepositoryLoader.load(any(ProjectRepositoryQuery.class), any(ProjectRepositoryLoader.FileDataHandler.class))).thenAnswer(new Answer<ProjectRepositories>() {
+      @Override
+      public ProjectRepositories answer(InvocationOnMock invocation) throws Throwable {
+        ProjectRepositoryLoader.FileDataHandler handler = (ProjectRepositoryLoader.FileDataHandler) invocation.getArguments()[1];
+        handler.start(projectReferentials);
+        handler.handle(projectKey, "src/Foo.java", new FileData("abcd", true));
+        return projectReferentials;
+      }
+    });
+
+    WsTester.Result result = tester.newGetRequest("batch", "project")
+      .setParam("key", projectKey)
+      .setParam("preview", "false")
+      .setParam("format", "protobuf")
+      .execute();
+
+    ProjectRepositories read = ProjectRepositoriesReader.read(new ByteArrayInputStream(result.output()));
+    assertThat(read.settings(projectKey)).containsEntry("sonar.jira.project.key", "SONAR");
+    assertThat(read.fileData(projectKey, "src/Foo.java").hash()).isEqualTo("abcd");
+    verify(projectRepositoryLoader, never()).load(any(ProjectRepositoryQuery.class));
   }
 
 }
@@ -74,6 +74,8 @@ public class ProjectRepositoryLoaderMediumTest {
   @Before
   public void before() {
     tester.clearDbAndIndexes();
+    // profiles are re-created with the same keys in each test
+    tester.get(ActiveRulesCache.class).invalidateAll();
     dbSession = tester.get(DbClient.class).openSession(false);
     loader = tester.get(ProjectRepositoryLoader.class);
   }
@@ -607,6 +609,42 @@ public class ProjectRepositoryLoaderMediumTest {
     assertThat(activeRules.get(0).params()).isEqualTo(ImmutableMap.of("max", "2"));
   }
 
+  @Test
+  public void do_not_return_active_rules_already_known_by_batch() throws Exception {
+    ComponentDto project = ComponentTesting.newProjectDto();
+    MockUserSession.set().setLogin("john").setGlobalPermissions(GlobalPermissions.SCAN_EXECUTION);
+    tester.get(DbClient.class).componentDao().insert(dbSession, project);
+
+    QualityProfileDto profileDto = QProfileTesting.newDto(QProfileName.createFor(ServerTester.Xoo.KEY, "SonarQube way"), "abcd").setRulesUpdatedAt(
+      DateUtils.formatDateTime(DateUtils.parseDateTime("2014-01-14T13:00:00+0100"))).setDefault(true);
+    tester.get(DbClient.class).qualityProfileDao().insert(dbSession, profileDto);
+
+    RuleKey ruleKey = RuleKey.of("squid", "AvoidCycle");
+    RuleDto rule = RuleTesting.newDto(ruleKey).setName("Avoid Cycle").setConfigKey("squid-1").setLanguage(ServerTester.Xoo.KEY);
+    tester.get(DbClient.class).ruleDao().insert(dbSession, rule);
+    tester.get(RuleActivator.class).activate(dbSession, new RuleActivation(ruleKey).setSeverity(Severity.MINOR), profileDto.getKey());
+    dbSession.commit();
+
+    ProjectRepositories ref = loader.load(ProjectRepositoryQuery.create().setModuleKey(project.key()));
+    String version = ref.qProfiles().iterator().next().activeRulesVersion();
+    assertThat(version).isNotEmpty();
+    assertThat(ref.activeRules()).hasSize(1);
+
+    // same version, rules are not returned
+    ref = loader.load(ProjectRepositoryQuery.create().setModuleKey(project.key()).setKnownActiveRulesVersions(newArrayList(version)));
+    assertThat(ref.qProfiles().iterator().next().activeRulesVersion()).isEqualTo(version);
+    assertThat(ref.activeRules()).isEmpty();
+
+    // profile is updated, so version changes
+    tester.get(RuleActivator.class).activate(dbSession, new RuleActivation(ruleKey).setSeverity(Severity.BLOCKER), profileDto.getKey());
+    dbSession.commit();
+
+    ref = loader.load(ProjectRepositoryQuery.create().setModuleKey(project.key()).setKnownActiveRulesVersions(newArrayList(version)));
+    assertThat(ref.qProfiles().iterator().next().activeRulesVersion()).isNotEqualTo(version);
+    assertThat(ref.activeRules()).hasSize(1);
+    assertThat(ref.activeRules().iterator().next().severity()).isEqualTo("BLOCKER");
+  }
+
   @Test
   public void return_only_active_rules_from_project_profile() throws Exception {
     ComponentDto project = ComponentTesting.newProjectDto();
@@ -827,6 +865,37 @@ public class ProjectRepositoryLoaderMediumTest {
     assertThat(ref.fileData(project.key(), projectFile.path())).isNull();
   }
 
+  @Test
+  public void give_profiles_to_handler_before_streaming_file_data() throws Exception {
+    ComponentDto project = ComponentTesting.newProjectDto();
+    MockUserSession.set().setLogin("john").setGlobalPermissions(GlobalPermissions.SCAN_EXECUTION);
+    tester.get(DbClient.class).componentDao().insert(dbSession, project);
+    addDefaultProfile();
+
+    ComponentDto file = ComponentTesting.newFileDto(project, "file");
+    tester.get(DbClient.class).componentDao().insert(dbSession, file);
+    tester.get(FileSourceDao.class).insert(newFileSourceDto(file).setSrcHash("123456"));
+
+    dbSession.commit();
+
+    final List<String> events = newArrayList();
+    ProjectRepositories ref = loader.load(ProjectRepositoryQuery.create().setModuleKey(project.key()), new ProjectRepositoryLoader.FileDataHandler() {
+      @Override
+      public void start(ProjectRepositories repositoriesWithoutFileData) {
+        events.add("start:" + repositoriesWithoutFileData.qProfiles().size());
+      }
+
+      @Override
+      public void handle(String moduleKey, String path, FileData fileData) {
+        events.add("file:" + fileData.hash());
+      }
+    });
+
+    assertThat(events).containsExactly("start:1", "file:123456");
+    // file data are not kept in memory
+    assertThat(ref.fileDataByPath(project.key())).isEmpty();
+  }
+
   private void addDefaultProfile() {
     QualityProfileDto profileDto = QProfileTesting.newDto(QProfileName.createFor(ServerTester.Xoo.KEY, "SonarQube way"), "abcd").setRulesUpdatedAt(
       DateUtils.formatDateTime(new Date())).setDefault(true);
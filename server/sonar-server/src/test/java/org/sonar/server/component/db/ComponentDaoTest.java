@@ -21,6 +21,7 @@
 package org.sonar.server.component.db;
 
 import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.result.DefaultResultHandler;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -387,30 +388,30 @@ public class ComponentDaoTest extends AbstractDaoTestCase {
     setupData("select_module_files_tree");
 
     // From root project
-    List<FilePathWithHashDto> files = dao.selectEnabledDescendantFiles(session, "ABCD");
+    List<FilePathWithHashDto> files = selectEnabledDescendantFiles("ABCD");
     assertThat(files).extracting("uuid").containsOnly("EFGHI", "HIJK");
     assertThat(files).extracting("moduleUuid").containsOnly("EFGH", "FGHI");
     assertThat(files).extracting("srcHash").containsOnly("srcEFGHI", "srcHIJK");
     assertThat(files).extracting("path").containsOnly("src/org/struts/pom.xml", "src/org/struts/RequestContext.java");
 
     // From module
-    files = dao.selectEnabledDescendantFiles(session, "EFGH");
+    files = selectEnabledDescendantFiles("EFGH");
     assertThat(files).extracting("uuid").containsOnly("EFGHI", "HIJK");
     assertThat(files).extracting("moduleUuid").containsOnly("EFGH", "FGHI");
     assertThat(files).extracting("srcHash").containsOnly("srcEFGHI", "srcHIJK");
     assertThat(files).extracting("path").containsOnly("src/org/struts/pom.xml", "src/org/struts/RequestContext.java");
 
     // From sub module
-    files = dao.selectEnabledDescendantFiles(session, "FGHI");
+    files = selectEnabledDescendantFiles("FGHI");
     assertThat(files).extracting("uuid").containsOnly("HIJK");
     assertThat(files).extracting("moduleUuid").containsOnly("FGHI");
     assertThat(files).extracting("srcHash").containsOnly("srcHIJK");
     assertThat(files).extracting("path").containsOnly("src/org/struts/RequestContext.java");
 
     // From directory
-    assertThat(dao.selectEnabledDescendantFiles(session, "GHIJ")).isEmpty();
+    assertThat(selectEnabledDescendantFiles("GHIJ")).isEmpty();
 
-    assertThat(dao.selectEnabledDescendantFiles(session, "unknown")).isEmpty();
+    assertThat(selectEnabledDescendantFiles("unknown")).isEmpty();
   }
 
   @Test
@@ -524,4 +525,10 @@ public class ComponentDaoTest extends AbstractDaoTestCase {
     assertThat(dao.selectProjectsFromView(session, "IJKL", "IJKL")).isEmpty();
     assertThat(dao.selectProjectsFromView(session, "Unknown", "Unknown")).isEmpty();
   }
+
+  private List<FilePathWithHashDto> selectEnabledDescendantFiles(String rootComponentUuid) {
+    DefaultResultHandler handler = new DefaultResultHandler();
+    dao.selectEnabledDescendantFiles(session, rootComponentUuid, handler);
+    return (List) handler.getResultList();
+  }
 }
@@ -33,6 +33,7 @@ import org.sonar.core.computation.db.AnalysisReportDto;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.DbTester;
 import org.sonar.process.ProcessProperties;
+import org.sonar.process.TelemetryCounters;
 import org.sonar.server.component.ComponentTesting;
 import org.sonar.server.component.db.ComponentDao;
 import org.sonar.server.computation.db.AnalysisReportDao;
@@ -205,6 +206,23 @@ public class ReportQueueTest {
 
   }
 
+  @Test
+  public void publish_size_of_queue_in_telemetry() throws Exception {
+    sut.clear();
+    assertThat(TelemetryCounters.getComputeQueueSize()).isEqualTo(0L);
+
+    ReportQueue.Item item = sut.add("P1", generateData());
+    sut.add("P2", generateData());
+    assertThat(TelemetryCounters.getComputeQueueSize()).isEqualTo(2L);
+
+    sut.remove(item);
+    assertThat(TelemetryCounters.getComputeQueueSize()).isEqualTo(1L);
+
+    TelemetryCounters.setComputeQueueSize(10L);
+    sut.resetToPendingStatus();
+    assertThat(TelemetryCounters.getComputeQueueSize()).isEqualTo(1L);
+  }
+
   private InputStream generateData() {
     return IOUtils.toInputStream("some data");
   }
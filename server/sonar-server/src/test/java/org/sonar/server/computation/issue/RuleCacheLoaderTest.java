@@ -24,13 +24,15 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.core.persistence.DbTester;
+import org.sonar.core.rule.RuleDto;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.rule.db.RuleDao;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.Assert.fail;
 
 public class RuleCacheLoaderTest {
 
@@ -53,15 +55,16 @@ public class RuleCacheLoaderTest {
   }
 
   @Test
-  public void load_by_keys_is_not_supported() throws Exception {
+  public void load_by_keys() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
     DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new RuleDao());
     RuleCacheLoader loader = new RuleCacheLoader(dbClient);
-    try {
-      loader.loadAll(Collections.<RuleKey>emptyList());
-      fail();
-    } catch (UnsupportedOperationException e) {
-      // see RuleDao#getByKeys()
-    }
+
+    Map<RuleKey, RuleDto> rules = loader.loadAll(Arrays.asList(RuleKey.of("squid", "R001"), RuleKey.of("squid", "R002"), RuleKey.of("squid", "MISSING")));
+    assertThat(rules).hasSize(2);
+    assertThat(rules.get(RuleKey.of("squid", "R001")).getName()).isEqualTo("Rule One");
+    assertThat(rules.get(RuleKey.of("squid", "R002")).getName()).isEqualTo("Rule Two");
+    assertThat(loader.loadAll(Collections.<RuleKey>emptyList())).isEmpty();
   }
 
 }
@@ -22,9 +22,19 @@ package org.sonar.server.computation.issue;
 import org.junit.Test;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.core.rule.RuleDto;
+import org.sonar.server.exceptions.NotFoundException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RuleCacheTest {
@@ -37,4 +47,28 @@ public class RuleCacheTest {
     assertThat(cache.ruleName(RuleKey.of("squid", "R001"))).isNull();
     assertThat(cache.ruleName(RuleKey.of("squid", "R002"))).isEqualTo("Rule Two");
   }
+
+  @Test
+  public void get_preloaded_rules_by_ref() throws Exception {
+    RuleCacheLoader loader = mock(RuleCacheLoader.class);
+    Map<RuleKey, RuleDto> rules = new HashMap<>();
+    rules.put(RuleKey.of("squid", "R002"), new RuleDto().setId(2));
+    rules.put(RuleKey.of("squid", "R001"), new RuleDto().setId(1));
+    when(loader.loadAll(anyCollectionOf(RuleKey.class))).thenReturn(rules);
+    RuleCache cache = new RuleCache(loader);
+
+    cache.preload(Arrays.asList("squid:R002", "squid:R001", "squid:MISSING"));
+
+    assertThat(cache.getByRef(0).getId()).isEqualTo(2);
+    assertThat(cache.getByRef(1).getId()).isEqualTo(1);
+    // rules are loaded in a single request
+    verify(loader).loadAll(anyCollectionOf(RuleKey.class));
+    verify(loader, never()).load(any(RuleKey.class));
+    try {
+      cache.getByRef(2);
+      fail();
+    } catch (NotFoundException e) {
+      assertThat(e).hasMessage("Not found: rule ref 2");
+    }
+  }
 }
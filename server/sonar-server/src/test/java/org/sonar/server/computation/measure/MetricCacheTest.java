@@ -28,6 +28,8 @@ import org.sonar.server.db.DbClient;
 import org.sonar.server.exceptions.NotFoundException;
 import org.sonar.server.measure.persistence.MetricDao;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class MetricCacheTest {
@@ -53,4 +55,26 @@ public class MetricCacheTest {
   public void fail_when_metric_not_found() throws Exception {
     sut.get("complexity");
   }
+
+  @Test
+  public void get_preloaded_metrics_by_ref() throws Exception {
+    sut.preload(Arrays.asList("coverage", "ncloc"));
+
+    assertThat(sut.getByRef(0).getId()).isEqualTo(2);
+    assertThat(sut.getByRef(1).getId()).isEqualTo(1);
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void fail_when_ref_of_disabled_metric() throws Exception {
+    sut.preload(Arrays.asList("ncloc", "complexity"));
+
+    sut.getByRef(1);
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void fail_when_ref_is_not_in_dictionary() throws Exception {
+    sut.preload(Arrays.asList("ncloc"));
+
+    sut.getByRef(1);
+  }
 }
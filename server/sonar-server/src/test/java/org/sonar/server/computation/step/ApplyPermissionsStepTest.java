@@ -20,11 +20,13 @@
 package org.sonar.server.computation.step;
 
 import org.junit.Test;
+import org.sonar.core.component.ComponentDto;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ApplyPermissionsStepTest extends BaseStepTest {
 
@@ -33,8 +35,12 @@ public class ApplyPermissionsStepTest extends BaseStepTest {
 
   @Test
   public void index_issue_permissions() throws Exception {
-    step.execute(mock(ComputationContext.class));
-    verify(indexer).index();
+    ComputationContext context = mock(ComputationContext.class);
+    when(context.getProject()).thenReturn(new ComponentDto().setUuid("ABCD").setAuthorizationUpdatedAt(1500L));
+
+    step.execute(context);
+
+    verify(indexer).indexProject("ABCD", 1500L);
   }
 
   @Override
@@ -40,6 +40,7 @@ public class ComputationStepsTest {
       mock(PersistIssuesStep.class),
       mock(IndexIssuesStep.class),
       mock(SwitchSnapshotStep.class),
+      mock(PersistLastMeasuresStep.class),
       mock(PurgeDatastoresStep.class),
       mock(SendIssueNotificationsStep.class),
       mock(IndexComponentsStep.class),
@@ -50,9 +51,9 @@ public class ComputationStepsTest {
       mock(PersistNumberOfDaysSinceLastCommitStep.class)
       );
 
-    assertThat(registry.orderedSteps()).hasSize(16);
+    assertThat(registry.orderedSteps()).hasSize(17);
     assertThat(registry.orderedSteps().get(0)).isInstanceOf(ParseReportStep.class);
-    assertThat(registry.orderedSteps().get(15)).isInstanceOf(SendIssueNotificationsStep.class);
+    assertThat(registry.orderedSteps().get(16)).isInstanceOf(SendIssueNotificationsStep.class);
   }
 
   @Test
@@ -21,12 +21,14 @@
 package org.sonar.server.computation.step;
 
 import org.junit.Test;
+import org.sonar.core.component.ComponentDto;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 import org.sonar.server.issue.index.IssueIndexer;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class IndexIssuesStepTest {
 
@@ -38,9 +40,12 @@ public class IndexIssuesStepTest {
     IssueIndexer issueIndexer = mock(IssueIndexer.class);
     sut = new IndexIssuesStep(authorizationIndexer, issueIndexer);
 
-    sut.execute(mock(ComputationContext.class));
+    ComputationContext context = mock(ComputationContext.class);
+    when(context.getProject()).thenReturn(new ComponentDto().setUuid("ABCD").setAuthorizationUpdatedAt(1500L));
 
-    verify(authorizationIndexer).index();
+    sut.execute(context);
+
+    verify(authorizationIndexer).indexProject("ABCD", 1500L);
     verify(issueIndexer).index();
   }
 }
@@ -29,6 +29,7 @@ import org.sonar.api.utils.System2;
 import org.sonar.batch.protocol.output.BatchReportReader;
 import org.sonar.core.persistence.DbTester;
 import org.sonar.core.source.db.FileSourceDao;
+import org.sonar.core.template.LoadedTemplateDao;
 import org.sonar.server.component.ComponentTesting;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.db.DbClient;
@@ -61,7 +62,7 @@ public class IndexSourceLinesStepTest extends BaseStepTest {
 
   @Before
   public void setUp() throws Exception {
-    dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new FileSourceDao(null));
+    dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new FileSourceDao(null), new LoadedTemplateDao(dbTester.myBatis()));
     system2 = mock(System2.class);
   }
 
@@ -36,6 +36,7 @@ import org.sonar.batch.protocol.output.BatchReportReader;
 import org.sonar.batch.protocol.output.BatchReportWriter;
 import org.sonar.core.component.ComponentDto;
 import org.sonar.core.measure.db.MeasureDto;
+import org.sonar.core.measure.db.MetricDto;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.computation.issue.RuleCache;
@@ -150,6 +151,42 @@ public class PersistMeasuresStepTest extends BaseStepTest {
     assertThat(argument.getValue().getSeverity()).isEqualTo(Severity.BLOCKER);
   }
 
+  @Test
+  public void insert_measures_referencing_dictionaries_of_report() throws Exception {
+    File dir = temp.newFolder();
+    BatchReportWriter report = new BatchReportWriter(dir);
+    when(dbClient.measureDao()).thenReturn(measureDao);
+    when(metricCache.getByRef(0).getId()).thenReturn(321);
+    when(ruleCache.getByRef(0).getId()).thenReturn(789);
+
+    report.writeMetadata(BatchReport.Metadata.newBuilder()
+      .setRootComponentRef(1)
+      .setProjectKey("project-key")
+      .setSnapshotId(3)
+      .build());
+    report.writeDictionaries(BatchReport.Dictionaries.newBuilder()
+      .addMetricKey("metric-key")
+      .addRuleKey("repo:rule-key")
+      .build());
+    report.writeComponent(defaultComponent().build());
+    report.writeComponentMeasures(1, Arrays.asList(
+      BatchReport.Measure.newBuilder()
+        .setValueType(Constants.MeasureValueType.INT)
+        .setIntValue(3)
+        .setMetricRef(0)
+        .setRuleRef(0)
+        .build()));
+
+    sut.execute(new ComputationContext(new BatchReportReader(dir), mock(ComponentDto.class)));
+
+    verify(metricCache).preload(Arrays.asList("metric-key"));
+    verify(ruleCache).preload(Arrays.asList("repo:rule-key"));
+    ArgumentCaptor<MeasureDto> argument = ArgumentCaptor.forClass(MeasureDto.class);
+    verify(measureDao).insert(any(DbSession.class), argument.capture());
+    assertThat(argument.getValue().getMetricId()).isEqualTo(321);
+    assertThat(argument.getValue().getRuleId()).isEqualTo(789);
+  }
+
   private BatchReport.Component.Builder defaultComponent() {
     return BatchReport.Component.newBuilder()
       .setRef(1)
@@ -324,6 +361,17 @@ public class PersistMeasuresStepTest extends BaseStepTest {
     sut.toMeasureDto(measure, component);
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void fail_when_forbid_metric_ref() throws Exception {
+    when(metricCache.getByRef(1)).thenReturn(new MetricDto().setKey("duplications_data"));
+    BatchReport.Measure measure = BatchReport.Measure.newBuilder()
+      .setValueType(MeasureValueType.STRING)
+      .setStringValue("data")
+      .setMetricRef(1)
+      .build();
+    sut.toMeasureDto(measure, component);
+  }
+
   private MeasureDto expectedFullMeasure() {
     return new MeasureDto()
       .setComponentId(2L)
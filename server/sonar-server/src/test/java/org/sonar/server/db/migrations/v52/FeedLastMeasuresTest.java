@@ -0,0 +1,81 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.db.migrations.v52;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.sonar.core.persistence.DbTester;
+import org.sonar.server.db.migrations.DatabaseMigration;
+import org.sonar.server.measure.persistence.LastMeasuresVector;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedLastMeasuresTest {
+
+  @ClassRule
+  public static DbTester db = new DbTester().schema(FeedLastMeasuresTest.class, "schema.sql");
+
+  DatabaseMigration migration;
+
+  @Before
+  public void setUp() throws Exception {
+    db.executeUpdateSql("truncate table metrics");
+    db.executeUpdateSql("truncate table snapshots");
+    db.executeUpdateSql("truncate table project_measures");
+    db.executeUpdateSql("truncate table last_measures");
+
+    migration = new FeedLastMeasures(db.database());
+  }
+
+  @Test
+  public void migrate_empty_db() throws Exception {
+    migration.execute();
+
+    assertThat(db.countRowsOfTable("last_measures")).isEqualTo(0);
+  }
+
+  @Test
+  public void migrate() throws Exception {
+    db.prepareDbUnit(this.getClass(), "migrate.xml");
+
+    migration.execute();
+
+    assertThat(db.countRowsOfTable("last_measures")).isEqualTo(2);
+    assertThat(db.selectFirst("select project_id as \"projectId\" from last_measures where snapshot_id=102").get("projectId")).isEqualTo(2L);
+
+    try (Connection connection = db.openConnection();
+      PreparedStatement stmt = connection.prepareStatement("select project_id, root_project_id, measures_data from last_measures where snapshot_id=101");
+      ResultSet rs = stmt.executeQuery()) {
+      assertThat(rs.next()).isTrue();
+      assertThat(rs.getLong(1)).isEqualTo(1L);
+      assertThat(rs.getLong(2)).isEqualTo(1L);
+      LastMeasuresVector measures = LastMeasuresVector.decode(rs.getBytes(3));
+      assertThat(measures.size()).isEqualTo(2);
+      assertThat(measures.getValue(1, null)).isEqualTo(510.0);
+      assertThat(measures.getValue(1, 5)).isEqualTo(400.0);
+      assertThat(measures.getTextValue(2)).isEqualTo("Sonar way");
+    }
+  }
+}
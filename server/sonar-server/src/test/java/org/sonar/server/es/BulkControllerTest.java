@@ -0,0 +1,118 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkControllerTest {
+
+  static final long MB = 1024L * 1024L;
+
+  @Test
+  public void start_with_max_concurrency_and_initial_size() throws Exception {
+    BulkController controller = new BulkController(4, MB, 5 * MB);
+
+    assertThat(controller.concurrency()).isEqualTo(4);
+    assertThat(controller.flushByteSize()).isEqualTo(MB);
+  }
+
+  @Test
+  public void halve_size_and_concurrency_on_rejection() throws Exception {
+    BulkController controller = new BulkController(4, MB, 5 * MB);
+
+    controller.onRejection();
+    assertThat(controller.concurrency()).isEqualTo(2);
+    assertThat(controller.flushByteSize()).isEqualTo(MB / 2);
+
+    for (int i = 0; i < 10; i++) {
+      controller.onRejection();
+    }
+    assertThat(controller.concurrency()).isEqualTo(1);
+    assertThat(controller.flushByteSize()).isEqualTo(BulkController.MIN_FLUSH_BYTE_SIZE);
+  }
+
+  @Test
+  public void increase_size_and_concurrency_while_latency_is_low() throws Exception {
+    BulkController controller = new BulkController(4, MB, 2 * MB);
+    controller.onRejection();
+
+    controller.onSuccess(BulkController.LOW_LATENCY_MS - 1);
+    assertThat(controller.concurrency()).isEqualTo(3);
+    assertThat(controller.flushByteSize()).isGreaterThan(MB / 2);
+
+    for (int i = 0; i < 100; i++) {
+      controller.onSuccess(BulkController.LOW_LATENCY_MS - 1);
+    }
+    assertThat(controller.concurrency()).isEqualTo(4);
+    assertThat(controller.flushByteSize()).isEqualTo(2 * MB);
+  }
+
+  @Test
+  public void decrease_size_when_latency_is_high() throws Exception {
+    BulkController controller = new BulkController(4, MB, 2 * MB);
+
+    controller.onSuccess(BulkController.HIGH_LATENCY_MS + 1);
+    assertThat(controller.concurrency()).isEqualTo(4);
+    assertThat(controller.flushByteSize()).isEqualTo(MB / 2);
+
+    // medium latency -> no changes
+    controller.onSuccess((BulkController.LOW_LATENCY_MS + BulkController.HIGH_LATENCY_MS) / 2);
+    assertThat(controller.flushByteSize()).isEqualTo(MB / 2);
+  }
+
+  @Test
+  public void fixed_size() throws Exception {
+    BulkController controller = new BulkController(4, 500L, 500L);
+
+    // only concurrency is adapted
+    controller.onRejection();
+    assertThat(controller.concurrency()).isEqualTo(2);
+    assertThat(controller.flushByteSize()).isEqualTo(500L);
+    controller.onSuccess(0L);
+    assertThat(controller.flushByteSize()).isEqualTo(500L);
+  }
+
+  @Test
+  public void limit_in_flight_requests() throws Exception {
+    final BulkController controller = new BulkController(1, MB, MB);
+    controller.acquire();
+    assertThat(controller.inFlight()).isEqualTo(1);
+
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        // blocks until first request is released
+        controller.acquire();
+      }
+    };
+    thread.start();
+    thread.join(100L);
+    assertThat(thread.isAlive()).isTrue();
+
+    controller.release();
+    thread.join();
+    assertThat(controller.inFlight()).isEqualTo(1);
+
+    controller.release();
+    assertThat(controller.inFlight()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import org.junit.Test;
+import org.sonar.api.utils.System2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkIndexerStatsTest {
+
+  System2 system2 = mock(System2.class);
+  BulkIndexerStats stats = new BulkIndexerStats(system2);
+
+  @Test
+  public void count_documents() throws Exception {
+    stats.onBulkSent(10);
+    assertThat(stats.getBulkRequests()).isEqualTo(1);
+    assertThat(stats.getInFlightRequests()).isEqualTo(1);
+    assertThat(stats.getBacklog()).isEqualTo(10);
+
+    stats.onBulkDone(10, 6, 1, 3);
+    stats.onRetryScheduled(3);
+    assertThat(stats.getInFlightRequests()).isEqualTo(0);
+    assertThat(stats.getIndexedDocs()).isEqualTo(6);
+    assertThat(stats.getFailedDocs()).isEqualTo(1);
+    assertThat(stats.getRejectedDocs()).isEqualTo(3);
+    assertThat(stats.getRetriedDocs()).isEqualTo(3);
+    assertThat(stats.getBacklog()).isEqualTo(3);
+
+    stats.onRetrySent(3);
+    assertThat(stats.getBacklog()).isEqualTo(0);
+  }
+
+  @Test
+  public void throughput_is_average_of_last_complete_seconds() throws Exception {
+    when(system2.now()).thenReturn(100_000L);
+    stats.onBulkDone(50, 50, 0, 0);
+    when(system2.now()).thenReturn(100_500L);
+    stats.onBulkDone(30, 30, 0, 0);
+
+    // current second is not complete yet
+    assertThat(stats.getThroughput()).isEqualTo(0L);
+
+    when(system2.now()).thenReturn(101_000L);
+    assertThat(stats.getThroughput()).isEqualTo(80L / BulkIndexerStats.THROUGHPUT_WINDOW_SECONDS);
+
+    // older than the window
+    when(system2.now()).thenReturn(111_000L);
+    assertThat(stats.getThroughput()).isEqualTo(0L);
+  }
+
+  @Test
+  public void reading_throughput_does_not_change_it() throws Exception {
+    when(system2.now()).thenReturn(100_000L);
+    stats.onBulkDone(100, 100, 0, 0);
+    when(system2.now()).thenReturn(102_000L);
+
+    assertThat(stats.getThroughput()).isEqualTo(10L);
+    assertThat(stats.getThroughput()).isEqualTo(10L);
+  }
+}
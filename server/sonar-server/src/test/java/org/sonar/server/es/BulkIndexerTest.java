@@ -51,6 +51,8 @@ public class BulkIndexerTest {
 
   @Test
   public void index_documents() throws Exception {
+    BulkIndexerStats stats = esTester.client().bulkIndexerStats(FakeIndexDefinition.INDEX);
+    long indexedDocs = stats.getIndexedDocs();
     BulkIndexer indexer = new BulkIndexer(esTester.client(), FakeIndexDefinition.INDEX);
     indexer.start();
     indexer.add(newIndexRequest(42));
@@ -62,6 +64,8 @@ public class BulkIndexerTest {
     // send remaining requests
     indexer.stop();
     assertThat(count()).isEqualTo(2);
+    assertThat(stats.getIndexedDocs()).isGreaterThanOrEqualTo(indexedDocs + 2);
+    assertThat(stats.getInFlightRequests()).isEqualTo(0);
   }
 
   @Test
@@ -74,4 +74,14 @@ public class EsClientTest {
 
     client.stop();
   }
+
+  @Test
+  public void share_bulk_controller_and_stats_by_index() throws Exception {
+    EsClient client = es.client();
+
+    assertThat(client.bulkController("fakes")).isSameAs(client.bulkController("fakes"));
+    assertThat(client.bulkController("fakes")).isNotSameAs(client.bulkController("others"));
+    assertThat(client.bulkIndexerStats("fakes")).isSameAs(client.bulkIndexerStats("fakes"));
+    assertThat(client.bulkIndexerStats().get("fakes")).isSameAs(client.bulkIndexerStats("fakes"));
+  }
 }
@@ -41,6 +41,17 @@ public class IndexDefinitionHashTest {
     assertThat(hashV2).isNotEmpty().isNotEqualTo(hashV1);
   }
 
+  @Test
+  public void hash_changes_with_shard_layout() throws Exception {
+    String hashV1 = new IndexDefinitionHash().of(new IndexDefinitions.Index(createIndex()));
+
+    String hashV2 = new IndexDefinitionHash().of(new IndexDefinitions.Index(createIndex().setShards(8)));
+    assertThat(hashV2).isNotEqualTo(hashV1);
+
+    String hashV3 = new IndexDefinitionHash().of(new IndexDefinitions.Index(createIndex().setRefreshInterval("-1")));
+    assertThat(hashV3).isNotEqualTo(hashV1).isNotEqualTo(hashV2);
+  }
+
   private NewIndex createIndex() {
     NewIndex newIndex = new NewIndex("fakes");
     NewIndex.NewIndexType mapping = newIndex.createType("fake");
@@ -0,0 +1,74 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class IndexPartitionTest {
+
+  @Test
+  public void bounded_partition() throws Exception {
+    IndexPartition partition = new IndexPartition("P1", "P5");
+    assertThat(partition.sqlCondition("i.project_uuid")).isEqualTo("i.project_uuid is not null and i.project_uuid>=? and i.project_uuid<?");
+
+    PreparedStatement stmt = mock(PreparedStatement.class);
+    partition.setParameters(stmt);
+    verify(stmt).setString(1, "P1");
+    verify(stmt).setString(2, "P5");
+  }
+
+  @Test
+  public void unbounded_partition() throws Exception {
+    IndexPartition partition = new IndexPartition(null, null);
+    assertThat(partition.sqlCondition("project_uuid")).isEqualTo("project_uuid is not null");
+
+    PreparedStatement stmt = mock(PreparedStatement.class);
+    partition.setParameters(stmt);
+    verifyZeroInteractions(stmt);
+  }
+
+  @Test
+  public void partition_without_lower_bound() throws Exception {
+    IndexPartition partition = new IndexPartition(null, "P5");
+    assertThat(partition.sqlCondition("project_uuid")).isEqualTo("project_uuid is not null and project_uuid<?");
+
+    PreparedStatement stmt = mock(PreparedStatement.class);
+    partition.setParameters(stmt);
+    verify(stmt).setString(1, "P5");
+  }
+
+  @Test
+  public void parse_string_representation() throws Exception {
+    assertThat(IndexPartition.parse(new IndexPartition("P1", "P5").toString()).toString()).isEqualTo("P1:P5");
+    IndexPartition parsed = IndexPartition.parse(new IndexPartition(null, "P5").toString());
+    assertThat(parsed.getFromProjectUuid()).isNull();
+    assertThat(parsed.getToProjectUuid()).isEqualTo("P5");
+    parsed = IndexPartition.parse(new IndexPartition("P1", null).toString());
+    assertThat(parsed.getFromProjectUuid()).isEqualTo("P1");
+    assertThat(parsed.getToProjectUuid()).isNull();
+  }
+}
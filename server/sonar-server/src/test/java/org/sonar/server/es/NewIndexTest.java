@@ -22,6 +22,7 @@ package org.sonar.server.es;
 import com.google.common.collect.ImmutableMap;
 import org.elasticsearch.common.settings.Settings;
 import org.junit.Test;
+import org.sonar.process.ProcessProperties;
 
 import java.util.Map;
 
@@ -144,4 +145,64 @@ public class NewIndexTest {
       assertThat(e).hasMessage("Can't mix searchable and non-searchable arguments on field: my_field");
     }
   }
+
+  @Test
+  public void default_shards_and_refresh_interval() throws Exception {
+    NewIndex index = new NewIndex("issues").configure(new org.sonar.api.config.Settings());
+
+    Settings settings = index.getSettings().build();
+    assertThat(settings.get("index.number_of_shards")).isEqualTo("1");
+    assertThat(settings.get("index.number_of_replicas")).isEqualTo("0");
+    assertThat(settings.get("index.refresh_interval")).isEqualTo("30s");
+  }
+
+  @Test
+  public void default_shards_in_cluster_mode() throws Exception {
+    org.sonar.api.config.Settings props = new org.sonar.api.config.Settings();
+    props.setProperty(ProcessProperties.CLUSTER_ACTIVATE, true);
+    NewIndex index = new NewIndex("issues").configure(props);
+
+    Settings settings = index.getSettings().build();
+    assertThat(settings.get("index.number_of_shards")).isEqualTo("4");
+    assertThat(settings.get("index.number_of_replicas")).isEqualTo("1");
+  }
+
+  @Test
+  public void configure_shards_and_refresh_interval_of_index() throws Exception {
+    org.sonar.api.config.Settings props = new org.sonar.api.config.Settings();
+    props.setProperty(ProcessProperties.CLUSTER_ACTIVATE, true);
+    props.setProperty("sonar.search.issues.shards", 12);
+    props.setProperty("sonar.search.issues.replicas", 2);
+    props.setProperty("sonar.search.issues.refreshInterval", "5s");
+    // another index
+    props.setProperty("sonar.search.users.shards", 3);
+
+    NewIndex index = new NewIndex("issues").setRefreshInterval("-1").configure(props);
+
+    Settings settings = index.getSettings().build();
+    assertThat(settings.get("index.number_of_shards")).isEqualTo("12");
+    assertThat(settings.get("index.number_of_replicas")).isEqualTo("2");
+    assertThat(settings.get("index.refresh_interval")).isEqualTo("5s");
+  }
+
+  @Test
+  public void fail_if_invalid_number_of_shards() throws Exception {
+    org.sonar.api.config.Settings props = new org.sonar.api.config.Settings();
+    props.setProperty("sonar.search.issues.shards", 0);
+    try {
+      new NewIndex("issues").configure(props);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Number of shards of index issues must be strictly positive: 0");
+    }
+  }
+
+  @Test
+  public void define_routing() throws Exception {
+    NewIndex index = new NewIndex("issues");
+    NewIndex.NewIndexType mapping = index.createType("issue");
+    mapping.setRouting("project");
+
+    assertThat(mapping.getAttributes().get("_routing")).isEqualTo(ImmutableMap.of("required", true, "path", "project"));
+  }
 }
@@ -32,6 +32,7 @@ import org.sonar.test.DbTests;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -107,6 +108,46 @@ public class IssueAuthorizationIndexerTest {
     assertThat((Collection)docs.get(0).sourceAsMap().get(IssueIndexDefinition.FIELD_AUTHORIZATION_GROUPS)).hasSize(0);
   }
 
+  @Test
+  public void index_project_only_if_version_is_not_indexed() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "index.xml");
+    IssueAuthorizationIndexer indexer = createIndexer();
+    indexer.setEnabled(true);
+    assertThat(indexer.isIndexed("ABC", 123456789L)).isFalse();
+
+    indexer.indexProject("ABC", 123456789L);
+    assertThat(esTester.countDocuments("issues", "authorization")).isEqualTo(1);
+    assertThat(indexer.isIndexed("ABC", 123456789L)).isTrue();
+
+    // version is unknown or has changed
+    assertThat(indexer.isIndexed("ABC", null)).isFalse();
+    assertThat(indexer.isIndexed("ABC", 123456790L)).isFalse();
+    assertThat(indexer.isIndexed("OTHER", 123456789L)).isFalse();
+    // older than last indexed version
+    assertThat(indexer.isIndexed("OTHER", 100L)).isTrue();
+
+    // version is already indexed -> index is not requested
+    esTester.truncateIndices();
+    indexer.indexProject("ABC", 123456789L);
+    assertThat(esTester.countDocuments("issues", "authorization")).isZero();
+
+    indexer.deleteProject("ABC", true);
+    assertThat(indexer.isIndexed("ABC", 123456789L)).isFalse();
+  }
+
+  @Test
+  public void index_only_changed_projects() throws Exception {
+    IssueAuthorizationIndexer indexer = createIndexer();
+    IssueAuthorizationDao.Dto authorization = new IssueAuthorizationDao.Dto("ABC", 1000L);
+    indexer.index(Arrays.asList(authorization));
+    assertThat(indexer.isIndexed("ABC", 1000L)).isTrue();
+
+    // nothing changed
+    indexer.index(Collections.<IssueAuthorizationDao.Dto>emptyList());
+    assertThat(indexer.isIndexed("ABC", 1000L)).isTrue();
+    assertThat(esTester.countDocuments("issues", "authorization")).isEqualTo(1);
+  }
+
   private IssueAuthorizationIndexer createIndexer() {
     return new IssueAuthorizationIndexer(new DbClient(dbTester.database(), dbTester.myBatis()), esTester.client());
   }
@@ -27,10 +27,12 @@ import org.junit.experimental.categories.Category;
 import org.sonar.api.config.Settings;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.core.persistence.DbTester;
+import org.sonar.core.template.LoadedTemplateDao;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.es.EsTester;
 import org.sonar.test.DbTests;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,8 +98,25 @@ public class IssueIndexerTest {
     assertThat(esTester.countDocuments("issues", "issue")).isZero();
   }
 
+  @Test
+  public void index_partitions_of_projects_ignoring_null_project_uuid() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "index_partitions_with_null_project_uuid.xml");
+
+    IssueIndexer indexer = createIndexer();
+    indexer.setPartitionWorkers(1);
+    indexer.index();
+
+    List<IssueDoc> docs = esTester.getDocuments("issues", "issue", IssueDoc.class);
+    List<String> keys = new ArrayList<>();
+    for (IssueDoc doc : docs) {
+      keys.add(doc.key());
+    }
+    assertThat(keys).containsOnly("I1", "I2");
+    assertThat(dbTester.countRowsOfTable("loaded_templates")).isZero();
+  }
+
   private IssueIndexer createIndexer() {
-    IssueIndexer indexer = new IssueIndexer(new DbClient(dbTester.database(), dbTester.myBatis()), esTester.client());
+    IssueIndexer indexer = new IssueIndexer(new DbClient(dbTester.database(), dbTester.myBatis(), new LoadedTemplateDao(dbTester.myBatis())), esTester.client());
     indexer.setEnabled(true);
     return indexer;
   }
@@ -23,6 +23,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.sonar.api.measures.Metric;
+import org.sonar.core.measure.db.MeasureDto;
+import org.sonar.server.measure.persistence.LastMeasuresVector;
+
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -59,10 +63,12 @@ public class MeasureFilterConditionTest {
     assertThat(condition.operator()).isEqualTo(MeasureFilterCondition.Operator.GREATER);
     assertThat(condition.period()).isNull();
     assertThat(condition.value()).isEqualTo(10.0);
-    assertThat(condition.textValue()).isNull();
-    assertThat(condition.appendSqlColumn(new StringBuilder(), 1).toString()).isEqualTo("pmcond1.value");
+    assertThat(condition.textValues()).isNull();
     assertThat(condition.toString()).isNotEmpty();
-    assertThat(condition.appendSqlCondition(new StringBuilder(), 1).toString()).isEqualTo(" pmcond1.metric_id=123 AND pmcond1.value > 10.0 AND pmcond1.rule_id IS NULL AND pmcond1.rule_priority IS NULL AND pmcond1.characteristic_id IS NULL AND pmcond1.person_id IS NULL ");
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(12.0)))).isTrue();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(10.0)))).isFalse();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(null)))).isFalse();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(456).setValue(12.0)))).isFalse();
   }
 
   @Test
@@ -76,24 +82,56 @@ public class MeasureFilterConditionTest {
     assertThat(condition.operator()).isEqualTo(MeasureFilterCondition.Operator.LESS_OR_EQUALS);
     assertThat(condition.period()).isEqualTo(3);
     assertThat(condition.value()).isEqualTo(10.0);
-    assertThat(condition.appendSqlColumn(new StringBuilder(), 2).toString()).isEqualTo("pmcond2.variation_value_3");
     assertThat(condition.toString()).isNotEmpty();
-    assertThat(condition.appendSqlCondition(new StringBuilder(), 2).toString()).isEqualTo(" pmcond2.metric_id=123 AND pmcond2.variation_value_3 <= 10.0 AND pmcond2.rule_id IS NULL AND pmcond2.rule_priority IS NULL AND pmcond2.characteristic_id IS NULL AND pmcond2.person_id IS NULL ");
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(50.0).setVariation(3, 10.0)))).isTrue();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(5.0).setVariation(3, 20.0)))).isFalse();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(5.0)))).isFalse();
   }
 
   @Test
   public void text_value_condition() {
     Metric ncloc = new Metric.Builder("ncloc", "NCLOC", Metric.ValueType.INT).create();
     ncloc.setId(123);
-    MeasureFilterCondition condition = new MeasureFilterCondition(ncloc, MeasureFilterCondition.Operator.EQUALS, "\"foo\"");
+    MeasureFilterCondition condition = new MeasureFilterCondition(ncloc, MeasureFilterCondition.Operator.EQUALS, "foo");
 
     assertThat(condition.metric()).isEqualTo(ncloc);
     assertThat(condition.operator()).isEqualTo(MeasureFilterCondition.Operator.EQUALS);
     assertThat(condition.period()).isNull();
     assertThat(condition.value()).isEqualTo(0);
-    assertThat(condition.textValue()).isEqualTo("\"foo\"");
-    assertThat(condition.appendSqlColumn(new StringBuilder(), 1).toString()).isEqualTo("pmcond1.text_value");
+    assertThat(condition.textValues()).containsExactly("foo");
     assertThat(condition.toString()).isNotEmpty();
-    assertThat(condition.appendSqlCondition(new StringBuilder(), 1).toString()).isEqualTo(" pmcond1.metric_id=123 AND pmcond1.text_value = \"foo\" AND pmcond1.rule_id IS NULL AND pmcond1.rule_priority IS NULL AND pmcond1.characteristic_id IS NULL AND pmcond1.person_id IS NULL ");
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setData("foo")))).isTrue();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setData("bar")))).isFalse();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(123).setValue(3.0)))).isFalse();
+  }
+
+  @Test
+  public void text_values_in_condition() {
+    Metric alert = new Metric.Builder("alert_status", "Alert", Metric.ValueType.LEVEL).create();
+    alert.setId(5);
+    MeasureFilterCondition condition = new MeasureFilterCondition(alert, MeasureFilterCondition.Operator.IN, Arrays.asList("OK", "WARN"));
+
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(5).setData("OK")))).isTrue();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(5).setData("WARN")))).isTrue();
+    assertThat(condition.matches(measures(new MeasureDto().setMetricId(5).setData("ERROR")))).isFalse();
+  }
+
+  @Test
+  public void text_values_are_not_sql_literals() {
+    Metric metric = new Metric.Builder("foo", "Foo", Metric.ValueType.STRING).create();
+    metric.setId(7);
+    MeasureFilterCondition equals = new MeasureFilterCondition(metric, MeasureFilterCondition.Operator.EQUALS, "it's (ok)");
+    MeasureFilterCondition in = new MeasureFilterCondition(metric, MeasureFilterCondition.Operator.IN, Arrays.asList("'a', 'b'", "(c)"));
+
+    assertThat(equals.matches(measures(new MeasureDto().setMetricId(7).setData("it's (ok)")))).isTrue();
+    assertThat(equals.matches(measures(new MeasureDto().setMetricId(7).setData("its ok")))).isFalse();
+    assertThat(in.matches(measures(new MeasureDto().setMetricId(7).setData("'a', 'b'")))).isTrue();
+    assertThat(in.matches(measures(new MeasureDto().setMetricId(7).setData("(c)")))).isTrue();
+    assertThat(in.matches(measures(new MeasureDto().setMetricId(7).setData("a")))).isFalse();
+    assertThat(in.matches(measures(new MeasureDto().setMetricId(7).setData("c")))).isFalse();
+  }
+
+  private static LastMeasuresVector measures(MeasureDto measure) {
+    return LastMeasuresVector.decode(new LastMeasuresVector.Builder().add(measure).encode());
   }
 }
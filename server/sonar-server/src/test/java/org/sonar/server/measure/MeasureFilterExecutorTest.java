@@ -30,6 +30,7 @@ import org.sonar.api.utils.System2;
 import org.sonar.core.component.SnapshotDto;
 import org.sonar.core.persistence.DbTester;
 import org.sonar.core.resource.ResourceDao;
+import org.sonar.server.measure.persistence.LastMeasuresDao;
 import org.sonar.test.DbTests;
 
 import java.sql.SQLException;
@@ -52,6 +53,7 @@ public class MeasureFilterExecutorTest {
   private static final long JAVA_PACKAGE_SNAPSHOT_ID = 102L;
   private static final long PHP_PROJECT_ID = 10L;
   private static final long PHP_SNAPSHOT_ID = 110L;
+  private static final long JS_PROJECT_ID = 20L;
   private static final Metric METRIC_LINES = new Metric.Builder("lines", "Lines", Metric.ValueType.INT).create().setId(1);
   private static final Metric METRIC_PROFILE = new Metric.Builder("profile", "Profile", Metric.ValueType.STRING).create().setId(2);
   private static final Metric METRIC_COVERAGE = new Metric.Builder("coverage", "Coverage", Metric.ValueType.FLOAT).create().setId(3);
@@ -67,7 +69,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void should_return_empty_results_if_empty_filter() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter();
     assertThat(filter.isEmpty()).isTrue();
 
@@ -76,7 +78,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void invalid_filter_should_not_return_results() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setUserFavourites(true);
     // anonymous user does not have favourites
     assertThat(executor.execute(filter, new MeasureFilterContext())).isEmpty();
@@ -84,7 +86,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_is_not_valid_if_missing_base_snapshot() {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilterContext context = new MeasureFilterContext();
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setOnBaseResourceChildren(true);
     assertThat(MeasureFilterExecutor.isValid(filter, context)).isFalse();
@@ -95,7 +97,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_is_not_valid_if_condition_on_unknown_metric() {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilterContext context = new MeasureFilterContext();
     MeasureFilter filter = new MeasureFilter().addCondition(new MeasureFilterCondition(null, MeasureFilterCondition.Operator.LESS, 3.0));
     assertThat(MeasureFilterExecutor.isValid(filter, context)).isFalse();
@@ -103,7 +105,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_is_not_valid_if_sorting_on_unknown_metric() {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilterContext context = new MeasureFilterContext();
     MeasureFilter filter = new MeasureFilter().setSortOnMetric(null);
     assertThat(MeasureFilterExecutor.isValid(filter, context)).isFalse();
@@ -111,7 +113,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_is_not_valid_if_anonymous_favourites() {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilterContext context = new MeasureFilterContext();
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setUserFavourites(true);
     assertThat(MeasureFilterExecutor.isValid(filter, context)).isFalse();
@@ -122,7 +124,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void projects_without_measure_conditions() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOn(MeasureFilterSort.Field.DATE);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -133,7 +135,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void should_prevent_sql_injection_through_parameters() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter()
       .setResourceQualifiers(Arrays.asList("'"))
       .setBaseResourceKey("'")
@@ -148,7 +150,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void test_default_sort() {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA"));
 
     assertThat(filter.sort().isAsc()).isTrue();
@@ -158,7 +160,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_resource_name() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortAsc(true);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -170,7 +172,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_resource_key() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortAsc(true).setSortOn(MeasureFilterSort.Field.KEY);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -182,7 +184,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_resource_version() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortAsc(true).setSortOn(MeasureFilterSort.Field.VERSION);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -194,7 +196,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_resource_name() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -206,7 +208,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_text_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(METRIC_PROFILE);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -217,7 +219,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_text_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(METRIC_PROFILE).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -228,7 +230,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_missing_text_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     // the metric 'profile' is not set on files
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortOnMetric(METRIC_PROFILE);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
@@ -238,7 +240,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_numeric_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortOnMetric(METRIC_LINES);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -250,7 +252,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_numeric_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortOnMetric(METRIC_LINES).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -262,7 +264,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void null_measures_are_ordered_after_descending_numeric_measures() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK"))
       .setSortOnMetric(METRIC_COVERAGE).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
@@ -275,7 +277,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void null_measures_are_ordered_after_ascending_numeric_measures() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK"))
       .setSortOnMetric(METRIC_COVERAGE).setSortAsc(true);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
@@ -288,7 +290,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_missing_numeric_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     // coverage measures are not computed
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setSortOnMetric(METRIC_UNKNOWN);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
@@ -299,7 +301,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_variation() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(METRIC_LINES).setSortOnPeriod(5);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -310,7 +312,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_variation() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK"))
       .setSortOnMetric(METRIC_LINES).setSortOnPeriod(5).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
@@ -322,7 +324,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_date() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOn(MeasureFilterSort.Field.DATE);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -332,7 +334,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_date() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOn(MeasureFilterSort.Field.DATE).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -342,7 +344,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_created_at() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOn(MeasureFilterSort.Field.PROJECT_CREATION_DATE);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -354,7 +356,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_created_at() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOn(MeasureFilterSort.Field.PROJECT_CREATION_DATE).setSortAsc(false);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -366,7 +368,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_ascending_alert() throws SQLException {
-    db.prepareDbUnit(getClass(), "sort_by_alert.xml");
+    prepareDbUnit("sort_by_alert.xml");
 
     Metric alert = new Metric.Builder(CoreMetrics.ALERT_STATUS_KEY, "Alert", Metric.ValueType.LEVEL).create().setId(5);
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(alert);
@@ -381,7 +383,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void sort_by_descending_alert() throws SQLException {
-    db.prepareDbUnit(getClass(), "sort_by_alert.xml");
+    prepareDbUnit("sort_by_alert.xml");
 
     Metric alert = new Metric.Builder(CoreMetrics.ALERT_STATUS_KEY, "Alert", Metric.ValueType.LEVEL).create().setId(5);
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(alert).setSortAsc(false);
@@ -396,7 +398,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void condition_on_numeric_measure() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA"))
       .setSortOnMetric(METRIC_LINES)
       .addCondition(new MeasureFilterCondition(METRIC_LINES, MeasureFilterCondition.Operator.GREATER, 200));
@@ -408,7 +410,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void condition_on_measure_variation() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK"))
       .setSortOnMetric(METRIC_LINES)
       .addCondition(new MeasureFilterCondition(METRIC_LINES, MeasureFilterCondition.Operator.GREATER, 1000).setPeriod(5));
@@ -420,7 +422,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void multiple_conditions_on_numeric_measures() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA"))
       .setSortOnMetric(METRIC_LINES)
       .addCondition(new MeasureFilterCondition(METRIC_LINES, MeasureFilterCondition.Operator.GREATER, 2))
@@ -433,7 +435,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_min_date() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setFromDate(DateUtils.parseDateTime("2012-12-13T00:00:00+0000"));
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -444,7 +446,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_range_of_dates() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK"))
       .setFromDate(DateUtils.parseDate("2007-01-01"))
       .setToDate(DateUtils.parseDate("2010-01-01"));
@@ -457,7 +459,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_component_name() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setResourceName("PHP Proj");
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -467,7 +469,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_component_key() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setResourceKey("Va_proje");
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -480,7 +482,7 @@ public class MeasureFilterExecutorTest {
    */
   @Test
   public void filter_by_upper_case_component_key() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setResourceKey("big");
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -493,7 +495,7 @@ public class MeasureFilterExecutorTest {
    */
   @Test
   public void escape_percent_and_underscore_when_filter_by_component_name_or_key() throws SQLException {
-    db.prepareDbUnit(getClass(), "escape_percent_and_underscore_when_filter_by_component_name_or_key.xml");
+    prepareDbUnit("escape_percent_and_underscore_when_filter_by_component_name_or_key.xml");
 
     assertThat(executor.execute(
       new MeasureFilter().setResourceQualifiers(newArrayList("CLA")).setResourceKey("java_"),
@@ -506,7 +508,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_base_resource() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("CLA")).setBaseResourceKey("java_project");
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -518,7 +520,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_parent_resource() throws SQLException {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setBaseResourceKey("java_project").setOnBaseResourceChildren(true);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
 
@@ -528,7 +530,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_parent_without_children() throws Exception {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK", "PAC", "CLA")).setBaseResourceKey("java_project:org.sonar.foo.Big")
       .setOnBaseResourceChildren(true);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext());
@@ -538,7 +540,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void filter_by_user_favourites() throws Exception {
-    db.prepareDbUnit(getClass(), "shared.xml");
+    prepareDbUnit("shared.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK", "FIL")).setUserFavourites(true);
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext().setUserId(50L));
 
@@ -549,7 +551,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void ignore_person_measures_in_condition() throws Exception {
-    db.prepareDbUnit(getClass(), "ignore_person_measures.xml");
+    prepareDbUnit("ignore_person_measures.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).addCondition(
       new MeasureFilterCondition(new Metric("ncloc").setId(1), MeasureFilterCondition.Operator.GREATER, 0.0)
       );
@@ -561,7 +563,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void ignore_person_measures_in_sort() throws Exception {
-    db.prepareDbUnit(getClass(), "ignore_person_measures.xml");
+    prepareDbUnit("ignore_person_measures.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(new Metric("ncloc").setId(1));
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext().setUserId(50L));
 
@@ -571,7 +573,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void ignore_quality_model_measures_in_condition() throws Exception {
-    db.prepareDbUnit(getClass(), "ignore_quality_model_measures.xml");
+    prepareDbUnit("ignore_quality_model_measures.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).addCondition(
       new MeasureFilterCondition(new Metric("ncloc").setId(1), MeasureFilterCondition.Operator.GREATER, 0.0)
       );
@@ -583,7 +585,7 @@ public class MeasureFilterExecutorTest {
 
   @Test
   public void ignore_quality_model_measures_in_sort() throws Exception {
-    db.prepareDbUnit(getClass(), "ignore_quality_model_measures.xml");
+    prepareDbUnit("ignore_quality_model_measures.xml");
     MeasureFilter filter = new MeasureFilter().setResourceQualifiers(Arrays.asList("TRK")).setSortOnMetric(new Metric("ncloc").setId(1));
     List<MeasureFilterRow> rows = executor.execute(filter, new MeasureFilterContext().setUserId(50L));
 
@@ -595,6 +597,14 @@ public class MeasureFilterExecutorTest {
     verifyProject(row, JAVA_PROJECT_SNAPSHOT_ID, JAVA_PROJECT_ID, JAVA_PROJECT_ID);
   }
 
+  private void prepareDbUnit(String dataset) {
+    db.prepareDbUnit(getClass(), dataset);
+    LastMeasuresDao lastMeasuresDao = new LastMeasuresDao(db.myBatis());
+    for (long rootProjectId : new long[] {JAVA_PROJECT_ID, PHP_PROJECT_ID, JS_PROJECT_ID}) {
+      lastMeasuresDao.refresh(rootProjectId);
+    }
+  }
+
   private void verifyJavaBigFile(MeasureFilterRow row) {
     verifyProject(row, JAVA_FILE_BIG_SNAPSHOT_ID, JAVA_FILE_BIG_ID, JAVA_PROJECT_ID);
   }
@@ -49,7 +49,7 @@ public class MeasureFilterFactoryTest {
     Map<String, Object> props = ImmutableMap.<String, Object>of("sort", "metric:ncloc");
     MeasureFilter filter = factory.create(props);
 
-    assertThat(filter.sort().column()).isEqualTo("pmsort.value");
+    assertThat(filter.sort().column()).isEqualTo("lm.measures_data");
     assertThat(filter.sort().metric().getKey()).isEqualTo("ncloc");
     assertThat(filter.sort().period()).isNull();
   }
@@ -60,7 +60,7 @@ public class MeasureFilterFactoryTest {
     Map<String, Object> props = ImmutableMap.<String, Object>of("sort", "metric:ncloc:3");
     MeasureFilter filter = factory.create(props);
 
-    assertThat(filter.sort().column()).isEqualTo("pmsort.variation_value_3");
+    assertThat(filter.sort().column()).isEqualTo("lm.measures_data");
     assertThat(filter.sort().metric().getKey()).isEqualTo("ncloc");
     assertThat(filter.sort().period()).isEqualTo(3);
   }
@@ -203,7 +203,7 @@ public class MeasureFilterFactoryTest {
     assertThat(conditions.get(0).metric().getKey()).isEqualTo("alert_status");
     assertThat(conditions.get(0).operator()).isEqualTo(MeasureFilterCondition.Operator.IN);
     assertThat(conditions.get(0).value()).isEqualTo(0);
-    assertThat(conditions.get(0).textValue()).isEqualTo("('ERROR', 'WARN')");
+    assertThat(conditions.get(0).textValues()).containsExactly("ERROR", "WARN");
     assertThat(conditions.get(0).period()).isNull();
   }
 
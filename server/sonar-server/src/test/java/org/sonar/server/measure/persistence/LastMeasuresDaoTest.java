@@ -0,0 +1,100 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.measure.persistence;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.sonar.core.measure.db.LastMeasuresDto;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.DbTester;
+import org.sonar.test.DbTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(DbTests.class)
+public class LastMeasuresDaoTest {
+
+  @ClassRule
+  public static DbTester db = new DbTester();
+
+  DbSession session;
+  LastMeasuresDao sut;
+
+  @Before
+  public void setUp() {
+    db.truncateTables();
+    session = db.myBatis().openSession(false);
+    sut = new LastMeasuresDao(db.myBatis());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    session.close();
+  }
+
+  @Test
+  public void refresh_rows_of_last_snapshots() throws Exception {
+    db.prepareDbUnit(getClass(), "shared.xml");
+
+    sut.refresh(1L);
+
+    assertThat(db.countRowsOfTable("last_measures")).isEqualTo(3);
+    assertThat(sut.findBySnapshotId(session, 100L)).isNull();
+    assertThat(sut.findBySnapshotId(session, 200L)).isNotNull();
+
+    LastMeasuresDto project = sut.findBySnapshotId(session, 101L);
+    assertThat(project.getProjectId()).isEqualTo(1L);
+    assertThat(project.getRootProjectId()).isEqualTo(1L);
+    LastMeasuresVector measures = LastMeasuresVector.decode(project.getMeasuresData());
+    assertThat(measures.size()).isEqualTo(2);
+    assertThat(measures.getValue(1, null)).isEqualTo(510.0);
+    assertThat(measures.getValue(1, 5)).isEqualTo(400.0);
+    assertThat(measures.getTextValue(2)).isEqualTo("Sonar way");
+    // data metric is ignored
+    assertThat(measures.hasMetric(3)).isFalse();
+
+    LastMeasuresDto directory = sut.findBySnapshotId(session, 102L);
+    assertThat(directory.getProjectId()).isEqualTo(2L);
+    assertThat(LastMeasuresVector.decode(directory.getMeasuresData()).getValue(1, null)).isEqualTo(510.0);
+  }
+
+  @Test
+  public void refresh_twice() throws Exception {
+    db.prepareDbUnit(getClass(), "shared.xml");
+
+    sut.refresh(1L);
+    sut.refresh(1L);
+
+    assertThat(db.countRowsOfTable("last_measures")).isEqualTo(3);
+  }
+
+  @Test
+  public void refresh_project_without_measures() throws Exception {
+    db.prepareDbUnit(getClass(), "shared.xml");
+
+    sut.refresh(20L);
+
+    assertThat(db.countRowsOfTable("last_measures")).isEqualTo(1);
+    assertThat(sut.findBySnapshotId(session, 100L)).isNotNull();
+  }
+}
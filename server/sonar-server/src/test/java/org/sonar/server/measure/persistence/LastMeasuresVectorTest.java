@@ -0,0 +1,79 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.measure.persistence;
+
+import org.junit.Test;
+import org.sonar.core.measure.db.MeasureDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LastMeasuresVectorTest {
+
+  @Test
+  public void encode_and_decode() {
+    byte[] data = new LastMeasuresVector.Builder()
+      .add(new MeasureDto().setMetricId(12).setValue(3.5).setVariation(1, -1.0).setVariation(5, 2.0))
+      .add(new MeasureDto().setMetricId(3).setData("Sonar way"))
+      .add(new MeasureDto().setMetricId(7).setValue(0.0).setData("OK"))
+      .encode();
+
+    LastMeasuresVector measures = LastMeasuresVector.decode(data);
+
+    assertThat(measures.size()).isEqualTo(3);
+    assertThat(measures.getValue(12, null)).isEqualTo(3.5);
+    assertThat(measures.getValue(12, 1)).isEqualTo(-1.0);
+    assertThat(measures.getValue(12, 2)).isNaN();
+    assertThat(measures.getValue(12, 5)).isEqualTo(2.0);
+    assertThat(measures.getTextValue(12)).isNull();
+    assertThat(measures.getValue(3, null)).isNaN();
+    assertThat(measures.getTextValue(3)).isEqualTo("Sonar way");
+    assertThat(measures.getValue(7, null)).isEqualTo(0.0);
+    assertThat(measures.getTextValue(7)).isEqualTo("OK");
+  }
+
+  @Test
+  public void missing_metric() {
+    LastMeasuresVector measures = LastMeasuresVector.decode(new LastMeasuresVector.Builder()
+      .add(new MeasureDto().setMetricId(12).setValue(3.5))
+      .encode());
+
+    assertThat(measures.hasMetric(12)).isTrue();
+    assertThat(measures.hasMetric(13)).isFalse();
+    assertThat(measures.getValue(13, null)).isNaN();
+    assertThat(measures.getTextValue(13)).isNull();
+  }
+
+  @Test
+  public void no_measures() {
+    LastMeasuresVector.Builder builder = new LastMeasuresVector.Builder();
+    assertThat(builder.isEmpty()).isTrue();
+
+    assertThat(LastMeasuresVector.decode(builder.encode()).size()).isEqualTo(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fail_if_bad_period() {
+    LastMeasuresVector measures = LastMeasuresVector.decode(new LastMeasuresVector.Builder()
+      .add(new MeasureDto().setMetricId(12).setValue(3.5))
+      .encode());
+
+    measures.getValue(12, 6);
+  }
+}
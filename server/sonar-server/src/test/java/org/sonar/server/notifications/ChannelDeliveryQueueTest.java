@@ -0,0 +1,143 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.notifications;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.notifications.Notification;
+import org.sonar.api.notifications.NotificationChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChannelDeliveryQueueTest {
+
+  NotificationChannel channel = mock(NotificationChannel.class);
+
+  @Test
+  public void deliver_notifications() throws Exception {
+    when(channel.getKey()).thenReturn("email");
+    ChannelDeliveryQueue queue = new ChannelDeliveryQueue(channel, 2, 10);
+    Notification notification = new Notification("issue-changes");
+
+    queue.deliver(notification, "simon");
+    queue.deliver(notification, "evgeny");
+    queue.awaitPending();
+
+    verify(channel).deliver(notification, "simon");
+    verify(channel).deliver(notification, "evgeny");
+    assertThat(queue.delivered()).isEqualTo(2L);
+    assertThat(queue.stop(1, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  @Test
+  public void return_notifications_of_cancelled_deliveries_on_stop() throws Exception {
+    when(channel.getKey()).thenReturn("email");
+    final CountDownLatch started = new CountDownLatch(1);
+    doAnswer(new Answer<Object>() {
+      @Override
+      public Object answer(InvocationOnMock invocation) throws Throwable {
+        started.countDown();
+        // slow delivery
+        Thread.sleep(200L);
+        return null;
+      }
+    }).when(channel).deliver(any(Notification.class), anyString());
+    ChannelDeliveryQueue queue = new ChannelDeliveryQueue(channel, 1, 10);
+    Notification first = new Notification("first");
+    Notification second = new Notification("second");
+    Notification third = new Notification("third");
+
+    queue.deliver(first, "simon");
+    started.await(5, TimeUnit.SECONDS);
+    queue.deliver(second, "simon");
+    queue.deliver(third, "simon");
+    List<ChannelDeliveryQueue.DispatchedNotification> cancelled = queue.stop(5, TimeUnit.SECONDS);
+
+    // running delivery is completed
+    verify(channel).deliver(first, "simon");
+    verify(channel, never()).deliver(second, "simon");
+    verify(channel, never()).deliver(third, "simon");
+    assertThat(notifications(cancelled)).containsExactly(second, third);
+    assertThat(queue.pending()).isZero();
+  }
+
+  @Test
+  public void complete_deliveries_of_partially_delivered_notification_on_stop() throws Exception {
+    when(channel.getKey()).thenReturn("email");
+    final CountDownLatch started = new CountDownLatch(1);
+    doAnswer(new Answer<Object>() {
+      @Override
+      public Object answer(InvocationOnMock invocation) throws Throwable {
+        started.countDown();
+        Thread.sleep(200L);
+        return null;
+      }
+    }).when(channel).deliver(any(Notification.class), anyString());
+    ChannelDeliveryQueue queue = new ChannelDeliveryQueue(channel, 1, 10);
+    ChannelDeliveryQueue otherQueue = new ChannelDeliveryQueue(channel, 1, 10);
+    Notification first = new Notification("first");
+    Notification second = new Notification("second");
+    ChannelDeliveryQueue.DispatchedNotification dispatchedFirst = new ChannelDeliveryQueue.DispatchedNotification(first);
+    ChannelDeliveryQueue.DispatchedNotification dispatchedSecond = new ChannelDeliveryQueue.DispatchedNotification(second);
+
+    queue.deliver(dispatchedFirst, "simon");
+    started.await(5, TimeUnit.SECONDS);
+    queue.deliver(dispatchedFirst, "evgeny");
+    queue.deliver(dispatchedSecond, "simon");
+    queue.deliver(dispatchedSecond, "evgeny");
+    List<ChannelDeliveryQueue.DispatchedNotification> cancelled = queue.stop(5, TimeUnit.SECONDS);
+    // deliveries through another channel follow the same decision
+    otherQueue.deliver(dispatchedFirst, "julien");
+    otherQueue.deliver(dispatchedSecond, "julien");
+    otherQueue.awaitPending();
+
+    // first notification is delivered to all its recipients, second to none of them
+    verify(channel).deliver(first, "simon");
+    verify(channel).deliver(first, "evgeny");
+    verify(channel).deliver(first, "julien");
+    verify(channel, never()).deliver(second, "simon");
+    verify(channel, never()).deliver(second, "evgeny");
+    verify(channel, never()).deliver(second, "julien");
+    assertThat(notifications(cancelled)).containsExactly(second);
+    assertThat(queue.pending()).isZero();
+    otherQueue.stop(1, TimeUnit.SECONDS);
+  }
+
+  private static List<Notification> notifications(List<ChannelDeliveryQueue.DispatchedNotification> dispatched) {
+    List<Notification> notifications = new ArrayList<>();
+    for (ChannelDeliveryQueue.DispatchedNotification notification : dispatched) {
+      notifications.add(notification.notification());
+    }
+    return notifications;
+  }
+}
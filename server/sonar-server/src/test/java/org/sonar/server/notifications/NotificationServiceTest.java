@@ -32,9 +32,15 @@ import org.sonar.core.properties.PropertiesDao;
 import org.sonar.server.db.DbClient;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.*;
@@ -43,6 +49,7 @@ public class NotificationServiceTest {
   private static String CREATOR_SIMON = "simon";
   private static String CREATOR_EVGENY = "evgeny";
   private static String ASSIGNEE_SIMON = "simon";
+  private static List<Notification> NO_NOTIFICATIONS = Collections.emptyList();
 
   DefaultNotificationManager manager = mock(DefaultNotificationManager.class);
   Notification notification = mock(Notification.class);
@@ -64,7 +71,7 @@ public class NotificationServiceTest {
     when(commentOnIssueCreatedByMe.getType()).thenReturn("issue-changes");
     when(qualityGateChange.getKey()).thenReturn("QGateChange");
     when(qualityGateChange.getType()).thenReturn("qgate-changes");
-    when(manager.getFromQueue()).thenReturn(notification).thenReturn(null);
+    when(manager.getFromQueue(anyInt())).thenReturn(asList(notification)).thenReturn(NO_NOTIFICATIONS);
 
     Settings settings = new Settings().setProperty("sonar.notifications.delay", 1L);
 
@@ -171,7 +178,7 @@ public class NotificationServiceTest {
   @Test
   public void shouldNotStopWhenException() {
     setUpMocks();
-    when(manager.getFromQueue()).thenThrow(new RuntimeException("Unexpected exception")).thenReturn(notification).thenReturn(null);
+    when(manager.getFromQueue(anyInt())).thenThrow(new RuntimeException("Unexpected exception")).thenReturn(asList(notification)).thenReturn(NO_NOTIFICATIONS);
     doAnswer(addUser(ASSIGNEE_SIMON, emailChannel)).when(commentOnIssueAssignedToMe).dispatch(same(notification), any(NotificationDispatcher.Context.class));
     doAnswer(addUser(CREATOR_SIMON, emailChannel)).when(commentOnIssueCreatedByMe).dispatch(same(notification), any(NotificationDispatcher.Context.class));
 
@@ -182,6 +189,57 @@ public class NotificationServiceTest {
     verify(gtalkChannel, never()).deliver(notification, ASSIGNEE_SIMON);
   }
 
+  @Test
+  public void deliver_batch_of_notifications() throws Exception {
+    setUpMocks();
+    Notification notification2 = mock(Notification.class);
+    when(manager.getFromQueue(anyInt())).thenReturn(asList(notification, notification2)).thenReturn(NO_NOTIFICATIONS);
+    doAnswer(addUser(ASSIGNEE_SIMON, emailChannel)).when(commentOnIssueAssignedToMe).dispatch(any(Notification.class), any(NotificationDispatcher.Context.class));
+
+    service.processQueue();
+
+    // deliveries are completed when processing of queue is finished
+    verify(emailChannel).deliver(notification, ASSIGNEE_SIMON);
+    verify(emailChannel).deliver(notification2, ASSIGNEE_SIMON);
+    // subscribers are cached during processing of batch
+    verify(manager).startCachingSubscribers();
+    verify(manager).stopCachingSubscribers();
+  }
+
+  @Test
+  public void push_back_notifications_of_cancelled_deliveries_to_queue_on_stop() throws Exception {
+    setUpMocks();
+    final Notification notification2 = mock(Notification.class);
+    final CountDownLatch batchSubmitted = new CountDownLatch(1);
+    when(manager.getFromQueue(anyInt())).thenReturn(asList(notification, notification2)).thenAnswer(new Answer<Object>() {
+      @Override
+      public Object answer(InvocationOnMock invocation) {
+        // deliveries of the first batch are submitted
+        batchSubmitted.countDown();
+        return NO_NOTIFICATIONS;
+      }
+    });
+    doAnswer(addUser(ASSIGNEE_SIMON, emailChannel)).when(commentOnIssueAssignedToMe).dispatch(any(Notification.class), any(NotificationDispatcher.Context.class));
+    Settings settings = new Settings().setProperty("sonar.notifications.delay", 1L).setProperty(NotificationService.PROPERTY_CHANNEL_THREADS, 1);
+    service = new NotificationService(settings, manager, dbClient, new NotificationDispatcher[] {commentOnIssueAssignedToMe});
+    doAnswer(new Answer<Object>() {
+      @Override
+      public Object answer(InvocationOnMock invocation) throws Throwable {
+        // service is stopped during the first delivery
+        Thread.sleep(500L);
+        return null;
+      }
+    }).when(emailChannel).deliver(notification, ASSIGNEE_SIMON);
+
+    service.start();
+    batchSubmitted.await(5, TimeUnit.SECONDS);
+    service.stop();
+
+    verify(emailChannel).deliver(notification, ASSIGNEE_SIMON);
+    verify(emailChannel, never()).deliver(notification2, ASSIGNEE_SIMON);
+    verify(manager).scheduleForSending(asList(notification2));
+  }
+
   @Test
   public void shouldNotAddNullAsUser() {
     setUpMocks();
@@ -213,7 +271,7 @@ public class NotificationServiceTest {
   public void shouldLogEvery10Minutes() throws InterruptedException {
     setUpMocks();
     // Emulate 2 notifications in DB
-    when(manager.getFromQueue()).thenReturn(notification).thenReturn(notification).thenReturn(null);
+    when(manager.getFromQueue(anyInt())).thenReturn(asList(notification)).thenReturn(asList(notification)).thenReturn(NO_NOTIFICATIONS);
     when(manager.count()).thenReturn(1L).thenReturn(0L);
     service = spy(service);
     // Emulate processing of each notification take 10 min to have a log each time
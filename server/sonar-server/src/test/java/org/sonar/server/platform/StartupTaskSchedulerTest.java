@@ -0,0 +1,163 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class StartupTaskSchedulerTest {
+
+  List<String> executed = Collections.synchronizedList(new ArrayList<String>());
+
+  @Test
+  public void execute_tasks_after_their_dependencies() throws Exception {
+    StartupTaskScheduler scheduler = new StartupTaskScheduler()
+      .add("rules", new RecordTask("rules"))
+      .add("profiles", new RecordTask("profiles"), "rules")
+      .add("metrics", new RecordTask("metrics"))
+      .add("gates", new RecordTask("gates"), "metrics")
+      .add("activities", new RecordTask("activities"), "profiles", "gates");
+
+    scheduler.execute(3);
+
+    assertThat(executed).containsOnly("rules", "profiles", "metrics", "gates", "activities");
+    assertThat(executed.indexOf("profiles")).isGreaterThan(executed.indexOf("rules"));
+    assertThat(executed.indexOf("gates")).isGreaterThan(executed.indexOf("metrics"));
+    assertThat(executed.indexOf("activities")).isEqualTo(4);
+  }
+
+  @Test
+  public void execute_independent_tasks_concurrently() throws Exception {
+    // each task waits for the other one to be started
+    final CountDownLatch latch = new CountDownLatch(2);
+    Runnable task = new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+        try {
+          if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Tasks are not executed concurrently");
+          }
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    };
+
+    new StartupTaskScheduler().add("first", task).add("second", task).execute(2);
+
+    assertThat(latch.getCount()).isZero();
+  }
+
+  @Test
+  public void execute_tasks_sequentially_with_single_thread() throws Exception {
+    new StartupTaskScheduler()
+      .add("first", new RecordTask("first"))
+      .add("second", new RecordTask("second"))
+      .add("third", new RecordTask("third"), "first")
+      .execute(1);
+
+    assertThat(executed).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void return_durations_in_order_of_declaration() throws Exception {
+    Map<String, Long> durations = new StartupTaskScheduler()
+      .add("slow", new Runnable() {
+        @Override
+        public void run() {
+          try {
+            Thread.sleep(50L);
+          } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      })
+      .add("fast", new RecordTask("fast"))
+      .execute(2);
+
+    assertThat(durations.keySet()).containsExactly("slow", "fast");
+    assertThat(durations.get("slow")).isGreaterThanOrEqualTo(40L);
+  }
+
+  @Test
+  public void do_not_start_dependent_tasks_if_a_task_fails() throws Exception {
+    StartupTaskScheduler scheduler = new StartupTaskScheduler()
+      .add("rules", new Runnable() {
+        @Override
+        public void run() {
+          throw new IllegalStateException("Fail to register rules");
+        }
+      })
+      .add("profiles", new RecordTask("profiles"), "rules")
+      .add("metrics", new RecordTask("metrics"));
+
+    try {
+      scheduler.execute(1);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Fail to register rules");
+    }
+    assertThat(executed).doesNotContain("profiles");
+  }
+
+  @Test
+  public void fail_if_dependency_is_not_declared_before() throws Exception {
+    try {
+      new StartupTaskScheduler().add("profiles", new RecordTask("profiles"), "rules");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Startup task profiles depends on undeclared task rules");
+    }
+  }
+
+  @Test
+  public void fail_if_task_is_declared_twice() throws Exception {
+    StartupTaskScheduler scheduler = new StartupTaskScheduler().add("rules", new RecordTask("rules"));
+    try {
+      scheduler.add("rules", new RecordTask("rules"));
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Startup task is declared twice: rules");
+    }
+  }
+
+  private class RecordTask implements Runnable {
+    private final String name;
+
+    RecordTask(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void run() {
+      executed.add(name);
+    }
+  }
+}
@@ -19,16 +19,23 @@
  */
 package org.sonar.server.platform.monitoring;
 
+import org.apache.commons.dbcp.BasicDataSource;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.sonar.core.persistence.DatabaseVersion;
 import org.sonar.core.persistence.DbTester;
+import org.sonar.core.persistence.profiling.PoolStatistics;
+import org.sonar.core.persistence.profiling.ProfiledDataSource;
+import org.sonar.core.persistence.profiling.SqlStatistics;
 import org.sonar.server.db.DbClient;
 
 import java.util.LinkedHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DatabaseMonitorTest {
 
@@ -58,4 +65,43 @@ public class DatabaseMonitorTest {
     LinkedHashMap<String, Object> attributes = sut.attributes();
     assertThat((int)attributes.get("Pool Max Connections")).isGreaterThan(0);
   }
+
+  @Test
+  public void sql_statistics_are_disabled_on_tests() {
+    LinkedHashMap<String, Object> attributes = sut.attributes();
+    assertThat(attributes.get("SQL Statistics Enabled")).isEqualTo(false);
+    assertThat(attributes).doesNotContainKey("SQL Executions");
+    assertThat(sut.sqlStatistics()).isNull();
+    assertThat(sut.getSqlExecutions()).isEqualTo(0L);
+    assertThat(sut.poolStatistics()).isNull();
+    assertThat(sut.getOpenSessions()).isEqualTo(0);
+  }
+
+  @Test
+  public void sql_statistics() {
+    SqlStatistics statistics = mock(SqlStatistics.class);
+    when(statistics.getExecutionCount()).thenReturn(2L);
+    when(statistics.getSlowStatementCount()).thenReturn(1L);
+    DbClient dbClient = mock(DbClient.class, Mockito.RETURNS_DEEP_STUBS);
+    when(dbClient.database().getDataSource()).thenReturn(new ProfiledDataSource(mock(BasicDataSource.class), statistics, new PoolStatistics(1000L)));
+    sut = new DatabaseMonitor(mock(DatabaseVersion.class), dbClient);
+
+    assertThat(sut.sqlStatistics()).isSameAs(statistics);
+    assertThat(sut.getSqlExecutions()).isEqualTo(2L);
+    assertThat(sut.getSqlSlowStatements()).isEqualTo(1L);
+  }
+
+  @Test
+  public void pool_statistics() {
+    PoolStatistics poolStatistics = new PoolStatistics(0L);
+    poolStatistics.openSession();
+    DbClient dbClient = mock(DbClient.class, Mockito.RETURNS_DEEP_STUBS);
+    when(dbClient.database().getDataSource()).thenReturn(new ProfiledDataSource(mock(BasicDataSource.class), mock(SqlStatistics.class), poolStatistics));
+    sut = new DatabaseMonitor(mock(DatabaseVersion.class), dbClient);
+
+    assertThat(sut.poolStatistics()).isSameAs(poolStatistics);
+    assertThat(sut.getOpenSessions()).isEqualTo(1);
+    assertThat(sut.getLongSessions()).isEqualTo(1);
+    assertThat(sut.getPoolAverageWaitMillis()).isEqualTo(0L);
+  }
 }
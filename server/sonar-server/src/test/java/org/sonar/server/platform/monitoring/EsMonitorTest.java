@@ -78,4 +78,14 @@ public class EsMonitorTest {
     assertThat(indexAttributes.get("Shards")).isEqualTo(1);
     assertThat(indexAttributes.get("Store Size")).isNotNull();
   }
+
+  @Test
+  public void bulk_indexing_attributes() throws Exception {
+    EsMonitor monitor = new EsMonitor(esTester.client());
+    LinkedHashMap<String, Object> attributes = monitor.attributes();
+    Map bulkAttributes = (Map)attributes.get("Bulk Indexing");
+
+    assertThat(bulkAttributes).containsKeys("Throughput (docs/s)", "Backlog (docs)", "In-flight Requests", "Requests",
+      "Indexed Docs", "Rejected Docs", "Retried Docs", "Failed Docs");
+  }
 }
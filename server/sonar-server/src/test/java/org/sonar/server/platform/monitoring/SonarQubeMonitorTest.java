@@ -26,12 +26,15 @@ import org.junit.rules.TemporaryFolder;
 import org.sonar.api.config.Settings;
 import org.sonar.api.platform.Server;
 import org.sonar.api.utils.DateUtils;
+import org.sonar.server.platform.StartupTaskTimings;
 import org.sonar.server.user.SecurityRealmFactory;
 
 import java.io.File;
 import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -42,11 +45,12 @@ public class SonarQubeMonitorTest {
 
   Settings settings = new Settings();
   Server server = mock(Server.class);
+  StartupTaskTimings startupTaskTimings = mock(StartupTaskTimings.class);
 
   @Test
   public void getServerId() throws Exception {
     when(server.getStartedAt()).thenReturn(DateUtils.parseDate("2015-01-01"));
-    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server);
+    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server, startupTaskTimings);
 
     LinkedHashMap<String, Object> attributes = monitor.attributes();
     assertThat(attributes).containsKeys("Server ID", "Version");
@@ -58,7 +62,7 @@ public class SonarQubeMonitorTest {
     FileUtils.write(new File(rootDir, SonarQubeMonitor.BRANDING_FILE_PATH), "1.2");
 
     when(server.getRootDir()).thenReturn(rootDir);
-    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server);
+    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server, startupTaskTimings);
 
     LinkedHashMap<String, Object> attributes = monitor.attributes();
     assertThat(attributes).containsEntry("Official Distribution", Boolean.TRUE);
@@ -69,9 +73,24 @@ public class SonarQubeMonitorTest {
     File rootDir = temp.newFolder();
     // branding file is missing
     when(server.getRootDir()).thenReturn(rootDir);
-    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server);
+    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server, startupTaskTimings);
 
     LinkedHashMap<String, Object> attributes = monitor.attributes();
     assertThat(attributes).containsEntry("Official Distribution", Boolean.FALSE);
   }
+
+  @Test
+  public void durations_of_startup_tasks() throws Exception {
+    LinkedHashMap<String, Long> durations = new LinkedHashMap<>();
+    durations.put("RegisterRules", 1200L);
+    durations.put("Index issues", 800L);
+    when(startupTaskTimings.getDurations()).thenReturn(durations);
+    when(startupTaskTimings.getTotalDuration()).thenReturn(1500L);
+    SonarQubeMonitor monitor = new SonarQubeMonitor(settings, new SecurityRealmFactory(settings), server, startupTaskTimings);
+
+    LinkedHashMap<String, Object> attributes = monitor.attributes();
+    assertThat(attributes).containsEntry("Startup Tasks Duration (ms)", 1500L);
+    assertThat((Map<String, Long>) attributes.get("Startup Task Durations (ms)")).containsExactly(
+      entry("RegisterRules", 1200L), entry("Index issues", 800L));
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.ws;
+
+import org.junit.Test;
+import org.sonar.api.server.ws.WebService;
+import org.sonar.core.permission.GlobalPermissions;
+import org.sonar.core.persistence.profiling.PoolStatistics;
+import org.sonar.server.exceptions.ForbiddenException;
+import org.sonar.server.platform.monitoring.DatabaseMonitor;
+import org.sonar.server.user.MockUserSession;
+import org.sonar.server.ws.WsTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SystemDbSessionsWsActionTest {
+
+  DatabaseMonitor databaseMonitor = mock(DatabaseMonitor.class);
+  WsTester tester = new WsTester(new SystemWs(new SystemDbSessionsWsAction(databaseMonitor)));
+
+  @Test
+  public void define() {
+    WebService.Action action = tester.controller("api/system").action("db_sessions");
+    assertThat(action).isNotNull();
+    assertThat(action.since()).isEqualTo("5.2");
+    assertThat(action.responseExampleAsString()).isNotEmpty();
+  }
+
+  @Test(expected = ForbiddenException.class)
+  public void fail_when_not_system_admin() throws Exception {
+    MockUserSession.set().setLogin("login").setGlobalPermissions(GlobalPermissions.SCAN_EXECUTION);
+
+    tester.newGetRequest("api/system", "db_sessions").execute();
+  }
+
+  @Test
+  public void statistics_are_disabled() throws Exception {
+    MockUserSession.set().setLogin("login").setGlobalPermissions(GlobalPermissions.SYSTEM_ADMIN);
+
+    tester.newGetRequest("api/system", "db_sessions").execute().assertJson("{\"enabled\": false}");
+  }
+
+  @Test
+  public void list_long_sessions() throws Exception {
+    MockUserSession.set().setLogin("login").setGlobalPermissions(GlobalPermissions.SYSTEM_ADMIN);
+    PoolStatistics statistics = new PoolStatistics(0L);
+    statistics.openSession();
+    when(databaseMonitor.poolStatistics()).thenReturn(statistics);
+
+    String json = tester.newGetRequest("api/system", "db_sessions").execute().outputAsString();
+
+    assertThat(json).contains("\"openSessions\":1", "\"longSessionThresholdMs\":0", "\"longSessions\":[{\"openedAt\":", "\"stack\":[");
+  }
+}
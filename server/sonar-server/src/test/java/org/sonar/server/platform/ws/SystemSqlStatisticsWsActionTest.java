@@ -0,0 +1,89 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.ws;
+
+import org.junit.Test;
+import org.sonar.api.server.ws.WebService;
+import org.sonar.core.permission.GlobalPermissions;
+import org.sonar.core.persistence.profiling.SqlStatistics;
+import org.sonar.server.exceptions.ForbiddenException;
+import org.sonar.server.platform.monitoring.DatabaseMonitor;
+import org.sonar.server.user.MockUserSession;
+import org.sonar.server.ws.WsTester;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SystemSqlStatisticsWsActionTest {
+
+  DatabaseMonitor databaseMonitor = mock(DatabaseMonitor.class);
+  WsTester tester = new WsTester(new SystemWs(new SystemSqlStatisticsWsAction(databaseMonitor)));
+
+  @Test
+  public void define() {
+    WebService.Action action = tester.controller("api/system").action("sql_statistics");
+    assertThat(action).isNotNull();
+    assertThat(action.since()).isEqualTo("5.2");
+    assertThat(action.responseExampleAsString()).isNotEmpty();
+    assertThat(action.param("ps").defaultValue()).isEqualTo("50");
+  }
+
+  @Test(expected = ForbiddenException.class)
+  public void fail_when_not_system_admin() throws Exception {
+    MockUserSession.set().setLogin("login").setGlobalPermissions(GlobalPermissions.SCAN_EXECUTION);
+
+    tester.newGetRequest("api/system", "sql_statistics").execute();
+  }
+
+  @Test
+  public void statistics_are_disabled() throws Exception {
+    MockUserSession.set().setLogin("login").setGlobalPermissions(GlobalPermissions.SYSTEM_ADMIN);
+
+    tester.newGetRequest("api/system", "sql_statistics").execute().assertJson("{\"enabled\": false}");
+  }
+
+  @Test
+  public void sort_statements_by_total_duration() throws Exception {
+    MockUserSession.set().setLogin("login").setGlobalPermissions(GlobalPermissions.SYSTEM_ADMIN);
+    SqlStatistics statistics = mock(SqlStatistics.class);
+    SqlStatistics.StatementStats fast = mock(SqlStatistics.StatementStats.class);
+    when(fast.getTemplate()).thenReturn("select fast");
+    when(fast.getTotalDurationMs()).thenReturn(10L);
+    when(fast.getHistogram()).thenReturn(new long[] {2L});
+    SqlStatistics.StatementStats slow = mock(SqlStatistics.StatementStats.class);
+    when(slow.getTemplate()).thenReturn("select slow");
+    when(slow.getTotalDurationMs()).thenReturn(5000L);
+    when(slow.getExecutionCount()).thenReturn(3L);
+    when(slow.getHistogram()).thenReturn(new long[] {3L});
+    when(statistics.getStatements()).thenReturn(Arrays.asList(fast, slow));
+    when(statistics.getSlowStatements()).thenReturn(Collections.<SqlStatistics.SlowStatement>emptyList());
+    when(statistics.getSlowThresholdMs()).thenReturn(1000L);
+    when(databaseMonitor.sqlStatistics()).thenReturn(statistics);
+
+    String json = tester.newGetRequest("api/system", "sql_statistics").setParam("ps", "1").execute().outputAsString();
+
+    assertThat(json).contains("\"sql\":\"select slow\"", "\"executions\":3", "\"slowThresholdMs\":1000", "\"histogram\":[3]");
+    assertThat(json).doesNotContain("select fast");
+  }
+}
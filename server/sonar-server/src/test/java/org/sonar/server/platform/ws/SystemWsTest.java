@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.sonar.api.config.Settings;
 import org.sonar.api.server.ws.WebService;
 import org.sonar.server.platform.Platform;
+import org.sonar.server.platform.monitoring.DatabaseMonitor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -33,13 +34,17 @@ public class SystemWsTest {
   public void define() throws Exception {
     SystemRestartWsAction action1 = new SystemRestartWsAction(mock(Settings.class), mock(Platform.class));
     SystemInfoWsAction action2 = new SystemInfoWsAction();
-    SystemWs ws = new SystemWs(action1, action2);
+    SystemSqlStatisticsWsAction action3 = new SystemSqlStatisticsWsAction(mock(DatabaseMonitor.class));
+    SystemDbSessionsWsAction action4 = new SystemDbSessionsWsAction(mock(DatabaseMonitor.class));
+    SystemWs ws = new SystemWs(action1, action2, action3, action4);
     WebService.Context context = new WebService.Context();
 
     ws.define(context);
 
     assertThat(context.controllers()).hasSize(1);
-    assertThat(context.controller("api/system").actions()).hasSize(2);
+    assertThat(context.controller("api/system").actions()).hasSize(4);
     assertThat(context.controller("api/system").action("info")).isNotNull();
+    assertThat(context.controller("api/system").action("sql_statistics")).isNotNull();
+    assertThat(context.controller("api/system").action("db_sessions")).isNotNull();
   }
 }
@@ -19,6 +19,7 @@
  */
 package org.sonar.server.rule;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import org.junit.After;
 import org.junit.Before;
@@ -37,16 +38,24 @@ import org.sonar.core.qualityprofile.db.QualityProfileDao;
 import org.sonar.core.rule.RuleDto;
 import org.sonar.core.rule.RuleParamDto;
 import org.sonar.core.technicaldebt.db.CharacteristicDao;
+import org.sonar.core.technicaldebt.db.CharacteristicDto;
+import org.sonar.core.template.LoadedTemplateDao;
+import org.sonar.core.template.LoadedTemplateDto;
+import org.sonar.server.batch.ActiveRulesCache;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.qualityprofile.RuleActivator;
 import org.sonar.server.qualityprofile.db.ActiveRuleDao;
 import org.sonar.server.rule.db.RuleDao;
 
+import java.sql.Connection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RegisterRulesTest extends AbstractDaoTestCase {
@@ -56,6 +65,7 @@ public class RegisterRulesTest extends AbstractDaoTestCase {
   static final Date DATE3 = DateUtils.parseDateTime("2014-03-01T12:10:03+0100");
 
   RuleActivator ruleActivator = mock(RuleActivator.class);
+  ActiveRulesCache activeRulesCache = mock(ActiveRulesCache.class);
   System2 system;
   DbClient dbClient;
   DbSession dbSession;
@@ -67,7 +77,7 @@ public class RegisterRulesTest extends AbstractDaoTestCase {
     RuleDao ruleDao = new RuleDao(system);
     ActiveRuleDao activeRuleDao = new ActiveRuleDao(new QualityProfileDao(getMyBatis(), system), ruleDao, system);
     dbClient = new DbClient(getDatabase(), getMyBatis(), ruleDao, activeRuleDao,
-      new QualityProfileDao(getMyBatis(), system), new CharacteristicDao(getMyBatis()));
+      new QualityProfileDao(getMyBatis(), system), new CharacteristicDao(getMyBatis()), new LoadedTemplateDao(getMyBatis()));
     dbSession = dbClient.openSession(false);
   }
 
@@ -100,6 +110,8 @@ public class RegisterRulesTest extends AbstractDaoTestCase {
     RuleParamDto param = getParam(params, "param1");
     assertThat(param.getDescription()).isEqualTo("parameter one");
     assertThat(param.getDefaultValue()).isEqualTo("default1");
+
+    verify(activeRulesCache).invalidateAll();
   }
 
   @Test
@@ -116,6 +128,61 @@ public class RegisterRulesTest extends AbstractDaoTestCase {
     assertThat(rule1.getUpdatedAt()).isEqualTo(DATE1);
   }
 
+  @Test
+  public void skip_repository_when_definitions_did_not_change() {
+    execute(new FakeRepositoryV1());
+    assertThat(dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.RULE_REPOSITORY_TYPE)).hasSize(1);
+
+    // changes in db are not overridden because rule definitions are not registered again
+    RuleKey ruleKey1 = RuleKey.of("fake", "rule1");
+    RuleDto rule1 = dbClient.ruleDao().getNullableByKey(dbSession, ruleKey1);
+    rule1.setName("Changed");
+    dbClient.ruleDao().update(dbSession, rule1);
+    dbSession.commit();
+    execute(new FakeRepositoryV1());
+    assertThat(dbClient.ruleDao().getNullableByKey(dbSession, ruleKey1).getName()).isEqualTo("Changed");
+    assertThat(dbClient.ruleDao().getNullableByKey(dbSession, RuleKey.of("fake", "rule2")).getStatus()).isEqualTo(RuleStatus.READY);
+
+    // definitions changed
+    execute(new FakeRepositoryV2());
+    assertThat(dbClient.ruleDao().getNullableByKey(dbSession, ruleKey1).getName()).isEqualTo("One v2");
+    assertThat(dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.RULE_REPOSITORY_TYPE)).hasSize(1);
+  }
+
+  @Test
+  public void register_repository_again_when_rules_are_missing_in_db() throws Exception {
+    execute(new FakeRepositoryV1());
+    assertThat(dbClient.ruleDao().findAll(dbSession)).hasSize(2);
+
+    // rules are deleted, but not the fingerprint of repository
+    try (Connection connection = getConnection()) {
+      connection.createStatement().executeUpdate("delete from rules_parameters");
+      connection.createStatement().executeUpdate("delete from rules");
+      connection.commit();
+    }
+    execute(new FakeRepositoryV1());
+
+    assertThat(dbClient.ruleDao().findAll(dbSession)).hasSize(2);
+    assertThat(dbClient.ruleDao().findRuleParamsByRuleKey(dbSession, RuleKey.of("fake", "rule1"))).hasSize(2);
+  }
+
+  @Test
+  public void fingerprint_changes_with_rule_definitions() {
+    RulesDefinition.Context v1 = new RulesDefinition.Context();
+    new FakeRepositoryV1().define(v1);
+    RulesDefinition.Context v1Again = new RulesDefinition.Context();
+    new FakeRepositoryV1().define(v1Again);
+    RulesDefinition.Context v2 = new RulesDefinition.Context();
+    new FakeRepositoryV2().define(v2);
+    Map<String, CharacteristicDto> characteristics = Collections.emptyMap();
+
+    String fingerprint = RulesDefinitionFingerprint.of(v1.repository("fake").rules(), characteristics);
+    assertThat(fingerprint).isEqualTo(RulesDefinitionFingerprint.of(v1Again.repository("fake").rules(), characteristics));
+    assertThat(fingerprint).isNotEqualTo(RulesDefinitionFingerprint.of(v2.repository("fake").rules(), characteristics));
+    assertThat(fingerprint).isNotEqualTo(RulesDefinitionFingerprint.of(v1.repository("fake").rules(),
+      ImmutableMap.of("MEMORY_EFFICIENCY", new CharacteristicDto().setId(3).setParentId(1))));
+  }
+
   @Test
   public void update_and_remove_rules_on_changes() {
     execute(new FakeRepositoryV1());
@@ -216,7 +283,7 @@ public class RegisterRulesTest extends AbstractDaoTestCase {
     Languages languages = mock(Languages.class);
     when(languages.get("java")).thenReturn(mock(Language.class));
 
-    RegisterRules task = new RegisterRules(loader, ruleActivator, dbClient, languages);
+    RegisterRules task = new RegisterRules(loader, ruleActivator, dbClient, languages, activeRulesCache);
     task.start();
     // Execute a commit to refresh session state as the task is using its own session
     dbSession.commit();
@@ -35,6 +35,7 @@ import org.sonar.core.rule.RuleDto;
 import org.sonar.core.rule.RuleDto.Format;
 import org.sonar.core.rule.RuleParamDto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -131,6 +132,20 @@ public class RuleDaoTest extends AbstractDaoTestCase {
     assertThat(dao.getNullableByKey(session, RuleKey.of("Unknown", "AvoidComparison"))).isNull();
   }
 
+  @Test
+  public void select_by_rule_keys() throws Exception {
+    setupData("select_by_rule_key");
+    List<RuleKey> keys = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      keys.add(RuleKey.of("checkstyle", "Unknown" + i));
+    }
+    keys.add(RuleKey.of("checkstyle", "AvoidComparison"));
+    keys.add(RuleKey.of("checkstyle", "AvoidNull"));
+
+    assertThat(dao.getByKeys(session, keys)).extracting("ruleKey").containsOnly("AvoidComparison", "AvoidNull");
+    assertThat(dao.getByKeys(session, new ArrayList<RuleKey>())).isEmpty();
+  }
+
   @Test
   public void select_by_name() throws Exception {
     setupData("select_by_name");
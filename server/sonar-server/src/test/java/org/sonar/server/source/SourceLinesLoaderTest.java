@@ -0,0 +1,148 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.source;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.sonar.core.persistence.DbTester;
+import org.sonar.core.source.db.FileSourceDao;
+import org.sonar.core.source.db.FileSourceDto;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.source.db.FileSourceDb;
+import org.sonar.server.source.db.FileSourceTesting;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SourceLinesLoaderTest {
+
+  @ClassRule
+  public static DbTester dbTester = new DbTester();
+
+  FileSourceDao dao;
+
+  SourceLinesLoader loader;
+
+  @Before
+  public void setUp() throws Exception {
+    dbTester.truncateTables();
+    dao = new FileSourceDao(dbTester.myBatis());
+    loader = new SourceLinesLoader(new DbClient(dbTester.database(), dbTester.myBatis(), dao), 10);
+  }
+
+  @Test
+  public void get_range_of_lines() throws Exception {
+    insertFile("FILE_A", 8, 1000L);
+
+    List<FileSourceDb.Line> lines = loader.getLines("FILE_A", 3, 5);
+
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0).getLine()).isEqualTo(3);
+    assertThat(lines.get(0).getSource()).isEqualTo("SOURCE_3");
+    assertThat(lines.get(2).getLine()).isEqualTo(5);
+  }
+
+  @Test
+  public void get_all_lines() throws Exception {
+    insertFile("FILE_A", 8, 1000L);
+
+    assertThat(loader.getLines("FILE_A", 1, Integer.MAX_VALUE)).hasSize(8);
+    assertThat(loader.getLines("FILE_A", 7, Integer.MAX_VALUE)).hasSize(2);
+    assertThat(loader.getLines("FILE_A", 9, Integer.MAX_VALUE)).isEmpty();
+  }
+
+  @Test
+  public void no_lines_on_file_without_sources() throws Exception {
+    assertThat(loader.getLines("unknown", 1, 10)).isEmpty();
+  }
+
+  @Test
+  public void use_cache_when_file_is_not_updated() throws Exception {
+    insertFile("FILE_A", 8, 1000L);
+    loader.getLines("FILE_A", 1, Integer.MAX_VALUE);
+    assertThat(loader.cachedLines()).isEqualTo(8);
+
+    // corrupted data is not read if the cached lines are still up-to-date
+    try (Connection connection = dbTester.openConnection()) {
+      FileSourceTesting.updateDataColumn(connection, "FILE_A", "corrupted".getBytes());
+    }
+
+    List<FileSourceDb.Line> lines = loader.getLines("FILE_A", 2, 4);
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0).getSource()).isEqualTo("SOURCE_2");
+  }
+
+  @Test
+  public void reload_lines_when_file_is_updated() throws Exception {
+    insertFile("FILE_A", 8, 1000L);
+    loader.getLines("FILE_A", 1, Integer.MAX_VALUE);
+
+    FileSourceDto dto = dao.select("FILE_A");
+    dto.setData(FileSourceTesting.newFakeData(3).build()).setUpdatedAt(2000L);
+    dao.update(dto);
+
+    assertThat(loader.getLines("FILE_A", 1, Integer.MAX_VALUE)).hasSize(3);
+    assertThat(loader.cachedLines()).isEqualTo(3);
+  }
+
+  @Test
+  public void reload_lines_when_range_is_not_cached() throws Exception {
+    insertFile("FILE_A", 8, 1000L);
+    loader.getLines("FILE_A", 3, 4);
+
+    List<FileSourceDb.Line> lines = loader.getLines("FILE_A", 1, 6);
+
+    assertThat(lines).hasSize(6);
+    assertThat(lines.get(0).getLine()).isEqualTo(1);
+  }
+
+  @Test
+  public void evict_least_recently_used_files() throws Exception {
+    insertFile("FILE_A", 4, 1000L);
+    insertFile("FILE_B", 4, 1000L);
+    insertFile("FILE_C", 4, 1000L);
+    insertFile("FILE_D", 20, 1000L);
+
+    loader.getLines("FILE_A", 1, Integer.MAX_VALUE);
+    loader.getLines("FILE_B", 1, Integer.MAX_VALUE);
+    assertThat(loader.cachedLines()).isEqualTo(8);
+
+    loader.getLines("FILE_C", 1, Integer.MAX_VALUE);
+    assertThat(loader.cachedLines()).isEqualTo(8);
+
+    // too big to be cached
+    assertThat(loader.getLines("FILE_D", 1, Integer.MAX_VALUE)).hasSize(20);
+    assertThat(loader.cachedLines()).isEqualTo(8);
+  }
+
+  private void insertFile(String fileUuid, int numberOfLines, long updatedAt) throws Exception {
+    dao.insert(new FileSourceDto()
+      .setProjectUuid("PROJECT_A")
+      .setFileUuid(fileUuid)
+      .setData(FileSourceTesting.newFakeData(numberOfLines).build())
+      .setDataHash("DATA_HASH")
+      .setSrcHash("SRC_HASH")
+      .setCreatedAt(updatedAt)
+      .setUpdatedAt(updatedAt));
+  }
+}
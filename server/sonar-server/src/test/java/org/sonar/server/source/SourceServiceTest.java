@@ -26,8 +26,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.sonar.server.measure.persistence.MeasureDao;
-import org.sonar.server.source.index.SourceLineDoc;
-import org.sonar.server.source.index.SourceLineIndex;
+import org.sonar.server.source.db.FileSourceDb;
 
 import java.util.Arrays;
 import java.util.List;
@@ -49,19 +48,19 @@ public class SourceServiceTest {
   MeasureDao measureDao;
 
   @Mock
-  SourceLineIndex sourceLineIndex;
+  SourceLinesLoader sourceLinesLoader;
 
   SourceService service;
 
   @Before
   public void setUp() throws Exception {
-    service = new SourceService(sourceDecorator, sourceLineIndex);
+    service = new SourceService(sourceDecorator, sourceLinesLoader);
   }
 
   @Test
   public void get_html_lines() throws Exception {
-    when(sourceLineIndex.getLines(COMPONENT_UUID, 1, Integer.MAX_VALUE)).thenReturn(
-      Arrays.asList(new SourceLineDoc().setSource("source").setHighlighting("highlight").setSymbols("symbols")));
+    when(sourceLinesLoader.getLines(COMPONENT_UUID, 1, Integer.MAX_VALUE)).thenReturn(
+      Arrays.asList(FileSourceDb.Line.newBuilder().setSource("source").setHighlighting("highlight").setSymbols("symbols").build()));
 
     service.getLinesAsHtml(COMPONENT_UUID, null, null);
 
@@ -71,9 +70,9 @@ public class SourceServiceTest {
   @Test
   public void get_block_of_lines() throws Exception {
 
-    when(sourceLineIndex.getLines(COMPONENT_UUID, 1, Integer.MAX_VALUE)).thenReturn(
-      Arrays.asList(new SourceLineDoc().setSource("source").setHighlighting("highlight").setSymbols("symbols"),
-        new SourceLineDoc().setSource("source2").setHighlighting("highlight2").setSymbols("symbols2")));
+    when(sourceLinesLoader.getLines(COMPONENT_UUID, 1, Integer.MAX_VALUE)).thenReturn(
+      Arrays.asList(FileSourceDb.Line.newBuilder().setSource("source").setHighlighting("highlight").setSymbols("symbols").build(),
+        FileSourceDb.Line.newBuilder().setSource("source2").setHighlighting("highlight2").setSymbols("symbols2").build()));
 
     service.getLinesAsHtml(COMPONENT_UUID, null, null);
 
@@ -83,10 +82,10 @@ public class SourceServiceTest {
 
   @Test
   public void getLinesAsTxt() throws Exception {
-    when(sourceLineIndex.getLines(COMPONENT_UUID, 1, Integer.MAX_VALUE)).thenReturn(
+    when(sourceLinesLoader.getLines(COMPONENT_UUID, 1, Integer.MAX_VALUE)).thenReturn(
       Arrays.asList(
-        new SourceLineDoc().setSource("line1"),
-        new SourceLineDoc().setSource("line2")));
+        FileSourceDb.Line.newBuilder().setSource("line1").build(),
+        FileSourceDb.Line.newBuilder().setSource("line2").build()));
 
     List<String> result = service.getLinesAsTxt(COMPONENT_UUID, null, null);
     assertThat(result).contains("line1", "line2");
@@ -33,6 +33,7 @@ import org.sonar.server.source.db.FileSourceTesting;
 import org.sonar.test.DbTests;
 
 import java.sql.Connection;
+import java.util.Date;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,6 +138,30 @@ public class SourceFileResultSetIteratorTest {
     it.close();
   }
 
+  @Test
+  public void convert_each_line_to_its_own_document() throws Exception {
+    SourceFileResultSetIterator.Row first = SourceFileResultSetIterator.toRow("P1", "F1", new Date(1416239042000L), FileSourceTesting.newFakeData(3).build());
+    // buffer is recycled for the next file
+    SourceFileResultSetIterator.Row second = SourceFileResultSetIterator.toRow("P1", "F2", new Date(1416239042000L), FileSourceTesting.newFakeData(2).build());
+
+    assertThat(first.getLineUpdateRequests()).hasSize(3);
+    for (int i = 0; i < 3; i++) {
+      UpdateRequest request = first.getLineUpdateRequests().get(i);
+      assertThat(request.id()).isEqualTo(SourceLineIndexDefinition.docKey("F1", i + 1));
+      assertThat(request.routing()).isEqualTo("P1");
+      Map<String, Object> doc = request.doc().sourceAsMap();
+      assertThat(doc).contains(
+        MapEntry.entry(SourceLineIndexDefinition.FIELD_FILE_UUID, "F1"),
+        MapEntry.entry(SourceLineIndexDefinition.FIELD_LINE, i + 1),
+        MapEntry.entry(SourceLineIndexDefinition.FIELD_SOURCE, "SOURCE_" + (i + 1)));
+      assertThat(request.upsertRequest().sourceAsMap()).isEqualTo(doc);
+    }
+    assertThat(second.getLineUpdateRequests()).hasSize(2);
+    assertThat(second.getLineUpdateRequests().get(1).doc().sourceAsMap()).contains(
+      MapEntry.entry(SourceLineIndexDefinition.FIELD_FILE_UUID, "F2"),
+      MapEntry.entry(SourceLineIndexDefinition.FIELD_LINE, 2));
+  }
+
   @Test
   public void filter_by_date() throws Exception {
     db.prepareDbUnit(getClass(), "shared.xml");
@@ -39,7 +39,7 @@ public class SourceLineIndexDefinitionTest {
     assertThat(context.getIndices()).hasSize(1);
     NewIndex index = context.getIndices().get("sourcelines");
     assertThat(index).isNotNull();
-    assertThat(index.getTypes().keySet()).containsOnly("sourceline");
+    assertThat(index.getTypes().keySet()).containsOnly("sourceline", "sourcefile");
 
     // no cluster by default
     assertThat(index.getSettings().get("index.number_of_shards")).isEqualTo("1");
@@ -33,6 +33,10 @@ import org.junit.experimental.categories.Category;
 import org.sonar.api.config.Settings;
 import org.sonar.api.utils.DateUtils;
 import org.sonar.core.persistence.DbTester;
+import org.sonar.core.source.db.FileSourceDao;
+import org.sonar.core.source.db.FileSourceDto;
+import org.sonar.core.template.LoadedTemplateDao;
+import org.sonar.core.template.LoadedTemplateDto;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.es.EsTester;
 import org.sonar.server.source.db.FileSourceDb;
@@ -59,13 +63,16 @@ public class SourceLineIndexerTest {
   @ClassRule
   public static DbTester db = new DbTester();
 
+  private DbClient dbClient;
+
   private SourceLineIndexer indexer;
 
   @Before
   public void setUp() {
     es.truncateIndices();
     db.truncateTables();
-    indexer = new SourceLineIndexer(new DbClient(db.database(), db.myBatis()), es.client());
+    dbClient = new DbClient(db.database(), db.myBatis(), new FileSourceDao(db.myBatis()), new LoadedTemplateDao(db.myBatis()));
+    indexer = new SourceLineIndexer(dbClient, es.client());
     indexer.setEnabled(true);
   }
 
@@ -81,6 +88,40 @@ public class SourceLineIndexerTest {
     assertThat(countDocuments()).isEqualTo(3);
   }
 
+  @Test
+  public void index_partitions_of_projects_concurrently() throws Exception {
+    insertFile("P1", "F1", 2);
+    insertFile("P2", "F2", 3);
+    insertFile("P3", "F3", 1);
+    insertFile("P3", "F4", 4);
+
+    indexer.setPartitionWorkers(2);
+    indexer.index();
+
+    assertThat(countDocuments()).isEqualTo(10L);
+    // checkpoints are dropped when all partitions are indexed
+    assertThat(dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.INDEX_PARTITION_TYPE)).isEmpty();
+  }
+
+  @Test
+  public void resume_interrupted_indexing() throws Exception {
+    insertFile("P1", "F1", 2);
+    insertFile("P2", "F2", 3);
+    insertFile("P3", "F3", 1);
+    // indexing has been interrupted after completion of partition [-, P2[
+    dbClient.loadedTemplateDao().insert(new LoadedTemplateDto(INDEX, LoadedTemplateDto.INDEX_PARTITION_TYPE));
+    dbClient.loadedTemplateDao().insert(new LoadedTemplateDto(INDEX + ":P2:", LoadedTemplateDto.INDEX_PARTITION_TYPE));
+    // project created after interruption
+    insertFile("P4", "F4", 2);
+
+    indexer.setPartitionWorkers(2);
+    indexer.index();
+
+    // P1 is not indexed again. Pending partition is not recomputed, and covers P4.
+    assertThat(countDocuments()).isEqualTo(6L);
+    assertThat(dbClient.loadedTemplateDao().selectKeysByType(LoadedTemplateDto.INDEX_PARTITION_TYPE)).isEmpty();
+  }
+
   /**
    * File F1 in project P1 has one line -> to be updated
    * File F2 in project P1 has one line -> untouched
@@ -120,14 +161,37 @@ public class SourceLineIndexerTest {
       );
   }
 
+  @Test
+  public void delete_lines_removed_since_previous_indexation() throws Exception {
+    indexer.index(Iterators.singletonIterator(SourceFileResultSetIterator.toRow("P1", "F1", new Date(), FileSourceTesting.newFakeData(5).build())));
+    indexer.index(Iterators.singletonIterator(SourceFileResultSetIterator.toRow("P1", "F2", new Date(), FileSourceTesting.newFakeData(3).build())));
+    assertThat(countDocuments()).isEqualTo(8L);
+
+    indexer.index(Iterators.singletonIterator(SourceFileResultSetIterator.toRow("P1", "F1", new Date(), FileSourceTesting.newFakeData(2).build())));
+
+    assertThat(countDocuments()).isEqualTo(5L);
+    SearchResponse fileSearch = prepareSearch()
+      .setQuery(QueryBuilders.termQuery(FIELD_FILE_UUID, "F1"))
+      .get();
+    assertThat(fileSearch.getHits().getTotalHits()).isEqualTo(2L);
+    assertThat(es.client().prepareGet(INDEX, TYPE_FILE, "F1").setRouting("P1").get().getSourceAsMap()).contains(
+      entry(FIELD_PROJECT_UUID, "P1"),
+      entry(FIELD_FILE_UUID, "F1"),
+      entry(FIELD_NUMBER_OF_LINES, 2));
+  }
+
   @Test
   public void delete_file_uuid() throws Exception {
     indexLine("P1", "F1", 1);
     indexLine("P1", "F1", 2);
     indexLine("P1", "F2", 1);
 
+    indexer.index(Iterators.singletonIterator(SourceFileResultSetIterator.toRow("P1", "F4", new Date(), FileSourceTesting.newFakeData(1).build())));
+
     indexer.deleteByFile("F1");
+    indexer.deleteByFile("F4");
 
+    assertThat(es.countDocuments(INDEX, TYPE_FILE)).isEqualTo(0L);
     List<SearchHit> hits = getDocuments();
     Map<String, Object> document = hits.get(0).getSource();
     assertThat(hits).hasSize(1);
@@ -190,6 +254,17 @@ public class SourceLineIndexerTest {
     assertThat(document.get(FIELD_OVERALL_COVERED_CONDITIONS)).isEqualTo(bigValue);
   }
 
+  private void insertFile(String projectUuid, String fileUuid, int numberOfLines) throws IOException {
+    dbClient.fileSourceDao().insert(new FileSourceDto()
+      .setProjectUuid(projectUuid)
+      .setFileUuid(fileUuid)
+      .setData(FileSourceTesting.newFakeData(numberOfLines).build())
+      .setDataHash("DATA_HASH")
+      .setSrcHash("SRC_HASH")
+      .setCreatedAt(1000L)
+      .setUpdatedAt(1000L));
+  }
+
   private void indexLine(String projectUuid, String fileUuid, int line) throws IOException {
     es.client().prepareIndex(INDEX, TYPE)
       .setId(SourceLineIndexDefinition.docKey(fileUuid, line))
@@ -19,7 +19,6 @@
  */
 package org.sonar.server.source.ws;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.junit.Before;
@@ -29,20 +28,18 @@ import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.sonar.api.utils.DateUtils;
 import org.sonar.api.web.UserRole;
 import org.sonar.core.component.ComponentDto;
 import org.sonar.server.component.ComponentService;
 import org.sonar.server.exceptions.ForbiddenException;
 import org.sonar.server.exceptions.NotFoundException;
 import org.sonar.server.source.HtmlSourceDecorator;
-import org.sonar.server.source.index.SourceLineDoc;
-import org.sonar.server.source.index.SourceLineIndex;
-import org.sonar.server.source.index.SourceLineIndexDefinition;
+import org.sonar.server.source.SourceLinesLoader;
+import org.sonar.server.source.db.FileSourceDb;
 import org.sonar.server.user.MockUserSession;
 import org.sonar.server.ws.WsTester;
 
-import java.util.Date;
-
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
@@ -53,7 +50,7 @@ import static org.mockito.Mockito.when;
 public class LinesActionTest {
 
   @Mock
-  SourceLineIndex sourceLineIndex;
+  SourceLinesLoader sourceLinesLoader;
 
   @Mock
   HtmlSourceDecorator htmlSourceDecorator;
@@ -65,7 +62,7 @@ public class LinesActionTest {
 
   @Before
   public void setUp() throws Exception {
-    tester = new WsTester(new SourcesWs(new LinesAction(sourceLineIndex, htmlSourceDecorator, componentService)));
+    tester = new WsTester(new SourcesWs(new LinesAction(sourceLinesLoader, htmlSourceDecorator, componentService)));
     when(htmlSourceDecorator.getDecoratedSourceAsHtml(anyString(), anyString(), anyString())).thenAnswer(new Answer<String>() {
       @Override
       public String answer(InvocationOnMock invocation) throws Throwable {
@@ -80,14 +77,12 @@ public class LinesActionTest {
   public void show_source() throws Exception {
     String projectUuid = "abcd";
     String componentUuid = "efgh";
-    Date updatedAt = new Date();
-    String scmDate = "2014-01-01T12:34:56.789Z";
-    SourceLineDoc line1 = new SourceLineDoc()
-      .setProjectUuid(projectUuid)
-      .setFileUuid(componentUuid)
+    long scmDate = DateUtils.parseDateTime("2014-01-01T12:34:56+0100").getTime();
+    FileSourceDb.Line line1 = FileSourceDb.Line.newBuilder()
       .setLine(1)
       .setScmRevision("cafebabe")
       .setScmAuthor("polop")
+      .setScmDate(scmDate)
       .setSource("class Polop {")
       .setHighlighting("h1")
       .setSymbols("palap")
@@ -97,49 +92,36 @@ public class LinesActionTest {
       .setItLineHits(3)
       .setItConditions(2)
       .setItCoveredConditions(1)
-      .setDuplications(ImmutableList.<Integer>of())
-      .setUpdateDate(updatedAt);
-    line1.setField(SourceLineIndexDefinition.FIELD_SCM_DATE, scmDate);
+      .build();
 
-    SourceLineDoc line2 = new SourceLineDoc()
-      .setProjectUuid(projectUuid)
-      .setFileUuid(componentUuid)
+    FileSourceDb.Line line2 = FileSourceDb.Line.newBuilder()
       .setLine(2)
       .setScmRevision("cafebabe")
       .setScmAuthor("polop")
+      .setScmDate(scmDate)
       .setSource("  // Empty")
       .setHighlighting("h2")
       .setSymbols("pulup")
       .setUtLineHits(3)
       .setUtConditions(2)
       .setUtCoveredConditions(1)
-      .setItLineHits(null)
-      .setItConditions(null)
-      .setItCoveredConditions(null)
-      .setDuplications(ImmutableList.<Integer>of(1))
-      .setUpdateDate(updatedAt);
-    line2.setField(SourceLineIndexDefinition.FIELD_SCM_DATE, scmDate);
-
-    SourceLineDoc line3 = new SourceLineDoc()
-      .setProjectUuid(projectUuid)
-      .setFileUuid(componentUuid)
+      .addDuplication(1)
+      .build();
+
+    FileSourceDb.Line line3 = FileSourceDb.Line.newBuilder()
       .setLine(3)
       .setScmRevision("cafebabe")
       .setScmAuthor("polop")
+      .setScmDate(scmDate)
       .setSource("}")
       .setHighlighting("h3")
       .setSymbols("pylyp")
-      .setUtLineHits(null)
-      .setUtConditions(null)
-      .setUtCoveredConditions(null)
       .setItLineHits(3)
       .setItConditions(2)
       .setItCoveredConditions(1)
-      .setDuplications(ImmutableList.<Integer>of())
-      .setUpdateDate(updatedAt);
-    line3.setField(SourceLineIndexDefinition.FIELD_SCM_DATE, scmDate);
+      .build();
 
-    when(sourceLineIndex.getLines(eq(componentUuid), anyInt(), anyInt())).thenReturn(newArrayList(
+    when(sourceLinesLoader.getLines(eq(componentUuid), anyInt(), anyInt())).thenReturn(newArrayList(
       line1,
       line2,
       line3
@@ -158,7 +140,7 @@ public class LinesActionTest {
   public void fail_to_show_source_if_no_source_found() throws Exception {
     String componentUuid = "abcd";
     String projectUuid = "efgh";
-    when(sourceLineIndex.getLines(anyString(), anyInt(), anyInt())).thenReturn(Lists.<SourceLineDoc>newArrayList());
+    when(sourceLinesLoader.getLines(anyString(), anyInt(), anyInt())).thenReturn(Lists.<FileSourceDb.Line>newArrayList());
 
     String componentKey = "componentKey";
     when(componentService.getByUuid(componentUuid)).thenReturn(new ComponentDto().setKey(componentKey).setProjectUuid(projectUuid));
@@ -182,25 +164,15 @@ public class LinesActionTest {
     when(componentService.getByUuid(fileUuid)).thenReturn(new ComponentDto().setKey(componentKey).setProjectUuid(projectUuid));
     MockUserSession.set().setLogin("login").addProjectUuidPermissions(UserRole.CODEVIEWER, projectUuid);
 
-    when(sourceLineIndex.getLines(fileUuid, 3, 3)).thenReturn(newArrayList(
-      new SourceLineDoc()
-        .setProjectUuid(projectUuid)
-        .setFileUuid(fileUuid)
+    when(sourceLinesLoader.getLines(fileUuid, 3, 3)).thenReturn(newArrayList(
+      FileSourceDb.Line.newBuilder()
         .setLine(3)
         .setScmRevision("cafebabe")
-        .setScmDate(null)
         .setScmAuthor("polop")
         .setSource("}")
         .setHighlighting("")
         .setSymbols("")
-        .setUtLineHits(null)
-        .setUtConditions(null)
-        .setUtCoveredConditions(null)
-        .setItLineHits(null)
-        .setItConditions(null)
-        .setItCoveredConditions(null)
-        .setDuplications(null)
-        .setUpdateDate(new Date())
+        .build()
       ));
     WsTester.TestRequest request = tester
       .newGetRequest("api/sources", "lines")
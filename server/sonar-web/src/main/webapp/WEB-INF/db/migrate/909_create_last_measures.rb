@@ -0,0 +1,37 @@
+#
+# SonarQube, open source software quality management tool.
+# Copyright (C) 2008-2014 SonarSource
+# mailto:contact AT sonarsource DOT com
+#
+# SonarQube is free software; you can redistribute it and/or
+# modify it under the terms of the GNU Lesser General Public
+# License as published by the Free Software Foundation; either
+# version 3 of the License, or (at your option) any later version.
+#
+# SonarQube is distributed in the hope that it will be useful,
+# but WITHOUT ANY WARRANTY; without even the implied warranty of
+# MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+# Lesser General Public License for more details.
+#
+# You should have received a copy of the GNU Lesser General Public License
+# along with this program; if not, write to the Free Software Foundation,
+# Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+#
+#
+# SonarQube 5.2
+#
+class CreateLastMeasures < ActiveRecord::Migration
+
+  def self.up
+    create_table :last_measures, :id => false do |t|
+      t.column :snapshot_id, :integer, :null => false
+      t.column :project_id, :integer, :null => false
+      t.column :root_project_id, :integer, :null => false
+      t.column :measures_data, :binary, :null => true
+    end
+
+    add_index 'last_measures', 'snapshot_id', :unique => true, :name => 'last_measures_snapshot_id'
+    add_index 'last_measures', 'root_project_id', :name => 'last_measures_root_project_id'
+  end
+
+end
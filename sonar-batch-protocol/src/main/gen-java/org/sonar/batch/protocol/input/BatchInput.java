@@ -2218,11 +2218,8267 @@ public final class BatchInput {
     // @@protoc_insertion_point(class_scope:ServerIssue)
   }
 
+  public interface ProjectRepositoriesRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+     */
+    boolean hasHeader();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header getHeader();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+     */
+    boolean hasMetadata();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata getMetadata();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder getMetadataOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+     */
+    boolean hasModuleSettings();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings getModuleSettings();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder getModuleSettingsOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+     */
+    boolean hasQprofile();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile getQprofile();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder getQprofileOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+     */
+    boolean hasActiveRule();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule getActiveRule();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder getActiveRuleOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+     */
+    boolean hasFileData();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData getFileData();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder getFileDataOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+     */
+    boolean hasEnd();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End getEnd();
+    /**
+     * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder getEndOrBuilder();
+  }
+  /**
+   * Protobuf type {@code ProjectRepositoriesRecord}
+   *
+   * <pre>
+   * Response of /batch/project?format=protobuf. It's a stream of delimited records, so that neither server nor batch
+   * have to load the whole document in memory. The first record is the header and the last one is End.
+   * Metadata, settings, quality profiles and active rules are written before the numerous file data.
+   * </pre>
+   */
+  public static final class ProjectRepositoriesRecord extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord)
+      ProjectRepositoriesRecordOrBuilder {
+    // Use ProjectRepositoriesRecord.newBuilder() to construct.
+    private ProjectRepositoriesRecord(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ProjectRepositoriesRecord(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ProjectRepositoriesRecord defaultInstance;
+    public static ProjectRepositoriesRecord getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ProjectRepositoriesRecord getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProjectRepositoriesRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder subBuilder = null;
+              if (recordCase_ == 1) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 1;
+              break;
+            }
+            case 18: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder subBuilder = null;
+              if (recordCase_ == 2) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 2;
+              break;
+            }
+            case 26: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder subBuilder = null;
+              if (recordCase_ == 3) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 3;
+              break;
+            }
+            case 34: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder subBuilder = null;
+              if (recordCase_ == 4) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 4;
+              break;
+            }
+            case 42: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder subBuilder = null;
+              if (recordCase_ == 5) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 5;
+              break;
+            }
+            case 50: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder subBuilder = null;
+              if (recordCase_ == 6) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 6;
+              break;
+            }
+            case 58: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder subBuilder = null;
+              if (recordCase_ == 7) {
+                subBuilder = ((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_).toBuilder();
+              }
+              record_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_);
+                record_ = subBuilder.buildPartial();
+              }
+              recordCase_ = 7;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ProjectRepositoriesRecord> PARSER =
+        new com.google.protobuf.AbstractParser<ProjectRepositoriesRecord>() {
+      public ProjectRepositoriesRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProjectRepositoriesRecord(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProjectRepositoriesRecord> getParserForType() {
+      return PARSER;
+    }
+
+    public interface HeaderOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.Header)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional int32 format_version = 1;</code>
+       */
+      boolean hasFormatVersion();
+      /**
+       * <code>optional int32 format_version = 1;</code>
+       */
+      int getFormatVersion();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.Header}
+     */
+    public static final class Header extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.Header)
+        HeaderOrBuilder {
+      // Use Header.newBuilder() to construct.
+      private Header(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Header(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Header defaultInstance;
+      public static Header getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Header getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Header(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                formatVersion_ = input.readInt32();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Header_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Header_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Header> PARSER =
+          new com.google.protobuf.AbstractParser<Header>() {
+        public Header parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Header(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Header> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int FORMAT_VERSION_FIELD_NUMBER = 1;
+      private int formatVersion_;
+      /**
+       * <code>optional int32 format_version = 1;</code>
+       */
+      public boolean hasFormatVersion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 format_version = 1;</code>
+       */
+      public int getFormatVersion() {
+        return formatVersion_;
+      }
+
+      private void initFields() {
+        formatVersion_ = 0;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeInt32(1, formatVersion_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(1, formatVersion_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.Header}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.Header)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Header_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Header_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          formatVersion_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Header_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.formatVersion_ = formatVersion_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance()) return this;
+          if (other.hasFormatVersion()) {
+            setFormatVersion(other.getFormatVersion());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private int formatVersion_ ;
+        /**
+         * <code>optional int32 format_version = 1;</code>
+         */
+        public boolean hasFormatVersion() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional int32 format_version = 1;</code>
+         */
+        public int getFormatVersion() {
+          return formatVersion_;
+        }
+        /**
+         * <code>optional int32 format_version = 1;</code>
+         */
+        public Builder setFormatVersion(int value) {
+          bitField0_ |= 0x00000001;
+          formatVersion_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int32 format_version = 1;</code>
+         */
+        public Builder clearFormatVersion() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          formatVersion_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.Header)
+      }
+
+      static {
+        defaultInstance = new Header(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.Header)
+    }
+
+    public interface MetadataOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.Metadata)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      boolean hasTimestamp();
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      long getTimestamp();
+
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      boolean hasLastAnalysisDate();
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      long getLastAnalysisDate();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.Metadata}
+     */
+    public static final class Metadata extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.Metadata)
+        MetadataOrBuilder {
+      // Use Metadata.newBuilder() to construct.
+      private Metadata(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Metadata(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Metadata defaultInstance;
+      public static Metadata getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Metadata getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Metadata(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                timestamp_ = input.readInt64();
+                break;
+              }
+              case 16: {
+                bitField0_ |= 0x00000002;
+                lastAnalysisDate_ = input.readInt64();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Metadata_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Metadata_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Metadata> PARSER =
+          new com.google.protobuf.AbstractParser<Metadata>() {
+        public Metadata parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Metadata(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Metadata> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int TIMESTAMP_FIELD_NUMBER = 1;
+      private long timestamp_;
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+
+      public static final int LAST_ANALYSIS_DATE_FIELD_NUMBER = 2;
+      private long lastAnalysisDate_;
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public boolean hasLastAnalysisDate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public long getLastAnalysisDate() {
+        return lastAnalysisDate_;
+      }
+
+      private void initFields() {
+        timestamp_ = 0L;
+        lastAnalysisDate_ = 0L;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeInt64(1, timestamp_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeInt64(2, lastAnalysisDate_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(1, timestamp_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(2, lastAnalysisDate_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.Metadata}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.Metadata)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Metadata_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Metadata_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          timestamp_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          lastAnalysisDate_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Metadata_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.timestamp_ = timestamp_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.lastAnalysisDate_ = lastAnalysisDate_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance()) return this;
+          if (other.hasTimestamp()) {
+            setTimestamp(other.getTimestamp());
+          }
+          if (other.hasLastAnalysisDate()) {
+            setLastAnalysisDate(other.getLastAnalysisDate());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private long timestamp_ ;
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public boolean hasTimestamp() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public long getTimestamp() {
+          return timestamp_;
+        }
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public Builder setTimestamp(long value) {
+          bitField0_ |= 0x00000001;
+          timestamp_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public Builder clearTimestamp() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          timestamp_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private long lastAnalysisDate_ ;
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public boolean hasLastAnalysisDate() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public long getLastAnalysisDate() {
+          return lastAnalysisDate_;
+        }
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public Builder setLastAnalysisDate(long value) {
+          bitField0_ |= 0x00000002;
+          lastAnalysisDate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public Builder clearLastAnalysisDate() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          lastAnalysisDate_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.Metadata)
+      }
+
+      static {
+        defaultInstance = new Metadata(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.Metadata)
+    }
+
+    public interface ModuleSettingsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.ModuleSettings)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      boolean hasModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      java.lang.String getModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getModuleKeyBytes();
+
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> 
+          getSettingList();
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getSetting(int index);
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      int getSettingCount();
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+          getSettingOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder getSettingOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.ModuleSettings}
+     */
+    public static final class ModuleSettings extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.ModuleSettings)
+        ModuleSettingsOrBuilder {
+      // Use ModuleSettings.newBuilder() to construct.
+      private ModuleSettings(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ModuleSettings(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ModuleSettings defaultInstance;
+      public static ModuleSettings getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ModuleSettings getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ModuleSettings(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                moduleKey_ = bs;
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  setting_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                setting_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            setting_ = java.util.Collections.unmodifiableList(setting_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ModuleSettings_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ModuleSettings_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ModuleSettings> PARSER =
+          new com.google.protobuf.AbstractParser<ModuleSettings>() {
+        public ModuleSettings parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ModuleSettings(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ModuleSettings> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int MODULE_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object moduleKey_;
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public boolean hasModuleKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public java.lang.String getModuleKey() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getModuleKeyBytes() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SETTING_FIELD_NUMBER = 2;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> setting_;
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> getSettingList() {
+        return setting_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+          getSettingOrBuilderList() {
+        return setting_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      public int getSettingCount() {
+        return setting_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getSetting(int index) {
+        return setting_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder getSettingOrBuilder(
+          int index) {
+        return setting_.get(index);
+      }
+
+      private void initFields() {
+        moduleKey_ = "";
+        setting_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < setting_.size(); i++) {
+          output.writeMessage(2, setting_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < setting_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, setting_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.ModuleSettings}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.ModuleSettings)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ModuleSettings_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ModuleSettings_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getSettingFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          moduleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (settingBuilder_ == null) {
+            setting_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            settingBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ModuleSettings_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.moduleKey_ = moduleKey_;
+          if (settingBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002)) {
+              setting_ = java.util.Collections.unmodifiableList(setting_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.setting_ = setting_;
+          } else {
+            result.setting_ = settingBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance()) return this;
+          if (other.hasModuleKey()) {
+            bitField0_ |= 0x00000001;
+            moduleKey_ = other.moduleKey_;
+            onChanged();
+          }
+          if (settingBuilder_ == null) {
+            if (!other.setting_.isEmpty()) {
+              if (setting_.isEmpty()) {
+                setting_ = other.setting_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensureSettingIsMutable();
+                setting_.addAll(other.setting_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.setting_.isEmpty()) {
+              if (settingBuilder_.isEmpty()) {
+                settingBuilder_.dispose();
+                settingBuilder_ = null;
+                setting_ = other.setting_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                settingBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getSettingFieldBuilder() : null;
+              } else {
+                settingBuilder_.addAllMessages(other.setting_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object moduleKey_ = "";
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public boolean hasModuleKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public java.lang.String getModuleKey() {
+          java.lang.Object ref = moduleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              moduleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getModuleKeyBytes() {
+          java.lang.Object ref = moduleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            moduleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder clearModuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          moduleKey_ = getDefaultInstance().getModuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> setting_ =
+          java.util.Collections.emptyList();
+        private void ensureSettingIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            setting_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting>(setting_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> settingBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> getSettingList() {
+          if (settingBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(setting_);
+          } else {
+            return settingBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public int getSettingCount() {
+          if (settingBuilder_ == null) {
+            return setting_.size();
+          } else {
+            return settingBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getSetting(int index) {
+          if (settingBuilder_ == null) {
+            return setting_.get(index);
+          } else {
+            return settingBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder setSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting value) {
+          if (settingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSettingIsMutable();
+            setting_.set(index, value);
+            onChanged();
+          } else {
+            settingBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder setSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder builderForValue) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            settingBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder addSetting(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting value) {
+          if (settingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSettingIsMutable();
+            setting_.add(value);
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder addSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting value) {
+          if (settingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSettingIsMutable();
+            setting_.add(index, value);
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder addSetting(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder builderForValue) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.add(builderForValue.build());
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder addSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder builderForValue) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder addAllSetting(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> values) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, setting_);
+            onChanged();
+          } else {
+            settingBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder clearSetting() {
+          if (settingBuilder_ == null) {
+            setting_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            settingBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public Builder removeSetting(int index) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.remove(index);
+            onChanged();
+          } else {
+            settingBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder getSettingBuilder(
+            int index) {
+          return getSettingFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder getSettingOrBuilder(
+            int index) {
+          if (settingBuilder_ == null) {
+            return setting_.get(index);  } else {
+            return settingBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+             getSettingOrBuilderList() {
+          if (settingBuilder_ != null) {
+            return settingBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(setting_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder addSettingBuilder() {
+          return getSettingFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder addSettingBuilder(
+            int index) {
+          return getSettingFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting setting = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder> 
+             getSettingBuilderList() {
+          return getSettingFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+            getSettingFieldBuilder() {
+          if (settingBuilder_ == null) {
+            settingBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder>(
+                    setting_,
+                    ((bitField0_ & 0x00000002) == 0x00000002),
+                    getParentForChildren(),
+                    isClean());
+            setting_ = null;
+          }
+          return settingBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.ModuleSettings)
+      }
+
+      static {
+        defaultInstance = new ModuleSettings(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.ModuleSettings)
+    }
+
+    public interface SettingOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.Setting)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      boolean hasKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      java.lang.String getKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getKeyBytes();
+
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      boolean hasValue();
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      java.lang.String getValue();
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getValueBytes();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.Setting}
+     */
+    public static final class Setting extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.Setting)
+        SettingOrBuilder {
+      // Use Setting.newBuilder() to construct.
+      private Setting(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Setting(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Setting defaultInstance;
+      public static Setting getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Setting getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Setting(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                key_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                value_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Setting_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Setting_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Setting> PARSER =
+          new com.google.protobuf.AbstractParser<Setting>() {
+        public Setting parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Setting(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Setting> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int KEY_FIELD_NUMBER = 1;
+      private java.lang.Object key_;
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private java.lang.Object value_;
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            value_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        key_ = "";
+        value_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getValueBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getValueBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.Setting}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.Setting)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Setting_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Setting_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          key_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          value_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_Setting_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.key_ = key_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.value_ = value_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.getDefaultInstance()) return this;
+          if (other.hasKey()) {
+            bitField0_ |= 0x00000001;
+            key_ = other.key_;
+            onChanged();
+          }
+          if (other.hasValue()) {
+            bitField0_ |= 0x00000002;
+            value_ = other.value_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object key_ = "";
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public boolean hasKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public java.lang.String getKey() {
+          java.lang.Object ref = key_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              key_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getKeyBytes() {
+          java.lang.Object ref = key_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            key_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder clearKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          key_ = getDefaultInstance().getKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object value_ = "";
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              value_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder setValue(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder clearValue() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          value_ = getDefaultInstance().getValue();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder setValueBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.Setting)
+      }
+
+      static {
+        defaultInstance = new Setting(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.Setting)
+    }
+
+    public interface QProfileOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.QProfile)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      boolean hasKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      java.lang.String getKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getKeyBytes();
+
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      boolean hasLanguage();
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      java.lang.String getLanguage();
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getLanguageBytes();
+
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      boolean hasRulesUpdatedAt();
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      long getRulesUpdatedAt();
+
+      /**
+       * <code>optional string active_rules_version = 5;</code>
+       *
+       * <pre>
+       * absent if server does not version active rules
+       * </pre>
+       */
+      boolean hasActiveRulesVersion();
+      /**
+       * <code>optional string active_rules_version = 5;</code>
+       *
+       * <pre>
+       * absent if server does not version active rules
+       * </pre>
+       */
+      java.lang.String getActiveRulesVersion();
+      /**
+       * <code>optional string active_rules_version = 5;</code>
+       *
+       * <pre>
+       * absent if server does not version active rules
+       * </pre>
+       */
+      com.google.protobuf.ByteString
+          getActiveRulesVersionBytes();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.QProfile}
+     */
+    public static final class QProfile extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.QProfile)
+        QProfileOrBuilder {
+      // Use QProfile.newBuilder() to construct.
+      private QProfile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private QProfile(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final QProfile defaultInstance;
+      public static QProfile getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public QProfile getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private QProfile(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                key_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                name_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                language_ = bs;
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                rulesUpdatedAt_ = input.readInt64();
+                break;
+              }
+              case 42: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000010;
+                activeRulesVersion_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_QProfile_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_QProfile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<QProfile> PARSER =
+          new com.google.protobuf.AbstractParser<QProfile>() {
+        public QProfile parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new QProfile(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<QProfile> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int KEY_FIELD_NUMBER = 1;
+      private java.lang.Object key_;
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NAME_FIELD_NUMBER = 2;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LANGUAGE_FIELD_NUMBER = 3;
+      private java.lang.Object language_;
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RULES_UPDATED_AT_FIELD_NUMBER = 4;
+      private long rulesUpdatedAt_;
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      public boolean hasRulesUpdatedAt() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      public long getRulesUpdatedAt() {
+        return rulesUpdatedAt_;
+      }
+
+      public static final int ACTIVE_RULES_VERSION_FIELD_NUMBER = 5;
+      private java.lang.Object activeRulesVersion_;
+      /**
+       * <code>optional string active_rules_version = 5;</code>
+       *
+       * <pre>
+       * absent if server does not version active rules
+       * </pre>
+       */
+      public boolean hasActiveRulesVersion() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string active_rules_version = 5;</code>
+       *
+       * <pre>
+       * absent if server does not version active rules
+       * </pre>
+       */
+      public java.lang.String getActiveRulesVersion() {
+        java.lang.Object ref = activeRulesVersion_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            activeRulesVersion_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string active_rules_version = 5;</code>
+       *
+       * <pre>
+       * absent if server does not version active rules
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getActiveRulesVersionBytes() {
+        java.lang.Object ref = activeRulesVersion_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          activeRulesVersion_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        key_ = "";
+        name_ = "";
+        language_ = "";
+        rulesUpdatedAt_ = 0L;
+        activeRulesVersion_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getLanguageBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeInt64(4, rulesUpdatedAt_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBytes(5, getActiveRulesVersionBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getLanguageBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(4, rulesUpdatedAt_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(5, getActiveRulesVersionBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.QProfile}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.QProfile)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_QProfile_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_QProfile_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          key_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          language_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          rulesUpdatedAt_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          activeRulesVersion_ = "";
+          bitField0_ = (bitField0_ & ~0x00000010);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_QProfile_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.key_ = key_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.language_ = language_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.rulesUpdatedAt_ = rulesUpdatedAt_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.activeRulesVersion_ = activeRulesVersion_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance()) return this;
+          if (other.hasKey()) {
+            bitField0_ |= 0x00000001;
+            key_ = other.key_;
+            onChanged();
+          }
+          if (other.hasName()) {
+            bitField0_ |= 0x00000002;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasLanguage()) {
+            bitField0_ |= 0x00000004;
+            language_ = other.language_;
+            onChanged();
+          }
+          if (other.hasRulesUpdatedAt()) {
+            setRulesUpdatedAt(other.getRulesUpdatedAt());
+          }
+          if (other.hasActiveRulesVersion()) {
+            bitField0_ |= 0x00000010;
+            activeRulesVersion_ = other.activeRulesVersion_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object key_ = "";
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public boolean hasKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public java.lang.String getKey() {
+          java.lang.Object ref = key_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              key_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getKeyBytes() {
+          java.lang.Object ref = key_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            key_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder clearKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          key_ = getDefaultInstance().getKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object language_ = "";
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public boolean hasLanguage() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public java.lang.String getLanguage() {
+          java.lang.Object ref = language_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              language_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLanguageBytes() {
+          java.lang.Object ref = language_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            language_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder setLanguage(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder clearLanguage() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          language_ = getDefaultInstance().getLanguage();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder setLanguageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+
+        private long rulesUpdatedAt_ ;
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public boolean hasRulesUpdatedAt() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public long getRulesUpdatedAt() {
+          return rulesUpdatedAt_;
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public Builder setRulesUpdatedAt(long value) {
+          bitField0_ |= 0x00000008;
+          rulesUpdatedAt_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public Builder clearRulesUpdatedAt() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          rulesUpdatedAt_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object activeRulesVersion_ = "";
+        /**
+         * <code>optional string active_rules_version = 5;</code>
+         *
+         * <pre>
+         * absent if server does not version active rules
+         * </pre>
+         */
+        public boolean hasActiveRulesVersion() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional string active_rules_version = 5;</code>
+         *
+         * <pre>
+         * absent if server does not version active rules
+         * </pre>
+         */
+        public java.lang.String getActiveRulesVersion() {
+          java.lang.Object ref = activeRulesVersion_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              activeRulesVersion_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string active_rules_version = 5;</code>
+         *
+         * <pre>
+         * absent if server does not version active rules
+         * </pre>
+         */
+        public com.google.protobuf.ByteString
+            getActiveRulesVersionBytes() {
+          java.lang.Object ref = activeRulesVersion_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            activeRulesVersion_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string active_rules_version = 5;</code>
+         *
+         * <pre>
+         * absent if server does not version active rules
+         * </pre>
+         */
+        public Builder setActiveRulesVersion(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          activeRulesVersion_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string active_rules_version = 5;</code>
+         *
+         * <pre>
+         * absent if server does not version active rules
+         * </pre>
+         */
+        public Builder clearActiveRulesVersion() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          activeRulesVersion_ = getDefaultInstance().getActiveRulesVersion();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string active_rules_version = 5;</code>
+         *
+         * <pre>
+         * absent if server does not version active rules
+         * </pre>
+         */
+        public Builder setActiveRulesVersionBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          activeRulesVersion_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.QProfile)
+      }
+
+      static {
+        defaultInstance = new QProfile(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.QProfile)
+    }
+
+    public interface ActiveRuleOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.ActiveRule)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      boolean hasRepositoryKey();
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      java.lang.String getRepositoryKey();
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getRepositoryKeyBytes();
+
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      boolean hasRuleKey();
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      java.lang.String getRuleKey();
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getRuleKeyBytes();
+
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      boolean hasTemplateRuleKey();
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      java.lang.String getTemplateRuleKey();
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getTemplateRuleKeyBytes();
+
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      boolean hasSeverity();
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      java.lang.String getSeverity();
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      com.google.protobuf.ByteString
+          getSeverityBytes();
+
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      boolean hasInternalKey();
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      java.lang.String getInternalKey();
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      com.google.protobuf.ByteString
+          getInternalKeyBytes();
+
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      boolean hasLanguage();
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      java.lang.String getLanguage();
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      com.google.protobuf.ByteString
+          getLanguageBytes();
+
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> 
+          getParamList();
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getParam(int index);
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      int getParamCount();
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+          getParamOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder getParamOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.ActiveRule}
+     */
+    public static final class ActiveRule extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.ActiveRule)
+        ActiveRuleOrBuilder {
+      // Use ActiveRule.newBuilder() to construct.
+      private ActiveRule(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ActiveRule(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ActiveRule defaultInstance;
+      public static ActiveRule getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ActiveRule getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ActiveRule(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                repositoryKey_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                ruleKey_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                templateRuleKey_ = bs;
+                break;
+              }
+              case 34: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000008;
+                name_ = bs;
+                break;
+              }
+              case 42: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000010;
+                severity_ = bs;
+                break;
+              }
+              case 50: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000020;
+                internalKey_ = bs;
+                break;
+              }
+              case 58: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000040;
+                language_ = bs;
+                break;
+              }
+              case 66: {
+                if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                  param_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting>();
+                  mutable_bitField0_ |= 0x00000080;
+                }
+                param_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+            param_ = java.util.Collections.unmodifiableList(param_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ActiveRule_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ActiveRule_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ActiveRule> PARSER =
+          new com.google.protobuf.AbstractParser<ActiveRule>() {
+        public ActiveRule parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ActiveRule(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ActiveRule> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int REPOSITORY_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object repositoryKey_;
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public boolean hasRepositoryKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public java.lang.String getRepositoryKey() {
+        java.lang.Object ref = repositoryKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            repositoryKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRepositoryKeyBytes() {
+        java.lang.Object ref = repositoryKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          repositoryKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RULE_KEY_FIELD_NUMBER = 2;
+      private java.lang.Object ruleKey_;
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public boolean hasRuleKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public java.lang.String getRuleKey() {
+        java.lang.Object ref = ruleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            ruleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRuleKeyBytes() {
+        java.lang.Object ref = ruleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ruleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TEMPLATE_RULE_KEY_FIELD_NUMBER = 3;
+      private java.lang.Object templateRuleKey_;
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public boolean hasTemplateRuleKey() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public java.lang.String getTemplateRuleKey() {
+        java.lang.Object ref = templateRuleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            templateRuleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTemplateRuleKeyBytes() {
+        java.lang.Object ref = templateRuleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          templateRuleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NAME_FIELD_NUMBER = 4;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SEVERITY_FIELD_NUMBER = 5;
+      private java.lang.Object severity_;
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public java.lang.String getSeverity() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            severity_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSeverityBytes() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          severity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int INTERNAL_KEY_FIELD_NUMBER = 6;
+      private java.lang.Object internalKey_;
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public boolean hasInternalKey() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public java.lang.String getInternalKey() {
+        java.lang.Object ref = internalKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            internalKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getInternalKeyBytes() {
+        java.lang.Object ref = internalKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          internalKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LANGUAGE_FIELD_NUMBER = 7;
+      private java.lang.Object language_;
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PARAM_FIELD_NUMBER = 8;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> param_;
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> getParamList() {
+        return param_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+          getParamOrBuilderList() {
+        return param_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      public int getParamCount() {
+        return param_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getParam(int index) {
+        return param_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder getParamOrBuilder(
+          int index) {
+        return param_.get(index);
+      }
+
+      private void initFields() {
+        repositoryKey_ = "";
+        ruleKey_ = "";
+        templateRuleKey_ = "";
+        name_ = "";
+        severity_ = "";
+        internalKey_ = "";
+        language_ = "";
+        param_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getRepositoryKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getTemplateRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBytes(4, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBytes(5, getSeverityBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeBytes(6, getInternalKeyBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeBytes(7, getLanguageBytes());
+        }
+        for (int i = 0; i < param_.size(); i++) {
+          output.writeMessage(8, param_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getRepositoryKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getTemplateRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(5, getSeverityBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(6, getInternalKeyBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(7, getLanguageBytes());
+        }
+        for (int i = 0; i < param_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(8, param_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.ActiveRule}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.ActiveRule)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ActiveRule_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ActiveRule_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getParamFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          repositoryKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          ruleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          templateRuleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000008);
+          severity_ = "";
+          bitField0_ = (bitField0_ & ~0x00000010);
+          internalKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000020);
+          language_ = "";
+          bitField0_ = (bitField0_ & ~0x00000040);
+          if (paramBuilder_ == null) {
+            param_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            paramBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_ActiveRule_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.repositoryKey_ = repositoryKey_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.ruleKey_ = ruleKey_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.templateRuleKey_ = templateRuleKey_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.severity_ = severity_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.internalKey_ = internalKey_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.language_ = language_;
+          if (paramBuilder_ == null) {
+            if (((bitField0_ & 0x00000080) == 0x00000080)) {
+              param_ = java.util.Collections.unmodifiableList(param_);
+              bitField0_ = (bitField0_ & ~0x00000080);
+            }
+            result.param_ = param_;
+          } else {
+            result.param_ = paramBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance()) return this;
+          if (other.hasRepositoryKey()) {
+            bitField0_ |= 0x00000001;
+            repositoryKey_ = other.repositoryKey_;
+            onChanged();
+          }
+          if (other.hasRuleKey()) {
+            bitField0_ |= 0x00000002;
+            ruleKey_ = other.ruleKey_;
+            onChanged();
+          }
+          if (other.hasTemplateRuleKey()) {
+            bitField0_ |= 0x00000004;
+            templateRuleKey_ = other.templateRuleKey_;
+            onChanged();
+          }
+          if (other.hasName()) {
+            bitField0_ |= 0x00000008;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasSeverity()) {
+            bitField0_ |= 0x00000010;
+            severity_ = other.severity_;
+            onChanged();
+          }
+          if (other.hasInternalKey()) {
+            bitField0_ |= 0x00000020;
+            internalKey_ = other.internalKey_;
+            onChanged();
+          }
+          if (other.hasLanguage()) {
+            bitField0_ |= 0x00000040;
+            language_ = other.language_;
+            onChanged();
+          }
+          if (paramBuilder_ == null) {
+            if (!other.param_.isEmpty()) {
+              if (param_.isEmpty()) {
+                param_ = other.param_;
+                bitField0_ = (bitField0_ & ~0x00000080);
+              } else {
+                ensureParamIsMutable();
+                param_.addAll(other.param_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.param_.isEmpty()) {
+              if (paramBuilder_.isEmpty()) {
+                paramBuilder_.dispose();
+                paramBuilder_ = null;
+                param_ = other.param_;
+                bitField0_ = (bitField0_ & ~0x00000080);
+                paramBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getParamFieldBuilder() : null;
+              } else {
+                paramBuilder_.addAllMessages(other.param_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object repositoryKey_ = "";
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public boolean hasRepositoryKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public java.lang.String getRepositoryKey() {
+          java.lang.Object ref = repositoryKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              repositoryKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRepositoryKeyBytes() {
+          java.lang.Object ref = repositoryKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            repositoryKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder setRepositoryKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          repositoryKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder clearRepositoryKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          repositoryKey_ = getDefaultInstance().getRepositoryKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder setRepositoryKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          repositoryKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object ruleKey_ = "";
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public boolean hasRuleKey() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public java.lang.String getRuleKey() {
+          java.lang.Object ref = ruleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              ruleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRuleKeyBytes() {
+          java.lang.Object ref = ruleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            ruleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder setRuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          ruleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder clearRuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          ruleKey_ = getDefaultInstance().getRuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder setRuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          ruleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object templateRuleKey_ = "";
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public boolean hasTemplateRuleKey() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public java.lang.String getTemplateRuleKey() {
+          java.lang.Object ref = templateRuleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              templateRuleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getTemplateRuleKeyBytes() {
+          java.lang.Object ref = templateRuleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            templateRuleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder setTemplateRuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          templateRuleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder clearTemplateRuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          templateRuleKey_ = getDefaultInstance().getTemplateRuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder setTemplateRuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          templateRuleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object severity_ = "";
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public boolean hasSeverity() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public java.lang.String getSeverity() {
+          java.lang.Object ref = severity_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              severity_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public com.google.protobuf.ByteString
+            getSeverityBytes() {
+          java.lang.Object ref = severity_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            severity_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder setSeverity(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          severity_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder clearSeverity() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          severity_ = getDefaultInstance().getSeverity();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder setSeverityBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          severity_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object internalKey_ = "";
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public boolean hasInternalKey() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public java.lang.String getInternalKey() {
+          java.lang.Object ref = internalKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              internalKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public com.google.protobuf.ByteString
+            getInternalKeyBytes() {
+          java.lang.Object ref = internalKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            internalKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder setInternalKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          internalKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder clearInternalKey() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          internalKey_ = getDefaultInstance().getInternalKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder setInternalKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          internalKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object language_ = "";
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public boolean hasLanguage() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public java.lang.String getLanguage() {
+          java.lang.Object ref = language_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              language_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLanguageBytes() {
+          java.lang.Object ref = language_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            language_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder setLanguage(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder clearLanguage() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          language_ = getDefaultInstance().getLanguage();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder setLanguageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> param_ =
+          java.util.Collections.emptyList();
+        private void ensureParamIsMutable() {
+          if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+            param_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting>(param_);
+            bitField0_ |= 0x00000080;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> paramBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> getParamList() {
+          if (paramBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(param_);
+          } else {
+            return paramBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public int getParamCount() {
+          if (paramBuilder_ == null) {
+            return param_.size();
+          } else {
+            return paramBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting getParam(int index) {
+          if (paramBuilder_ == null) {
+            return param_.get(index);
+          } else {
+            return paramBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder setParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.set(index, value);
+            onChanged();
+          } else {
+            paramBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder setParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder addParam(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.add(value);
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder addParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.add(index, value);
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder addParam(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.add(builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder addParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder addAllParam(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting> values) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, param_);
+            onChanged();
+          } else {
+            paramBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder clearParam() {
+          if (paramBuilder_ == null) {
+            param_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000080);
+            onChanged();
+          } else {
+            paramBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public Builder removeParam(int index) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.remove(index);
+            onChanged();
+          } else {
+            paramBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder getParamBuilder(
+            int index) {
+          return getParamFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder getParamOrBuilder(
+            int index) {
+          if (paramBuilder_ == null) {
+            return param_.get(index);  } else {
+            return paramBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+             getParamOrBuilderList() {
+          if (paramBuilder_ != null) {
+            return paramBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(param_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder addParamBuilder() {
+          return getParamFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder addParamBuilder(
+            int index) {
+          return getParamFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesRecord.Setting param = 8;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder> 
+             getParamBuilderList() {
+          return getParamFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder> 
+            getParamFieldBuilder() {
+          if (paramBuilder_ == null) {
+            paramBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Setting.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.SettingOrBuilder>(
+                    param_,
+                    ((bitField0_ & 0x00000080) == 0x00000080),
+                    getParentForChildren(),
+                    isClean());
+            param_ = null;
+          }
+          return paramBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.ActiveRule)
+      }
+
+      static {
+        defaultInstance = new ActiveRule(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.ActiveRule)
+    }
+
+    public interface FileDataOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.FileData)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      boolean hasModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      java.lang.String getModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getModuleKeyBytes();
+
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      boolean hasPath();
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      java.lang.String getPath();
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getPathBytes();
+
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      boolean hasHash();
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      java.lang.String getHash();
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getHashBytes();
+
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      boolean hasNeedBlame();
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      boolean getNeedBlame();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.FileData}
+     */
+    public static final class FileData extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.FileData)
+        FileDataOrBuilder {
+      // Use FileData.newBuilder() to construct.
+      private FileData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private FileData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final FileData defaultInstance;
+      public static FileData getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public FileData getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private FileData(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                moduleKey_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                path_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                hash_ = bs;
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                needBlame_ = input.readBool();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_FileData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_FileData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<FileData> PARSER =
+          new com.google.protobuf.AbstractParser<FileData>() {
+        public FileData parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FileData(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<FileData> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int MODULE_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object moduleKey_;
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public boolean hasModuleKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public java.lang.String getModuleKey() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getModuleKeyBytes() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PATH_FIELD_NUMBER = 2;
+      private java.lang.Object path_;
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            path_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int HASH_FIELD_NUMBER = 3;
+      private java.lang.Object hash_;
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      public boolean hasHash() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      public java.lang.String getHash() {
+        java.lang.Object ref = hash_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            hash_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHashBytes() {
+        java.lang.Object ref = hash_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hash_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NEED_BLAME_FIELD_NUMBER = 4;
+      private boolean needBlame_;
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      public boolean hasNeedBlame() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      public boolean getNeedBlame() {
+        return needBlame_;
+      }
+
+      private void initFields() {
+        moduleKey_ = "";
+        path_ = "";
+        hash_ = "";
+        needBlame_ = false;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getModuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getPathBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getHashBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBool(4, needBlame_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getModuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getPathBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getHashBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(4, needBlame_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.FileData}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.FileData)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_FileData_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_FileData_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          moduleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          path_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          hash_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          needBlame_ = false;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_FileData_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.moduleKey_ = moduleKey_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.path_ = path_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.hash_ = hash_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.needBlame_ = needBlame_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance()) return this;
+          if (other.hasModuleKey()) {
+            bitField0_ |= 0x00000001;
+            moduleKey_ = other.moduleKey_;
+            onChanged();
+          }
+          if (other.hasPath()) {
+            bitField0_ |= 0x00000002;
+            path_ = other.path_;
+            onChanged();
+          }
+          if (other.hasHash()) {
+            bitField0_ |= 0x00000004;
+            hash_ = other.hash_;
+            onChanged();
+          }
+          if (other.hasNeedBlame()) {
+            setNeedBlame(other.getNeedBlame());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object moduleKey_ = "";
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public boolean hasModuleKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public java.lang.String getModuleKey() {
+          java.lang.Object ref = moduleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              moduleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getModuleKeyBytes() {
+          java.lang.Object ref = moduleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            moduleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder clearModuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          moduleKey_ = getDefaultInstance().getModuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object path_ = "";
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public boolean hasPath() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public java.lang.String getPath() {
+          java.lang.Object ref = path_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              path_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getPathBytes() {
+          java.lang.Object ref = path_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            path_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public Builder setPath(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public Builder clearPath() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          path_ = getDefaultInstance().getPath();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public Builder setPathBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object hash_ = "";
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public boolean hasHash() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public java.lang.String getHash() {
+          java.lang.Object ref = hash_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              hash_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getHashBytes() {
+          java.lang.Object ref = hash_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            hash_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public Builder setHash(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          hash_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public Builder clearHash() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          hash_ = getDefaultInstance().getHash();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public Builder setHashBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          hash_ = value;
+          onChanged();
+          return this;
+        }
+
+        private boolean needBlame_ ;
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public boolean hasNeedBlame() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public boolean getNeedBlame() {
+          return needBlame_;
+        }
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public Builder setNeedBlame(boolean value) {
+          bitField0_ |= 0x00000008;
+          needBlame_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public Builder clearNeedBlame() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          needBlame_ = false;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.FileData)
+      }
+
+      static {
+        defaultInstance = new FileData(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.FileData)
+    }
+
+    public interface EndOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesRecord.End)
+        com.google.protobuf.MessageOrBuilder {
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord.End}
+     *
+     * <pre>
+     * last record of the stream. Streams without it are truncated.
+     * </pre>
+     */
+    public static final class End extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesRecord.End)
+        EndOrBuilder {
+      // Use End.newBuilder() to construct.
+      private End(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private End(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final End defaultInstance;
+      public static End getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public End getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private End(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_End_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_End_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<End> PARSER =
+          new com.google.protobuf.AbstractParser<End>() {
+        public End parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new End(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<End> getParserForType() {
+        return PARSER;
+      }
+
+      private void initFields() {
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesRecord.End}
+       *
+       * <pre>
+       * last record of the stream. Streams without it are truncated.
+       * </pre>
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord.End)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_End_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_End_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_End_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End(this);
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance()) return this;
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord.End)
+      }
+
+      static {
+        defaultInstance = new End(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord.End)
+    }
+
+    private int bitField0_;
+    private int recordCase_ = 0;
+    private java.lang.Object record_;
+    public enum RecordCase
+        implements com.google.protobuf.Internal.EnumLite {
+      HEADER(1),
+      METADATA(2),
+      MODULE_SETTINGS(3),
+      QPROFILE(4),
+      ACTIVE_RULE(5),
+      FILE_DATA(6),
+      END(7),
+      RECORD_NOT_SET(0);
+      private int value = 0;
+      private RecordCase(int value) {
+        this.value = value;
+      }
+      public static RecordCase valueOf(int value) {
+        switch (value) {
+          case 1: return HEADER;
+          case 2: return METADATA;
+          case 3: return MODULE_SETTINGS;
+          case 4: return QPROFILE;
+          case 5: return ACTIVE_RULE;
+          case 6: return FILE_DATA;
+          case 7: return END;
+          case 0: return RECORD_NOT_SET;
+          default: throw new java.lang.IllegalArgumentException(
+            "Value is undefined for this oneof enum.");
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public RecordCase
+    getRecordCase() {
+      return RecordCase.valueOf(
+          recordCase_);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+     */
+    public boolean hasHeader() {
+      return recordCase_ == 1;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header getHeader() {
+      if (recordCase_ == 1) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder getHeaderOrBuilder() {
+      if (recordCase_ == 1) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+    }
+
+    public static final int METADATA_FIELD_NUMBER = 2;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+     */
+    public boolean hasMetadata() {
+      return recordCase_ == 2;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata getMetadata() {
+      if (recordCase_ == 2) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder getMetadataOrBuilder() {
+      if (recordCase_ == 2) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+    }
+
+    public static final int MODULE_SETTINGS_FIELD_NUMBER = 3;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+     */
+    public boolean hasModuleSettings() {
+      return recordCase_ == 3;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings getModuleSettings() {
+      if (recordCase_ == 3) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder getModuleSettingsOrBuilder() {
+      if (recordCase_ == 3) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+    }
+
+    public static final int QPROFILE_FIELD_NUMBER = 4;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+     */
+    public boolean hasQprofile() {
+      return recordCase_ == 4;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile getQprofile() {
+      if (recordCase_ == 4) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder getQprofileOrBuilder() {
+      if (recordCase_ == 4) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+    }
+
+    public static final int ACTIVE_RULE_FIELD_NUMBER = 5;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+     */
+    public boolean hasActiveRule() {
+      return recordCase_ == 5;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule getActiveRule() {
+      if (recordCase_ == 5) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder getActiveRuleOrBuilder() {
+      if (recordCase_ == 5) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+    }
+
+    public static final int FILE_DATA_FIELD_NUMBER = 6;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+     */
+    public boolean hasFileData() {
+      return recordCase_ == 6;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData getFileData() {
+      if (recordCase_ == 6) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder getFileDataOrBuilder() {
+      if (recordCase_ == 6) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+    }
+
+    public static final int END_FIELD_NUMBER = 7;
+    /**
+     * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+     */
+    public boolean hasEnd() {
+      return recordCase_ == 7;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End getEnd() {
+      if (recordCase_ == 7) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+    }
+    /**
+     * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder getEndOrBuilder() {
+      if (recordCase_ == 7) {
+         return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_;
+      }
+      return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+    }
+
+    private void initFields() {
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (recordCase_ == 1) {
+        output.writeMessage(1, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_);
+      }
+      if (recordCase_ == 2) {
+        output.writeMessage(2, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_);
+      }
+      if (recordCase_ == 3) {
+        output.writeMessage(3, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_);
+      }
+      if (recordCase_ == 4) {
+        output.writeMessage(4, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_);
+      }
+      if (recordCase_ == 5) {
+        output.writeMessage(5, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_);
+      }
+      if (recordCase_ == 6) {
+        output.writeMessage(6, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_);
+      }
+      if (recordCase_ == 7) {
+        output.writeMessage(7, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (recordCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_);
+      }
+      if (recordCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_);
+      }
+      if (recordCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_);
+      }
+      if (recordCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_);
+      }
+      if (recordCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_);
+      }
+      if (recordCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_);
+      }
+      if (recordCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesRecord}
+     *
+     * <pre>
+     * Response of /batch/project?format=protobuf. It's a stream of delimited records, so that neither server nor batch
+     * have to load the whole document in memory. The first record is the header and the last one is End.
+     * Metadata, settings, quality profiles and active rules are written before the numerous file data.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ProjectRepositoriesRecord)
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Builder.class);
+      }
+
+      // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        recordCase_ = 0;
+        record_ = null;
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesRecord_descriptor;
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord getDefaultInstanceForType() {
+        return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.getDefaultInstance();
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord build() {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord buildPartial() {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (recordCase_ == 1) {
+          if (headerBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = headerBuilder_.build();
+          }
+        }
+        if (recordCase_ == 2) {
+          if (metadataBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = metadataBuilder_.build();
+          }
+        }
+        if (recordCase_ == 3) {
+          if (moduleSettingsBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = moduleSettingsBuilder_.build();
+          }
+        }
+        if (recordCase_ == 4) {
+          if (qprofileBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = qprofileBuilder_.build();
+          }
+        }
+        if (recordCase_ == 5) {
+          if (activeRuleBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = activeRuleBuilder_.build();
+          }
+        }
+        if (recordCase_ == 6) {
+          if (fileDataBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = fileDataBuilder_.build();
+          }
+        }
+        if (recordCase_ == 7) {
+          if (endBuilder_ == null) {
+            result.record_ = record_;
+          } else {
+            result.record_ = endBuilder_.build();
+          }
+        }
+        result.bitField0_ = to_bitField0_;
+        result.recordCase_ = recordCase_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord) {
+          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord other) {
+        if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.getDefaultInstance()) return this;
+        switch (other.getRecordCase()) {
+          case HEADER: {
+            mergeHeader(other.getHeader());
+            break;
+          }
+          case METADATA: {
+            mergeMetadata(other.getMetadata());
+            break;
+          }
+          case MODULE_SETTINGS: {
+            mergeModuleSettings(other.getModuleSettings());
+            break;
+          }
+          case QPROFILE: {
+            mergeQprofile(other.getQprofile());
+            break;
+          }
+          case ACTIVE_RULE: {
+            mergeActiveRule(other.getActiveRule());
+            break;
+          }
+          case FILE_DATA: {
+            mergeFileData(other.getFileData());
+            break;
+          }
+          case END: {
+            mergeEnd(other.getEnd());
+            break;
+          }
+          case RECORD_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int recordCase_ = 0;
+      private java.lang.Object record_;
+      public RecordCase
+          getRecordCase() {
+        return RecordCase.valueOf(
+            recordCase_);
+      }
+
+      public Builder clearRecord() {
+        recordCase_ = 0;
+        record_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public boolean hasHeader() {
+        return recordCase_ == 1;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header getHeader() {
+        if (headerBuilder_ == null) {
+          if (recordCase_ == 1) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+        } else {
+          if (recordCase_ == 1) {
+            return headerBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public Builder setHeader(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        recordCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public Builder setHeader(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public Builder mergeHeader(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header value) {
+        if (headerBuilder_ == null) {
+          if (recordCase_ == 1 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 1) {
+            headerBuilder_.mergeFrom(value);
+          }
+          headerBuilder_.setMessage(value);
+        }
+        recordCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          if (recordCase_ == 1) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 1) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          headerBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder getHeaderBuilder() {
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder getHeaderOrBuilder() {
+        if ((recordCase_ == 1) && (headerBuilder_ != null)) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 1) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Header header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          if (!(recordCase_ == 1)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.getDefaultInstance();
+          }
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.HeaderOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Header) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 1;
+        return headerBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder> metadataBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public boolean hasMetadata() {
+        return recordCase_ == 2;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata getMetadata() {
+        if (metadataBuilder_ == null) {
+          if (recordCase_ == 2) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+        } else {
+          if (recordCase_ == 2) {
+            return metadataBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public Builder setMetadata(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata value) {
+        if (metadataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          metadataBuilder_.setMessage(value);
+        }
+        recordCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public Builder setMetadata(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder builderForValue) {
+        if (metadataBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          metadataBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public Builder mergeMetadata(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata value) {
+        if (metadataBuilder_ == null) {
+          if (recordCase_ == 2 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 2) {
+            metadataBuilder_.mergeFrom(value);
+          }
+          metadataBuilder_.setMessage(value);
+        }
+        recordCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public Builder clearMetadata() {
+        if (metadataBuilder_ == null) {
+          if (recordCase_ == 2) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 2) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          metadataBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder getMetadataBuilder() {
+        return getMetadataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder getMetadataOrBuilder() {
+        if ((recordCase_ == 2) && (metadataBuilder_ != null)) {
+          return metadataBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 2) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.Metadata metadata = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder> 
+          getMetadataFieldBuilder() {
+        if (metadataBuilder_ == null) {
+          if (!(recordCase_ == 2)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.getDefaultInstance();
+          }
+          metadataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.MetadataOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.Metadata) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 2;
+        return metadataBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder> moduleSettingsBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public boolean hasModuleSettings() {
+        return recordCase_ == 3;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings getModuleSettings() {
+        if (moduleSettingsBuilder_ == null) {
+          if (recordCase_ == 3) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+        } else {
+          if (recordCase_ == 3) {
+            return moduleSettingsBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public Builder setModuleSettings(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.setMessage(value);
+        }
+        recordCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public Builder setModuleSettings(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder builderForValue) {
+        if (moduleSettingsBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public Builder mergeModuleSettings(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (recordCase_ == 3 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 3) {
+            moduleSettingsBuilder_.mergeFrom(value);
+          }
+          moduleSettingsBuilder_.setMessage(value);
+        }
+        recordCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public Builder clearModuleSettings() {
+        if (moduleSettingsBuilder_ == null) {
+          if (recordCase_ == 3) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 3) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          moduleSettingsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder getModuleSettingsBuilder() {
+        return getModuleSettingsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder getModuleSettingsOrBuilder() {
+        if ((recordCase_ == 3) && (moduleSettingsBuilder_ != null)) {
+          return moduleSettingsBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 3) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ModuleSettings module_settings = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder> 
+          getModuleSettingsFieldBuilder() {
+        if (moduleSettingsBuilder_ == null) {
+          if (!(recordCase_ == 3)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.getDefaultInstance();
+          }
+          moduleSettingsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettingsOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ModuleSettings) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 3;
+        return moduleSettingsBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder> qprofileBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public boolean hasQprofile() {
+        return recordCase_ == 4;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile getQprofile() {
+        if (qprofileBuilder_ == null) {
+          if (recordCase_ == 4) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+        } else {
+          if (recordCase_ == 4) {
+            return qprofileBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public Builder setQprofile(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          qprofileBuilder_.setMessage(value);
+        }
+        recordCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public Builder setQprofile(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder builderForValue) {
+        if (qprofileBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          qprofileBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public Builder mergeQprofile(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (recordCase_ == 4 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 4) {
+            qprofileBuilder_.mergeFrom(value);
+          }
+          qprofileBuilder_.setMessage(value);
+        }
+        recordCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public Builder clearQprofile() {
+        if (qprofileBuilder_ == null) {
+          if (recordCase_ == 4) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 4) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          qprofileBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder getQprofileBuilder() {
+        return getQprofileFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder getQprofileOrBuilder() {
+        if ((recordCase_ == 4) && (qprofileBuilder_ != null)) {
+          return qprofileBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 4) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.QProfile qprofile = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder> 
+          getQprofileFieldBuilder() {
+        if (qprofileBuilder_ == null) {
+          if (!(recordCase_ == 4)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.getDefaultInstance();
+          }
+          qprofileBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfileOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.QProfile) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 4;
+        return qprofileBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder> activeRuleBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public boolean hasActiveRule() {
+        return recordCase_ == 5;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule getActiveRule() {
+        if (activeRuleBuilder_ == null) {
+          if (recordCase_ == 5) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+        } else {
+          if (recordCase_ == 5) {
+            return activeRuleBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public Builder setActiveRule(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          activeRuleBuilder_.setMessage(value);
+        }
+        recordCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public Builder setActiveRule(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder builderForValue) {
+        if (activeRuleBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          activeRuleBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public Builder mergeActiveRule(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (recordCase_ == 5 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 5) {
+            activeRuleBuilder_.mergeFrom(value);
+          }
+          activeRuleBuilder_.setMessage(value);
+        }
+        recordCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public Builder clearActiveRule() {
+        if (activeRuleBuilder_ == null) {
+          if (recordCase_ == 5) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 5) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          activeRuleBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder getActiveRuleBuilder() {
+        return getActiveRuleFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder getActiveRuleOrBuilder() {
+        if ((recordCase_ == 5) && (activeRuleBuilder_ != null)) {
+          return activeRuleBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 5) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.ActiveRule active_rule = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder> 
+          getActiveRuleFieldBuilder() {
+        if (activeRuleBuilder_ == null) {
+          if (!(recordCase_ == 5)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.getDefaultInstance();
+          }
+          activeRuleBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRuleOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.ActiveRule) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 5;
+        return activeRuleBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder> fileDataBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public boolean hasFileData() {
+        return recordCase_ == 6;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData getFileData() {
+        if (fileDataBuilder_ == null) {
+          if (recordCase_ == 6) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+        } else {
+          if (recordCase_ == 6) {
+            return fileDataBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public Builder setFileData(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData value) {
+        if (fileDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          fileDataBuilder_.setMessage(value);
+        }
+        recordCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public Builder setFileData(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder builderForValue) {
+        if (fileDataBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileDataBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public Builder mergeFileData(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData value) {
+        if (fileDataBuilder_ == null) {
+          if (recordCase_ == 6 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 6) {
+            fileDataBuilder_.mergeFrom(value);
+          }
+          fileDataBuilder_.setMessage(value);
+        }
+        recordCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public Builder clearFileData() {
+        if (fileDataBuilder_ == null) {
+          if (recordCase_ == 6) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 6) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          fileDataBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder getFileDataBuilder() {
+        return getFileDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder getFileDataOrBuilder() {
+        if ((recordCase_ == 6) && (fileDataBuilder_ != null)) {
+          return fileDataBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 6) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.FileData file_data = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder> 
+          getFileDataFieldBuilder() {
+        if (fileDataBuilder_ == null) {
+          if (!(recordCase_ == 6)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.getDefaultInstance();
+          }
+          fileDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileDataOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.FileData) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 6;
+        return fileDataBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder> endBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public boolean hasEnd() {
+        return recordCase_ == 7;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End getEnd() {
+        if (endBuilder_ == null) {
+          if (recordCase_ == 7) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+        } else {
+          if (recordCase_ == 7) {
+            return endBuilder_.getMessage();
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public Builder setEnd(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End value) {
+        if (endBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          record_ = value;
+          onChanged();
+        } else {
+          endBuilder_.setMessage(value);
+        }
+        recordCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public Builder setEnd(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder builderForValue) {
+        if (endBuilder_ == null) {
+          record_ = builderForValue.build();
+          onChanged();
+        } else {
+          endBuilder_.setMessage(builderForValue.build());
+        }
+        recordCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public Builder mergeEnd(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End value) {
+        if (endBuilder_ == null) {
+          if (recordCase_ == 7 &&
+              record_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance()) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.newBuilder((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            record_ = value;
+          }
+          onChanged();
+        } else {
+          if (recordCase_ == 7) {
+            endBuilder_.mergeFrom(value);
+          }
+          endBuilder_.setMessage(value);
+        }
+        recordCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public Builder clearEnd() {
+        if (endBuilder_ == null) {
+          if (recordCase_ == 7) {
+            recordCase_ = 0;
+            record_ = null;
+            onChanged();
+          }
+        } else {
+          if (recordCase_ == 7) {
+            recordCase_ = 0;
+            record_ = null;
+          }
+          endBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder getEndBuilder() {
+        return getEndFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder getEndOrBuilder() {
+        if ((recordCase_ == 7) && (endBuilder_ != null)) {
+          return endBuilder_.getMessageOrBuilder();
+        } else {
+          if (recordCase_ == 7) {
+            return (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_;
+          }
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesRecord.End end = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder> 
+          getEndFieldBuilder() {
+        if (endBuilder_ == null) {
+          if (!(recordCase_ == 7)) {
+            record_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.getDefaultInstance();
+          }
+          endBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.EndOrBuilder>(
+                  (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord.End) record_,
+                  getParentForChildren(),
+                  isClean());
+          record_ = null;
+        }
+        recordCase_ = 7;
+        return endBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ProjectRepositoriesRecord)
+    }
+
+    static {
+      defaultInstance = new ProjectRepositoriesRecord(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ProjectRepositoriesRecord)
+  }
+
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ServerIssue_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ServerIssue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_Header_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_Header_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_Metadata_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_Metadata_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_ModuleSettings_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_ModuleSettings_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_Setting_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_Setting_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_QProfile_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_QProfile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_ActiveRule_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_ActiveRule_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_FileData_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_FileData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesRecord_End_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesRecord_End_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -2240,7 +10496,34 @@ public final class BatchInput {
       "\n\017manual_severity\030\t \001(\010\022\022\n\nresolution\030\n " +
       "\001(\t\022\016\n\006status\030\013 \001(\t\022\020\n\010checksum\030\014 \001(\t\022\026\n" +
       "\016assignee_login\030\r \001(\t\022\025\n\rcreation_date\030\016" +
-      " \001(\003B\"\n\036org.sonar.batch.protocol.inputH\001"
+      " \001(\003\"\257\010\n\031ProjectRepositoriesRecord\0223\n\006he" +
+      "ader\030\001 \001(\0132!.ProjectRepositoriesRecord.H",
+      "eaderH\000\0227\n\010metadata\030\002 \001(\0132#.ProjectRepos" +
+      "itoriesRecord.MetadataH\000\022D\n\017module_setti" +
+      "ngs\030\003 \001(\0132).ProjectRepositoriesRecord.Mo" +
+      "duleSettingsH\000\0227\n\010qprofile\030\004 \001(\0132#.Proje" +
+      "ctRepositoriesRecord.QProfileH\000\022<\n\013activ" +
+      "e_rule\030\005 \001(\0132%.ProjectRepositoriesRecord" +
+      ".ActiveRuleH\000\0228\n\tfile_data\030\006 \001(\0132#.Proje" +
+      "ctRepositoriesRecord.FileDataH\000\022-\n\003end\030\007" +
+      " \001(\0132\036.ProjectRepositoriesRecord.EndH\000\032 " +
+      "\n\006Header\022\026\n\016format_version\030\001 \001(\005\0329\n\010Meta",
+      "data\022\021\n\ttimestamp\030\001 \001(\003\022\032\n\022last_analysis" +
+      "_date\030\002 \001(\003\032Y\n\016ModuleSettings\022\022\n\nmodule_" +
+      "key\030\001 \001(\t\0223\n\007setting\030\002 \003(\0132\".ProjectRepo" +
+      "sitoriesRecord.Setting\032%\n\007Setting\022\013\n\003key" +
+      "\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\032o\n\010QProfile\022\013\n\003key" +
+      "\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\020\n\010language\030\003 \001(\t\022\030" +
+      "\n\020rules_updated_at\030\004 \001(\003\022\034\n\024active_rules" +
+      "_version\030\005 \001(\t\032\314\001\n\nActiveRule\022\026\n\016reposit" +
+      "ory_key\030\001 \001(\t\022\020\n\010rule_key\030\002 \001(\t\022\031\n\021templ" +
+      "ate_rule_key\030\003 \001(\t\022\014\n\004name\030\004 \001(\t\022\020\n\010seve",
+      "rity\030\005 \001(\t\022\024\n\014internal_key\030\006 \001(\t\022\020\n\010lang" +
+      "uage\030\007 \001(\t\0221\n\005param\030\010 \003(\0132\".ProjectRepos" +
+      "itoriesRecord.Setting\032N\n\010FileData\022\022\n\nmod" +
+      "ule_key\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\014\n\004hash\030\003 \001(" +
+      "\t\022\022\n\nneed_blame\030\004 \001(\010\032\005\n\003EndB\010\n\006recordB\"" +
+      "\n\036org.sonar.batch.protocol.inputH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -2261,6 +10544,60 @@ public final class BatchInput {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ServerIssue_descriptor,
         new java.lang.String[] { "Key", "ModuleKey", "Path", "RuleRepository", "RuleKey", "Line", "Msg", "Severity", "ManualSeverity", "Resolution", "Status", "Checksum", "AssigneeLogin", "CreationDate", });
+    internal_static_ProjectRepositoriesRecord_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_ProjectRepositoriesRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_descriptor,
+        new java.lang.String[] { "Header", "Metadata", "ModuleSettings", "Qprofile", "ActiveRule", "FileData", "End", "Record", });
+    internal_static_ProjectRepositoriesRecord_Header_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(0);
+    internal_static_ProjectRepositoriesRecord_Header_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_Header_descriptor,
+        new java.lang.String[] { "FormatVersion", });
+    internal_static_ProjectRepositoriesRecord_Metadata_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(1);
+    internal_static_ProjectRepositoriesRecord_Metadata_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_Metadata_descriptor,
+        new java.lang.String[] { "Timestamp", "LastAnalysisDate", });
+    internal_static_ProjectRepositoriesRecord_ModuleSettings_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(2);
+    internal_static_ProjectRepositoriesRecord_ModuleSettings_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_ModuleSettings_descriptor,
+        new java.lang.String[] { "ModuleKey", "Setting", });
+    internal_static_ProjectRepositoriesRecord_Setting_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(3);
+    internal_static_ProjectRepositoriesRecord_Setting_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_Setting_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_ProjectRepositoriesRecord_QProfile_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(4);
+    internal_static_ProjectRepositoriesRecord_QProfile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_QProfile_descriptor,
+        new java.lang.String[] { "Key", "Name", "Language", "RulesUpdatedAt", "ActiveRulesVersion", });
+    internal_static_ProjectRepositoriesRecord_ActiveRule_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(5);
+    internal_static_ProjectRepositoriesRecord_ActiveRule_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_ActiveRule_descriptor,
+        new java.lang.String[] { "RepositoryKey", "RuleKey", "TemplateRuleKey", "Name", "Severity", "InternalKey", "Language", "Param", });
+    internal_static_ProjectRepositoriesRecord_FileData_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(6);
+    internal_static_ProjectRepositoriesRecord_FileData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_FileData_descriptor,
+        new java.lang.String[] { "ModuleKey", "Path", "Hash", "NeedBlame", });
+    internal_static_ProjectRepositoriesRecord_End_descriptor =
+      internal_static_ProjectRepositoriesRecord_descriptor.getNestedTypes().get(7);
+    internal_static_ProjectRepositoriesRecord_End_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesRecord_End_descriptor,
+        new java.lang.String[] { });
     org.sonar.batch.protocol.Constants.getDescriptor();
   }
 
@@ -985,6 +985,696 @@ public final class BatchReport {
     // @@protoc_insertion_point(class_scope:Metadata)
   }
 
+  public interface DictionariesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Dictionaries)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getMetricKeyList();
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    int getMetricKeyCount();
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    java.lang.String getMetricKey(int index);
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getMetricKeyBytes(int index);
+
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getRuleKeyList();
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    int getRuleKeyCount();
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    java.lang.String getRuleKey(int index);
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getRuleKeyBytes(int index);
+  }
+  /**
+   * Protobuf type {@code Dictionaries}
+   *
+   * <pre>
+   * Keys referenced by measures. The ref of a key is its index in the list.
+   * </pre>
+   */
+  public static final class Dictionaries extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Dictionaries)
+      DictionariesOrBuilder {
+    // Use Dictionaries.newBuilder() to construct.
+    private Dictionaries(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Dictionaries(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Dictionaries defaultInstance;
+    public static Dictionaries getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Dictionaries getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Dictionaries(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                metricKey_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              metricKey_.add(bs);
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                ruleKey_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              ruleKey_.add(bs);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          metricKey_ = metricKey_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          ruleKey_ = ruleKey_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.batch.protocol.output.BatchReport.internal_static_Dictionaries_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.batch.protocol.output.BatchReport.internal_static_Dictionaries_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.batch.protocol.output.BatchReport.Dictionaries.class, org.sonar.batch.protocol.output.BatchReport.Dictionaries.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Dictionaries> PARSER =
+        new com.google.protobuf.AbstractParser<Dictionaries>() {
+      public Dictionaries parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Dictionaries(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Dictionaries> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int METRIC_KEY_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList metricKey_;
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getMetricKeyList() {
+      return metricKey_;
+    }
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    public int getMetricKeyCount() {
+      return metricKey_.size();
+    }
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    public java.lang.String getMetricKey(int index) {
+      return metricKey_.get(index);
+    }
+    /**
+     * <code>repeated string metric_key = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMetricKeyBytes(int index) {
+      return metricKey_.getByteString(index);
+    }
+
+    public static final int RULE_KEY_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList ruleKey_;
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRuleKeyList() {
+      return ruleKey_;
+    }
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    public int getRuleKeyCount() {
+      return ruleKey_.size();
+    }
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    public java.lang.String getRuleKey(int index) {
+      return ruleKey_.get(index);
+    }
+    /**
+     * <code>repeated string rule_key = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRuleKeyBytes(int index) {
+      return ruleKey_.getByteString(index);
+    }
+
+    private void initFields() {
+      metricKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      ruleKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < metricKey_.size(); i++) {
+        output.writeBytes(1, metricKey_.getByteString(i));
+      }
+      for (int i = 0; i < ruleKey_.size(); i++) {
+        output.writeBytes(2, ruleKey_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < metricKey_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(metricKey_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getMetricKeyList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ruleKey_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(ruleKey_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getRuleKeyList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.output.BatchReport.Dictionaries parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.batch.protocol.output.BatchReport.Dictionaries prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Dictionaries}
+     *
+     * <pre>
+     * Keys referenced by measures. The ref of a key is its index in the list.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Dictionaries)
+        org.sonar.batch.protocol.output.BatchReport.DictionariesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.output.BatchReport.internal_static_Dictionaries_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.output.BatchReport.internal_static_Dictionaries_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.output.BatchReport.Dictionaries.class, org.sonar.batch.protocol.output.BatchReport.Dictionaries.Builder.class);
+      }
+
+      // Construct using org.sonar.batch.protocol.output.BatchReport.Dictionaries.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        metricKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        ruleKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.batch.protocol.output.BatchReport.internal_static_Dictionaries_descriptor;
+      }
+
+      public org.sonar.batch.protocol.output.BatchReport.Dictionaries getDefaultInstanceForType() {
+        return org.sonar.batch.protocol.output.BatchReport.Dictionaries.getDefaultInstance();
+      }
+
+      public org.sonar.batch.protocol.output.BatchReport.Dictionaries build() {
+        org.sonar.batch.protocol.output.BatchReport.Dictionaries result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.batch.protocol.output.BatchReport.Dictionaries buildPartial() {
+        org.sonar.batch.protocol.output.BatchReport.Dictionaries result = new org.sonar.batch.protocol.output.BatchReport.Dictionaries(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          metricKey_ = metricKey_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.metricKey_ = metricKey_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          ruleKey_ = ruleKey_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.ruleKey_ = ruleKey_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.batch.protocol.output.BatchReport.Dictionaries) {
+          return mergeFrom((org.sonar.batch.protocol.output.BatchReport.Dictionaries)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.batch.protocol.output.BatchReport.Dictionaries other) {
+        if (other == org.sonar.batch.protocol.output.BatchReport.Dictionaries.getDefaultInstance()) return this;
+        if (!other.metricKey_.isEmpty()) {
+          if (metricKey_.isEmpty()) {
+            metricKey_ = other.metricKey_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureMetricKeyIsMutable();
+            metricKey_.addAll(other.metricKey_);
+          }
+          onChanged();
+        }
+        if (!other.ruleKey_.isEmpty()) {
+          if (ruleKey_.isEmpty()) {
+            ruleKey_ = other.ruleKey_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRuleKeyIsMutable();
+            ruleKey_.addAll(other.ruleKey_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.batch.protocol.output.BatchReport.Dictionaries parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.batch.protocol.output.BatchReport.Dictionaries) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList metricKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureMetricKeyIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          metricKey_ = new com.google.protobuf.LazyStringArrayList(metricKey_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getMetricKeyList() {
+        return metricKey_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public int getMetricKeyCount() {
+        return metricKey_.size();
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public java.lang.String getMetricKey(int index) {
+        return metricKey_.get(index);
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMetricKeyBytes(int index) {
+        return metricKey_.getByteString(index);
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public Builder setMetricKey(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureMetricKeyIsMutable();
+        metricKey_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public Builder addMetricKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureMetricKeyIsMutable();
+        metricKey_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public Builder addAllMetricKey(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureMetricKeyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, metricKey_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public Builder clearMetricKey() {
+        metricKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string metric_key = 1;</code>
+       */
+      public Builder addMetricKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureMetricKeyIsMutable();
+        metricKey_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList ruleKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRuleKeyIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          ruleKey_ = new com.google.protobuf.LazyStringArrayList(ruleKey_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRuleKeyList() {
+        return ruleKey_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public int getRuleKeyCount() {
+        return ruleKey_.size();
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public java.lang.String getRuleKey(int index) {
+        return ruleKey_.get(index);
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRuleKeyBytes(int index) {
+        return ruleKey_.getByteString(index);
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public Builder setRuleKey(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRuleKeyIsMutable();
+        ruleKey_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public Builder addRuleKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRuleKeyIsMutable();
+        ruleKey_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public Builder addAllRuleKey(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRuleKeyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ruleKey_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public Builder clearRuleKey() {
+        ruleKey_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rule_key = 2;</code>
+       */
+      public Builder addRuleKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRuleKeyIsMutable();
+        ruleKey_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Dictionaries)
+    }
+
+    static {
+      defaultInstance = new Dictionaries(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Dictionaries)
+  }
+
   public interface ComponentLinkOrBuilder extends
       // @@protoc_insertion_point(interface_extends:ComponentLink)
       com.google.protobuf.MessageOrBuilder {
@@ -5527,6 +6217,32 @@ public final class BatchReport {
      * <code>optional int32 person_id = 21;</code>
      */
     int getPersonId();
+
+    /**
+     * <code>optional int32 metric_ref = 22;</code>
+     *
+     * <pre>
+     * refs in Dictionaries, replacing metric_key and rule_key
+     * </pre>
+     */
+    boolean hasMetricRef();
+    /**
+     * <code>optional int32 metric_ref = 22;</code>
+     *
+     * <pre>
+     * refs in Dictionaries, replacing metric_key and rule_key
+     * </pre>
+     */
+    int getMetricRef();
+
+    /**
+     * <code>optional int32 rule_ref = 23;</code>
+     */
+    boolean hasRuleRef();
+    /**
+     * <code>optional int32 rule_ref = 23;</code>
+     */
+    int getRuleRef();
   }
   /**
    * Protobuf type {@code Measure}
@@ -5698,6 +6414,16 @@ public final class BatchReport {
               personId_ = input.readInt32();
               break;
             }
+            case 176: {
+              bitField0_ |= 0x00100000;
+              metricRef_ = input.readInt32();
+              break;
+            }
+            case 184: {
+              bitField0_ |= 0x00200000;
+              ruleRef_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6220,6 +6946,44 @@ public final class BatchReport {
       return personId_;
     }
 
+    public static final int METRIC_REF_FIELD_NUMBER = 22;
+    private int metricRef_;
+    /**
+     * <code>optional int32 metric_ref = 22;</code>
+     *
+     * <pre>
+     * refs in Dictionaries, replacing metric_key and rule_key
+     * </pre>
+     */
+    public boolean hasMetricRef() {
+      return ((bitField0_ & 0x00100000) == 0x00100000);
+    }
+    /**
+     * <code>optional int32 metric_ref = 22;</code>
+     *
+     * <pre>
+     * refs in Dictionaries, replacing metric_key and rule_key
+     * </pre>
+     */
+    public int getMetricRef() {
+      return metricRef_;
+    }
+
+    public static final int RULE_REF_FIELD_NUMBER = 23;
+    private int ruleRef_;
+    /**
+     * <code>optional int32 rule_ref = 23;</code>
+     */
+    public boolean hasRuleRef() {
+      return ((bitField0_ & 0x00200000) == 0x00200000);
+    }
+    /**
+     * <code>optional int32 rule_ref = 23;</code>
+     */
+    public int getRuleRef() {
+      return ruleRef_;
+    }
+
     private void initFields() {
       valueType_ = org.sonar.batch.protocol.Constants.MeasureValueType.INT;
       booleanValue_ = false;
@@ -6241,6 +7005,8 @@ public final class BatchReport {
       tendency_ = 0;
       charactericId_ = 0;
       personId_ = 0;
+      metricRef_ = 0;
+      ruleRef_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6315,6 +7081,12 @@ public final class BatchReport {
       if (((bitField0_ & 0x00080000) == 0x00080000)) {
         output.writeInt32(21, personId_);
       }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        output.writeInt32(22, metricRef_);
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        output.writeInt32(23, ruleRef_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -6404,6 +7176,14 @@ public final class BatchReport {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(21, personId_);
       }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(22, metricRef_);
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(23, ruleRef_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -6561,6 +7341,10 @@ public final class BatchReport {
         bitField0_ = (bitField0_ & ~0x00040000);
         personId_ = 0;
         bitField0_ = (bitField0_ & ~0x00080000);
+        metricRef_ = 0;
+        bitField0_ = (bitField0_ & ~0x00100000);
+        ruleRef_ = 0;
+        bitField0_ = (bitField0_ & ~0x00200000);
         return this;
       }
 
@@ -6669,6 +7453,14 @@ public final class BatchReport {
           to_bitField0_ |= 0x00080000;
         }
         result.personId_ = personId_;
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00100000;
+        }
+        result.metricRef_ = metricRef_;
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00200000;
+        }
+        result.ruleRef_ = ruleRef_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6757,6 +7549,12 @@ public final class BatchReport {
         if (other.hasPersonId()) {
           setPersonId(other.getPersonId());
         }
+        if (other.hasMetricRef()) {
+          setMetricRef(other.getMetricRef());
+        }
+        if (other.hasRuleRef()) {
+          setRuleRef(other.getRuleRef());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -7734,6 +8532,86 @@ public final class BatchReport {
         return this;
       }
 
+      private int metricRef_ ;
+      /**
+       * <code>optional int32 metric_ref = 22;</code>
+       *
+       * <pre>
+       * refs in Dictionaries, replacing metric_key and rule_key
+       * </pre>
+       */
+      public boolean hasMetricRef() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
+      /**
+       * <code>optional int32 metric_ref = 22;</code>
+       *
+       * <pre>
+       * refs in Dictionaries, replacing metric_key and rule_key
+       * </pre>
+       */
+      public int getMetricRef() {
+        return metricRef_;
+      }
+      /**
+       * <code>optional int32 metric_ref = 22;</code>
+       *
+       * <pre>
+       * refs in Dictionaries, replacing metric_key and rule_key
+       * </pre>
+       */
+      public Builder setMetricRef(int value) {
+        bitField0_ |= 0x00100000;
+        metricRef_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 metric_ref = 22;</code>
+       *
+       * <pre>
+       * refs in Dictionaries, replacing metric_key and rule_key
+       * </pre>
+       */
+      public Builder clearMetricRef() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        metricRef_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int ruleRef_ ;
+      /**
+       * <code>optional int32 rule_ref = 23;</code>
+       */
+      public boolean hasRuleRef() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
+      }
+      /**
+       * <code>optional int32 rule_ref = 23;</code>
+       */
+      public int getRuleRef() {
+        return ruleRef_;
+      }
+      /**
+       * <code>optional int32 rule_ref = 23;</code>
+       */
+      public Builder setRuleRef(int value) {
+        bitField0_ |= 0x00200000;
+        ruleRef_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 rule_ref = 23;</code>
+       */
+      public Builder clearRuleRef() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        ruleRef_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:Measure)
     }
 
@@ -21086,6 +21964,11 @@ public final class BatchReport {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Metadata_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Dictionaries_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Dictionaries_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ComponentLink_descriptor;
   private static
@@ -21184,71 +22067,73 @@ public final class BatchReport {
       "\n\010Metadata\022\025\n\ranalysis_date\030\001 \001(\003\022\023\n\013pro" +
       "ject_key\030\002 \001(\t\022\016\n\006branch\030\006 \001(\t\022\032\n\022root_c" +
       "omponent_ref\030\003 \001(\005\022\023\n\013snapshot_id\030\004 \001(\003\022" +
-      " \n\030deleted_components_count\030\005 \001(\005\"?\n\rCom" +
-      "ponentLink\022 \n\004type\030\001 \001(\0162\022.ComponentLink" +
-      "Type\022\014\n\004href\030\002 \001(\t\"w\n\005Event\022\025\n\rcomponent" +
-      "_ref\030\001 \001(\005\022\014\n\004name\030\002 \001(\t\022\023\n\013description\030" +
-      "\003 \001(\t\022 \n\010category\030\004 \001(\0162\016.EventCategory\022" +
-      "\022\n\nevent_data\030\005 \001(\t\"\235\002\n\tComponent\022\013\n\003ref",
-      "\030\001 \001(\005\022\014\n\004path\030\002 \001(\t\022\014\n\004name\030\003 \001(\t\022\034\n\004ty" +
-      "pe\030\004 \001(\0162\016.ComponentType\022\017\n\007is_test\030\005 \001(" +
-      "\010\022\020\n\010language\030\006 \001(\t\022\025\n\tchild_ref\030\007 \003(\005B\002" +
-      "\020\001\022\034\n\004link\030\n \003(\0132\016.ComponentLink\022\017\n\007vers" +
-      "ion\030\014 \001(\t\022\013\n\003key\030\016 \001(\t\022\r\n\005lines\030\017 \001(\005\022\n\n" +
-      "\002id\030\r \001(\003\022\023\n\013snapshot_id\030\010 \001(\003\022\014\n\004uuid\030\t" +
-      " \001(\t\022\025\n\005event\030\013 \003(\0132\006.Event\"\340\003\n\007Measure\022" +
-      "%\n\nvalue_type\030\001 \001(\0162\021.MeasureValueType\022\025" +
-      "\n\rboolean_value\030\002 \001(\010\022\021\n\tint_value\030\003 \001(\005" +
-      "\022\022\n\nlong_value\030\004 \001(\003\022\024\n\014double_value\030\005 \001",
-      "(\001\022\024\n\014string_value\030\006 \001(\t\022\022\n\nmetric_key\030\007" +
-      " \001(\t\022\023\n\013description\030\t \001(\t\022\020\n\010rule_key\030\n " +
-      "\001(\t\022\033\n\010severity\030\013 \001(\0162\t.Severity\022\024\n\014aler" +
-      "t_status\030\014 \001(\t\022\022\n\nalert_text\030\r \001(\t\022\031\n\021va" +
-      "riation_value_1\030\016 \001(\001\022\031\n\021variation_value" +
-      "_2\030\017 \001(\001\022\031\n\021variation_value_3\030\020 \001(\001\022\031\n\021v" +
-      "ariation_value_4\030\021 \001(\001\022\031\n\021variation_valu" +
-      "e_5\030\022 \001(\001\022\020\n\010tendency\030\023 \001(\005\022\026\n\016character" +
-      "ic_id\030\024 \001(\005\022\021\n\tperson_id\030\025 \001(\005\"<\n\010Measur" +
-      "es\022\025\n\rcomponent_ref\030\001 \001(\005\022\031\n\007measure\030\002 \003",
-      "(\0132\010.Measure\"\231\004\n\005Issue\022\027\n\017rule_repositor" +
-      "y\030\001 \001(\t\022\020\n\010rule_key\030\002 \001(\t\022\014\n\004line\030\003 \001(\005\022" +
-      "\013\n\003msg\030\004 \001(\t\022\033\n\010severity\030\005 \001(\0162\t.Severit" +
-      "y\022\013\n\003tag\030\006 \003(\t\022\025\n\reffort_to_fix\030\007 \001(\001\022\016\n" +
-      "\006is_new\030\010 \001(\010\022\014\n\004uuid\030\t \001(\t\022\027\n\017debt_in_m" +
-      "inutes\030\n \001(\003\022\022\n\nresolution\030\013 \001(\t\022\016\n\006stat" +
-      "us\030\014 \001(\t\022\020\n\010checksum\030\r \001(\t\022\027\n\017manual_sev" +
-      "erity\030\016 \001(\010\022\020\n\010reporter\030\017 \001(\t\022\020\n\010assigne" +
-      "e\030\020 \001(\t\022\027\n\017action_plan_key\030\021 \001(\t\022\022\n\nattr" +
-      "ibutes\030\022 \001(\t\022\024\n\014author_login\030\023 \001(\t\022\025\n\rcr",
-      "eation_date\030\024 \001(\003\022\022\n\nclose_date\030\025 \001(\003\022\023\n" +
-      "\013update_date\030\026 \001(\003\022\023\n\013selected_at\030\027 \001(\003\022" +
-      "\023\n\013diff_fields\030\030 \001(\t\022\022\n\nis_changed\030\031 \001(\010" +
-      "\022\036\n\026must_send_notification\030\032 \001(\010\"N\n\006Issu" +
-      "es\022\025\n\rcomponent_ref\030\001 \001(\005\022\025\n\005issue\030\002 \003(\013" +
-      "2\006.Issue\022\026\n\016component_uuid\030\003 \001(\t\"\236\001\n\003Scm" +
-      "\022\025\n\rcomponent_ref\030\001 \001(\005\022!\n\tchangeset\030\002 \003" +
-      "(\0132\016.Scm.Changeset\022 \n\024changesetIndexByLi" +
-      "ne\030\003 \003(\005B\002\020\001\032;\n\tChangeset\022\020\n\010revision\030\001 " +
-      "\001(\t\022\016\n\006author\030\002 \001(\t\022\014\n\004date\030\003 \001(\003\"R\n\tDup",
-      "licate\022\026\n\016other_file_ref\030\001 \001(\005\022\025\n\005range\030" +
-      "\002 \001(\0132\006.Range\022\026\n\016other_file_key\030\003 \001(\t\"M\n" +
-      "\013Duplication\022\037\n\017origin_position\030\001 \001(\0132\006." +
-      "Range\022\035\n\tduplicate\030\002 \003(\0132\n.Duplicate\"H\n\014" +
-      "Duplications\022\025\n\rcomponent_ref\030\001 \001(\005\022!\n\013d" +
-      "uplication\030\002 \003(\0132\014.Duplication\"W\n\005Range\022" +
-      "\022\n\nstart_line\030\001 \001(\005\022\020\n\010end_line\030\002 \001(\005\022\024\n" +
-      "\014start_offset\030\003 \001(\005\022\022\n\nend_offset\030\004 \001(\005\"" +
-      "~\n\007Symbols\022\020\n\010file_ref\030\001 \001(\005\022\037\n\006symbol\030\002" +
-      " \003(\0132\017.Symbols.Symbol\032@\n\006Symbol\022\033\n\013decla",
-      "ration\030\001 \001(\0132\006.Range\022\031\n\treference\030\002 \003(\0132" +
-      "\006.Range\"\260\001\n\010Coverage\022\014\n\004line\030\001 \001(\005\022\022\n\nco" +
-      "nditions\030\002 \001(\005\022\017\n\007ut_hits\030\003 \001(\010\022\017\n\007it_hi" +
-      "ts\030\004 \001(\010\022\035\n\025ut_covered_conditions\030\005 \001(\005\022" +
-      "\035\n\025it_covered_conditions\030\006 \001(\005\022\"\n\032overal" +
-      "l_covered_conditions\030\007 \001(\005\"L\n\022SyntaxHigh" +
-      "lighting\022\025\n\005range\030\001 \001(\0132\006.Range\022\037\n\004type\030" +
-      "\002 \001(\0162\021.HighlightingTypeB#\n\037org.sonar.ba" +
-      "tch.protocol.outputH\001"
+      " \n\030deleted_components_count\030\005 \001(\005\"4\n\014Dic" +
+      "tionaries\022\022\n\nmetric_key\030\001 \003(\t\022\020\n\010rule_ke" +
+      "y\030\002 \003(\t\"?\n\rComponentLink\022 \n\004type\030\001 \001(\0162\022" +
+      ".ComponentLinkType\022\014\n\004href\030\002 \001(\t\"w\n\005Even" +
+      "t\022\025\n\rcomponent_ref\030\001 \001(\005\022\014\n\004name\030\002 \001(\t\022\023" +
+      "\n\013description\030\003 \001(\t\022 \n\010category\030\004 \001(\0162\016.",
+      "EventCategory\022\022\n\nevent_data\030\005 \001(\t\"\235\002\n\tCo" +
+      "mponent\022\013\n\003ref\030\001 \001(\005\022\014\n\004path\030\002 \001(\t\022\014\n\004na" +
+      "me\030\003 \001(\t\022\034\n\004type\030\004 \001(\0162\016.ComponentType\022\017" +
+      "\n\007is_test\030\005 \001(\010\022\020\n\010language\030\006 \001(\t\022\025\n\tchi" +
+      "ld_ref\030\007 \003(\005B\002\020\001\022\034\n\004link\030\n \003(\0132\016.Compone" +
+      "ntLink\022\017\n\007version\030\014 \001(\t\022\013\n\003key\030\016 \001(\t\022\r\n\005" +
+      "lines\030\017 \001(\005\022\n\n\002id\030\r \001(\003\022\023\n\013snapshot_id\030\010" +
+      " \001(\003\022\014\n\004uuid\030\t \001(\t\022\025\n\005event\030\013 \003(\0132\006.Even" +
+      "t\"\206\004\n\007Measure\022%\n\nvalue_type\030\001 \001(\0162\021.Meas" +
+      "ureValueType\022\025\n\rboolean_value\030\002 \001(\010\022\021\n\ti",
+      "nt_value\030\003 \001(\005\022\022\n\nlong_value\030\004 \001(\003\022\024\n\014do" +
+      "uble_value\030\005 \001(\001\022\024\n\014string_value\030\006 \001(\t\022\022" +
+      "\n\nmetric_key\030\007 \001(\t\022\023\n\013description\030\t \001(\t\022" +
+      "\020\n\010rule_key\030\n \001(\t\022\033\n\010severity\030\013 \001(\0162\t.Se" +
+      "verity\022\024\n\014alert_status\030\014 \001(\t\022\022\n\nalert_te" +
+      "xt\030\r \001(\t\022\031\n\021variation_value_1\030\016 \001(\001\022\031\n\021v" +
+      "ariation_value_2\030\017 \001(\001\022\031\n\021variation_valu" +
+      "e_3\030\020 \001(\001\022\031\n\021variation_value_4\030\021 \001(\001\022\031\n\021" +
+      "variation_value_5\030\022 \001(\001\022\020\n\010tendency\030\023 \001(" +
+      "\005\022\026\n\016characteric_id\030\024 \001(\005\022\021\n\tperson_id\030\025",
+      " \001(\005\022\022\n\nmetric_ref\030\026 \001(\005\022\020\n\010rule_ref\030\027 \001" +
+      "(\005\"<\n\010Measures\022\025\n\rcomponent_ref\030\001 \001(\005\022\031\n" +
+      "\007measure\030\002 \003(\0132\010.Measure\"\231\004\n\005Issue\022\027\n\017ru" +
+      "le_repository\030\001 \001(\t\022\020\n\010rule_key\030\002 \001(\t\022\014\n" +
+      "\004line\030\003 \001(\005\022\013\n\003msg\030\004 \001(\t\022\033\n\010severity\030\005 \001" +
+      "(\0162\t.Severity\022\013\n\003tag\030\006 \003(\t\022\025\n\reffort_to_" +
+      "fix\030\007 \001(\001\022\016\n\006is_new\030\010 \001(\010\022\014\n\004uuid\030\t \001(\t\022" +
+      "\027\n\017debt_in_minutes\030\n \001(\003\022\022\n\nresolution\030\013" +
+      " \001(\t\022\016\n\006status\030\014 \001(\t\022\020\n\010checksum\030\r \001(\t\022\027" +
+      "\n\017manual_severity\030\016 \001(\010\022\020\n\010reporter\030\017 \001(",
+      "\t\022\020\n\010assignee\030\020 \001(\t\022\027\n\017action_plan_key\030\021" +
+      " \001(\t\022\022\n\nattributes\030\022 \001(\t\022\024\n\014author_login" +
+      "\030\023 \001(\t\022\025\n\rcreation_date\030\024 \001(\003\022\022\n\nclose_d" +
+      "ate\030\025 \001(\003\022\023\n\013update_date\030\026 \001(\003\022\023\n\013select" +
+      "ed_at\030\027 \001(\003\022\023\n\013diff_fields\030\030 \001(\t\022\022\n\nis_c" +
+      "hanged\030\031 \001(\010\022\036\n\026must_send_notification\030\032" +
+      " \001(\010\"N\n\006Issues\022\025\n\rcomponent_ref\030\001 \001(\005\022\025\n" +
+      "\005issue\030\002 \003(\0132\006.Issue\022\026\n\016component_uuid\030\003" +
+      " \001(\t\"\236\001\n\003Scm\022\025\n\rcomponent_ref\030\001 \001(\005\022!\n\tc" +
+      "hangeset\030\002 \003(\0132\016.Scm.Changeset\022 \n\024change",
+      "setIndexByLine\030\003 \003(\005B\002\020\001\032;\n\tChangeset\022\020\n" +
+      "\010revision\030\001 \001(\t\022\016\n\006author\030\002 \001(\t\022\014\n\004date\030" +
+      "\003 \001(\003\"R\n\tDuplicate\022\026\n\016other_file_ref\030\001 \001" +
+      "(\005\022\025\n\005range\030\002 \001(\0132\006.Range\022\026\n\016other_file_" +
+      "key\030\003 \001(\t\"M\n\013Duplication\022\037\n\017origin_posit" +
+      "ion\030\001 \001(\0132\006.Range\022\035\n\tduplicate\030\002 \003(\0132\n.D" +
+      "uplicate\"H\n\014Duplications\022\025\n\rcomponent_re" +
+      "f\030\001 \001(\005\022!\n\013duplication\030\002 \003(\0132\014.Duplicati" +
+      "on\"W\n\005Range\022\022\n\nstart_line\030\001 \001(\005\022\020\n\010end_l" +
+      "ine\030\002 \001(\005\022\024\n\014start_offset\030\003 \001(\005\022\022\n\nend_o",
+      "ffset\030\004 \001(\005\"~\n\007Symbols\022\020\n\010file_ref\030\001 \001(\005" +
+      "\022\037\n\006symbol\030\002 \003(\0132\017.Symbols.Symbol\032@\n\006Sym" +
+      "bol\022\033\n\013declaration\030\001 \001(\0132\006.Range\022\031\n\trefe" +
+      "rence\030\002 \003(\0132\006.Range\"\260\001\n\010Coverage\022\014\n\004line" +
+      "\030\001 \001(\005\022\022\n\nconditions\030\002 \001(\005\022\017\n\007ut_hits\030\003 " +
+      "\001(\010\022\017\n\007it_hits\030\004 \001(\010\022\035\n\025ut_covered_condi" +
+      "tions\030\005 \001(\005\022\035\n\025it_covered_conditions\030\006 \001" +
+      "(\005\022\"\n\032overall_covered_conditions\030\007 \001(\005\"L" +
+      "\n\022SyntaxHighlighting\022\025\n\005range\030\001 \001(\0132\006.Ra" +
+      "nge\022\037\n\004type\030\002 \001(\0162\021.HighlightingTypeB#\n\037",
+      "org.sonar.batch.protocol.outputH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -21269,50 +22154,56 @@ public final class BatchReport {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Metadata_descriptor,
         new java.lang.String[] { "AnalysisDate", "ProjectKey", "Branch", "RootComponentRef", "SnapshotId", "DeletedComponentsCount", });
-    internal_static_ComponentLink_descriptor =
+    internal_static_Dictionaries_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_Dictionaries_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Dictionaries_descriptor,
+        new java.lang.String[] { "MetricKey", "RuleKey", });
+    internal_static_ComponentLink_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_ComponentLink_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ComponentLink_descriptor,
         new java.lang.String[] { "Type", "Href", });
     internal_static_Event_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(3);
     internal_static_Event_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Event_descriptor,
         new java.lang.String[] { "ComponentRef", "Name", "Description", "Category", "EventData", });
     internal_static_Component_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_Component_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Component_descriptor,
         new java.lang.String[] { "Ref", "Path", "Name", "Type", "IsTest", "Language", "ChildRef", "Link", "Version", "Key", "Lines", "Id", "SnapshotId", "Uuid", "Event", });
     internal_static_Measure_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_Measure_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Measure_descriptor,
-        new java.lang.String[] { "ValueType", "BooleanValue", "IntValue", "LongValue", "DoubleValue", "StringValue", "MetricKey", "Description", "RuleKey", "Severity", "AlertStatus", "AlertText", "VariationValue1", "VariationValue2", "VariationValue3", "VariationValue4", "VariationValue5", "Tendency", "CharactericId", "PersonId", });
+        new java.lang.String[] { "ValueType", "BooleanValue", "IntValue", "LongValue", "DoubleValue", "StringValue", "MetricKey", "Description", "RuleKey", "Severity", "AlertStatus", "AlertText", "VariationValue1", "VariationValue2", "VariationValue3", "VariationValue4", "VariationValue5", "Tendency", "CharactericId", "PersonId", "MetricRef", "RuleRef", });
     internal_static_Measures_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_Measures_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Measures_descriptor,
         new java.lang.String[] { "ComponentRef", "Measure", });
     internal_static_Issue_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_Issue_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Issue_descriptor,
         new java.lang.String[] { "RuleRepository", "RuleKey", "Line", "Msg", "Severity", "Tag", "EffortToFix", "IsNew", "Uuid", "DebtInMinutes", "Resolution", "Status", "Checksum", "ManualSeverity", "Reporter", "Assignee", "ActionPlanKey", "Attributes", "AuthorLogin", "CreationDate", "CloseDate", "UpdateDate", "SelectedAt", "DiffFields", "IsChanged", "MustSendNotification", });
     internal_static_Issues_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_Issues_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Issues_descriptor,
         new java.lang.String[] { "ComponentRef", "Issue", "ComponentUuid", });
     internal_static_Scm_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_Scm_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Scm_descriptor,
@@ -21324,31 +22215,31 @@ public final class BatchReport {
         internal_static_Scm_Changeset_descriptor,
         new java.lang.String[] { "Revision", "Author", "Date", });
     internal_static_Duplicate_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_Duplicate_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Duplicate_descriptor,
         new java.lang.String[] { "OtherFileRef", "Range", "OtherFileKey", });
     internal_static_Duplication_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_Duplication_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Duplication_descriptor,
         new java.lang.String[] { "OriginPosition", "Duplicate", });
     internal_static_Duplications_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_Duplications_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Duplications_descriptor,
         new java.lang.String[] { "ComponentRef", "Duplication", });
     internal_static_Range_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_Range_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Range_descriptor,
         new java.lang.String[] { "StartLine", "EndLine", "StartOffset", "EndOffset", });
     internal_static_Symbols_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_Symbols_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Symbols_descriptor,
@@ -21360,13 +22251,13 @@ public final class BatchReport {
         internal_static_Symbols_Symbol_descriptor,
         new java.lang.String[] { "Declaration", "Reference", });
     internal_static_Coverage_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_Coverage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Coverage_descriptor,
         new java.lang.String[] { "Line", "Conditions", "UtHits", "ItHits", "UtCoveredConditions", "ItCoveredConditions", "OverallCoveredConditions", });
     internal_static_SyntaxHighlighting_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_SyntaxHighlighting_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SyntaxHighlighting_descriptor,
@@ -24,6 +24,7 @@ import org.sonar.batch.protocol.GsonHelper;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
+import java.io.Reader;
 import java.util.*;
 
 /**
@@ -39,6 +40,10 @@ public class ProjectRepositories {
   private Map<String, Map<String, FileData>> fileDataByModuleAndPath = new HashMap<String, Map<String, FileData>>();
   private Date lastAnalysisDate;
 
+  public Map<String, Map<String, String>> settingsByModule() {
+    return settingsByModule;
+  }
+
   public Map<String, String> settings(String moduleKey) {
     return settingsByModule.containsKey(moduleKey) ? settingsByModule.get(moduleKey) : Collections.<String, String>emptyMap();
   }
@@ -71,6 +76,10 @@ public class ProjectRepositories {
     return this;
   }
 
+  public Map<String, Map<String, FileData>> fileDataByModuleAndPath() {
+    return fileDataByModuleAndPath;
+  }
+
   public Map<String, FileData> fileDataByPath(String moduleKey) {
     return fileDataByModuleAndPath.containsKey(moduleKey) ? fileDataByModuleAndPath.get(moduleKey) : Collections.<String, FileData>emptyMap();
   }
@@ -111,8 +120,16 @@ public class ProjectRepositories {
     return GsonHelper.create().toJson(this);
   }
 
+  public void toJson(Appendable writer) {
+    GsonHelper.create().toJson(this, writer);
+  }
+
   public static ProjectRepositories fromJson(String json) {
     return GsonHelper.create().fromJson(json, ProjectRepositories.class);
   }
 
+  public static ProjectRepositories fromJson(Reader reader) {
+    return GsonHelper.create().fromJson(reader, ProjectRepositories.class);
+  }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol.input;
+
+import org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads {@link ProjectRepositories} from the stream of records written by {@link ProjectRepositoriesWriter}, or
+ * from the JSON document returned by servers older than 5.2.
+ */
+public class ProjectRepositoriesReader {
+
+  private ProjectRepositoriesReader() {
+    // only static stuff
+  }
+
+  public static ProjectRepositories read(InputStream input) {
+    try {
+      PushbackInputStream in = new PushbackInputStream(input, 1);
+      int firstByte = in.read();
+      if (firstByte == -1) {
+        throw new IllegalStateException("Project repositories are empty");
+      }
+      in.unread(firstByte);
+      if (firstByte == '{' || Character.isWhitespace(firstByte)) {
+        return ProjectRepositories.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8));
+      }
+      return readRecords(in);
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to read project repositories", e);
+    }
+  }
+
+  private static ProjectRepositories readRecords(InputStream in) throws IOException {
+    ProjectRepositoriesRecord header = ProjectRepositoriesRecord.parseDelimitedFrom(in);
+    if (header == null || !header.hasHeader() || header.getHeader().getFormatVersion() != ProjectRepositoriesWriter.FORMAT_VERSION) {
+      throw new IllegalStateException("Unsupported format of project repositories");
+    }
+    ProjectRepositories ref = new ProjectRepositories();
+    ProjectRepositoriesRecord record = ProjectRepositoriesRecord.parseDelimitedFrom(in);
+    while (record != null) {
+      if (record.hasEnd()) {
+        return ref;
+      }
+      read(record, ref);
+      record = ProjectRepositoriesRecord.parseDelimitedFrom(in);
+    }
+    // server failed or connection was closed before the end of response
+    throw new IllegalStateException("Project repositories are truncated");
+  }
+
+  private static void read(ProjectRepositoriesRecord record, ProjectRepositories ref) {
+    switch (record.getRecordCase()) {
+      case METADATA:
+        ref.setTimestamp(record.getMetadata().getTimestamp());
+        ref.setLastAnalysisDate(record.getMetadata().hasLastAnalysisDate() ? new Date(record.getMetadata().getLastAnalysisDate()) : null);
+        break;
+      case MODULE_SETTINGS:
+        readSettings(record.getModuleSettings(), ref);
+        break;
+      case QPROFILE:
+        ProjectRepositoriesRecord.QProfile qProfile = record.getQprofile();
+        ref.addQProfile(new QProfile(qProfile.getKey(), qProfile.getName(), qProfile.getLanguage(), new Date(qProfile.getRulesUpdatedAt()))
+          .setActiveRulesVersion(qProfile.hasActiveRulesVersion() ? qProfile.getActiveRulesVersion() : null));
+        break;
+      case ACTIVE_RULE:
+        ref.addActiveRule(readActiveRule(record.getActiveRule()));
+        break;
+      case FILE_DATA:
+        ProjectRepositoriesRecord.FileData fileData = record.getFileData();
+        ref.addFileData(fileData.getModuleKey(), fileData.getPath(), new FileData(fileData.hasHash() ? fileData.getHash() : null, fileData.getNeedBlame()));
+        break;
+      default:
+        // ignore records unknown by this version
+        break;
+    }
+  }
+
+  private static void readSettings(ProjectRepositoriesRecord.ModuleSettings moduleSettings, ProjectRepositories ref) {
+    Map<String, String> settings = new HashMap<>();
+    for (ProjectRepositoriesRecord.Setting setting : moduleSettings.getSettingList()) {
+      settings.put(setting.getKey(), setting.getValue());
+    }
+    ref.addSettings(moduleSettings.getModuleKey(), settings);
+  }
+
+  private static ActiveRule readActiveRule(ProjectRepositoriesRecord.ActiveRule rule) {
+    ActiveRule activeRule = new ActiveRule(rule.getRepositoryKey(), rule.getRuleKey(),
+      rule.hasTemplateRuleKey() ? rule.getTemplateRuleKey() : null,
+      rule.getName(),
+      rule.hasSeverity() ? rule.getSeverity() : null,
+      rule.hasInternalKey() ? rule.getInternalKey() : null,
+      rule.hasLanguage() ? rule.getLanguage() : null);
+    for (ProjectRepositoriesRecord.Setting param : rule.getParamList()) {
+      activeRule.addParam(param.getKey(), param.getValue());
+    }
+    return activeRule;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol.input;
+
+import org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesRecord;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Writes {@link ProjectRepositories} as a stream of delimited {@link ProjectRepositoriesRecord}. The small
+ * data are written first by {@link #start(ProjectRepositories)}, then file data are written one by one as soon
+ * as they are loaded, so that they don't have to be kept in memory. The stream must be completed by {@link #end()},
+ * otherwise {@link ProjectRepositoriesReader} considers it as truncated.
+ */
+public class ProjectRepositoriesWriter {
+
+  public static final int FORMAT_VERSION = 2;
+
+  private final OutputStream output;
+  private final ProjectRepositoriesRecord.Builder record = ProjectRepositoriesRecord.newBuilder();
+  private final ProjectRepositoriesRecord.FileData.Builder fileDataBuilder = ProjectRepositoriesRecord.FileData.newBuilder();
+
+  private boolean started = false;
+  private boolean ended = false;
+
+  public ProjectRepositoriesWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  /**
+   * Writes the header, the metadata, the settings, the quality profiles and the active rules. File data of
+   * the given repositories are ignored.
+   */
+  public ProjectRepositoriesWriter start(ProjectRepositories ref) {
+    if (started) {
+      throw new IllegalStateException("Project repositories are already started");
+    }
+    started = true;
+    writeRecord(record.setHeader(ProjectRepositoriesRecord.Header.newBuilder().setFormatVersion(FORMAT_VERSION)));
+
+    ProjectRepositoriesRecord.Metadata.Builder metadata = ProjectRepositoriesRecord.Metadata.newBuilder().setTimestamp(ref.timestamp());
+    Date lastAnalysisDate = ref.lastAnalysisDate();
+    if (lastAnalysisDate != null) {
+      metadata.setLastAnalysisDate(lastAnalysisDate.getTime());
+    }
+    writeRecord(record.setMetadata(metadata));
+
+    for (Map.Entry<String, Map<String, String>> moduleSettings : ref.settingsByModule().entrySet()) {
+      ProjectRepositoriesRecord.ModuleSettings.Builder builder = ProjectRepositoriesRecord.ModuleSettings.newBuilder().setModuleKey(moduleSettings.getKey());
+      for (Map.Entry<String, String> setting : moduleSettings.getValue().entrySet()) {
+        builder.addSetting(setting(setting.getKey(), setting.getValue()));
+      }
+      writeRecord(record.setModuleSettings(builder));
+    }
+
+    for (QProfile qProfile : ref.qProfiles()) {
+      ProjectRepositoriesRecord.QProfile.Builder builder = ProjectRepositoriesRecord.QProfile.newBuilder()
+        .setKey(qProfile.key())
+        .setName(qProfile.name())
+        .setLanguage(qProfile.language())
+        .setRulesUpdatedAt(qProfile.rulesUpdatedAt().getTime());
+      if (qProfile.activeRulesVersion() != null) {
+        builder.setActiveRulesVersion(qProfile.activeRulesVersion());
+      }
+      writeRecord(record.setQprofile(builder));
+    }
+
+    for (ActiveRule activeRule : ref.activeRules()) {
+      writeRecord(record.setActiveRule(activeRule(activeRule)));
+    }
+    return this;
+  }
+
+  public ProjectRepositoriesWriter writeFileData(String moduleKey, String path, FileData fileData) {
+    checkInProgress();
+    fileDataBuilder.clear()
+      .setModuleKey(moduleKey)
+      .setPath(path)
+      .setNeedBlame(fileData.needBlame());
+    if (fileData.hash() != null) {
+      fileDataBuilder.setHash(fileData.hash());
+    }
+    writeRecord(record.setFileData(fileDataBuilder));
+    return this;
+  }
+
+  /**
+   * Writes the last record. It must be called only once all the data have been written successfully.
+   */
+  public ProjectRepositoriesWriter end() {
+    checkInProgress();
+    ended = true;
+    writeRecord(record.setEnd(ProjectRepositoriesRecord.End.newBuilder()));
+    return this;
+  }
+
+  /**
+   * Writes all the data of the given repositories, including file data, then ends the stream
+   */
+  public ProjectRepositoriesWriter write(ProjectRepositories ref) {
+    start(ref);
+    for (Map.Entry<String, Map<String, FileData>> moduleFileData : ref.fileDataByModuleAndPath().entrySet()) {
+      for (Map.Entry<String, FileData> fileData : moduleFileData.getValue().entrySet()) {
+        writeFileData(moduleFileData.getKey(), fileData.getKey(), fileData.getValue());
+      }
+    }
+    return end();
+  }
+
+  private void checkInProgress() {
+    if (!started || ended) {
+      throw new IllegalStateException("Project repositories are not started or already ended");
+    }
+  }
+
+  private static ProjectRepositoriesRecord.ActiveRule.Builder activeRule(ActiveRule activeRule) {
+    ProjectRepositoriesRecord.ActiveRule.Builder builder = ProjectRepositoriesRecord.ActiveRule.newBuilder()
+      .setRepositoryKey(activeRule.repositoryKey())
+      .setRuleKey(activeRule.ruleKey())
+      .setName(activeRule.name());
+    if (activeRule.templateRuleKey() != null) {
+      builder.setTemplateRuleKey(activeRule.templateRuleKey());
+    }
+    if (activeRule.severity() != null) {
+      builder.setSeverity(activeRule.severity());
+    }
+    if (activeRule.internalKey() != null) {
+      builder.setInternalKey(activeRule.internalKey());
+    }
+    if (activeRule.language() != null) {
+      builder.setLanguage(activeRule.language());
+    }
+    for (Map.Entry<String, String> param : activeRule.params().entrySet()) {
+      builder.addParam(setting(param.getKey(), param.getValue()));
+    }
+    return builder;
+  }
+
+  private static ProjectRepositoriesRecord.Setting.Builder setting(String key, String value) {
+    return ProjectRepositoriesRecord.Setting.newBuilder().setKey(key).setValue(value);
+  }
+
+  private void writeRecord(ProjectRepositoriesRecord.Builder builder) {
+    try {
+      builder.build().writeDelimitedTo(output);
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to write project repositories", e);
+    } finally {
+      builder.clear();
+    }
+  }
+}
@@ -19,12 +19,16 @@
  */
 package org.sonar.batch.protocol.input;
 
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
 import java.util.Date;
 
 public class QProfile {
 
   private final String key, name, language;
   private final Date rulesUpdatedAt;
+  private String activeRulesVersion;
 
   public QProfile(String key, String name, String language, Date rulesUpdatedAt) {
     this.key = key;
@@ -49,6 +53,21 @@ public class QProfile {
     return rulesUpdatedAt;
   }
 
+  /**
+   * Opaque version of the active rules of profile, changed each time they are updated on server. Batch
+   * gives back the versions it already knows, so that server does not send again the same active rules.
+   * Null if not supported by server.
+   */
+  @CheckForNull
+  public String activeRulesVersion() {
+    return activeRulesVersion;
+  }
+
+  public QProfile setActiveRulesVersion(@Nullable String activeRulesVersion) {
+    this.activeRulesVersion = activeRulesVersion;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
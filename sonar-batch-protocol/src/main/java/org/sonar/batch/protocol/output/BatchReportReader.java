@@ -44,6 +44,17 @@ public class BatchReportReader {
     return ProtobufUtil.readFile(file, BatchReport.Metadata.PARSER);
   }
 
+  /**
+   * Dictionaries are empty on reports which reference metrics and rules by key
+   */
+  public BatchReport.Dictionaries readDictionaries() {
+    File file = fileStructure.dictionariesFile();
+    if (doesFileExists(file)) {
+      return ProtobufUtil.readFile(file, BatchReport.Dictionaries.PARSER);
+    }
+    return BatchReport.Dictionaries.getDefaultInstance();
+  }
+
   public List<BatchReport.Measure> readComponentMeasures(int componentRef) {
     File file = fileStructure.fileFor(FileStructure.Domain.MEASURES, componentRef);
     if (doesFileExists(file)) {
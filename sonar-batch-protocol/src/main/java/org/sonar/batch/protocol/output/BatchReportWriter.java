@@ -50,6 +50,10 @@ public class BatchReportWriter {
     ProtobufUtil.writeToFile(metadata, fileStructure.metadataFile());
   }
 
+  public void writeDictionaries(BatchReport.Dictionaries dictionaries) {
+    ProtobufUtil.writeToFile(dictionaries, fileStructure.dictionariesFile());
+  }
+
   public void writeComponent(BatchReport.Component component) {
     File file = fileStructure.fileFor(FileStructure.Domain.COMPONENT, component.getRef());
     ProtobufUtil.writeToFile(component, file);
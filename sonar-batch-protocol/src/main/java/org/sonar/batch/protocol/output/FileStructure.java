@@ -61,6 +61,10 @@ public class FileStructure {
     return new File(dir, "metadata.pb");
   }
 
+  public File dictionariesFile() {
+    return new File(dir, "dictionaries.pb");
+  }
+
   public File fileFor(Domain domain, int componentRef) {
     return new File(dir, domain.filePrefix + componentRef + domain.fileSuffix);
   }
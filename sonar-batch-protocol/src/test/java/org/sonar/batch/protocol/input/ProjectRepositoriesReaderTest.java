@@ -0,0 +1,157 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol.input;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class ProjectRepositoriesReaderTest {
+
+  @Test
+  public void read_records_written_by_writer() {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.setTimestamp(10L);
+    ref.setLastAnalysisDate(new Date(1000L));
+    ref.addSettings("foo", Collections.singletonMap("prop", "value"));
+    ref.addQProfile(new QProfile("squid-java", "Java", "java", new Date(2000L)).setActiveRulesVersion("abcd"));
+    ActiveRule activeRule = new ActiveRule("repo", "rule", "templateRule", "Rule", "MAJOR", "rule1", "java");
+    activeRule.addParam("param1", "value1");
+    ref.addActiveRule(activeRule);
+    ref.addActiveRule(new ActiveRule("manual", "manualRule", null, "Manual Rule", null, null, null));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ProjectRepositoriesWriter(output)
+      .start(ref)
+      // file data are streamed after other data
+      .writeFileData("bar", "src/main/java/Bar.java", new FileData(null, false))
+      .writeFileData("foo", "src/main/java/Foo.java", new FileData("xyz", true))
+      .end();
+    ProjectRepositories read = ProjectRepositoriesReader.read(new ByteArrayInputStream(output.toByteArray()));
+
+    assertThat(read.timestamp()).isEqualTo(10L);
+    assertThat(read.lastAnalysisDate()).isEqualTo(new Date(1000L));
+    assertThat(read.settings("foo")).containsEntry("prop", "value");
+    QProfile qProfile = read.qProfiles().iterator().next();
+    assertThat(qProfile.key()).isEqualTo("squid-java");
+    assertThat(qProfile.name()).isEqualTo("Java");
+    assertThat(qProfile.language()).isEqualTo("java");
+    assertThat(qProfile.rulesUpdatedAt()).isEqualTo(new Date(2000L));
+    assertThat(qProfile.activeRulesVersion()).isEqualTo("abcd");
+    assertThat(read.activeRules()).hasSize(2);
+    ActiveRule readRule = read.activeRules().iterator().next();
+    assertThat(readRule.repositoryKey()).isEqualTo("repo");
+    assertThat(readRule.ruleKey()).isEqualTo("rule");
+    assertThat(readRule.templateRuleKey()).isEqualTo("templateRule");
+    assertThat(readRule.name()).isEqualTo("Rule");
+    assertThat(readRule.severity()).isEqualTo("MAJOR");
+    assertThat(readRule.internalKey()).isEqualTo("rule1");
+    assertThat(readRule.language()).isEqualTo("java");
+    assertThat(readRule.params()).containsEntry("param1", "value1");
+    ActiveRule manualRule = read.activeRules().toArray(new ActiveRule[2])[1];
+    assertThat(manualRule.templateRuleKey()).isNull();
+    assertThat(manualRule.severity()).isNull();
+    assertThat(manualRule.language()).isNull();
+    assertThat(read.fileData("foo", "src/main/java/Foo.java").hash()).isEqualTo("xyz");
+    assertThat(read.fileData("foo", "src/main/java/Foo.java").needBlame()).isTrue();
+    assertThat(read.fileData("bar", "src/main/java/Bar.java").hash()).isNull();
+    assertThat(read.fileData("bar", "src/main/java/Bar.java").needBlame()).isFalse();
+  }
+
+  @Test
+  public void last_analysis_date_is_optional() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ProjectRepositoriesWriter(output).write(new ProjectRepositories());
+
+    ProjectRepositories read = ProjectRepositoriesReader.read(new ByteArrayInputStream(output.toByteArray()));
+
+    assertThat(read.lastAnalysisDate()).isNull();
+    assertThat(read.qProfiles()).isEmpty();
+  }
+
+  @Test
+  public void write_all_data_of_repositories() {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addQProfile(new QProfile("squid-java", "Java", "java", new Date(2000L)));
+    ref.addFileData("foo", "src/main/java/Foo.java", new FileData("xyz", true));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ProjectRepositoriesWriter(output).write(ref);
+
+    ProjectRepositories read = ProjectRepositoriesReader.read(new ByteArrayInputStream(output.toByteArray()));
+
+    assertThat(read.qProfiles()).hasSize(1);
+    assertThat(read.fileData("foo", "src/main/java/Foo.java").hash()).isEqualTo("xyz");
+  }
+
+  @Test
+  public void fail_if_end_record_is_missing() {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addActiveRule(new ActiveRule("repo", "rule", null, "Rule", "MAJOR", null, "java"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    // for example server fails while loading file data
+    new ProjectRepositoriesWriter(output).start(ref).writeFileData("foo", "src/main/java/Foo.java", new FileData("xyz", true));
+
+    try {
+      ProjectRepositoriesReader.read(new ByteArrayInputStream(output.toByteArray()));
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Project repositories are truncated");
+    }
+  }
+
+  @Test
+  public void fail_to_write_file_data_before_other_data() {
+    try {
+      new ProjectRepositoriesWriter(new ByteArrayOutputStream()).writeFileData("foo", "src/main/java/Foo.java", new FileData("xyz", true));
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Project repositories are not started or already ended");
+    }
+  }
+
+  @Test
+  public void read_json_of_older_servers() {
+    String json = "{timestamp:1,settingsByModule:{foo:{prop:value}},"
+      + "fileDataByModuleAndPath:{foo:{\"src/main/java/Foo.java\":{hash:xyz,needBlame:true}}}}";
+
+    ProjectRepositories read = ProjectRepositoriesReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(read.timestamp()).isEqualTo(1L);
+    assertThat(read.settings("foo")).containsEntry("prop", "value");
+    assertThat(read.fileData("foo", "src/main/java/Foo.java").hash()).isEqualTo("xyz");
+  }
+
+  @Test
+  public void fail_if_empty() {
+    try {
+      ProjectRepositoriesReader.read(new ByteArrayInputStream(new byte[0]));
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Project repositories are empty");
+    }
+  }
+}
@@ -255,6 +255,13 @@ public class BatchReportReaderTest {
     assertThat(sut.readComponentMeasures(666)).isEmpty();
   }
 
+  @Test
+  public void empty_dictionaries_if_no_file() throws Exception {
+    BatchReport.Dictionaries dictionaries = sut.readDictionaries();
+    assertThat(dictionaries.getMetricKeyCount()).isEqualTo(0);
+    assertThat(dictionaries.getRuleKeyCount()).isEqualTo(0);
+  }
+
   @Test
   public void null_if_no_scm_found() throws Exception {
     assertThat(sut.readComponentScm(666)).isNull();
@@ -63,6 +63,21 @@ public class BatchReportWriterTest {
     assertThat(read.getRootComponentRef()).isEqualTo(1);
   }
 
+  @Test
+  public void write_dictionaries() throws Exception {
+    File dir = temp.newFolder();
+    BatchReportWriter writer = new BatchReportWriter(dir);
+    writer.writeDictionaries(BatchReport.Dictionaries.newBuilder()
+      .addMetricKey("ncloc")
+      .addMetricKey("coverage")
+      .addRuleKey("squid:S001")
+      .build());
+
+    BatchReport.Dictionaries read = new BatchReportReader(dir).readDictionaries();
+    assertThat(read.getMetricKeyList()).containsExactly("ncloc", "coverage");
+    assertThat(read.getRuleKeyList()).containsExactly("squid:S001");
+  }
+
   @Test
   public void write_component() throws Exception {
     File dir = temp.newFolder();
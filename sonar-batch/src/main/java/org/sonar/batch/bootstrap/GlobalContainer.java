@@ -102,7 +102,7 @@ public class GlobalContainer extends ComponentContainer {
       add(DefaultGlobalRepositoriesLoader.class);
     }
     if (getComponentByType(ProjectRepositoriesLoader.class) == null) {
-      add(DefaultProjectRepositoriesLoader.class);
+      add(DefaultProjectRepositoriesLoader.class, LocalActiveRulesCache.class);
     }
     if (getComponentByType(ServerIssuesLoader.class) == null) {
       add(DefaultServerIssuesLoader.class);
@@ -0,0 +1,160 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.components;
+
+import com.google.common.collect.Maps;
+
+import javax.annotation.Nullable;
+
+import java.util.Map;
+
+/**
+ * Values of the past measures of a module and of its directories, as loaded by
+ * {@link PastMeasuresLoader#getPastMeasuresOfModule(String, PastSnapshot)}.
+ * <p/>
+ * Measures are stored in an open-addressing hash table of primitive arrays keyed by
+ * (component, metric, rule, characteristic, person), so that a module with thousands of directories
+ * does not require millions of objects. Missing rule, characteristic and person are stored as 0,
+ * as database ids start at 1.
+ */
+public class ModulePastMeasures {
+
+  private static final int NO_ID = 0;
+  private static final float LOAD_FACTOR = 0.6f;
+
+  private final Map<String, Integer> componentIndexes = Maps.newHashMap();
+
+  private int size = 0;
+  private int[] components;
+  private int[] metricIds;
+  private int[] ruleIds;
+  private int[] characteristicIds;
+  private int[] personIds;
+  // NaN if the measure has no value
+  private double[] values;
+
+  public ModulePastMeasures() {
+    allocate(64);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void add(String componentKey, int metricId, @Nullable Integer ruleId, @Nullable Integer characteristicId, @Nullable Integer personId,
+    @Nullable Double value) {
+    Integer component = componentIndexes.get(componentKey);
+    if (component == null) {
+      // indexes start at 1, as 0 is the marker of free slots
+      component = componentIndexes.size() + 1;
+      componentIndexes.put(componentKey, component);
+    }
+    if (size + 1 > values.length * LOAD_FACTOR) {
+      rehash();
+    }
+    int slot = slot(component, metricId, toId(ruleId), toId(characteristicId), toId(personId));
+    if (components[slot] == NO_ID) {
+      size++;
+    }
+    set(slot, component, metricId, toId(ruleId), toId(characteristicId), toId(personId), value == null ? Double.NaN : value);
+  }
+
+  /**
+   * @return the past value, or {@link Double#NaN} if the measure does not exist or has no value
+   */
+  public double getValue(String componentKey, int metricId, @Nullable Integer ruleId, @Nullable Integer characteristicId, @Nullable Integer personId) {
+    Integer component = componentIndexes.get(componentKey);
+    if (component == null) {
+      return Double.NaN;
+    }
+    int slot = slot(component, metricId, toId(ruleId), toId(characteristicId), toId(personId));
+    return components[slot] == NO_ID ? Double.NaN : values[slot];
+  }
+
+  public boolean hasComponent(String componentKey) {
+    return componentIndexes.containsKey(componentKey);
+  }
+
+  /**
+   * Index of the slot that contains the key, or of the free slot where the key should be inserted
+   */
+  private int slot(int component, int metricId, int ruleId, int characteristicId, int personId) {
+    int mask = values.length - 1;
+    int slot = hash(component, metricId, ruleId, characteristicId, personId) & mask;
+    while (components[slot] != NO_ID && !matches(slot, component, metricId, ruleId, characteristicId, personId)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private boolean matches(int slot, int component, int metricId, int ruleId, int characteristicId, int personId) {
+    return components[slot] == component && metricIds[slot] == metricId && ruleIds[slot] == ruleId
+      && characteristicIds[slot] == characteristicId && personIds[slot] == personId;
+  }
+
+  private void set(int slot, int component, int metricId, int ruleId, int characteristicId, int personId, double value) {
+    components[slot] = component;
+    metricIds[slot] = metricId;
+    ruleIds[slot] = ruleId;
+    characteristicIds[slot] = characteristicId;
+    personIds[slot] = personId;
+    values[slot] = value;
+  }
+
+  private void rehash() {
+    int[] oldComponents = components;
+    int[] oldMetricIds = metricIds;
+    int[] oldRuleIds = ruleIds;
+    int[] oldCharacteristicIds = characteristicIds;
+    int[] oldPersonIds = personIds;
+    double[] oldValues = values;
+    allocate(oldValues.length * 2);
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldComponents[i] != NO_ID) {
+        int slot = slot(oldComponents[i], oldMetricIds[i], oldRuleIds[i], oldCharacteristicIds[i], oldPersonIds[i]);
+        set(slot, oldComponents[i], oldMetricIds[i], oldRuleIds[i], oldCharacteristicIds[i], oldPersonIds[i], oldValues[i]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    components = new int[capacity];
+    metricIds = new int[capacity];
+    ruleIds = new int[capacity];
+    characteristicIds = new int[capacity];
+    personIds = new int[capacity];
+    values = new double[capacity];
+  }
+
+  private static int hash(int component, int metricId, int ruleId, int characteristicId, int personId) {
+    int h = component;
+    h = 31 * h + metricId;
+    h = 31 * h + ruleId;
+    h = 31 * h + characteristicId;
+    h = 31 * h + personId;
+    // spread bits, as capacity is a power of two
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static int toId(@Nullable Integer id) {
+    return id == null ? NO_ID : id;
+  }
+}
@@ -19,9 +19,12 @@
  */
 package org.sonar.batch.components;
 
+import com.google.common.base.Function;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.database.DatabaseSession;
 import org.sonar.api.database.model.Snapshot;
@@ -29,6 +32,11 @@ import org.sonar.api.measures.Metric;
 import org.sonar.api.measures.MetricFinder;
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.api.resources.Resource;
+import org.sonar.core.measure.db.MeasureDto;
+import org.sonar.core.measure.db.MeasureMapper;
+import org.sonar.core.persistence.DaoUtils;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.MyBatis;
 
 import javax.annotation.Nullable;
 import javax.persistence.Query;
@@ -45,13 +53,15 @@ public class PastMeasuresLoader implements BatchComponent {
 
   private Map<Integer, Metric> metricByIds;
   private DatabaseSession session;
+  private MyBatis mybatis;
 
-  public PastMeasuresLoader(DatabaseSession session, MetricFinder metricFinder) {
-    this(session, metricFinder.findAll());
+  public PastMeasuresLoader(DatabaseSession session, MyBatis mybatis, MetricFinder metricFinder) {
+    this(session, mybatis, metricFinder.findAll());
   }
 
-  PastMeasuresLoader(DatabaseSession session, Collection<Metric> metrics) {
+  PastMeasuresLoader(DatabaseSession session, MyBatis mybatis, Collection<Metric> metrics) {
     this.session = session;
+    this.mybatis = mybatis;
     this.metricByIds = Maps.newHashMap();
     for (Metric metric : metrics) {
       if (metric.isNumericType()) {
@@ -94,6 +104,41 @@ public class PastMeasuresLoader implements BatchComponent {
     return q.getResultList();
   }
 
+  /**
+   * Loads with a single streamed query the past measures of a module, of its directories and of its unit test files.
+   * It replaces the calls to {@link #getPastMeasures(Resource, PastSnapshot)} on each of these components.
+   */
+  public ModulePastMeasures getPastMeasuresOfModule(final String moduleKey, @Nullable PastSnapshot projectPastSnapshot) {
+    final ModulePastMeasures result = new ModulePastMeasures();
+    if (projectPastSnapshot == null || projectPastSnapshot.getProjectSnapshot() == null || metricByIds.isEmpty()) {
+      return result;
+    }
+    Snapshot snapshot = projectPastSnapshot.getProjectSnapshot();
+    final long rootSnapshotId = snapshot.getRootId() != null ? snapshot.getRootId() : snapshot.getId();
+    DbSession dbSession = mybatis.openSession(false);
+    try {
+      final MeasureMapper mapper = dbSession.getMapper(MeasureMapper.class);
+      final ResultHandler handler = new ResultHandler() {
+        @Override
+        public void handleResult(ResultContext context) {
+          MeasureDto dto = (MeasureDto) context.getResultObject();
+          result.add(dto.getComponentKey(), dto.getMetricId(), dto.getRuleId(), dto.getCharacteristicId(), dto.getPersonId(), dto.getValue());
+        }
+      };
+      // the number of metrics can exceed the maximum size of IN clause on Oracle
+      DaoUtils.executeLargeInputs(metricByIds.keySet(), new Function<List<Integer>, List<Void>>() {
+        @Override
+        public List<Void> apply(List<Integer> metricIds) {
+          mapper.selectPastMeasuresOfModule(rootSnapshotId, moduleKey, metricIds, handler);
+          return Collections.emptyList();
+        }
+      });
+    } finally {
+      MyBatis.closeQuietly(dbSession);
+    }
+    return result;
+  }
+
   public static int getMetricId(Object[] row) {
     // can be BigDecimal on Oracle
     return ((Number) row[0]).intValue();
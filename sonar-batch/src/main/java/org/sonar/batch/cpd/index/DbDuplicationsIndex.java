@@ -21,30 +21,40 @@ package org.sonar.batch.cpd.index;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.DefaultInputFile;
 import org.sonar.api.database.DatabaseSession;
 import org.sonar.api.database.model.Snapshot;
 import org.sonar.api.resources.Project;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
 import org.sonar.batch.index.ResourceCache;
 import org.sonar.core.duplication.DuplicationDao;
 import org.sonar.core.duplication.DuplicationUnitDto;
 import org.sonar.duplications.block.Block;
 import org.sonar.duplications.block.ByteArray;
+import org.sonar.duplications.index.PackedMemoryCloneIndex;
 
 import javax.persistence.Query;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class DbDuplicationsIndex {
 
   private static final String RESOURCE_ID = "resourceId";
   private static final String LAST = "last";
 
-  private final Map<ByteArray, Collection<Block>> cache = Maps.newHashMap();
+  private static final Logger LOG = Loggers.get(DbDuplicationsIndex.class);
+
+  // candidates of other projects, packed in flat arrays as they can be numerous
+  private final PackedMemoryCloneIndex cache = new PackedMemoryCloneIndex();
+  private final Set<String> pendingHashes = Sets.newHashSet();
 
   private final int currentProjectSnapshotId;
   private final Integer lastSnapshotId;
@@ -76,43 +86,52 @@ public class DbDuplicationsIndex {
     return resourceCache.get(((DefaultInputFile) inputFile).key()).snapshotId();
   }
 
+  /**
+   * Loads from database the candidate blocks of all the hashes inserted since the previous call. All the hashes of
+   * the module are inserted before the first file is analyzed, so database is requested only once.
+   */
   public void prepareCache(InputFile inputFile) {
-    int resourceSnapshotId = getSnapshotIdFor(inputFile);
-    List<DuplicationUnitDto> units = dao.selectCandidates(resourceSnapshotId, lastSnapshotId, languageKey);
-    cache.clear();
-    // TODO Godin: maybe remove conversion of units to blocks?
-    for (DuplicationUnitDto unit : units) {
-      String hash = unit.getHash();
-      String resourceKey = unit.getResourceKey();
-      int indexInFile = unit.getIndexInFile();
-      int startLine = unit.getStartLine();
-      int endLine = unit.getEndLine();
-
-      // TODO Godin: in fact we could work directly with id instead of key - this will allow to decrease memory consumption
-      Block block = Block.builder()
-        .setResourceId(resourceKey)
-        .setBlockHash(new ByteArray(hash))
-        .setIndexInFile(indexInFile)
-        .setLines(startLine, endLine)
-        .build();
-
-      // Group blocks by hash
-      Collection<Block> sameHash = cache.get(block.getBlockHash());
-      if (sameHash == null) {
-        sameHash = Lists.newArrayList();
-        cache.put(block.getBlockHash(), sameHash);
+    if (pendingHashes.isEmpty()) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    CandidatesHandler handler = new CandidatesHandler();
+    dao.selectCandidates(pendingHashes, lastSnapshotId, languageKey, handler);
+    LOG.info(String.format("Cross-project duplications: %d blocks loaded for %d/%d hashes (%d%%) in %d ms", handler.blocks, handler.matchingHashes.size(),
+      pendingHashes.size(), 100 * handler.matchingHashes.size() / pendingHashes.size(), System.currentTimeMillis() - start));
+    pendingHashes.clear();
+  }
+
+  /**
+   * Adds the candidate blocks to cache as they are read from database
+   */
+  private class CandidatesHandler implements ResultHandler {
+    private final Set<String> matchingHashes = Sets.newHashSet();
+    // resource keys are shared by all the blocks of a file
+    private final Map<String, String> resourceKeys = Maps.newHashMap();
+    private int blocks = 0;
+
+    @Override
+    public void handleResult(ResultContext context) {
+      DuplicationUnitDto unit = (DuplicationUnitDto) context.getResultObject();
+      String resourceKey = resourceKeys.get(unit.getResourceKey());
+      if (resourceKey == null) {
+        resourceKey = unit.getResourceKey();
+        resourceKeys.put(resourceKey, resourceKey);
       }
-      sameHash.add(block);
+      cache.insert(Block.builder()
+        .setResourceId(resourceKey)
+        .setBlockHash(new ByteArray(unit.getHash()))
+        .setIndexInFile(unit.getIndexInFile())
+        .setLines(unit.getStartLine(), unit.getEndLine())
+        .build());
+      matchingHashes.add(unit.getHash());
+      blocks++;
     }
   }
 
   public Collection<Block> getByHash(ByteArray hash) {
-    Collection<Block> result = cache.get(hash);
-    if (result != null) {
-      return result;
-    } else {
-      return Collections.emptyList();
-    }
+    return cache.getBySequenceHash(hash);
   }
 
   public void insert(InputFile inputFile, Collection<Block> blocks) {
@@ -121,14 +140,16 @@ public class DbDuplicationsIndex {
     // TODO Godin: maybe remove conversion of blocks to units?
     List<DuplicationUnitDto> units = Lists.newArrayList();
     for (Block block : blocks) {
+      String hash = block.getBlockHash().toString();
       DuplicationUnitDto unit = new DuplicationUnitDto(
         currentProjectSnapshotId,
         resourceSnapshotId,
-        block.getBlockHash().toString(),
+        hash,
         block.getIndexInFile(),
         block.getStartLine(),
         block.getEndLine());
       units.add(unit);
+      pendingHashes.add(hash);
     }
 
     dao.insert(units);
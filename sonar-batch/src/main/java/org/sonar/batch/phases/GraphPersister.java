@@ -27,15 +27,13 @@ import org.sonar.core.component.GraphPerspectiveBuilder;
 import org.sonar.core.component.PerspectiveBuilder;
 import org.sonar.core.component.ScanGraph;
 import org.sonar.core.graph.SubGraph;
-import org.sonar.core.graph.graphson.GraphsonMode;
-import org.sonar.core.graph.graphson.GraphsonWriter;
+import org.sonar.core.graph.binary.BinaryGraphWriter;
 import org.sonar.core.graph.jdbc.GraphDto;
 import org.sonar.core.graph.jdbc.GraphDtoMapper;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
-import java.io.IOException;
-import java.io.StringWriter;
+import java.io.ByteArrayOutputStream;
 
 public class GraphPersister implements ScanPersister {
   private final MyBatis myBatis;
@@ -78,24 +76,20 @@ public class GraphPersister implements ScanPersister {
   private void serializePerspectiveData(GraphDtoMapper mapper, ComponentVertex component, Long snapshotId,
     GraphPerspectiveBuilder builder) {
     Graph subGraph = SubGraph.extract(component.element(), builder.path());
-    String data = write(subGraph);
     mapper.insert(new GraphDto()
-      .setData(data)
-      .setFormat("graphson")
+      .setBinaryData(write(subGraph))
+      .setFormat(GraphDto.FORMAT_BINARY)
       .setPerspective(builder.getPerspectiveLoader().getPerspectiveKey())
-      .setVersion(1)
+      .setVersion(BinaryGraphWriter.VERSION)
       .setResourceId((Long) component.element().getProperty("rid"))
       .setSnapshotId(snapshotId)
       .setRootVertexId(component.element().getId().toString())
       );
   }
 
-  private String write(Graph graph) {
-    try (StringWriter output = new StringWriter()) {
-      new GraphsonWriter().write(graph, output, GraphsonMode.EXTENDED);
-      return output.toString();
-    } catch (IOException e) {
-      throw new IllegalStateException("Unable to write graph", e);
-    }
+  private static byte[] write(Graph graph) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new BinaryGraphWriter().write(graph, output);
+    return output.toByteArray();
   }
 }
@@ -42,6 +42,8 @@ import org.sonar.batch.scan.measure.MeasureCache;
 import javax.annotation.Nullable;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class MeasuresPublisher implements ReportPublisherStep {
 
@@ -57,6 +59,8 @@ public class MeasuresPublisher implements ReportPublisherStep {
 
   @Override
   public void publish(BatchReportWriter writer) {
+    final Dictionary metricKeys = new Dictionary();
+    final Dictionary ruleKeys = new Dictionary();
     for (final BatchResource resource : resourceCache.all()) {
       Iterable<Measure> batchMeasures = measureCache.byResource(resource.resource());
       batchMeasures = Iterables.filter(batchMeasures, new Predicate<Measure>() {
@@ -73,11 +77,15 @@ public class MeasuresPublisher implements ReportPublisherStep {
 
         @Override
         public BatchReport.Measure apply(Measure input) {
-          return toReportMeasure(builder, input);
+          return toReportMeasure(builder, input, metricKeys, ruleKeys);
         }
       });
       writer.writeComponentMeasures(resource.batchId(), reportMeasures);
     }
+    writer.writeDictionaries(BatchReport.Dictionaries.newBuilder()
+      .addAllMetricKey(metricKeys.keys())
+      .addAllRuleKey(ruleKeys.keys())
+      .build());
   }
 
   @VisibleForTesting
@@ -97,7 +105,7 @@ public class MeasuresPublisher implements ReportPublisherStep {
     return measure.getValue() != null || measure.getData() != null || isNotEmpty;
   }
 
-  private BatchReport.Measure toReportMeasure(BatchReport.Measure.Builder builder, Measure measure) {
+  private BatchReport.Measure toReportMeasure(BatchReport.Measure.Builder builder, Measure measure, Dictionary metricKeys, Dictionary ruleKeys) {
     builder.clear();
 
     builder.setValueType(getMeasureValueType(measure.getMetric().getType()));
@@ -107,7 +115,7 @@ public class MeasuresPublisher implements ReportPublisherStep {
     if (data != null) {
       builder.setStringValue(data);
     }
-    builder.setMetricKey(measure.getMetricKey());
+    builder.setMetricRef(metricKeys.ref(measure.getMetricKey()));
 
     // temporary fields during development of computation stack
     String description = measure.getDescription();
@@ -118,7 +126,7 @@ public class MeasuresPublisher implements ReportPublisherStep {
       RuleMeasure ruleMeasure = (RuleMeasure) measure;
       RuleKey ruleKey = ruleMeasure.ruleKey();
       if (ruleKey != null) {
-        builder.setRuleKey(ruleKey.toString());
+        builder.setRuleRef(ruleKeys.ref(ruleKey.toString()));
       }
       RulePriority severity = ruleMeasure.getSeverity();
       if (severity != null) {
@@ -217,4 +225,23 @@ public class MeasuresPublisher implements ReportPublisherStep {
     }
   }
 
+  /**
+   * Assigns to each key its index in the dictionary of the report
+   */
+  private static class Dictionary {
+    private final Map<String, Integer> refs = new LinkedHashMap<>();
+
+    int ref(String key) {
+      Integer ref = refs.get(key);
+      if (ref == null) {
+        ref = refs.size();
+        refs.put(key, ref);
+      }
+      return ref;
+    }
+
+    Iterable<String> keys() {
+      return refs.keySet();
+    }
+  }
 }
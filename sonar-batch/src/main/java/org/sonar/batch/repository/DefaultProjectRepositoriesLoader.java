@@ -19,15 +19,23 @@
  */
 package org.sonar.batch.repository;
 
+import com.google.common.base.Joiner;
+import com.google.common.io.InputSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.batch.bootstrap.ProjectReactor;
+import org.sonar.api.utils.HttpDownloader;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.bootstrap.TaskProperties;
 import org.sonar.batch.protocol.input.ProjectRepositories;
+import org.sonar.batch.protocol.input.ProjectRepositoriesReader;
 import org.sonar.batch.rule.ModuleQProfiles;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoader {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultProjectRepositoriesLoader.class);
@@ -36,10 +44,12 @@ public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoad
 
   private final ServerClient serverClient;
   private final DefaultAnalysisMode analysisMode;
+  private final LocalActiveRulesCache activeRulesCache;
 
-  public DefaultProjectRepositoriesLoader(ServerClient serverClient, DefaultAnalysisMode analysisMode) {
+  public DefaultProjectRepositoriesLoader(ServerClient serverClient, DefaultAnalysisMode analysisMode, LocalActiveRulesCache activeRulesCache) {
     this.serverClient = serverClient;
     this.analysisMode = analysisMode;
+    this.activeRulesCache = activeRulesCache;
   }
 
   @Override
@@ -52,7 +62,24 @@ public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoad
       url += "&profile=" + ServerClient.encodeForUrl(taskProperties.properties().get(ModuleQProfiles.SONAR_PROFILE_PROP));
     }
     url += "&preview=" + analysisMode.isPreview();
-    return ProjectRepositories.fromJson(serverClient.request(url));
+    // servers that do not support protocol buffers ignore the parameter and return JSON, which is detected by reader
+    url += "&format=protobuf";
+    ProjectRepositories cached = activeRulesCache.load(serverClient.getURL(), projectKey);
+    List<String> knownVersions = activeRulesCache.versions(cached);
+    if (!knownVersions.isEmpty()) {
+      url += "&knownActiveRulesVersions=" + ServerClient.encodeForUrl(Joiner.on(',').join(knownVersions));
+    }
+    InputSupplier<InputStream> request = serverClient.doRequest(url, "GET", null);
+    try (InputStream is = request.getInput()) {
+      ProjectRepositories ref = ProjectRepositoriesReader.read(is);
+      activeRulesCache.restore(ref, cached);
+      activeRulesCache.save(serverClient.getURL(), projectKey, ref);
+      return ref;
+    } catch (HttpDownloader.HttpException e) {
+      throw serverClient.handleHttpException(e);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to load project repositories", e);
+    }
   }
 
 }
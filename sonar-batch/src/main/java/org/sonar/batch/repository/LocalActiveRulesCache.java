@@ -0,0 +1,163 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.repository;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.batch.protocol.input.ProjectRepositories;
+import org.sonar.batch.protocol.input.QProfile;
+import org.sonar.home.cache.FileCache;
+
+import javax.annotation.CheckForNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps in the user cache the quality profiles and the active rules received during the last analysis
+ * of a project. Their versions are given back to server, which does not send again the active rules
+ * that did not change.
+ */
+public class LocalActiveRulesCache {
+
+  private static final Logger LOG = Loggers.get(LocalActiveRulesCache.class);
+
+  private final File dir;
+
+  public LocalActiveRulesCache(FileCache fileCache) {
+    this(new File(fileCache.getDir(), "_active_rules"));
+  }
+
+  @VisibleForTesting
+  LocalActiveRulesCache(File dir) {
+    this.dir = dir;
+  }
+
+  /**
+   * Returns an empty repositories if project has never been analyzed or if cache is corrupted
+   */
+  public ProjectRepositories load(String serverUrl, String projectKey) {
+    File file = file(serverUrl, projectKey);
+    if (file.exists()) {
+      try (Reader reader = new InputStreamReader(new FileInputStream(file), Charsets.UTF_8)) {
+        return ProjectRepositories.fromJson(reader);
+      } catch (Exception e) {
+        LOG.debug("Ignore corrupted cache of active rules: " + file, e);
+      }
+    }
+    return new ProjectRepositories();
+  }
+
+  public List<String> versions(ProjectRepositories cached) {
+    List<String> versions = new ArrayList<>();
+    for (QProfile qProfile : cached.qProfiles()) {
+      if (qProfile.activeRulesVersion() != null) {
+        versions.add(qProfile.activeRulesVersion());
+      }
+    }
+    return versions;
+  }
+
+  /**
+   * Adds the cached active rules of the profiles that were not sent by server because their version did not change
+   */
+  public void restore(ProjectRepositories ref, ProjectRepositories cached) {
+    for (QProfile qProfile : ref.qProfiles()) {
+      QProfile cachedProfile = find(cached, qProfile.key());
+      if (qProfile.activeRulesVersion() != null && cachedProfile != null && qProfile.activeRulesVersion().equals(cachedProfile.activeRulesVersion())
+        && !hasActiveRules(ref, qProfile.language())) {
+        for (ActiveRule activeRule : cached.activeRules()) {
+          if (qProfile.language().equals(activeRule.language())) {
+            ref.addActiveRule(activeRule);
+          }
+        }
+      }
+    }
+  }
+
+  public void save(String serverUrl, String projectKey, ProjectRepositories ref) {
+    ProjectRepositories toCache = new ProjectRepositories();
+    for (QProfile qProfile : ref.qProfiles()) {
+      if (qProfile.activeRulesVersion() != null) {
+        toCache.addQProfile(qProfile);
+      }
+    }
+    if (toCache.qProfiles().isEmpty()) {
+      // server does not version active rules
+      return;
+    }
+    for (ActiveRule activeRule : ref.activeRules()) {
+      toCache.addActiveRule(activeRule);
+    }
+
+    File file = file(serverUrl, projectKey);
+    File tempFile = null;
+    try {
+      FileUtils.forceMkdir(dir);
+      // other analyses may read the file at the same time, so it is replaced atomically
+      tempFile = File.createTempFile("activeRules", null, dir);
+      try (Writer writer = new OutputStreamWriter(new FileOutputStream(tempFile), Charsets.UTF_8)) {
+        toCache.toJson(writer);
+      }
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.debug("Fail to cache active rules in " + file, e);
+      FileUtils.deleteQuietly(tempFile);
+    }
+  }
+
+  private File file(String serverUrl, String projectKey) {
+    return new File(dir, DigestUtils.md5Hex(serverUrl + "|" + projectKey) + ".json");
+  }
+
+  @CheckForNull
+  private static QProfile find(ProjectRepositories ref, String qProfileKey) {
+    for (QProfile qProfile : ref.qProfiles()) {
+      if (qProfile.key().equals(qProfileKey)) {
+        return qProfile;
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasActiveRules(ProjectRepositories ref, String language) {
+    for (ActiveRule activeRule : ref.activeRules()) {
+      if (language.equals(activeRule.language())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.components;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModulePastMeasuresTest {
+
+  ModulePastMeasures measures = new ModulePastMeasures();
+
+  @Test
+  public void get_value_by_component_metric_rule_characteristic_and_person() {
+    measures.add("dir", 1, null, null, null, 10.0);
+    measures.add("dir", 1, 2, null, null, 20.0);
+    measures.add("dir", 1, null, 3, null, 30.0);
+    measures.add("dir", 1, null, null, 4, 40.0);
+    measures.add("other", 1, null, null, null, 50.0);
+
+    assertThat(measures.size()).isEqualTo(5);
+    assertThat(measures.getValue("dir", 1, null, null, null)).isEqualTo(10.0);
+    assertThat(measures.getValue("dir", 1, 2, null, null)).isEqualTo(20.0);
+    assertThat(measures.getValue("dir", 1, null, 3, null)).isEqualTo(30.0);
+    assertThat(measures.getValue("dir", 1, null, null, 4)).isEqualTo(40.0);
+    assertThat(measures.getValue("other", 1, null, null, null)).isEqualTo(50.0);
+    assertThat(measures.hasComponent("dir")).isTrue();
+  }
+
+  @Test
+  public void return_nan_if_missing_measure_or_value() {
+    measures.add("dir", 1, null, null, null, null);
+
+    assertThat(measures.getValue("dir", 1, null, null, null)).isNaN();
+    assertThat(measures.getValue("dir", 2, null, null, null)).isNaN();
+    assertThat(measures.getValue("unknown", 1, null, null, null)).isNaN();
+    assertThat(measures.hasComponent("unknown")).isFalse();
+  }
+
+  @Test
+  public void replace_duplicated_measure() {
+    measures.add("dir", 1, null, null, null, 10.0);
+    measures.add("dir", 1, null, null, null, 15.0);
+
+    assertThat(measures.size()).isEqualTo(1);
+    assertThat(measures.getValue("dir", 1, null, null, null)).isEqualTo(15.0);
+  }
+
+  @Test
+  public void grow_beyond_initial_capacity() {
+    for (int dir = 0; dir < 1000; dir++) {
+      for (int metric = 1; metric <= 20; metric++) {
+        measures.add("dir" + dir, metric, null, null, null, (double) dir * metric);
+      }
+    }
+
+    assertThat(measures.size()).isEqualTo(20000);
+    assertThat(measures.getValue("dir0", 1, null, null, null)).isEqualTo(0.0);
+    assertThat(measures.getValue("dir999", 20, null, null, null)).isEqualTo(19980.0);
+    assertThat(measures.getValue("dir500", 7, null, null, null)).isEqualTo(3500.0);
+  }
+}
@@ -26,7 +26,9 @@ import org.sonar.api.database.model.Snapshot;
 import org.sonar.api.measures.Metric;
 import org.sonar.jpa.test.AbstractDbUnitTestCase;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
@@ -38,6 +40,7 @@ public class PastMeasuresLoaderTest extends AbstractDbUnitTestCase {
 
   private static final int PROJECT_SNAPSHOT_ID = 1000;
   private static final String PROJECT_KEY = "project";
+  private static final String DIR_KEY = "project:org.foo";
   private static final String FILE_KEY = "project:org.foo.Bar";
 
   @Test
@@ -47,7 +50,7 @@ public class PastMeasuresLoaderTest extends AbstractDbUnitTestCase {
     List<Metric> metrics = selectMetrics();
     Snapshot projectSnapshot = getSession().getSingleResult(Snapshot.class, "id", PROJECT_SNAPSHOT_ID);
 
-    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), metrics);
+    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), getMyBatis(), metrics);
     List<Object[]> measures = loader.getPastMeasures(FILE_KEY, projectSnapshot);
     assertThat(measures.size(), is(2));
 
@@ -71,7 +74,7 @@ public class PastMeasuresLoaderTest extends AbstractDbUnitTestCase {
     List<Metric> metrics = selectMetrics();
     Snapshot projectSnapshot = getSession().getSingleResult(Snapshot.class, "id", PROJECT_SNAPSHOT_ID);
 
-    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), metrics);
+    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), getMyBatis(), metrics);
     List<Object[]> measures = loader.getPastMeasures(PROJECT_KEY, projectSnapshot);
     assertThat(measures.size(), is(2));
 
@@ -98,12 +101,61 @@ public class PastMeasuresLoaderTest extends AbstractDbUnitTestCase {
     data.setId(3);
     List<Metric> metrics = Arrays.asList(ncloc, complexity, data);
 
-    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), metrics);
+    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), getMyBatis(), metrics);
 
     assertThat(loader.getMetrics().size(), is(2));
     assertThat(loader.getMetrics(), hasItems(ncloc, complexity));
   }
 
+  @Test
+  public void get_past_measures_of_module() {
+    setupData("past_measures_of_module");
+
+    List<Metric> metrics = selectMetrics();
+    Snapshot projectSnapshot = getSession().getSingleResult(Snapshot.class, "id", PROJECT_SNAPSHOT_ID);
+    PastSnapshot pastSnapshot = new PastSnapshot("days", new Date(), projectSnapshot).setIndex(1);
+
+    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), getMyBatis(), metrics);
+    ModulePastMeasures measures = loader.getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot);
+
+    // measures of files are not loaded
+    assertThat(measures.size(), is(5));
+    assertThat(measures.getValue(PROJECT_KEY, 1, null, null, null), is(60.0));
+    assertThat(measures.getValue(PROJECT_KEY, 2, null, null, null), is(80.0));
+    assertThat(measures.getValue(DIR_KEY, 1, null, null, null), is(20.0));
+    assertThat(measures.getValue(DIR_KEY, 1, 30, null, null), is(12.0));
+    assertThat(measures.getValue(DIR_KEY, 2, null, null, null), is(70.0));
+    assertThat(Double.isNaN(measures.getValue(DIR_KEY, 1, 31, null, null)), is(true));
+    assertThat(measures.hasComponent(FILE_KEY), is(false));
+  }
+
+  @Test
+  public void get_past_measures_of_module_with_more_metrics_than_allowed_in_sql_in_clause() {
+    setupData("past_measures_of_module");
+
+    List<Metric> metrics = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      metrics.add(new Metric.Builder("metric" + i, "Metric " + i, Metric.ValueType.INT).create().setId(10000 + i));
+    }
+    metrics.addAll(selectMetrics());
+    Snapshot projectSnapshot = getSession().getSingleResult(Snapshot.class, "id", PROJECT_SNAPSHOT_ID);
+    PastSnapshot pastSnapshot = new PastSnapshot("days", new Date(), projectSnapshot).setIndex(1);
+
+    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), getMyBatis(), metrics);
+    ModulePastMeasures measures = loader.getPastMeasuresOfModule(PROJECT_KEY, pastSnapshot);
+
+    assertThat(measures.size(), is(5));
+    assertThat(measures.getValue(PROJECT_KEY, 2, null, null, null), is(80.0));
+  }
+
+  @Test
+  public void no_past_measures_of_module_if_no_past_snapshot() {
+    PastMeasuresLoader loader = new PastMeasuresLoader(getSession(), getMyBatis(), selectMetrics());
+
+    assertThat(loader.getPastMeasuresOfModule(PROJECT_KEY, null).size(), is(0));
+    assertThat(loader.getPastMeasuresOfModule(PROJECT_KEY, new PastSnapshot("days")).size(), is(0));
+  }
+
   private List<Metric> selectMetrics() {
     return getSession().getResults(Metric.class);
   }
@@ -0,0 +1,126 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.cpd.index;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.database.DatabaseSession;
+import org.sonar.api.resources.Project;
+import org.sonar.batch.index.BatchResource;
+import org.sonar.batch.index.ResourceCache;
+import org.sonar.core.duplication.DuplicationDao;
+import org.sonar.core.duplication.DuplicationUnitDto;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import javax.persistence.Query;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DbDuplicationsIndexTest {
+
+  static final String HASH_A = "0000000000000001";
+  static final String HASH_B = "0000000000000002";
+
+  DuplicationDao dao = mock(DuplicationDao.class);
+  InputFile file1 = new DefaultInputFile("foo", "src/File1.java");
+  InputFile file2 = new DefaultInputFile("foo", "src/File2.java");
+  DbDuplicationsIndex index;
+
+  @Before
+  public void setUp() {
+    Project project = new Project("foo");
+    project.setId(1);
+    project.setEffectiveKey("foo");
+    ResourceCache resourceCache = mock(ResourceCache.class);
+    BatchResource resource = mock(BatchResource.class);
+    when(resource.snapshotId()).thenReturn(10);
+    when(resourceCache.get(anyString())).thenReturn(resource);
+    DatabaseSession session = mock(DatabaseSession.class);
+    when(session.createQuery(anyString())).thenReturn(mock(Query.class));
+    index = new DbDuplicationsIndex(project, dao, "java", session, resourceCache);
+  }
+
+  @Test
+  public void load_candidates_of_all_files_at_once() {
+    index.insert(file1, Arrays.asList(block("foo:src/File1.java", HASH_A, 0)));
+    index.insert(file2, Arrays.asList(block("foo:src/File2.java", HASH_B, 0)));
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ResultHandler handler = (ResultHandler) invocation.getArguments()[3];
+        handler.handleResult(context(unit("bar:src/Bar.java", HASH_A, 3)));
+        handler.handleResult(context(unit("bar:src/Baz.java", HASH_A, 0)));
+        return null;
+      }
+    }).when(dao).selectCandidates(anyCollectionOf(String.class), any(Integer.class), eq("java"), any(ResultHandler.class));
+
+    index.prepareCache(file1);
+    index.prepareCache(file2);
+
+    verify(dao, times(1)).selectCandidates(anyCollectionOf(String.class), any(Integer.class), eq("java"), any(ResultHandler.class));
+    Collection<Block> blocks = index.getByHash(new ByteArray(HASH_A));
+    assertThat(blocks).hasSize(2);
+    assertThat(blocks).extracting("resourceId").containsOnly("bar:src/Bar.java", "bar:src/Baz.java");
+    assertThat(index.getByHash(new ByteArray(HASH_B))).isEmpty();
+  }
+
+  @Test
+  public void do_not_request_db_when_no_new_blocks() {
+    index.prepareCache(file1);
+
+    verify(dao, times(0)).selectCandidates(anyCollectionOf(String.class), any(Integer.class), anyString(), any(ResultHandler.class));
+    assertThat(index.getByHash(new ByteArray(HASH_A))).isEmpty();
+  }
+
+  private static Block block(String resourceKey, String hash, int indexInFile) {
+    return Block.builder().setResourceId(resourceKey).setBlockHash(new ByteArray(hash)).setIndexInFile(indexInFile).setLines(1, 2).build();
+  }
+
+  private static DuplicationUnitDto unit(String resourceKey, String hash, int indexInFile) {
+    DuplicationUnitDto unit = new DuplicationUnitDto(2, 20, hash, indexInFile, 1, 2);
+    unit.setResourceKey(resourceKey);
+    return unit;
+  }
+
+  private static ResultContext context(DuplicationUnitDto unit) {
+    ResultContext context = mock(ResultContext.class);
+    when(context.getResultObject()).thenReturn(unit);
+    return context;
+  }
+}
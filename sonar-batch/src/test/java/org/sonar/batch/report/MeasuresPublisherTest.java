@@ -33,6 +33,7 @@ import org.sonar.api.rule.RuleKey;
 import org.sonar.api.rules.RulePriority;
 import org.sonar.api.technicaldebt.batch.Characteristic;
 import org.sonar.batch.index.ResourceCache;
+import org.sonar.batch.protocol.output.BatchReport;
 import org.sonar.batch.protocol.output.BatchReportReader;
 import org.sonar.batch.protocol.output.BatchReportWriter;
 import org.sonar.batch.scan.measure.MeasureCache;
@@ -131,6 +132,18 @@ public class MeasuresPublisherTest {
     assertThat(componentMeasures.get(0).getAlertText()).isEqualTo("Foo");
     assertThat(componentMeasures.get(0).getPersonId()).isEqualTo(2);
 
+    // metrics and rules are referenced through the dictionaries of report
+    BatchReport.Dictionaries dictionaries = reader.readDictionaries();
+    assertThat(dictionaries.getMetricKeyList()).containsExactly(CoreMetrics.COVERAGE_KEY, CoreMetrics.NEW_BLOCKER_VIOLATIONS_KEY, "manual_metric",
+      CoreMetrics.NCLOC_KEY, CoreMetrics.SQALE_RATING_KEY, CoreMetrics.TECHNICAL_DEBT_KEY, CoreMetrics.NCLOC_LANGUAGE_DISTRIBUTION_KEY);
+    assertThat(dictionaries.getRuleKeyList()).containsExactly("squid:S12345");
+    assertThat(componentMeasures.get(0).hasMetricKey()).isFalse();
+    assertThat(componentMeasures.get(0).getMetricRef()).isEqualTo(0);
+    assertThat(componentMeasures.get(3).getMetricRef()).isEqualTo(3);
+    assertThat(componentMeasures.get(3).hasRuleRef()).isFalse();
+    assertThat(componentMeasures.get(4).getMetricRef()).isEqualTo(3);
+    assertThat(componentMeasures.get(4).getRuleRef()).isEqualTo(0);
+
   }
 
   @Test
@@ -19,16 +19,31 @@
  */
 package org.sonar.batch.repository;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.io.InputSupplier;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.sonar.api.batch.bootstrap.ProjectDefinition;
 import org.sonar.api.batch.bootstrap.ProjectReactor;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.bootstrap.TaskProperties;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.batch.protocol.input.ProjectRepositories;
+import org.sonar.batch.protocol.input.ProjectRepositoriesWriter;
+import org.sonar.batch.protocol.input.QProfile;
 import org.sonar.batch.rule.ModuleQProfiles;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -37,6 +52,9 @@ import static org.mockito.Mockito.when;
 
 public class DefaultProjectRepositoriesLoaderTest {
 
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
   private DefaultProjectRepositoriesLoader loader;
   private ServerClient serverClient;
   private DefaultAnalysisMode analysisMode;
@@ -44,12 +62,12 @@ public class DefaultProjectRepositoriesLoaderTest {
   private TaskProperties taskProperties;
 
   @Before
-  public void prepare() {
+  public void prepare() throws Exception {
     serverClient = mock(ServerClient.class);
     analysisMode = mock(DefaultAnalysisMode.class);
-    loader = new DefaultProjectRepositoriesLoader(serverClient, analysisMode);
+    loader = new DefaultProjectRepositoriesLoader(serverClient, analysisMode, new LocalActiveRulesCache(temp.newFolder()));
     loader = spy(loader);
-    when(serverClient.request(anyString())).thenReturn("{}");
+    when(serverClient.doRequest(anyString(), anyString(), any(Integer.class))).thenReturn(response("{}".getBytes()));
     taskProperties = new TaskProperties(Maps.<String, String>newHashMap(), "");
   }
 
@@ -58,18 +76,18 @@ public class DefaultProjectRepositoriesLoaderTest {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
     when(analysisMode.isPreview()).thenReturn(false);
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&preview=false");
+    verify(serverClient).doRequest("/batch/project?key=foo&preview=false&format=protobuf", "GET", null);
 
     when(analysisMode.isPreview()).thenReturn(true);
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&preview=true");
+    verify(serverClient).doRequest("/batch/project?key=foo&preview=true&format=protobuf", "GET", null);
   }
 
   @Test
   public void passAndEncodeProjectKeyParameter() {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo bàr"));
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo+b%C3%A0r&preview=false");
+    verify(serverClient).doRequest("/batch/project?key=foo+b%C3%A0r&preview=false&format=protobuf", "GET", null);
   }
 
   @Test
@@ -77,7 +95,53 @@ public class DefaultProjectRepositoriesLoaderTest {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
     taskProperties.properties().put(ModuleQProfiles.SONAR_PROFILE_PROP, "my-profile#2");
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&profile=my-profile%232&preview=false");
+    verify(serverClient).doRequest("/batch/project?key=foo&profile=my-profile%232&preview=false&format=protobuf", "GET", null);
+  }
+
+  @Test
+  public void readProtobufResponse() {
+    ProjectRepositories repositories = new ProjectRepositories();
+    repositories.addSettings("foo", ImmutableMap.of("sonar.jira.project.key", "FOO"));
+    when(serverClient.doRequest(anyString(), anyString(), any(Integer.class))).thenReturn(response(toProtobuf(repositories)));
+
+    reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
+    ProjectRepositories loaded = loader.load(reactor, taskProperties);
+
+    assertThat(loaded.settings("foo")).containsEntry("sonar.jira.project.key", "FOO");
+  }
+
+  @Test
+  public void sendVersionsOfCachedActiveRules() {
+    ProjectRepositories repositories = new ProjectRepositories();
+    repositories.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()).setActiveRulesVersion("v1"));
+    repositories.addActiveRule(new ActiveRule("squid", "S001", null, "Rule", "MAJOR", null, "java"));
+    when(serverClient.doRequest(anyString(), anyString(), any(Integer.class))).thenReturn(response(toProtobuf(repositories)));
+    reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
+    loader.load(reactor, taskProperties);
+
+    // active rules did not change on server
+    repositories = new ProjectRepositories();
+    repositories.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()).setActiveRulesVersion("v1"));
+    when(serverClient.doRequest(anyString(), anyString(), any(Integer.class))).thenReturn(response(toProtobuf(repositories)));
+    ProjectRepositories loaded = loader.load(reactor, taskProperties);
+
+    verify(serverClient).doRequest("/batch/project?key=foo&preview=false&format=protobuf&knownActiveRulesVersions=v1", "GET", null);
+    assertThat(loaded.activeRules()).extracting("ruleKey").containsOnly("S001");
+  }
+
+  private static byte[] toProtobuf(ProjectRepositories repositories) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ProjectRepositoriesWriter(output).write(repositories);
+    return output.toByteArray();
+  }
+
+  private static InputSupplier<InputStream> response(final byte[] bytes) {
+    return new InputSupplier<InputStream>() {
+      @Override
+      public InputStream getInput() {
+        return new ByteArrayInputStream(bytes);
+      }
+    };
   }
 
 }
@@ -0,0 +1,113 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.repository;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.batch.protocol.input.ProjectRepositories;
+import org.sonar.batch.protocol.input.QProfile;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalActiveRulesCacheTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  File dir;
+  LocalActiveRulesCache cache;
+
+  @Before
+  public void setUp() throws Exception {
+    dir = temp.newFolder();
+    cache = new LocalActiveRulesCache(dir);
+  }
+
+  @Test
+  public void empty_if_project_is_not_cached() {
+    ProjectRepositories cached = cache.load("http://localhost:9000", "foo");
+
+    assertThat(cached.qProfiles()).isEmpty();
+    assertThat(cache.versions(cached)).isEmpty();
+  }
+
+  @Test
+  public void save_and_load_versioned_profiles() {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addSettings("foo", Collections.singletonMap("key", "value"));
+    ref.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()).setActiveRulesVersion("v1"));
+    ref.addQProfile(new QProfile("js-way", "Sonar Way", "js", new Date()));
+    ref.addActiveRule(new ActiveRule("squid", "S001", null, "Rule", "MAJOR", null, "java"));
+    cache.save("http://localhost:9000", "foo", ref);
+
+    ProjectRepositories cached = cache.load("http://localhost:9000", "foo");
+    assertThat(cache.versions(cached)).containsOnly("v1");
+    assertThat(cached.activeRules()).hasSize(1);
+    // only profiles and active rules are cached
+    assertThat(cached.settingsByModule()).isEmpty();
+
+    // not the same server
+    assertThat(cache.load("http://other:9000", "foo").qProfiles()).isEmpty();
+  }
+
+  @Test
+  public void do_not_save_if_server_does_not_version_active_rules() {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()));
+    cache.save("http://localhost:9000", "foo", ref);
+
+    assertThat(dir.list()).isEmpty();
+  }
+
+  @Test
+  public void ignore_corrupted_file() throws Exception {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()).setActiveRulesVersion("v1"));
+    cache.save("http://localhost:9000", "foo", ref);
+    FileUtils.write(dir.listFiles()[0], "{corrupted");
+
+    assertThat(cache.load("http://localhost:9000", "foo").qProfiles()).isEmpty();
+  }
+
+  @Test
+  public void restore_active_rules_of_unchanged_profiles() {
+    ProjectRepositories cached = new ProjectRepositories();
+    cached.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()).setActiveRulesVersion("v1"));
+    cached.addQProfile(new QProfile("js-way", "Sonar Way", "js", new Date()).setActiveRulesVersion("v1"));
+    cached.addActiveRule(new ActiveRule("squid", "S001", null, "Rule", "MAJOR", null, "java"));
+    cached.addActiveRule(new ActiveRule("js", "S002", null, "Rule", "MAJOR", null, "js"));
+
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addQProfile(new QProfile("java-way", "Sonar Way", "java", new Date()).setActiveRulesVersion("v1"));
+    ref.addQProfile(new QProfile("js-way", "Sonar Way", "js", new Date()).setActiveRulesVersion("v2"));
+    ref.addActiveRule(new ActiveRule("js", "S003", null, "Rule", "MAJOR", null, "js"));
+    cache.restore(ref, cached);
+
+    assertThat(ref.activeRules()).extracting("ruleKey").containsOnly("S001", "S003");
+  }
+}
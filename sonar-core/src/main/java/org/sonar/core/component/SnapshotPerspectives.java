@@ -23,12 +23,14 @@ import com.google.common.collect.Maps;
 import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.component.Perspective;
+import org.sonar.core.graph.binary.BinaryGraphReader;
 import org.sonar.core.graph.graphson.GraphsonReader;
 import org.sonar.core.graph.jdbc.GraphDao;
 import org.sonar.core.graph.jdbc.GraphDto;
 
 import javax.annotation.CheckForNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 import java.util.Map;
 
@@ -68,18 +70,22 @@ public class SnapshotPerspectives implements ServerComponent {
   private <T extends Perspective> T doAs(GraphPerspectiveLoader<T> loader, GraphDto graphDto) {
     T result = null;
     if (graphDto != null) {
-      SnapshotGraph graph = read(graphDto.getData(), graphDto.getRootVertexId());
+      SnapshotGraph graph = read(graphDto);
       result = loader.load(graph.wrap(graph.getComponentRoot(), ComponentVertex.class));
     }
     return result;
   }
 
-  private SnapshotGraph read(String data, String rootVertexId) {
-    StringReader input = new StringReader(data);
+  private SnapshotGraph read(GraphDto graphDto) {
     try {
       TinkerGraph graph = new TinkerGraph();
-      new GraphsonReader().read(input, graph);
-      return new SnapshotGraph(graph, rootVertexId);
+      if (GraphDto.FORMAT_BINARY.equals(graphDto.getFormat())) {
+        new BinaryGraphReader().read(new ByteArrayInputStream(graphDto.getBinaryData()), graph);
+      } else {
+        // graphs persisted before 5.2
+        new GraphsonReader().read(new StringReader(graphDto.getData()), graph);
+      }
+      return new SnapshotGraph(graph, graphDto.getRootVertexId());
     } catch (Exception e) {
       throw new IllegalStateException(e);
     }
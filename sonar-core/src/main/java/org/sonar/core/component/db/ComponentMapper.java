@@ -21,8 +21,8 @@
 package org.sonar.core.component.db;
 
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.core.component.ComponentDto;
-import org.sonar.core.component.FilePathWithHashDto;
 import org.sonar.core.component.UuidWithProjectUuidDto;
 
 import javax.annotation.CheckForNull;
@@ -74,10 +74,10 @@ public interface ComponentMapper {
                                              @Param(value = "excludeDisabled") boolean excludeDisabled);
 
   /**
-   * Return all descendant files from a given component uuid and scope
+   * Return all descendant files from a given component uuid and scope. Rows are {@link org.sonar.core.component.FilePathWithHashDto}.
    */
-  List<FilePathWithHashDto> selectDescendantFiles(@Param("moduleUuid") String moduleUuid, @Param(value = "scope") String scope,
-                                                  @Param(value = "excludeDisabled") boolean excludeDisabled);
+  void selectDescendantFiles(@Param("moduleUuid") String moduleUuid, @Param(value = "scope") String scope,
+                             @Param(value = "excludeDisabled") boolean excludeDisabled, ResultHandler handler);
 
   /**
    * Return uuids and project uuids from list of qualifiers
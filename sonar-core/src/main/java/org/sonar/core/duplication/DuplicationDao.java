@@ -19,28 +19,40 @@
  */
 package org.sonar.core.duplication;
 
-import org.apache.ibatis.session.SqlSession;
+import com.google.common.collect.Lists;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.ServerComponent;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 public class DuplicationDao implements BatchComponent, ServerComponent {
 
+  static final int MAX_HASHES_PER_QUERY = 1000;
+
   private final MyBatis mybatis;
 
   public DuplicationDao(MyBatis mybatis) {
     this.mybatis = mybatis;
   }
 
-  public List<DuplicationUnitDto> selectCandidates(int resourceSnapshotId, Integer lastSnapshotId, String language) {
-    SqlSession session = mybatis.openSession(false);
+  /**
+   * Streams to the handler the blocks of the last snapshots of other projects which have one of the given hashes.
+   * Hashes are sent to database by chunks of {@link #MAX_HASHES_PER_QUERY}. Rows are {@link DuplicationUnitDto}.
+   */
+  public void selectCandidates(Collection<String> hashes, @Nullable Integer lastSnapshotId, String language, ResultHandler handler) {
+    DbSession session = mybatis.openSession(false);
     try {
       DuplicationMapper mapper = session.getMapper(DuplicationMapper.class);
-      return mapper.selectCandidates(resourceSnapshotId, lastSnapshotId, language);
+      for (List<String> hashesChunk : Lists.partition(new ArrayList<>(hashes), MAX_HASHES_PER_QUERY)) {
+        mapper.selectCandidates(hashesChunk, lastSnapshotId, language, handler);
+      }
     } finally {
       MyBatis.closeQuietly(session);
     }
@@ -63,5 +75,4 @@ public class DuplicationDao implements BatchComponent, ServerComponent {
       MyBatis.closeQuietly(session);
     }
   }
-
 }
@@ -20,15 +20,19 @@
 package org.sonar.core.duplication;
 
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
-import java.util.List;
+import javax.annotation.Nullable;
+
+import java.util.Collection;
 
 public interface DuplicationMapper {
 
-  List<DuplicationUnitDto> selectCandidates(
-      @Param("resource_snapshot_id") int resourceSnapshotId,
-      @Param("last_project_snapshot_id") Integer lastSnapshotId,
-      @Param("language") String language);
+  void selectCandidates(
+      @Param("hashes") Collection<String> hashes,
+      @Param("last_project_snapshot_id") @Nullable Integer lastSnapshotId,
+      @Param("language") String language,
+      ResultHandler handler);
 
   void batchInsert(DuplicationUnitDto unit);
 
@@ -0,0 +1,110 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Layout of the binary encoding of graphs, as written by {@link BinaryGraphWriter}:
+ * <pre>
+ * header      : MAGIC (4 bytes), VERSION (varint), flags (1 byte)
+ * index       : block count (varint), then for each block its vertex count (varint), the UTF-8 length
+ *               (varint) and bytes of each vertex id, and the length in bytes of the block (varint)
+ * blocks      : each block is deflated on its own if flag {@link #FLAG_DEFLATE} is set
+ * block       : string table, then the vertices, in the order of the index
+ * string table: count (varint), then for each string its UTF-8 length (varint) and bytes
+ * vertex      : properties, out-edges count (varint), out-edges
+ * out-edge    : id (string ref), label (string ref), in-vertex id (string ref), properties
+ * properties  : count (varint), then for each property its key (string ref) and typed value
+ * </pre>
+ * String references point to the table of the enclosing block, so a single vertex and its outgoing
+ * edges are read by skipping the blocks that precede its own, then decoding only this block.
+ */
+final class BinaryGraphFormat {
+
+  static final byte[] MAGIC = {'S', 'Q', 'G', 'B'};
+  static final int VERSION = 2;
+
+  static final int VERTICES_PER_BLOCK = 128;
+
+  static final int FLAG_DEFLATE = 1;
+
+  // only items of lists and maps can be null
+  static final byte TYPE_NULL = 0;
+  static final byte TYPE_STRING = 1;
+  static final byte TYPE_BOOLEAN = 2;
+  static final byte TYPE_INTEGER = 3;
+  static final byte TYPE_LONG = 4;
+  static final byte TYPE_FLOAT = 5;
+  static final byte TYPE_DOUBLE = 6;
+  static final byte TYPE_LIST = 7;
+  static final byte TYPE_MAP = 8;
+
+  private BinaryGraphFormat() {
+    // only static stuff
+  }
+
+  static void writeVarInt(DataOutput output, int value) throws IOException {
+    int v = value;
+    while ((v & ~0x7F) != 0) {
+      output.writeByte((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    output.writeByte(v);
+  }
+
+  static int readVarInt(DataInput input) throws IOException {
+    int result = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = input.readByte();
+      result |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed variable-length integer");
+  }
+
+  /**
+   * Signed values are zig-zag encoded, so that small negative numbers stay short.
+   */
+  static void writeVarLong(DataOutput output, long value) throws IOException {
+    long v = (value << 1) ^ (value >> 63);
+    while ((v & ~0x7FL) != 0L) {
+      output.writeByte((int) ((v & 0x7F) | 0x80));
+      v >>>= 7;
+    }
+    output.writeByte((int) v);
+  }
+
+  static long readVarLong(DataInput input) throws IOException {
+    long v = 0L;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = input.readByte();
+      v |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return (v >>> 1) ^ -(v & 1);
+      }
+    }
+    throw new IllegalStateException("Malformed variable-length long");
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Element;
+import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
+
+import javax.annotation.CheckForNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.sonar.core.graph.binary.BinaryGraphFormat.readVarInt;
+import static org.sonar.core.graph.binary.BinaryGraphFormat.readVarLong;
+
+/**
+ * Reads graphs written by {@link BinaryGraphWriter}. Blocks of vertices are inflated and decoded one at
+ * a time, so {@link #readVertex(java.io.InputStream, Object, com.tinkerpop.blueprints.Graph)} skips the
+ * blocks that do not contain the requested vertex.
+ */
+public class BinaryGraphReader {
+
+  /**
+   * Loads all the vertices and edges into <code>toGraph</code>. The input stream is not closed.
+   */
+  public Graph read(InputStream input, Graph toGraph) {
+    Inflater inflater = new Inflater();
+    try {
+      DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+      boolean deflated = readHeader(data);
+      List<Block> blocks = readIndex(data);
+      List<PendingEdge> edges = Lists.newArrayList();
+      for (Block block : blocks) {
+        DataInputStream body = readBlock(data, block, deflated, inflater);
+        String[] strings = readStrings(body);
+        for (String vertexId : block.vertexIds) {
+          Vertex vertex = toGraph.addVertex(vertexId);
+          readProperties(body, strings, vertex);
+          int edgeCount = readVarInt(body);
+          for (int j = 0; j < edgeCount; j++) {
+            PendingEdge edge = new PendingEdge(vertex, strings[readVarInt(body)], strings[readVarInt(body)], strings[readVarInt(body)]);
+            readProperties(body, strings, edge.properties);
+            edges.add(edge);
+          }
+        }
+      }
+      // edges can reference vertices that are declared later
+      for (PendingEdge pending : edges) {
+        Edge edge = toGraph.addEdge(pending.id, pending.out, toGraph.getVertex(pending.inVertexId), pending.label);
+        for (Map.Entry<String, Object> property : pending.properties.entrySet()) {
+          edge.setProperty(property.getKey(), property.getValue());
+        }
+      }
+      return toGraph;
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read graph", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  /**
+   * Loads a single vertex, with its properties and outgoing edges, into <code>toGraph</code>. The target
+   * vertices of the edges are created without properties if they do not already exist. Only the index
+   * and the block that contains the vertex are decoded.
+   *
+   * @return the loaded vertex, or null if the graph does not contain it
+   */
+  @CheckForNull
+  public Vertex readVertex(InputStream input, Object vertexId, Graph toGraph) {
+    String id = vertexId.toString();
+    Inflater inflater = new Inflater();
+    try {
+      DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+      boolean deflated = readHeader(data);
+      for (Block block : readIndex(data)) {
+        int position = block.vertexIds.indexOf(id);
+        if (position < 0) {
+          ByteStreams.skipFully(data, block.length);
+          continue;
+        }
+        DataInputStream body = readBlock(data, block, deflated, inflater);
+        String[] strings = readStrings(body);
+        Map<String, Object> ignored = Maps.newHashMap();
+        for (int i = 0; i < position; i++) {
+          readProperties(body, strings, ignored);
+          int edgeCount = readVarInt(body);
+          for (int j = 0; j < edgeCount; j++) {
+            // edge id, label and target vertex
+            readVarInt(body);
+            readVarInt(body);
+            readVarInt(body);
+            readProperties(body, strings, ignored);
+          }
+          ignored.clear();
+        }
+        return readVertexAndEdges(body, strings, toGraph, id);
+      }
+      return null;
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read graph", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static Vertex readVertexAndEdges(DataInputStream body, String[] strings, Graph toGraph, String id) throws IOException {
+    Vertex vertex = getOrCreateVertex(toGraph, id);
+    readProperties(body, strings, vertex);
+    int edgeCount = readVarInt(body);
+    for (int j = 0; j < edgeCount; j++) {
+      String edgeId = strings[readVarInt(body)];
+      String label = strings[readVarInt(body)];
+      Vertex in = getOrCreateVertex(toGraph, strings[readVarInt(body)]);
+      Edge edge = toGraph.addEdge(edgeId, vertex, in, label);
+      readProperties(body, strings, edge);
+    }
+    return vertex;
+  }
+
+  private static Vertex getOrCreateVertex(Graph graph, String id) {
+    Vertex vertex = graph.getVertex(id);
+    return vertex != null ? vertex : graph.addVertex(id);
+  }
+
+  /**
+   * @return true if blocks are deflated
+   */
+  private static boolean readHeader(DataInputStream input) throws IOException {
+    byte[] magic = new byte[BinaryGraphFormat.MAGIC.length];
+    input.readFully(magic);
+    if (!Arrays.equals(magic, BinaryGraphFormat.MAGIC)) {
+      throw new IllegalStateException("Data is not a binary graph");
+    }
+    int version = readVarInt(input);
+    if (version != BinaryGraphFormat.VERSION) {
+      throw new IllegalStateException("Unsupported version of binary graph: " + version);
+    }
+    int flags = input.readUnsignedByte();
+    return (flags & BinaryGraphFormat.FLAG_DEFLATE) != 0;
+  }
+
+  private static List<Block> readIndex(DataInputStream input) throws IOException {
+    int blockCount = readVarInt(input);
+    List<Block> blocks = Lists.newArrayListWithCapacity(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      int vertexCount = readVarInt(input);
+      List<String> vertexIds = Lists.newArrayListWithCapacity(vertexCount);
+      for (int j = 0; j < vertexCount; j++) {
+        vertexIds.add(readString(input));
+      }
+      blocks.add(new Block(vertexIds, readVarInt(input)));
+    }
+    return blocks;
+  }
+
+  private static DataInputStream readBlock(DataInputStream input, Block block, boolean deflated, Inflater inflater) throws IOException {
+    byte[] bytes = new byte[block.length];
+    input.readFully(bytes);
+    InputStream body = new ByteArrayInputStream(bytes);
+    if (deflated) {
+      inflater.reset();
+      body = new InflaterInputStream(body, inflater);
+    }
+    return new DataInputStream(new BufferedInputStream(body));
+  }
+
+  private static String[] readStrings(DataInputStream input) throws IOException {
+    String[] strings = new String[readVarInt(input)];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = readString(input);
+    }
+    return strings;
+  }
+
+  private static String readString(DataInputStream input) throws IOException {
+    byte[] bytes = new byte[readVarInt(input)];
+    input.readFully(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private static void readProperties(DataInputStream input, String[] strings, Element element) throws IOException {
+    int count = readVarInt(input);
+    for (int i = 0; i < count; i++) {
+      String key = strings[readVarInt(input)];
+      element.setProperty(key, readValue(input, strings));
+    }
+  }
+
+  private static void readProperties(DataInputStream input, String[] strings, Map<String, Object> properties) throws IOException {
+    int count = readVarInt(input);
+    for (int i = 0; i < count; i++) {
+      String key = strings[readVarInt(input)];
+      properties.put(key, readValue(input, strings));
+    }
+  }
+
+  @CheckForNull
+  private static Object readValue(DataInputStream input, String[] strings) throws IOException {
+    byte type = input.readByte();
+    switch (type) {
+      case BinaryGraphFormat.TYPE_NULL:
+        return null;
+      case BinaryGraphFormat.TYPE_STRING:
+        return strings[readVarInt(input)];
+      case BinaryGraphFormat.TYPE_BOOLEAN:
+        return input.readBoolean();
+      case BinaryGraphFormat.TYPE_INTEGER:
+        return (int) readVarLong(input);
+      case BinaryGraphFormat.TYPE_LONG:
+        return readVarLong(input);
+      case BinaryGraphFormat.TYPE_FLOAT:
+        return input.readFloat();
+      case BinaryGraphFormat.TYPE_DOUBLE:
+        return input.readDouble();
+      case BinaryGraphFormat.TYPE_LIST:
+        int size = readVarInt(input);
+        List<Object> list = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readValue(input, strings));
+        }
+        return list;
+      case BinaryGraphFormat.TYPE_MAP:
+        int entries = readVarInt(input);
+        Map<String, Object> map = Maps.newLinkedHashMap();
+        for (int i = 0; i < entries; i++) {
+          map.put(strings[readVarInt(input)], readValue(input, strings));
+        }
+        return map;
+      default:
+        throw new IllegalStateException("Unknown type of graph property: " + type);
+    }
+  }
+
+  private static class Block {
+    private final List<String> vertexIds;
+    private final int length;
+
+    Block(List<String> vertexIds, int length) {
+      this.vertexIds = vertexIds;
+      this.length = length;
+    }
+  }
+
+  private static class PendingEdge {
+    private final Vertex out;
+    private final String id;
+    private final String label;
+    private final String inVertexId;
+    private final Map<String, Object> properties = Maps.newLinkedHashMap();
+
+    PendingEdge(Vertex out, String id, String label, String inVertexId) {
+      this.out = out;
+      this.id = id;
+      this.label = label;
+      this.inVertexId = inVertexId;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Element;
+import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.sonar.core.graph.binary.BinaryGraphFormat.writeVarInt;
+import static org.sonar.core.graph.binary.BinaryGraphFormat.writeVarLong;
+
+/**
+ * Compact replacement of {@link org.sonar.core.graph.graphson.GraphsonWriter}. Vertices are grouped in
+ * blocks. Within a block, identifiers, labels, property keys and string values are written once in a table,
+ * then referenced by their index.
+ * See {@link BinaryGraphFormat} for the layout.
+ */
+public class BinaryGraphWriter {
+
+  public static final int VERSION = BinaryGraphFormat.VERSION;
+
+  private final boolean deflate;
+
+  public BinaryGraphWriter() {
+    this(true);
+  }
+
+  public BinaryGraphWriter(boolean deflate) {
+    this.deflate = deflate;
+  }
+
+  /**
+   * The output stream is not closed.
+   */
+  public void write(Graph graph, OutputStream output) {
+    List<List<Vertex>> blocks = Lists.partition(Lists.newArrayList(graph.getVertices()), BinaryGraphFormat.VERTICES_PER_BLOCK);
+    Deflater deflater = deflate ? new Deflater(Deflater.BEST_SPEED) : null;
+    try {
+      List<byte[]> encodedBlocks = Lists.newArrayListWithCapacity(blocks.size());
+      for (List<Vertex> block : blocks) {
+        encodedBlocks.add(encodeBlock(block, deflater));
+      }
+
+      DataOutputStream header = new DataOutputStream(new BufferedOutputStream(output));
+      header.write(BinaryGraphFormat.MAGIC);
+      writeVarInt(header, BinaryGraphFormat.VERSION);
+      header.writeByte(deflate ? BinaryGraphFormat.FLAG_DEFLATE : 0);
+      writeVarInt(header, blocks.size());
+      for (int i = 0; i < blocks.size(); i++) {
+        writeVarInt(header, blocks.get(i).size());
+        for (Vertex vertex : blocks.get(i)) {
+          writeString(header, vertex.getId().toString());
+        }
+        writeVarInt(header, encodedBlocks.get(i).length);
+      }
+      for (byte[] encodedBlock : encodedBlocks) {
+        header.write(encodedBlock);
+      }
+      header.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write graph", e);
+    } finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+  }
+
+  private static byte[] encodeBlock(List<Vertex> vertices, @Nullable Deflater deflater) throws IOException {
+    Map<String, Integer> strings = collectStrings(vertices);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DeflaterOutputStream deflaterOutput = null;
+    if (deflater != null) {
+      deflater.reset();
+      deflaterOutput = new DeflaterOutputStream(bytes, deflater);
+    }
+    DataOutputStream block = new DataOutputStream(new BufferedOutputStream(deflaterOutput != null ? deflaterOutput : bytes));
+    writeStrings(block, strings);
+    for (Vertex vertex : vertices) {
+      writeVertex(block, vertex, strings);
+    }
+    block.flush();
+    if (deflaterOutput != null) {
+      deflaterOutput.finish();
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Map<String, Integer> collectStrings(List<Vertex> vertices) {
+    Map<String, Integer> strings = Maps.newLinkedHashMap();
+    for (Vertex vertex : vertices) {
+      collectProperties(strings, vertex);
+      for (Edge edge : vertex.getEdges(Direction.OUT)) {
+        addString(strings, edge.getId().toString());
+        addString(strings, edge.getLabel());
+        addString(strings, edge.getVertex(Direction.IN).getId().toString());
+        collectProperties(strings, edge);
+      }
+    }
+    return strings;
+  }
+
+  private static void collectProperties(Map<String, Integer> strings, Element element) {
+    for (String key : element.getPropertyKeys()) {
+      addString(strings, key);
+      collectValue(strings, element.getProperty(key));
+    }
+  }
+
+  private static void collectValue(Map<String, Integer> strings, @Nullable Object value) {
+    if (value instanceof String) {
+      addString(strings, (String) value);
+    } else if (value instanceof List) {
+      for (Object item : (List) value) {
+        collectValue(strings, item);
+      }
+    } else if (value instanceof Map) {
+      for (Map.Entry entry : ((Map<?, ?>) value).entrySet()) {
+        addString(strings, entry.getKey().toString());
+        collectValue(strings, entry.getValue());
+      }
+    }
+  }
+
+  private static void addString(Map<String, Integer> strings, String s) {
+    if (!strings.containsKey(s)) {
+      strings.put(s, strings.size());
+    }
+  }
+
+  private static void writeStrings(DataOutputStream output, Map<String, Integer> strings) throws IOException {
+    writeVarInt(output, strings.size());
+    for (String s : strings.keySet()) {
+      writeString(output, s);
+    }
+  }
+
+  private static void writeString(DataOutputStream output, String s) throws IOException {
+    byte[] bytes = s.getBytes(UTF_8);
+    writeVarInt(output, bytes.length);
+    output.write(bytes);
+  }
+
+  private static void writeVertex(DataOutputStream output, Vertex vertex, Map<String, Integer> strings) throws IOException {
+    writeProperties(output, vertex, strings);
+    List<Edge> edges = Lists.newArrayList(vertex.getEdges(Direction.OUT));
+    writeVarInt(output, edges.size());
+    for (Edge edge : edges) {
+      writeVarInt(output, strings.get(edge.getId().toString()));
+      writeVarInt(output, strings.get(edge.getLabel()));
+      writeVarInt(output, strings.get(edge.getVertex(Direction.IN).getId().toString()));
+      writeProperties(output, edge, strings);
+    }
+  }
+
+  private static void writeProperties(DataOutputStream output, Element element, Map<String, Integer> strings) throws IOException {
+    writeVarInt(output, element.getPropertyKeys().size());
+    for (String key : element.getPropertyKeys()) {
+      writeVarInt(output, strings.get(key));
+      writeValue(output, element.getProperty(key), strings);
+    }
+  }
+
+  private static void writeValue(DataOutputStream output, @Nullable Object value, Map<String, Integer> strings) throws IOException {
+    if (value == null) {
+      output.writeByte(BinaryGraphFormat.TYPE_NULL);
+    } else if (value instanceof String) {
+      output.writeByte(BinaryGraphFormat.TYPE_STRING);
+      writeVarInt(output, strings.get(value));
+    } else if (value instanceof Boolean) {
+      output.writeByte(BinaryGraphFormat.TYPE_BOOLEAN);
+      output.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      output.writeByte(BinaryGraphFormat.TYPE_INTEGER);
+      writeVarLong(output, (Integer) value);
+    } else if (value instanceof Long) {
+      output.writeByte(BinaryGraphFormat.TYPE_LONG);
+      writeVarLong(output, (Long) value);
+    } else if (value instanceof Float) {
+      output.writeByte(BinaryGraphFormat.TYPE_FLOAT);
+      output.writeFloat((Float) value);
+    } else if (value instanceof Double) {
+      output.writeByte(BinaryGraphFormat.TYPE_DOUBLE);
+      output.writeDouble((Double) value);
+    } else if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      output.writeByte(BinaryGraphFormat.TYPE_LIST);
+      writeVarInt(output, list.size());
+      for (Object item : list) {
+        writeValue(output, item, strings);
+      }
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      output.writeByte(BinaryGraphFormat.TYPE_MAP);
+      writeVarInt(output, map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        writeVarInt(output, strings.get(entry.getKey().toString()));
+        writeValue(output, entry.getValue(), strings);
+      }
+    } else {
+      throw new IllegalStateException("Unsupported type of graph property: " + value.getClass());
+    }
+  }
+}
@@ -19,7 +19,14 @@
  */
 package org.sonar.core.graph.jdbc;
 
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
 public class GraphDto {
+
+  public static final String FORMAT_GRAPHSON = "graphson";
+  public static final String FORMAT_BINARY = "binary";
+
   private long id;
   private long resourceId;
   private long snapshotId;
@@ -28,6 +35,7 @@ public class GraphDto {
   private int version;
   private String rootVertexId;
   private String data;
+  private byte[] binaryData;
 
   public long getId() {
     return id;
@@ -92,12 +100,29 @@ public class GraphDto {
     return this;
   }
 
+  /**
+   * Text data, used by format {@link #FORMAT_GRAPHSON}
+   */
+  @CheckForNull
   public String getData() {
     return data;
   }
 
-  public GraphDto setData(String data) {
+  public GraphDto setData(@Nullable String data) {
     this.data = data;
     return this;
   }
+
+  /**
+   * Binary data, used by format {@link #FORMAT_BINARY}
+   */
+  @CheckForNull
+  public byte[] getBinaryData() {
+    return binaryData;
+  }
+
+  public GraphDto setBinaryData(@Nullable byte[] binaryData) {
+    this.binaryData = binaryData;
+    return this;
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.measure.db;
+
+/**
+ * Row of table LAST_MEASURES. Column MEASURES_DATA contains the encoded measures of the
+ * last snapshot of a component.
+ *
+ * @since 5.2
+ */
+public class LastMeasuresDto {
+
+  private Long snapshotId;
+  private Long projectId;
+  private Long rootProjectId;
+  private byte[] measuresData;
+
+  public Long getSnapshotId() {
+    return snapshotId;
+  }
+
+  public LastMeasuresDto setSnapshotId(Long snapshotId) {
+    this.snapshotId = snapshotId;
+    return this;
+  }
+
+  public Long getProjectId() {
+    return projectId;
+  }
+
+  public LastMeasuresDto setProjectId(Long projectId) {
+    this.projectId = projectId;
+    return this;
+  }
+
+  public Long getRootProjectId() {
+    return rootProjectId;
+  }
+
+  public LastMeasuresDto setRootProjectId(Long rootProjectId) {
+    this.rootProjectId = rootProjectId;
+    return this;
+  }
+
+  public byte[] getMeasuresData() {
+    return measuresData;
+  }
+
+  public LastMeasuresDto setMeasuresData(byte[] measuresData) {
+    this.measuresData = measuresData;
+    return this;
+  }
+}
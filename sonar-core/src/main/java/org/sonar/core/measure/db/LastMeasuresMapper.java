@@ -0,0 +1,42 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.measure.db;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import javax.annotation.CheckForNull;
+
+public interface LastMeasuresMapper {
+
+  /**
+   * Measures of the last snapshots of the components of a project, ordered by snapshot. Only the
+   * measures that are not related to rules, characteristics or persons are loaded, excluding
+   * data and distribution metrics. Component id, snapshot id, metric id, value, variations and text value are set.
+   */
+  void selectMeasuresOfLastSnapshots(@Param("rootProjectId") long rootProjectId, ResultHandler handler);
+
+  @CheckForNull
+  LastMeasuresDto selectBySnapshotId(long snapshotId);
+
+  void deleteByRootProjectId(long rootProjectId);
+
+  void insert(LastMeasuresDto dto);
+}
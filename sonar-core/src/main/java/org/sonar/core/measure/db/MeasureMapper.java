@@ -21,9 +21,11 @@
 package org.sonar.core.measure.db;
 
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import javax.annotation.CheckForNull;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MeasureMapper {
@@ -37,5 +39,12 @@ public interface MeasureMapper {
 
   long countByComponentAndMetric(@Param("componentKey") String componentKey, @Param("metricKey") String metricKey);
 
+  /**
+   * Numeric measures of a past analysis on the module and on its directories and unit test files. Only
+   * component key, metric, rule, characteristic, person and value are loaded.
+   */
+  void selectPastMeasuresOfModule(@Param("rootSnapshotId") long rootSnapshotId, @Param("moduleKey") String moduleKey,
+    @Param("metricIds") Collection<Integer> metricIds, ResultHandler handler);
+
   void insert(MeasureDto measureDto);
 }
@@ -36,12 +36,17 @@ import org.sonar.core.notification.db.NotificationQueueDao;
 import org.sonar.core.notification.db.NotificationQueueDto;
 import org.sonar.core.properties.PropertiesDao;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.InvalidClassException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @since 2.10
@@ -58,6 +63,8 @@ public class DefaultNotificationManager implements NotificationManager {
 
   private boolean alreadyLoggedDeserializationIssue = false;
 
+  private final ThreadLocal<Map<String, Multimap<String, NotificationChannel>>> subscribersCache = new ThreadLocal<>();
+
   /**
    * Default constructor used by Pico
    */
@@ -96,21 +103,38 @@ public class DefaultNotificationManager implements NotificationManager {
   /**
    * Give the notification queue so that it can be processed
    */
+  @CheckForNull
   public Notification getFromQueue() {
-    int batchSize = 1;
+    List<Notification> notifications = getFromQueue(1);
+    return notifications.isEmpty() ? null : notifications.get(0);
+  }
+
+  /**
+   * Remove at most <code>batchSize</code> of the oldest notifications from the queue, so that they can be processed.
+   * Notifications are removed with a single request. The returned list can be smaller than the number of
+   * removed notifications when some of them can't be deserialized.
+   */
+  public List<Notification> getFromQueue(int batchSize) {
     List<NotificationQueueDto> notificationDtos = notificationQueueDao.findOldest(batchSize);
     if (notificationDtos.isEmpty()) {
-      return null;
+      return Collections.emptyList();
     }
     notificationQueueDao.delete(notificationDtos);
 
-    return convertToNotification(notificationDtos);
+    List<Notification> notifications = new ArrayList<>(notificationDtos.size());
+    for (NotificationQueueDto notificationDto : notificationDtos) {
+      Notification notification = convertToNotification(notificationDto);
+      if (notification != null) {
+        notifications.add(notification);
+      }
+    }
+    return notifications;
   }
 
-  private Notification convertToNotification(List<NotificationQueueDto> notifications) {
+  @CheckForNull
+  private Notification convertToNotification(NotificationQueueDto notification) {
     try {
-      // If batchSize is increased then we should return a list instead of a single element
-      return notifications.get(0).toNotification();
+      return notification.toNotification();
     } catch (InvalidClassException e) {
       // SONAR-4739
       if (!alreadyLoggedDeserializationIssue) {
@@ -126,6 +150,20 @@ public class DefaultNotificationManager implements NotificationManager {
     }
   }
 
+  /**
+   * Subscribers returned by {@link #findSubscribedRecipientsForDispatcher(NotificationDispatcher, Integer)} and
+   * {@link #findNotificationSubscribers(NotificationDispatcher, String)} are cached for the current thread
+   * until {@link #stopCachingSubscribers()} is called. It avoids requesting database for each notification
+   * of a batch related to the same project.
+   */
+  public void startCachingSubscribers() {
+    subscribersCache.set(new HashMap<String, Multimap<String, NotificationChannel>>());
+  }
+
+  public void stopCachingSubscribers() {
+    subscribersCache.remove();
+  }
+
   @VisibleForTesting
   void logDeserializationIssue() {
     LOG.warn("It is impossible to send pending notifications which existed prior to the upgrade of SonarQube. They will be ignored.");
@@ -140,6 +178,21 @@ public class DefaultNotificationManager implements NotificationManager {
    */
   @Override
   public Multimap<String, NotificationChannel> findSubscribedRecipientsForDispatcher(NotificationDispatcher dispatcher, @Nullable Integer resourceId) {
+    Map<String, Multimap<String, NotificationChannel>> cache = subscribersCache.get();
+    if (cache == null) {
+      return loadSubscribedRecipientsForDispatcher(dispatcher, resourceId);
+    }
+    String cacheKey = "resource:" + dispatcher.getKey() + ":" + resourceId;
+    Multimap<String, NotificationChannel> recipients = cache.get(cacheKey);
+    if (recipients == null) {
+      recipients = loadSubscribedRecipientsForDispatcher(dispatcher, resourceId);
+      cache.put(cacheKey, recipients);
+    }
+    // callers are allowed to modify the result
+    return HashMultimap.create(recipients);
+  }
+
+  private Multimap<String, NotificationChannel> loadSubscribedRecipientsForDispatcher(NotificationDispatcher dispatcher, @Nullable Integer resourceId) {
     String dispatcherKey = dispatcher.getKey();
 
     SetMultimap<String, NotificationChannel> recipients = HashMultimap.create();
@@ -160,6 +213,21 @@ public class DefaultNotificationManager implements NotificationManager {
 
   @Override
   public Multimap<String, NotificationChannel> findNotificationSubscribers(NotificationDispatcher dispatcher, @Nullable String componentKey) {
+    Map<String, Multimap<String, NotificationChannel>> cache = subscribersCache.get();
+    if (cache == null) {
+      return loadNotificationSubscribers(dispatcher, componentKey);
+    }
+    String cacheKey = "component:" + dispatcher.getKey() + ":" + componentKey;
+    Multimap<String, NotificationChannel> recipients = cache.get(cacheKey);
+    if (recipients == null) {
+      recipients = loadNotificationSubscribers(dispatcher, componentKey);
+      cache.put(cacheKey, recipients);
+    }
+    // callers are allowed to modify the result
+    return HashMultimap.create(recipients);
+  }
+
+  private Multimap<String, NotificationChannel> loadNotificationSubscribers(NotificationDispatcher dispatcher, @Nullable String componentKey) {
     String dispatcherKey = dispatcher.getKey();
 
     SetMultimap<String, NotificationChannel> recipients = HashMultimap.create();
@@ -20,12 +20,14 @@
 
 package org.sonar.core.notification.db;
 
+import com.google.common.collect.Lists;
 import org.apache.ibatis.session.SqlSession;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.ServerComponent;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,6 +36,9 @@ import java.util.List;
  */
 public class NotificationQueueDao implements BatchComponent, ServerComponent {
 
+  // Oracle does not support more than 1000 values in IN clause
+  private static final int MAX_IDS_PER_DELETE = 1000;
+
   private final MyBatis mybatis;
 
   public NotificationQueueDao(MyBatis mybatis) {
@@ -53,12 +58,19 @@ public class NotificationQueueDao implements BatchComponent, ServerComponent {
     }
   }
 
+  /**
+   * Notifications are deleted by a single request per partition of {@link #MAX_IDS_PER_DELETE} ids
+   */
   public void delete(List<NotificationQueueDto> dtos) {
-    DbSession session = mybatis.openSession(true);
+    List<Long> ids = new ArrayList<>(dtos.size());
+    for (NotificationQueueDto dto : dtos) {
+      ids.add(dto.getId());
+    }
+    DbSession session = mybatis.openSession(false);
     NotificationQueueMapper mapper = session.getMapper(NotificationQueueMapper.class);
     try {
-      for (NotificationQueueDto dto : dtos) {
-        mapper.delete(dto.getId());
+      for (List<Long> partition : Lists.partition(ids, MAX_IDS_PER_DELETE)) {
+        mapper.deleteByIds(partition);
       }
       session.commit();
     } finally {
@@ -20,6 +20,8 @@
 
 package org.sonar.core.notification.db;
 
+import org.apache.ibatis.annotations.Param;
+
 import java.util.List;
 
 /**
@@ -29,7 +31,7 @@ public interface NotificationQueueMapper {
 
   void insert(NotificationQueueDto actionPlanDto);
 
-  void delete(long id);
+  void deleteByIds(@Param("ids") List<Long> ids);
 
   List<NotificationQueueDto> findOldest(int count);
 
@@ -33,7 +33,7 @@ import java.util.List;
  */
 public class DatabaseVersion implements BatchComponent, ServerComponent {
 
-  public static final int LAST_VERSION = 908;
+  public static final int LAST_VERSION = 911;
 
   /**
    * List of all the tables.n
@@ -62,6 +62,7 @@ public class DatabaseVersion implements BatchComponent, ServerComponent {
     "issue_changes",
     "issue_filters",
     "issue_filter_favourites",
+    "last_measures",
     "loaded_templates",
     "manual_measures",
     "measure_filters",
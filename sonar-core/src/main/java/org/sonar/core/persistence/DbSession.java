@@ -26,6 +26,7 @@ import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
 import org.sonar.core.cluster.ClusterAction;
 import org.sonar.core.cluster.WorkQueue;
+import org.sonar.core.persistence.profiling.PoolStatistics;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -39,6 +40,7 @@ public class DbSession implements SqlSession {
   private WorkQueue queue;
   private SqlSession session;
   private int actionCount;
+  private PoolStatistics.OpenSession openSession;
 
   DbSession(WorkQueue queue, SqlSession session) {
     this.actionCount = 0;
@@ -47,6 +49,13 @@ public class DbSession implements SqlSession {
     this.actions = new ArrayList<ClusterAction>();
   }
 
+  /**
+   * Registers the session as opened until {@link #close()} is called
+   */
+  void track(PoolStatistics statistics) {
+    this.openSession = statistics.openSession();
+  }
+
   public void enqueue(ClusterAction action) {
     actionCount++;
     this.actions.add(action);
@@ -177,7 +186,13 @@ public class DbSession implements SqlSession {
 
   @Override
   public void close() {
-    session.close();
+    try {
+      session.close();
+    } finally {
+      if (openSession != null) {
+        openSession.close();
+      }
+    }
   }
 
   @Override
@@ -31,7 +31,9 @@ import org.sonar.api.config.Settings;
 import org.sonar.api.database.DatabaseProperties;
 import org.sonar.core.persistence.dialect.Dialect;
 import org.sonar.core.persistence.dialect.DialectUtils;
+import org.sonar.core.persistence.profiling.PoolStatistics;
 import org.sonar.core.persistence.profiling.ProfiledDataSource;
+import org.sonar.core.persistence.profiling.SqlStatistics;
 import org.sonar.jpa.session.CustomHibernateConnectionProvider;
 
 import javax.sql.DataSource;
@@ -55,6 +57,12 @@ public class DefaultDatabase implements Database {
   private static final String SONAR_JDBC_DIALECT = "sonar.jdbc.dialect";
   private static final String SONAR_JDBC_URL = "sonar.jdbc.url";
   private static final String VALIDATE = "validate";
+  private static final String SONAR_JDBC_STATISTICS = "sonar.jdbc.statistics";
+  private static final String SONAR_JDBC_SLOW_THRESHOLD = "sonar.jdbc.slowStatementThresholdMs";
+  private static final long DEFAULT_SLOW_THRESHOLD_MS = 1000L;
+  private static final int SLOW_STATEMENTS_CAPACITY = 100;
+  private static final String SONAR_JDBC_LONG_SESSION_THRESHOLD = "sonar.jdbc.longSessionThresholdMs";
+  private static final long DEFAULT_LONG_SESSION_THRESHOLD_MS = 30000L;
 
   private Settings settings;
   private BasicDataSource datasource;
@@ -103,8 +111,11 @@ public class DefaultDatabase implements Database {
     datasource = (BasicDataSource) BasicDataSourceFactory.createDataSource(extractCommonsDbcpProperties(properties));
     datasource.setConnectionInitSqls(dialect.getConnectionInitStatements());
     datasource.setValidationQuery(dialect.getValidationQuery());
-    if ("TRACE".equals(settings.getString("sonar.log.level"))) {
-      datasource = new ProfiledDataSource(datasource);
+    if (settings.getBoolean(SONAR_JDBC_STATISTICS) || "TRACE".equals(settings.getString("sonar.log.level"))) {
+      long slowThresholdMs = settings.hasKey(SONAR_JDBC_SLOW_THRESHOLD) ? settings.getLong(SONAR_JDBC_SLOW_THRESHOLD) : DEFAULT_SLOW_THRESHOLD_MS;
+      long longSessionThresholdMs = settings.hasKey(SONAR_JDBC_LONG_SESSION_THRESHOLD) ? settings.getLong(SONAR_JDBC_LONG_SESSION_THRESHOLD) : DEFAULT_LONG_SESSION_THRESHOLD_MS;
+      datasource = new ProfiledDataSource(datasource, new SqlStatistics(slowThresholdMs, SLOW_STATEMENTS_CAPACITY),
+        new PoolStatistics(longSessionThresholdMs));
     }
   }
 
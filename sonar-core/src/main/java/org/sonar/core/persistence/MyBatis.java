@@ -63,6 +63,8 @@ import org.sonar.core.persistence.dialect.Dialect;
 import org.sonar.core.persistence.migration.v44.Migration44Mapper;
 import org.sonar.core.persistence.migration.v45.Migration45Mapper;
 import org.sonar.core.persistence.migration.v50.Migration50Mapper;
+import org.sonar.core.persistence.profiling.PoolStatistics;
+import org.sonar.core.persistence.profiling.ProfiledDataSource;
 import org.sonar.core.properties.PropertiesMapper;
 import org.sonar.core.properties.PropertyDto;
 import org.sonar.core.purge.IdUuidPair;
@@ -95,6 +97,9 @@ public class MyBatis implements BatchComponent, ServerComponent {
   // TODO this queue should directly be an IndexQueue. Pending move of persistence to sonar-server
   private WorkQueue queue;
 
+  // null if statistics are disabled
+  private PoolStatistics poolStatistics;
+
   public MyBatis(Database database, Logback logback, WorkQueue queue) {
     this.database = database;
     this.logback = logback;
@@ -121,6 +126,9 @@ public class MyBatis implements BatchComponent, ServerComponent {
 
     Configuration conf = new Configuration();
     conf.setEnvironment(new Environment("production", createTransactionFactory(), database.getDataSource()));
+    if (database.getDataSource() instanceof ProfiledDataSource) {
+      poolStatistics = ((ProfiledDataSource) database.getDataSource()).getPoolStatistics();
+    }
     conf.setUseGeneratedKeys(true);
     conf.setLazyLoadingEnabled(false);
     conf.setJdbcTypeForNull(JdbcType.NULL);
@@ -141,6 +149,7 @@ public class MyBatis implements BatchComponent, ServerComponent {
     loadAlias(conf, "Group", GroupDto.class);
     loadAlias(conf, "GroupRole", GroupRoleDto.class);
     loadAlias(conf, "GroupMembership", GroupMembershipDto.class);
+    loadAlias(conf, "LastMeasures", LastMeasuresDto.class);
     loadAlias(conf, "LoadedTemplate", LoadedTemplateDto.class);
     loadAlias(conf, "MeasureFilter", MeasureFilterDto.class);
     loadAlias(conf, "NotificationQueue", NotificationQueueDto.class);
@@ -196,7 +205,7 @@ public class MyBatis implements BatchComponent, ServerComponent {
     Class<?>[] mappers = {ActivityMapper.class, ActiveDashboardMapper.class, AuthorMapper.class, DashboardMapper.class,
       DependencyMapper.class, DuplicationMapper.class, GraphDtoMapper.class,
       IssueMapper.class, IssueChangeMapper.class, IssueFilterMapper.class, IssueFilterFavouriteMapper.class,
-      LoadedTemplateMapper.class, MeasureFilterMapper.class, Migration44Mapper.class, PermissionTemplateMapper.class, PropertiesMapper.class, PurgeMapper.class,
+      LastMeasuresMapper.class, LoadedTemplateMapper.class, MeasureFilterMapper.class, Migration44Mapper.class, PermissionTemplateMapper.class, PropertiesMapper.class, PurgeMapper.class,
       ResourceKeyUpdaterMapper.class, ResourceIndexerMapper.class, ResourceSnapshotMapper.class, RoleMapper.class, RuleMapper.class,
       SchemaMigrationMapper.class, SemaphoreMapper.class, UserMapper.class, GroupMapper.class, UserGroupMapper.class, WidgetMapper.class, WidgetPropertyMapper.class,
       FileSourceMapper.class, ActionPlanMapper.class,
@@ -238,12 +247,18 @@ public class MyBatis implements BatchComponent, ServerComponent {
    * @since 4.4
    */
   public DbSession openSession(boolean batch) {
+    DbSession dbSession;
     if (batch) {
       SqlSession session = sessionFactory.openSession(ExecutorType.BATCH);
-      return new BatchSession(queue, session);
+      dbSession = new BatchSession(queue, session);
+    } else {
+      SqlSession session = sessionFactory.openSession(ExecutorType.REUSE);
+      dbSession = new DbSession(queue, session);
+    }
+    if (poolStatistics != null) {
+      dbSession.track(poolStatistics);
     }
-    SqlSession session = sessionFactory.openSession(ExecutorType.REUSE);
-    return new DbSession(queue, session);
+    return dbSession;
   }
 
   private void loadMappers(Configuration mybatisConf, Class<?>... mapperClasses) {
@@ -0,0 +1,57 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.persistence.profiling;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result sets of a statement that are not closed yet. Rows are recorded when a result set is closed,
+ * but also when its statement is executed again or closed, or when its connection is closed, as
+ * JDBC closes the result sets in these cases without calling {@link java.sql.ResultSet#close()}.
+ */
+class OpenResultSets {
+
+  private final SqlStatistics statistics;
+  private final List<ProfilingResultSetHandler> handlers = new ArrayList<>();
+
+  OpenResultSets(SqlStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  ResultSet wrap(ResultSet resultSet, String template) {
+    ProfilingResultSetHandler handler = new ProfilingResultSetHandler(resultSet, statistics, template, this);
+    handlers.add(handler);
+    return (ResultSet) Proxy.newProxyInstance(ProfilingResultSetHandler.class.getClassLoader(), new Class[] {ResultSet.class}, handler);
+  }
+
+  void remove(ProfilingResultSetHandler handler) {
+    handlers.remove(handler);
+  }
+
+  void recordRows() {
+    for (ProfilingResultSetHandler handler : new ArrayList<>(handlers)) {
+      handler.recordRows();
+    }
+    handlers.clear();
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.persistence.profiling;
+
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Longs;
+
+import javax.annotation.CheckForNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Usage of the connections of {@link ProfiledDataSource} and of the MyBatis sessions opened
+ * by {@link org.sonar.core.persistence.MyBatis}:
+ * <ul>
+ *   <li>time spent to wait for a connection of the pool</li>
+ *   <li>time during which connections are held, from borrow to return</li>
+ *   <li>sessions currently opened, and the sessions opened for longer than a threshold</li>
+ * </ul>
+ * The stack of the caller is captured for each tracked session. Leaked sessions are never closed, so
+ * at most {@link #MAX_TRACKED_SESSIONS} sessions are tracked at the same time. Sessions opened beyond
+ * this limit are counted but are not listed.
+ */
+public class PoolStatistics {
+
+  static final int MAX_TRACKED_SESSIONS = 1000;
+  static final String UNKNOWN_CALLER = "<unknown>";
+
+  private static final Ordering<OpenSession> BY_OPENING_DATE = new Ordering<OpenSession>() {
+    @Override
+    public int compare(OpenSession left, OpenSession right) {
+      return Longs.compare(left.openedAt, right.openedAt);
+    }
+  };
+
+  private final long longSessionThresholdMs;
+
+  private final AtomicLong borrowCount = new AtomicLong();
+  private final AtomicLong totalWaitMs = new AtomicLong();
+  private final AtomicLong maxWaitMs = new AtomicLong();
+  private final AtomicLong returnCount = new AtomicLong();
+  private final AtomicLong totalHeldMs = new AtomicLong();
+  private final AtomicLong maxHeldMs = new AtomicLong();
+
+  private final AtomicLong openedSessionCount = new AtomicLong();
+  private final AtomicLong longSessionCount = new AtomicLong();
+  private final AtomicInteger openSessionCount = new AtomicInteger();
+  private final Set<OpenSession> openSessions = Collections.newSetFromMap(new ConcurrentHashMap<OpenSession, Boolean>());
+
+  public PoolStatistics(long longSessionThresholdMs) {
+    this.longSessionThresholdMs = longSessionThresholdMs;
+  }
+
+  public long getLongSessionThresholdMs() {
+    return longSessionThresholdMs;
+  }
+
+  void recordBorrow(long waitMs) {
+    borrowCount.incrementAndGet();
+    totalWaitMs.addAndGet(waitMs);
+    updateMax(maxWaitMs, waitMs);
+  }
+
+  void recordReturn(long heldMs) {
+    returnCount.incrementAndGet();
+    totalHeldMs.addAndGet(heldMs);
+    updateMax(maxHeldMs, heldMs);
+  }
+
+  private static void updateMax(AtomicLong max, long value) {
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  /**
+   * Must be called when a session is opened. The returned object must be closed
+   * with the session.
+   */
+  public OpenSession openSession() {
+    openedSessionCount.incrementAndGet();
+    openSessionCount.incrementAndGet();
+    // the limit can be slightly exceeded by concurrent calls
+    boolean tracked = openSessions.size() < MAX_TRACKED_SESSIONS;
+    OpenSession session = new OpenSession(this, System.currentTimeMillis(), tracked ? new Throwable().getStackTrace() : null);
+    if (tracked) {
+      openSessions.add(session);
+    }
+    return session;
+  }
+
+  private void closeSession(OpenSession session) {
+    openSessionCount.decrementAndGet();
+    openSessions.remove(session);
+    if (System.currentTimeMillis() - session.openedAt >= longSessionThresholdMs) {
+      longSessionCount.incrementAndGet();
+    }
+  }
+
+  public long getConnectionBorrowCount() {
+    return borrowCount.get();
+  }
+
+  public long getConnectionAverageWaitMs() {
+    long count = borrowCount.get();
+    return count == 0L ? 0L : totalWaitMs.get() / count;
+  }
+
+  public long getConnectionMaxWaitMs() {
+    return maxWaitMs.get();
+  }
+
+  public long getConnectionAverageHeldMs() {
+    long count = returnCount.get();
+    return count == 0L ? 0L : totalHeldMs.get() / count;
+  }
+
+  public long getConnectionMaxHeldMs() {
+    return maxHeldMs.get();
+  }
+
+  public long getOpenedSessionCount() {
+    return openedSessionCount.get();
+  }
+
+  /**
+   * Number of sessions currently opened, including the sessions which are not tracked
+   */
+  public int getOpenSessionCount() {
+    return openSessionCount.get();
+  }
+
+  /**
+   * Number of sessions which have been closed after the threshold
+   */
+  public long getClosedLongSessionCount() {
+    return longSessionCount.get();
+  }
+
+  /**
+   * Tracked sessions currently opened for longer than the threshold, oldest first
+   */
+  public List<OpenSession> getLongSessions() {
+    long now = System.currentTimeMillis();
+    List<OpenSession> result = new ArrayList<>();
+    for (OpenSession session : openSessions) {
+      if (now - session.openedAt >= longSessionThresholdMs) {
+        result.add(session);
+      }
+    }
+    return BY_OPENING_DATE.sortedCopy(result);
+  }
+
+  /**
+   * Number of tracked sessions per caller
+   */
+  public Map<String, Integer> getOpenSessionsByCaller() {
+    Map<String, Integer> result = new TreeMap<>();
+    for (OpenSession session : openSessions) {
+      String caller = session.getCaller();
+      String key = caller == null ? UNKNOWN_CALLER : caller;
+      Integer count = result.get(key);
+      result.put(key, count == null ? 1 : (count + 1));
+    }
+    return result;
+  }
+
+  public static class OpenSession {
+    private static final String[] INFRASTRUCTURE_PACKAGES = {"java.", "sun.", "org.sonar.core.persistence.", "org.sonar.server.db.DbClient"};
+
+    private final PoolStatistics statistics;
+    private final long openedAt;
+    private final StackTraceElement[] stack;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    OpenSession(PoolStatistics statistics, long openedAt, @CheckForNull StackTraceElement[] stack) {
+      this.statistics = statistics;
+      this.openedAt = openedAt;
+      this.stack = stack;
+    }
+
+    public long getOpenedAt() {
+      return openedAt;
+    }
+
+    /**
+     * Stack of the thread which opened the session, or null if the session is not tracked
+     */
+    @CheckForNull
+    public StackTraceElement[] getStack() {
+      return stack;
+    }
+
+    /**
+     * The first method of stack which is not part of persistence framework, for example
+     * a DAO method, or null if the session is not tracked.
+     */
+    @CheckForNull
+    public String getCaller() {
+      if (stack == null) {
+        return null;
+      }
+      for (StackTraceElement element : stack) {
+        if (!isInfrastructure(element.getClassName())) {
+          return element.getClassName() + "#" + element.getMethodName();
+        }
+      }
+      return null;
+    }
+
+    private static boolean isInfrastructure(String className) {
+      for (String infrastructurePackage : INFRASTRUCTURE_PACKAGES) {
+        if (className.startsWith(infrastructurePackage)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Closing twice has no effect
+     */
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        statistics.closeSession(this);
+      }
+    }
+  }
+}
@@ -28,15 +28,33 @@ import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Collects {@link SqlStatistics} of all the requests executed through the connections of the
+ * underlying pool, and {@link PoolStatistics} of the usage of these connections. Requests are
+ * also logged when the logger "sql" is at TRACE level.
+ */
 public class ProfiledDataSource extends BasicDataSource {
 
   static final Logger SQL_LOGGER = Loggers.get("sql");
 
   private final BasicDataSource delegate;
+  private final SqlStatistics statistics;
+  private final PoolStatistics poolStatistics;
 
-  public ProfiledDataSource(BasicDataSource delegate) {
+  public ProfiledDataSource(BasicDataSource delegate, SqlStatistics statistics, PoolStatistics poolStatistics) {
     this.delegate = delegate;
+    this.statistics = statistics;
+    this.poolStatistics = poolStatistics;
+  }
+
+  public SqlStatistics getStatistics() {
+    return statistics;
+  }
+
+  public PoolStatistics getPoolStatistics() {
+    return poolStatistics;
   }
 
   @Override
@@ -311,14 +329,21 @@ public class ProfiledDataSource extends BasicDataSource {
 
   @Override
   public Connection getConnection() throws SQLException {
-    return (Connection) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[] { Connection.class },
-        new ProfilingConnectionHandler(delegate.getConnection()));
+    long start = System.nanoTime();
+    return profile(delegate.getConnection(), start);
   }
 
   @Override
   public Connection getConnection(String user, String pass) throws SQLException {
+    long start = System.nanoTime();
+    return profile(delegate.getConnection(user, pass), start);
+  }
+
+  private Connection profile(Connection connection, long borrowStart) {
+    long borrowedAt = System.nanoTime();
+    poolStatistics.recordBorrow(TimeUnit.NANOSECONDS.toMillis(borrowedAt - borrowStart));
     return (Connection) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[] { Connection.class },
-        new ProfilingConnectionHandler(delegate.getConnection(user, pass)));
+      new ProfilingConnectionHandler(connection, statistics, poolStatistics, borrowedAt));
   }
 
   @Override
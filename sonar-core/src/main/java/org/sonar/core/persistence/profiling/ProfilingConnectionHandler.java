@@ -25,28 +25,51 @@ import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 class ProfilingConnectionHandler implements InvocationHandler {
 
   private final Connection connection;
+  private final SqlStatistics statistics;
+  private final PoolStatistics poolStatistics;
+  private final long borrowedAt;
+  private final Collection<OpenResultSets> openStatements = new ArrayList<>();
+  private boolean returned = false;
 
-  ProfilingConnectionHandler(Connection connection) {
+  ProfilingConnectionHandler(Connection connection, SqlStatistics statistics, PoolStatistics poolStatistics, long borrowedAt) {
     this.connection = connection;
+    this.statistics = statistics;
+    this.poolStatistics = poolStatistics;
+    this.borrowedAt = borrowedAt;
   }
 
   @Override
   public Object invoke(Object target, Method method, Object[] args) throws Throwable {
     Object result = InvocationUtils.invokeQuietly(connection, method, args);
-    if ("prepareStatement".equals(method.getName())) {
+    if ("close".equals(method.getName())) {
+      // connection is given back to pool. Closing it again has no effect.
+      if (!returned) {
+        returned = true;
+        for (OpenResultSets openResultSets : openStatements) {
+          openResultSets.recordRows();
+        }
+        openStatements.clear();
+        poolStatistics.recordReturn(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - borrowedAt));
+      }
+      return result;
+
+    } else if ("prepareStatement".equals(method.getName())) {
       PreparedStatement statement = (PreparedStatement) result;
       String sql = (String) args[0];
       return Proxy.newProxyInstance(ProfilingConnectionHandler.class.getClassLoader(), new Class[] { PreparedStatement.class },
-        new ProfilingPreparedStatementHandler(statement, sql));
+        new ProfilingPreparedStatementHandler(statement, sql, statistics, openStatements));
 
     } else if ("createStatement".equals(method.getName())) {
       Statement statement = (Statement) result;
       return Proxy.newProxyInstance(ProfilingConnectionHandler.class.getClassLoader(), new Class[] { Statement.class },
-        new ProfilingStatementHandler(statement));
+        new ProfilingStatementHandler(statement, statistics, openStatements));
 
     } else {
       return result;
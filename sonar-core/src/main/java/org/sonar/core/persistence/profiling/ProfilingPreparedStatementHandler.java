@@ -26,17 +26,30 @@ import org.sonar.api.utils.log.Profiler;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 class ProfilingPreparedStatementHandler implements InvocationHandler {
 
   private final PreparedStatement statement;
   private final List<Object> arguments;
   private final String sql;
+  private final SqlStatistics statistics;
+  private final String template;
+  private final OpenResultSets openResultSets;
+  private final Collection<OpenResultSets> openStatements;
 
-  ProfilingPreparedStatementHandler(PreparedStatement statement, String sql) {
+  ProfilingPreparedStatementHandler(PreparedStatement statement, String sql, SqlStatistics statistics, Collection<OpenResultSets> openStatements) {
     this.statement = statement;
     this.sql = sql;
+    this.statistics = statistics;
+    // computed once, as prepared statements can be executed many times
+    this.template = statistics.templateOf(sql);
+    this.openResultSets = new OpenResultSets(statistics);
+    this.openStatements = openStatements;
+    openStatements.add(openResultSets);
     this.arguments = Lists.newArrayList();
     for (int argCount = 0; argCount < StringUtils.countMatches(sql, "?"); argCount++) {
       arguments.add("!");
@@ -46,21 +59,39 @@ class ProfilingPreparedStatementHandler implements InvocationHandler {
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     if (method.getName().startsWith("execute")) {
-      Profiler profiler = Profiler.create(ProfiledDataSource.SQL_LOGGER).start();
+      // result sets of previous execution are closed
+      openResultSets.recordRows();
+      Profiler profiler = ProfiledDataSource.SQL_LOGGER.isTraceEnabled() ? Profiler.create(ProfiledDataSource.SQL_LOGGER).start() : null;
+      long start = System.nanoTime();
       Object result = null;
       try {
         result = InvocationUtils.invokeQuietly(statement, method, args);
       } finally {
-        profiler.addContext("sql", StringUtils.remove(sql, '\n'));
-        profiler.stopTrace("");
+        statistics.recordExecution(template, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (profiler != null) {
+          profiler.addContext("sql", StringUtils.remove(sql, '\n'));
+          profiler.stopTrace("");
+        }
       }
-      return result;
+      return wrapResultSet(result);
     } else if (method.getName().startsWith("set") && args.length > 1) {
       arguments.set((Integer) args[0] - 1, args[1]);
       return InvocationUtils.invokeQuietly(statement, method, args);
+    } else if ("close".equals(method.getName())) {
+      Object result = InvocationUtils.invokeQuietly(statement, method, args);
+      openResultSets.recordRows();
+      openStatements.remove(openResultSets);
+      return result;
     } else {
-      return InvocationUtils.invokeQuietly(statement, method, args);
+      return wrapResultSet(InvocationUtils.invokeQuietly(statement, method, args));
+    }
+  }
+
+  private Object wrapResultSet(Object result) {
+    if (result instanceof ResultSet) {
+      return openResultSets.wrap((ResultSet) result, template);
     }
+    return result;
   }
 
 }
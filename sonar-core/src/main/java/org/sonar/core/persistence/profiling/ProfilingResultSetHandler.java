@@ -0,0 +1,66 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.persistence.profiling;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+/**
+ * Counts the rows read from a result set. The count is added to statistics when the result set is closed,
+ * explicitly or implicitly. See {@link OpenResultSets}.
+ */
+class ProfilingResultSetHandler implements InvocationHandler {
+
+  private final ResultSet resultSet;
+  private final SqlStatistics statistics;
+  private final String template;
+  private final OpenResultSets openResultSets;
+  private long rows = 0L;
+  private boolean recorded = false;
+
+  ProfilingResultSetHandler(ResultSet resultSet, SqlStatistics statistics, String template, OpenResultSets openResultSets) {
+    this.resultSet = resultSet;
+    this.statistics = statistics;
+    this.template = template;
+    this.openResultSets = openResultSets;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    Object result = InvocationUtils.invokeQuietly(resultSet, method, args);
+    if ("next".equals(method.getName())) {
+      if (Boolean.TRUE.equals(result)) {
+        rows++;
+      }
+    } else if ("close".equals(method.getName())) {
+      recordRows();
+      openResultSets.remove(this);
+    }
+    return result;
+  }
+
+  void recordRows() {
+    if (!recorded) {
+      recorded = true;
+      statistics.recordRows(template, rows);
+    }
+  }
+}
@@ -24,30 +24,64 @@ import org.sonar.api.utils.log.Profiler;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 class ProfilingStatementHandler implements InvocationHandler {
 
   private final Statement statement;
+  private final SqlStatistics statistics;
+  private final OpenResultSets openResultSets;
+  private final Collection<OpenResultSets> openStatements;
+  private String template = null;
 
-  ProfilingStatementHandler(Statement statement) {
+  ProfilingStatementHandler(Statement statement, SqlStatistics statistics, Collection<OpenResultSets> openStatements) {
     this.statement = statement;
+    this.statistics = statistics;
+    this.openResultSets = new OpenResultSets(statistics);
+    this.openStatements = openStatements;
+    openStatements.add(openResultSets);
   }
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     if (method.getName().startsWith("execute")) {
-      Profiler profiler = Profiler.create(ProfiledDataSource.SQL_LOGGER).start();
+      // result sets of previous execution are closed
+      openResultSets.recordRows();
+      Profiler profiler = ProfiledDataSource.SQL_LOGGER.isTraceEnabled() ? Profiler.create(ProfiledDataSource.SQL_LOGGER).start() : null;
+      long start = System.nanoTime();
       Object result = null;
       try {
         result = InvocationUtils.invokeQuietly(statement, method, args);
       } finally {
-        profiler.addContext("sql", StringUtils.remove((String)args[0], '\n'));
-        profiler.stopTrace("");
+        // executeBatch() has no SQL argument
+        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+        if (sql != null) {
+          template = statistics.templateOf(sql);
+          statistics.recordExecution(template, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        if (profiler != null) {
+          profiler.addContext("sql", StringUtils.remove(sql, '\n'));
+          profiler.stopTrace("");
+        }
       }
+      return wrapResultSet(result);
+    } else if ("close".equals(method.getName())) {
+      Object result = InvocationUtils.invokeQuietly(statement, method, args);
+      openResultSets.recordRows();
+      openStatements.remove(openResultSets);
       return result;
     } else {
-      return InvocationUtils.invokeQuietly(statement, method, args);
+      return wrapResultSet(InvocationUtils.invokeQuietly(statement, method, args));
     }
   }
+
+  private Object wrapResultSet(Object result) {
+    if (result instanceof ResultSet && template != null) {
+      return openResultSets.wrap((ResultSet) result, template);
+    }
+    return result;
+  }
 }
@@ -0,0 +1,267 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.persistence.profiling;
+
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Statistics of the SQL requests executed through {@link ProfiledDataSource}, when property
+ * "sonar.jdbc.statistics" is enabled. Counters are grouped by statement template, which is the SQL request
+ * without literal values. They are updated without locks so that the overhead stays low on loaded servers.
+ * <p/>
+ * Requests slower than a threshold are also kept in a bounded ring buffer. The oldest ones are
+ * overwritten.
+ */
+public class SqlStatistics {
+
+  /**
+   * Upper bounds in milliseconds of latency buckets. The last bucket has no bound.
+   */
+  static final long[] BUCKET_BOUNDS_MS = {1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L, 2000L, 5000L};
+
+  static final int MAX_TEMPLATES = 1000;
+  static final int MAX_CACHED_TEMPLATES = 2000;
+  static final String OTHER_TEMPLATES = "<other>";
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'([^']|'')*'");
+  private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+  private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+  private final ConcurrentMap<String, StatementStats> statsByTemplate = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> templatesBySql = new ConcurrentHashMap<>();
+  private final long slowThresholdMs;
+  private final AtomicReferenceArray<SlowStatement> slowStatements;
+  private final AtomicLong slowStatementCount = new AtomicLong();
+
+  public SqlStatistics(long slowThresholdMs, int slowStatementsCapacity) {
+    this.slowThresholdMs = slowThresholdMs;
+    this.slowStatements = new AtomicReferenceArray<>(slowStatementsCapacity);
+  }
+
+  public long getSlowThresholdMs() {
+    return slowThresholdMs;
+  }
+
+  /**
+   * Same as {@link #template(String)}, but the templates of up to {@link #MAX_CACHED_TEMPLATES} requests
+   * are cached, so that regular expressions are not evaluated each time the same request is prepared
+   */
+  String templateOf(String sql) {
+    String template = templatesBySql.get(sql);
+    if (template == null) {
+      template = template(sql);
+      if (templatesBySql.size() < MAX_CACHED_TEMPLATES) {
+        templatesBySql.put(sql, template);
+      }
+    }
+    return template;
+  }
+
+  /**
+   * @param template the executed SQL request, as returned by {@link #template(String)}
+   */
+  void recordExecution(String template, long durationMs) {
+    statsOf(template).recordExecution(durationMs);
+    if (durationMs >= slowThresholdMs && slowStatements.length() > 0) {
+      long index = slowStatementCount.getAndIncrement();
+      slowStatements.set((int) (index % slowStatements.length()), new SlowStatement(template, durationMs, System.currentTimeMillis()));
+    }
+  }
+
+  void recordRows(String template, long rows) {
+    statsOf(template).rows.addAndGet(rows);
+  }
+
+  private StatementStats statsOf(String template) {
+    StatementStats stats = statsByTemplate.get(template);
+    if (stats == null) {
+      String key = statsByTemplate.size() < MAX_TEMPLATES ? template : OTHER_TEMPLATES;
+      stats = statsByTemplate.get(key);
+      if (stats == null) {
+        StatementStats newStats = new StatementStats(key);
+        stats = statsByTemplate.putIfAbsent(key, newStats);
+        if (stats == null) {
+          stats = newStats;
+        }
+      }
+    }
+    return stats;
+  }
+
+  /**
+   * Replaces literal values by '?' and collapses whitespaces, so that requests which differ
+   * only by their values share the same statistics.
+   */
+  static String template(String sql) {
+    String template = STRING_LITERAL.matcher(sql).replaceAll("?");
+    template = NUMERIC_LITERAL.matcher(template).replaceAll("?");
+    return StringUtils.trim(WHITESPACES.matcher(template).replaceAll(" "));
+  }
+
+  public Collection<StatementStats> getStatements() {
+    return Collections.unmodifiableCollection(statsByTemplate.values());
+  }
+
+  @CheckForNull
+  public StatementStats getStatement(String sql) {
+    return statsByTemplate.get(template(sql));
+  }
+
+  public long getExecutionCount() {
+    long count = 0L;
+    for (StatementStats stats : statsByTemplate.values()) {
+      count += stats.getExecutionCount();
+    }
+    return count;
+  }
+
+  public long getSlowStatementCount() {
+    return slowStatementCount.get();
+  }
+
+  /**
+   * The last captured slow statements, most recent first
+   */
+  public List<SlowStatement> getSlowStatements() {
+    List<SlowStatement> result = new ArrayList<>();
+    long last = slowStatementCount.get();
+    int capacity = slowStatements.length();
+    for (long index = last - 1; index >= 0 && index >= last - capacity; index--) {
+      SlowStatement statement = slowStatements.get((int) (index % capacity));
+      if (statement != null) {
+        result.add(statement);
+      }
+    }
+    return result;
+  }
+
+  public void reset() {
+    statsByTemplate.clear();
+    templatesBySql.clear();
+    for (int i = 0; i < slowStatements.length(); i++) {
+      slowStatements.set(i, null);
+    }
+    slowStatementCount.set(0L);
+  }
+
+  public static class StatementStats {
+    private final String template;
+    private final AtomicLong executionCount = new AtomicLong();
+    private final AtomicLong totalDurationMs = new AtomicLong();
+    private final AtomicLong maxDurationMs = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+
+    StatementStats(String template) {
+      this.template = template;
+    }
+
+    void recordExecution(long durationMs) {
+      executionCount.incrementAndGet();
+      totalDurationMs.addAndGet(durationMs);
+      histogram.incrementAndGet(bucket(durationMs));
+      long max = maxDurationMs.get();
+      while (durationMs > max && !maxDurationMs.compareAndSet(max, durationMs)) {
+        max = maxDurationMs.get();
+      }
+    }
+
+    private static int bucket(long durationMs) {
+      for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+        if (durationMs <= BUCKET_BOUNDS_MS[i]) {
+          return i;
+        }
+      }
+      return BUCKET_BOUNDS_MS.length;
+    }
+
+    public String getTemplate() {
+      return template;
+    }
+
+    public long getExecutionCount() {
+      return executionCount.get();
+    }
+
+    public long getTotalDurationMs() {
+      return totalDurationMs.get();
+    }
+
+    public long getMaxDurationMs() {
+      return maxDurationMs.get();
+    }
+
+    public long getRows() {
+      return rows.get();
+    }
+
+    /**
+     * Number of executions per latency bucket. See {@link #getBucketBoundsMs()}.
+     */
+    public long[] getHistogram() {
+      long[] result = new long[histogram.length()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = histogram.get(i);
+      }
+      return result;
+    }
+
+    public static long[] getBucketBoundsMs() {
+      return BUCKET_BOUNDS_MS.clone();
+    }
+  }
+
+  public static class SlowStatement {
+    private final String template;
+    private final long durationMs;
+    private final long executedAt;
+
+    SlowStatement(String template, long durationMs, long executedAt) {
+      this.template = template;
+      this.durationMs = durationMs;
+      this.executedAt = executedAt;
+    }
+
+    public String getTemplate() {
+      return template;
+    }
+
+    public long getDurationMs() {
+      return durationMs;
+    }
+
+    public long getExecutedAt() {
+      return executedAt;
+    }
+  }
+}
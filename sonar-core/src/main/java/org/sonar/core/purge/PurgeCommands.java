@@ -20,24 +20,49 @@
 package org.sonar.core.purge;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.SqlSession;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.MyBatis;
+
+import javax.annotation.Nullable;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 class PurgeCommands {
 
   private static final int MAX_SNAPSHOTS_PER_QUERY = 1000;
   private static final int MAX_RESOURCES_PER_QUERY = 1000;
+  private static final int MAX_CONCURRENT_TABLES = 4;
 
   private final SqlSession session;
   private final PurgeMapper purgeMapper;
   private final PurgeProfiler profiler;
+  @Nullable
+  private final MyBatis mybatis;
+  // created on first concurrent purge, shut down by close()
+  private ExecutorService executor = null;
 
   PurgeCommands(SqlSession session, PurgeMapper purgeMapper, PurgeProfiler profiler) {
+    this(session, purgeMapper, profiler, null);
+  }
+
+  /**
+   * @param mybatis if not null, then the tables related to snapshots are purged concurrently, each one with its own connection.
+   *                {@link #close()} must then be called at the end of the purge.
+   */
+  PurgeCommands(SqlSession session, PurgeMapper purgeMapper, PurgeProfiler profiler, @Nullable MyBatis mybatis) {
     this.session = session;
     this.purgeMapper = purgeMapper;
     this.profiler = profiler;
+    this.mybatis = mybatis;
   }
 
   @VisibleForTesting
@@ -139,6 +164,13 @@ class PurgeCommands {
     session.commit();
     profiler.stop();
 
+    profiler.start("deleteResourceLastMeasures (last_measures)");
+    for (List<Long> partResourceIds : componentIdPartitions) {
+      purgeMapper.deleteResourceLastMeasures(partResourceIds);
+    }
+    session.commit();
+    profiler.stop();
+
     profiler.start("deleteResource (projects)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResource(partResourceIds);
@@ -160,99 +192,197 @@ class PurgeCommands {
 
   @VisibleForTesting
   protected void deleteSnapshots(final List<Long> snapshotIds) {
-
     List<List<Long>> snapshotIdsPartition = Lists.partition(snapshotIds, MAX_SNAPSHOTS_PER_QUERY);
 
-    deleteSnapshotDependencies(snapshotIdsPartition);
-
-    deleteSnapshotDuplications(snapshotIdsPartition);
+    deleteFromTables(snapshotIdsPartition, SNAPSHOT_DEPENDENCIES, SNAPSHOT_DUPLICATIONS, SNAPSHOT_EVENTS, SNAPSHOT_MEASURES, SNAPSHOT_GRAPHS);
 
-    profiler.start("deleteSnapshotEvents (events)");
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
-      purgeMapper.deleteSnapshotEvents(partSnapshotIds);
-    }
-    session.commit();
-    profiler.stop();
-
-    profiler.start("deleteSnapshotMeasures (project_measures)");
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
-      purgeMapper.deleteSnapshotMeasures(partSnapshotIds);
-    }
-    session.commit();
-    profiler.stop();
-
-    deleteSnapshotGraphs(snapshotIdsPartition);
-
-    profiler.start("deleteSnapshot (snapshots)");
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
-      purgeMapper.deleteSnapshot(partSnapshotIds);
-    }
-    session.commit();
-    profiler.stop();
+    // must be executed at the end for reentrance
+    deleteFromTables(snapshotIdsPartition, SNAPSHOTS);
   }
 
   void purgeSnapshots(final PurgeSnapshotQuery query) {
     purgeSnapshots(purgeMapper.selectSnapshotIds(query));
   }
 
+  /**
+   * Snapshots are flagged as purged at the end, once all their data are deleted, so the ids
+   * of root snapshots should be the last ones.
+   */
   @VisibleForTesting
   protected void purgeSnapshots(final List<Long> snapshotIds) {
     // note that events are not deleted
     List<List<Long>> snapshotIdsPartition = Lists.partition(snapshotIds, MAX_SNAPSHOTS_PER_QUERY);
 
-    deleteSnapshotDependencies(snapshotIdsPartition);
+    final List<Long> metricIdsWithoutHistoricalData = purgeMapper.selectMetricIdsWithoutHistoricalData();
+    TableDelete wastedMeasures = new TableDelete("deleteSnapshotWastedMeasures (project_measures)") {
+      @Override
+      int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+        return mapper.deleteSnapshotWastedMeasures(snapshotIds, metricIdsWithoutHistoricalData);
+      }
+    };
+    deleteFromTables(snapshotIdsPartition, SNAPSHOT_DEPENDENCIES, SNAPSHOT_DUPLICATIONS, SNAPSHOT_GRAPHS, wastedMeasures);
 
-    deleteSnapshotDuplications(snapshotIdsPartition);
-
-    deleteSnapshotGraphs(snapshotIdsPartition);
+    deleteFromTables(snapshotIdsPartition, PURGE_STATUS);
+  }
 
-    profiler.start("deleteSnapshotWastedMeasures (project_measures)");
-    List<Long> metricIdsWithoutHistoricalData = purgeMapper.selectMetricIdsWithoutHistoricalData();
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
-      purgeMapper.deleteSnapshotWastedMeasures(partSnapshotIds, metricIdsWithoutHistoricalData);
+  /**
+   * Tables are independent, so they are purged concurrently on distinct connections when
+   * {@link MyBatis} is available. Otherwise they are purged one after the other with the current session.
+   */
+  private void deleteFromTables(List<List<Long>> idPartitions, TableDelete... tables) {
+    if (idPartitions.isEmpty()) {
+      return;
     }
+    if (mybatis == null || tables.length == 1) {
+      for (TableDelete table : tables) {
+        profiler.start(table.name);
+        long rows = table.deleteAll(session, purgeMapper, idPartitions);
+        session.commit();
+        profiler.stop(rows);
+      }
+      return;
+    }
+
+    // the current session may hold locks on the tables to be purged
     session.commit();
-    profiler.stop();
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(MAX_CONCURRENT_TABLES);
+    }
+    List<Future<?>> futures = Lists.newArrayList();
+    try {
+      for (TableDelete table : tables) {
+        futures.add(executor.submit(new ConcurrentTableDelete(table, idPartitions)));
+      }
+      for (Future<?> future : futures) {
+        Uninterruptibles.getUninterruptibly(future);
+      }
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause());
+      throw new IllegalStateException("Fail to purge tables", e.getCause());
+    } finally {
+      // no-op on completed tasks, interrupts the remaining ones on failure
+      for (Future<?> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
 
-    profiler.start("updatePurgeStatusToOne (snapshots)");
-    for (Long snapshotId : snapshotIds) {
-      purgeMapper.updatePurgeStatusToOne(snapshotId);
+  /**
+   * Stops the threads used to purge tables concurrently
+   */
+  void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
     }
-    session.commit();
-    profiler.stop();
   }
 
-  private void deleteSnapshotGraphs(final List<List<Long>> snapshotIdsPartition) {
-    profiler.start("deleteSnapshotGraphs (graphs)");
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
-      purgeMapper.deleteSnapshotGraphs(partSnapshotIds);
+  private class ConcurrentTableDelete implements Runnable {
+    private final TableDelete table;
+    private final List<List<Long>> idPartitions;
+
+    ConcurrentTableDelete(TableDelete table, List<List<Long>> idPartitions) {
+      this.table = table;
+      this.idPartitions = idPartitions;
+    }
+
+    @Override
+    public void run() {
+      DbSession batchSession = mybatis.openSession(true);
+      try {
+        long start = profiler.now();
+        long rows = table.deleteAll(batchSession, batchSession.getMapper(PurgeMapper.class), idPartitions);
+        batchSession.commit();
+        profiler.record(table.name, profiler.now() - start, rows);
+      } finally {
+        MyBatis.closeQuietly(batchSession);
+      }
     }
-    session.commit();
-    profiler.stop();
   }
 
-  private void deleteSnapshotDuplications(final List<List<Long>> snapshotIdsPartition) {
-    profiler.start("deleteSnapshotDuplications (duplications_index)");
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
-      purgeMapper.deleteSnapshotDuplications(partSnapshotIds);
+  /**
+   * Set-based delete of the rows of a single table that relate to a list of ids
+   */
+  private abstract static class TableDelete {
+    private final String name;
+
+    TableDelete(String name) {
+      this.name = name;
+    }
+
+    /**
+     * @return number of deleted rows. It is negative when unknown, for example in batch mode.
+     */
+    abstract int delete(PurgeMapper mapper, List<Long> ids);
+
+    long deleteAll(SqlSession session, PurgeMapper mapper, List<List<Long>> idPartitions) {
+      long rows = 0L;
+      for (List<Long> ids : idPartitions) {
+        rows += Math.max(0, delete(mapper, ids));
+      }
+      // in batch mode, the row counts are known only when statements are flushed
+      for (BatchResult batchResult : session.flushStatements()) {
+        for (int count : batchResult.getUpdateCounts()) {
+          rows += Math.max(0, count);
+        }
+      }
+      return rows;
     }
-    session.commit();
-    profiler.stop();
   }
 
-  private void deleteSnapshotDependencies(final List<List<Long>> snapshotIdsPartition) {
-    profiler.start("deleteSnapshotDependencies (dependencies)");
-    for (List<Long> partSnapshotIds : snapshotIdsPartition) {
+  private static final TableDelete SNAPSHOT_DEPENDENCIES = new TableDelete("deleteSnapshotDependencies (dependencies)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
       // SONAR-4586
       // On MsSQL, the maximum number of parameters allowed in a query is 2000, so we have to execute 3 queries instead of one with 3 or
       // inside
-      purgeMapper.deleteSnapshotDependenciesFromSnapshotId(partSnapshotIds);
-      purgeMapper.deleteSnapshotDependenciesToSnapshotId(partSnapshotIds);
-      purgeMapper.deleteSnapshotDependenciesProjectSnapshotId(partSnapshotIds);
+      return Math.max(0, mapper.deleteSnapshotDependenciesFromSnapshotId(snapshotIds))
+        + Math.max(0, mapper.deleteSnapshotDependenciesToSnapshotId(snapshotIds))
+        + Math.max(0, mapper.deleteSnapshotDependenciesProjectSnapshotId(snapshotIds));
     }
-    session.commit();
-    profiler.stop();
-  }
+  };
+
+  private static final TableDelete SNAPSHOT_DUPLICATIONS = new TableDelete("deleteSnapshotDuplications (duplications_index)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+      return mapper.deleteSnapshotDuplications(snapshotIds);
+    }
+  };
+
+  private static final TableDelete SNAPSHOT_EVENTS = new TableDelete("deleteSnapshotEvents (events)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+      return mapper.deleteSnapshotEvents(snapshotIds);
+    }
+  };
+
+  private static final TableDelete SNAPSHOT_MEASURES = new TableDelete("deleteSnapshotMeasures (project_measures)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+      return mapper.deleteSnapshotMeasures(snapshotIds);
+    }
+  };
+
+  private static final TableDelete SNAPSHOT_GRAPHS = new TableDelete("deleteSnapshotGraphs (graphs)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+      return mapper.deleteSnapshotGraphs(snapshotIds);
+    }
+  };
+
+  private static final TableDelete SNAPSHOTS = new TableDelete("deleteSnapshot (snapshots)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+      return mapper.deleteSnapshot(snapshotIds);
+    }
+  };
+
+  private static final TableDelete PURGE_STATUS = new TableDelete("updatePurgeStatusToOne (snapshots)") {
+    @Override
+    int delete(PurgeMapper mapper, List<Long> snapshotIds) {
+      return mapper.updatePurgeStatusToOne(snapshotIds);
+    }
+  };
 
   public void deleteFileSources(String rootUuid) {
     profiler.start("deleteFileSources (file_sources)");
@@ -45,6 +45,7 @@ import static org.sonar.api.utils.DateUtils.dateToLong;
  */
 public class PurgeDao {
   private static final Logger LOG = LoggerFactory.getLogger(PurgeDao.class);
+  private static final int MAX_SNAPSHOTS_PER_QUERY = 1000;
   private final MyBatis mybatis;
   private final ResourceDao resourceDao;
   private final System2 system2;
@@ -70,12 +71,16 @@ public class PurgeDao {
 
   public void purge(DbSession session, PurgeConfiguration conf, PurgeListener purgeListener) {
     PurgeMapper mapper = session.getMapper(PurgeMapper.class);
-    PurgeCommands commands = new PurgeCommands(session, mapper, profiler);
+    PurgeCommands commands = new PurgeCommands(session, mapper, profiler, mybatis);
     List<ResourceDto> projects = getProjects(conf.rootProjectIdUuid().getId(), session);
-    for (ResourceDto project : projects) {
-      LOG.debug("-> Clean " + project.getLongName() + " [id=" + project.getId() + "]");
-      deleteAbortedBuilds(project, commands);
-      purge(project, conf.scopesWithoutHistoricalData(), commands);
+    try {
+      for (ResourceDto project : projects) {
+        LOG.debug("-> Clean " + project.getLongName() + " [id=" + project.getId() + "]");
+        deleteAbortedBuilds(project, commands);
+        purge(project, conf.scopesWithoutHistoricalData(), commands);
+      }
+    } finally {
+      commands.close();
     }
     for (ResourceDto project : projects) {
       disableOrphanResources(project, session, mapper, purgeListener);
@@ -108,6 +113,10 @@ public class PurgeDao {
     return !commands.selectSnapshotIds(query).isEmpty();
   }
 
+  /**
+   * Snapshot ids are collected first for the whole project, so that each table is then purged with a few set-based
+   * statements instead of a sequence of statements per snapshot.
+   */
   private void purge(ResourceDto project, String[] scopesWithoutHistoricalData, PurgeCommands purgeCommands) {
     List<Long> projectSnapshotIds = purgeCommands.selectSnapshotIds(
       PurgeSnapshotQuery.create()
@@ -115,22 +124,31 @@ public class PurgeDao {
         .setIslast(false)
         .setNotPurged(true)
       );
-    for (final Long projectSnapshotId : projectSnapshotIds) {
-      LOG.debug("<- Clean snapshot " + projectSnapshotId);
-      if (!ArrayUtils.isEmpty(scopesWithoutHistoricalData)) {
-        PurgeSnapshotQuery query = PurgeSnapshotQuery.create()
+    if (projectSnapshotIds.isEmpty()) {
+      return;
+    }
+    LOG.debug("<- Clean " + projectSnapshotIds.size() + " snapshots");
+    List<List<Long>> projectSnapshotIdPartitions = Lists.partition(projectSnapshotIds, MAX_SNAPSHOTS_PER_QUERY);
+    if (!ArrayUtils.isEmpty(scopesWithoutHistoricalData)) {
+      List<Long> snapshotIdsToDelete = Lists.newArrayList();
+      for (List<Long> rootSnapshotIds : projectSnapshotIdPartitions) {
+        snapshotIdsToDelete.addAll(purgeCommands.selectSnapshotIds(PurgeSnapshotQuery.create()
           .setIslast(false)
           .setScopes(scopesWithoutHistoricalData)
-          .setRootSnapshotId(projectSnapshotId);
-        purgeCommands.deleteSnapshots(query);
+          .setRootSnapshotIds(rootSnapshotIds)));
       }
+      purgeCommands.deleteSnapshots(snapshotIdsToDelete);
+    }
 
-      PurgeSnapshotQuery query = PurgeSnapshotQuery.create().setRootSnapshotId(projectSnapshotId).setNotPurged(true);
-      purgeCommands.purgeSnapshots(query);
-
-      // must be executed at the end for reentrance
-      purgeCommands.purgeSnapshots(PurgeSnapshotQuery.create().setId(projectSnapshotId).setNotPurged(true));
+    List<Long> snapshotIdsToPurge = Lists.newArrayList();
+    for (List<Long> rootSnapshotIds : projectSnapshotIdPartitions) {
+      snapshotIdsToPurge.addAll(purgeCommands.selectSnapshotIds(PurgeSnapshotQuery.create()
+        .setRootSnapshotIds(rootSnapshotIds)
+        .setNotPurged(true)));
     }
+    // project snapshots must be flagged as purged at the end for reentrance
+    snapshotIdsToPurge.addAll(projectSnapshotIds);
+    purgeCommands.purgeSnapshots(snapshotIdsToPurge);
   }
 
   private void disableOrphanResources(final ResourceDto project, final SqlSession session, final PurgeMapper purgeMapper, final PurgeListener purgeListener) {
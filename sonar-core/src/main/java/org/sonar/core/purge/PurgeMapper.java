@@ -35,27 +35,27 @@ public interface PurgeMapper {
 
   List<IdUuidPair> selectComponentIdUuidsByRootId(long rootProjectId);
 
-  void deleteSnapshot(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshot(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotDependenciesFromSnapshotId(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotDependenciesFromSnapshotId(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotDependenciesToSnapshotId(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotDependenciesToSnapshotId(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotDependenciesProjectSnapshotId(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotDependenciesProjectSnapshotId(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotDuplications(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotDuplications(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotEvents(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotEvents(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotMeasures(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotMeasures(@Param("snapshotIds") List<Long> snapshotIds);
 
-  void deleteSnapshotGraphs(@Param("snapshotIds") List<Long> snapshotIds);
+  int deleteSnapshotGraphs(@Param("snapshotIds") List<Long> snapshotIds);
 
   List<Long> selectMetricIdsWithoutHistoricalData();
 
-  void deleteSnapshotWastedMeasures(@Param("snapshotIds") List<Long> snapshotIds, @Param("mids") List<Long> metricIds);
+  int deleteSnapshotWastedMeasures(@Param("snapshotIds") List<Long> snapshotIds, @Param("mids") List<Long> metricIds);
 
-  void updatePurgeStatusToOne(long snapshotId);
+  int updatePurgeStatusToOne(@Param("snapshotIds") List<Long> snapshotIds);
 
   void disableResource(long resourceId);
 
@@ -85,6 +85,8 @@ public interface PurgeMapper {
 
   void deleteResourceGraphs(@Param("resourceIds") List<Long> resourceIds);
 
+  void deleteResourceLastMeasures(@Param("resourceIds") List<Long> resourceIds);
+
   void deleteAuthors(@Param("resourceIds") List<Long> resourceIds);
 
   List<PurgeableSnapshotDto> selectPurgeableSnapshotsWithEvents(long resourceId);
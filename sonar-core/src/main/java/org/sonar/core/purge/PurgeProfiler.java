@@ -34,6 +34,7 @@ import java.util.Map.Entry;
 public class PurgeProfiler {
 
   private Map<String, Long> durations = new HashMap<String, Long>();
+  private Map<String, Long> rows = new HashMap<String, Long>();
   private long startTime;
   private String currentTable;
   private final Clock clock;
@@ -47,8 +48,9 @@ public class PurgeProfiler {
     this.clock = clock;
   }
 
-  public void reset() {
+  public synchronized void reset() {
     durations.clear();
+    rows.clear();
   }
 
   void start(String table) {
@@ -57,16 +59,38 @@ public class PurgeProfiler {
   }
 
   void stop() {
-    final Long cumulatedDuration;
-    if (durations.containsKey(currentTable)) {
-      cumulatedDuration = durations.get(currentTable);
-    } else {
-      cumulatedDuration = 0L;
-    }
-    durations.put(currentTable, cumulatedDuration + (clock.now() - startTime));
+    stop(0L);
+  }
+
+  /**
+   * @param deletedRows number of rows deleted or updated since {@link #start(String)}, zero if unknown
+   */
+  void stop(long deletedRows) {
+    record(currentTable, clock.now() - startTime, deletedRows);
+  }
+
+  /**
+   * Same as {@link #start(String)} and {@link #stop(long)}, but safe to be called by tables that
+   * are purged concurrently.
+   */
+  synchronized void record(String table, long duration, long deletedRows) {
+    durations.put(table, get(durations, table) + duration);
+    rows.put(table, get(rows, table) + deletedRows);
   }
 
-  public void dump(long totalTime, Logger logger) {
+  long now() {
+    return clock.now();
+  }
+
+  private static long get(Map<String, Long> values, String table) {
+    Long value = values.get(table);
+    return value == null ? 0L : value;
+  }
+
+  /**
+   * Durations of tables purged concurrently are cumulated, so percentages may sum up to more than 100%.
+   */
+  public synchronized void dump(long totalTime, Logger logger) {
     List<Entry<String, Long>> data = new ArrayList<Map.Entry<String, Long>>(durations.entrySet());
     Collections.sort(data, new Comparator<Entry<String, Long>>() {
       @Override
@@ -79,6 +103,10 @@ public class PurgeProfiler {
       StringBuilder sb = new StringBuilder();
       sb.append("   o ").append(entry.getKey()).append(": ").append(TimeUtils.formatDuration(entry.getValue()))
           .append(" (").append((int) (entry.getValue() / percent)).append("%)");
+      long tableRows = get(rows, entry.getKey());
+      if (tableRows > 0) {
+        sb.append(", ").append(tableRows).append(" rows (").append(tableRows * 1000L / Math.max(1L, entry.getValue())).append(" rows/s)");
+      }
       logger.info(sb.toString());
     }
   }
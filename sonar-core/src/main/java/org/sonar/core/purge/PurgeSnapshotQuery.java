@@ -19,10 +19,13 @@
  */
 package org.sonar.core.purge;
 
+import java.util.List;
+
 public final class PurgeSnapshotQuery {
   private Long id;
   private Long rootProjectId;
   private Long rootSnapshotId;
+  private List<Long> rootSnapshotIds;
   private Long resourceId;
   private String[] scopes;
   private String[] qualifiers;
@@ -110,6 +113,18 @@ public final class PurgeSnapshotQuery {
     return this;
   }
 
+  public List<Long> getRootSnapshotIds() {
+    return rootSnapshotIds;
+  }
+
+  /**
+   * The list is used in a SQL "IN" clause, so its size must not exceed 1000 on Oracle.
+   */
+  public PurgeSnapshotQuery setRootSnapshotIds(List<Long> rootSnapshotIds) {
+    this.rootSnapshotIds = rootSnapshotIds;
+    return this;
+  }
+
   public Long getResourceId() {
     return resourceId;
   }
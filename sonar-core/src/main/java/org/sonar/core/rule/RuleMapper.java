@@ -25,6 +25,7 @@ import org.sonar.api.rule.RuleKey;
 import javax.annotation.Nullable;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
 public interface RuleMapper {
@@ -41,6 +42,8 @@ public interface RuleMapper {
 
   RuleDto selectByKey(RuleKey ruleKey);
 
+  List<RuleDto> selectByKeys(@Param("keys") Collection<RuleKey> keys);
+
   RuleDto selectByName(String name);
 
   void update(RuleDto rule);
@@ -57,6 +57,19 @@ public class FileSourceDao implements BatchComponent, ServerComponent, DaoCompon
     }
   }
 
+  /**
+   * Date of the last update of the source of the given file, or <code>null</code> if the file has no source.
+   */
+  @CheckForNull
+  public Long selectUpdatedAt(String fileUuid) {
+    DbSession session = mybatis.openSession(false);
+    try {
+      return session.getMapper(FileSourceMapper.class).selectUpdatedAt(fileUuid);
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+  }
+
   public <T> void readDataStream(String fileUuid, Function<InputStream, T> function) {
     DbSession dbSession = mybatis.openSession(false);
     Connection connection = dbSession.getConnection();
@@ -19,6 +19,9 @@
  */
 package org.sonar.core.source.db;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
 import net.jpountz.lz4.LZ4BlockInputStream;
 import net.jpountz.lz4.LZ4BlockOutputStream;
 import org.apache.commons.io.IOUtils;
@@ -31,6 +34,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public class FileSourceDto {
 
@@ -118,6 +123,44 @@ public class FileSourceDto {
     }
   }
 
+  /**
+   * Decompress and deserialize only the lines <code>from</code> to <code>to</code> (both inclusive, starting at 1)
+   * of column FILE_SOURCES.BINARY_DATA. Preceding lines are skipped without being parsed and
+   * decompression stops as soon as line <code>to</code> is read.
+   * The parameter "input" is always closed by this method.
+   */
+  public static List<FileSourceDb.Line> decodeLines(InputStream binaryInput, int from, int to) {
+    LZ4BlockInputStream lz4Input = null;
+    try {
+      lz4Input = new LZ4BlockInputStream(binaryInput);
+      CodedInputStream protoInput = CodedInputStream.newInstance(lz4Input);
+      List<FileSourceDb.Line> lines = new ArrayList<>();
+      int lineIndex = 0;
+      while (lineIndex < to) {
+        int tag = protoInput.readTag();
+        if (tag == 0) {
+          // end of data
+          break;
+        }
+        if (WireFormat.getTagFieldNumber(tag) != FileSourceDb.Data.LINES_FIELD_NUMBER) {
+          protoInput.skipField(tag);
+        } else {
+          lineIndex++;
+          if (lineIndex >= from) {
+            lines.add(protoInput.readMessage(FileSourceDb.Line.PARSER, ExtensionRegistryLite.getEmptyRegistry()));
+          } else {
+            protoInput.skipRawBytes(protoInput.readRawVarint32());
+          }
+        }
+      }
+      return lines;
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to decompress and deserialize source data", e);
+    } finally {
+      IOUtils.closeQuietly(lz4Input);
+    }
+  }
+
   /**
    * Set compressed value of the protobuf message {@link org.sonar.server.source.db.FileSourceDb.Data}
    */
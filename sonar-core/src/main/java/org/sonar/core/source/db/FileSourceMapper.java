@@ -33,6 +33,9 @@ public interface FileSourceMapper {
   @CheckForNull
   FileSourceDto select(String fileUuid);
 
+  @CheckForNull
+  Long selectUpdatedAt(String fileUuid);
+
   void insert(FileSourceDto dto);
 
   void update(FileSourceDto dto);
@@ -21,10 +21,14 @@ package org.sonar.core.template;
 
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 public interface LoadedTemplateMapper {
 
   int countByTypeAndKey(@Param("type") String type, @Param("key") String key);
 
+  List<String> selectKeysByType(@Param("type") String type);
+
   void insert(LoadedTemplateDto template);
 
   void delete(@Param("type") String type, @Param("key") String key);
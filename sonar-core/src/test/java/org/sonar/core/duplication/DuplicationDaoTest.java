@@ -19,10 +19,14 @@
  */
 package org.sonar.core.duplication;
 
+import com.google.common.collect.Lists;
+import org.apache.ibatis.executor.result.DefaultResultHandler;
 import org.junit.Before;
 import org.junit.Test;
 import org.sonar.core.persistence.AbstractDaoTestCase;
 
+import javax.annotation.Nullable;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -42,7 +46,7 @@ public class DuplicationDaoTest extends AbstractDaoTestCase {
   public void shouldGetByHash() throws Exception {
     setupData("shouldGetByHash");
 
-    List<DuplicationUnitDto> blocks = dao.selectCandidates(10, 7, "java");
+    List<DuplicationUnitDto> blocks = selectCandidates(Arrays.asList("aa", "bb"), 7);
     assertThat(blocks.size(), is(1));
 
     DuplicationUnitDto block = blocks.get(0);
@@ -53,8 +57,24 @@ public class DuplicationDaoTest extends AbstractDaoTestCase {
     assertThat("block end line", block.getEndLine(), is(2));
 
     // check null for lastSnapshotId
-    blocks = dao.selectCandidates(10, null, "java");
+    blocks = selectCandidates(Arrays.asList("aa", "bb"), null);
+    assertThat(blocks.size(), is(2));
+  }
+
+  @Test
+  public void select_candidates_by_chunks_of_hashes() throws Exception {
+    setupData("shouldGetByHash");
+
+    List<String> hashes = Lists.newArrayList();
+    for (int i = 0; i < 2 * DuplicationDao.MAX_HASHES_PER_QUERY + 10; i++) {
+      hashes.add("hash" + i);
+    }
+    hashes.add("aa");
+
+    List<DuplicationUnitDto> blocks = selectCandidates(hashes, null);
     assertThat(blocks.size(), is(2));
+
+    assertThat(selectCandidates(Arrays.<String>asList(), null).size(), is(0));
   }
 
   @Test
@@ -66,4 +86,9 @@ public class DuplicationDaoTest extends AbstractDaoTestCase {
     checkTables("shouldInsert", "duplications_index");
   }
 
+  private List<DuplicationUnitDto> selectCandidates(List<String> hashes, @Nullable Integer lastSnapshotId) {
+    DefaultResultHandler handler = new DefaultResultHandler();
+    dao.selectCandidates(hashes, lastSnapshotId, "java", handler);
+    return (List) handler.getResultList();
+  }
 }
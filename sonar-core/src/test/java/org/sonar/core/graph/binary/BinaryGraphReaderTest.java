@@ -0,0 +1,167 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class BinaryGraphReaderTest {
+
+  @Test
+  public void read_all_vertices_and_edges() {
+    for (boolean deflate : new boolean[] {true, false}) {
+      TinkerGraph graph = new TinkerGraph();
+      new BinaryGraphReader().read(new ByteArrayInputStream(write(newGraph(), deflate)), graph);
+
+      assertThat(graph.getVertices()).hasSize(3);
+      assertThat(graph.getEdges()).hasSize(2);
+
+      Vertex file = graph.getVertex("1");
+      assertThat(file.getProperty("key")).isEqualTo("org.struts:Action.java");
+      assertThat(file.getProperty("sid")).isEqualTo(123L);
+      assertThat(file.getProperty("size")).isEqualTo(-42);
+      assertThat(file.getProperty("ratio")).isEqualTo(0.75d);
+      assertThat(file.getProperty("weight")).isEqualTo(1.5f);
+      assertThat(file.getProperty("enabled")).isEqualTo(true);
+
+      Edge covers = graph.getEdge("10");
+      assertThat(covers.getLabel()).isEqualTo("covers");
+      assertThat(covers.getVertex(Direction.OUT).getId()).isEqualTo("2");
+      assertThat(covers.getVertex(Direction.IN).getId()).isEqualTo("1");
+      assertThat(covers.getProperty("lines")).isEqualTo(Arrays.asList(1, 2, null, 1000000));
+      Map<String, Object> map = (Map<String, Object>) covers.getProperty("meta");
+      assertThat(map).containsEntry("name", "test").containsEntry("nested", Arrays.asList("a", "b"));
+    }
+  }
+
+  @Test
+  public void read_single_vertex_and_its_outgoing_edges() {
+    TinkerGraph graph = new TinkerGraph();
+    Vertex test = new BinaryGraphReader().readVertex(new ByteArrayInputStream(write(newGraph(), true)), "2", graph);
+
+    assertThat(test.getProperty("name")).isEqualTo("testExecute");
+    assertThat(test.getEdges(Direction.OUT)).hasSize(1);
+    assertThat(graph.getVertices()).hasSize(2);
+    // target vertex is created without properties
+    assertThat(graph.getVertex("1").getPropertyKeys()).isEmpty();
+    assertThat(graph.getVertex("3")).isNull();
+  }
+
+  @Test
+  public void read_unknown_vertex() {
+    TinkerGraph graph = new TinkerGraph();
+    assertThat(new BinaryGraphReader().readVertex(new ByteArrayInputStream(write(newGraph(), true)), "999", graph)).isNull();
+    assertThat(graph.getVertices()).isEmpty();
+  }
+
+  @Test
+  public void read_graph_of_many_blocks() {
+    int size = BinaryGraphFormat.VERTICES_PER_BLOCK * 2 + 10;
+    TinkerGraph source = new TinkerGraph();
+    for (int i = 0; i < size; i++) {
+      source.addVertex(String.valueOf(i)).setProperty("key", "file" + i);
+    }
+    for (int i = 0; i < size; i++) {
+      // edges cross the boundaries of blocks
+      source.addEdge("e" + i, source.getVertex(String.valueOf(i)), source.getVertex(String.valueOf((i + 100) % size)), "calls");
+    }
+
+    for (boolean deflate : new boolean[] {true, false}) {
+      byte[] data = write(source, deflate);
+      TinkerGraph graph = new TinkerGraph();
+      new BinaryGraphReader().read(new ByteArrayInputStream(data), graph);
+      assertThat(graph.getVertices()).hasSize(size);
+      assertThat(graph.getEdges()).hasSize(size);
+      assertThat(graph.getEdge("e200").getVertex(Direction.IN).getProperty("key")).isEqualTo("file" + (300 % size));
+
+      for (String id : Arrays.asList("0", "200", String.valueOf(size - 1))) {
+        TinkerGraph single = new TinkerGraph();
+        Vertex vertex = new BinaryGraphReader().readVertex(new ByteArrayInputStream(data), id, single);
+        assertThat(vertex.getProperty("key")).isEqualTo("file" + id);
+        Edge edge = Iterables.getOnlyElement(vertex.getEdges(Direction.OUT));
+        assertThat(edge.getVertex(Direction.IN).getId()).isEqualTo(String.valueOf((Integer.parseInt(id) + 100) % size));
+        assertThat(single.getVertices()).hasSize(2);
+      }
+    }
+  }
+
+  @Test
+  public void fail_if_data_is_not_a_binary_graph() {
+    try {
+      new BinaryGraphReader().read(new ByteArrayInputStream("{\"mode\":\"EXTENDED\"}".getBytes()), new TinkerGraph());
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Data is not a binary graph");
+    }
+  }
+
+  @Test
+  public void fail_if_version_is_not_supported() {
+    byte[] data = write(newGraph(), false);
+    data[BinaryGraphFormat.MAGIC.length] = (byte) (BinaryGraphFormat.VERSION + 1);
+    try {
+      new BinaryGraphReader().read(new ByteArrayInputStream(data), new TinkerGraph());
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Unsupported version of binary graph: " + (BinaryGraphFormat.VERSION + 1));
+    }
+  }
+
+  static TinkerGraph newGraph() {
+    TinkerGraph graph = new TinkerGraph();
+    Vertex file = graph.addVertex("1");
+    file.setProperty("key", "org.struts:Action.java");
+    file.setProperty("sid", 123L);
+    file.setProperty("size", -42);
+    file.setProperty("ratio", 0.75d);
+    file.setProperty("weight", 1.5f);
+    file.setProperty("enabled", true);
+    Vertex test = graph.addVertex("2");
+    test.setProperty("name", "testExecute");
+    Vertex other = graph.addVertex("3");
+    other.setProperty("name", "testOther");
+
+    Edge covers = graph.addEdge("10", test, file, "covers");
+    covers.setProperty("lines", Arrays.asList(1, 2, null, 1000000));
+    covers.setProperty("meta", ImmutableMap.of("name", "test", "nested", Arrays.asList("a", "b")));
+    graph.addEdge("11", other, test, "calls");
+    assertThat(Iterables.size(graph.getEdges())).isEqualTo(2);
+    return graph;
+  }
+
+  static byte[] write(TinkerGraph graph, boolean deflate) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new BinaryGraphWriter(deflate).write(graph, output);
+    return output.toByteArray();
+  }
+}
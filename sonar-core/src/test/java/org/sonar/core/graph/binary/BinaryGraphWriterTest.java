@@ -0,0 +1,82 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
+import org.junit.Test;
+import org.sonar.core.graph.graphson.GraphsonMode;
+import org.sonar.core.graph.graphson.GraphsonWriter;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class BinaryGraphWriterTest {
+
+  @Test
+  public void write_header() {
+    byte[] data = BinaryGraphReaderTest.write(BinaryGraphReaderTest.newGraph(), true);
+
+    assertThat(data[0]).isEqualTo((byte) 'S');
+    assertThat(data[3]).isEqualTo((byte) 'B');
+    assertThat(data[4]).isEqualTo((byte) BinaryGraphWriter.VERSION);
+    assertThat(data[5]).isEqualTo((byte) BinaryGraphFormat.FLAG_DEFLATE);
+    assertThat(BinaryGraphReaderTest.write(BinaryGraphReaderTest.newGraph(), false)[5]).isEqualTo((byte) 0);
+  }
+
+  @Test
+  public void smaller_than_graphson() throws Exception {
+    TinkerGraph graph = new TinkerGraph();
+    Vertex previous = null;
+    for (int i = 0; i < 200; i++) {
+      Vertex vertex = graph.addVertex(String.valueOf(i));
+      vertex.setProperty("key", "org.struts:org/struts/Action" + i + ".java");
+      vertex.setProperty("qualifier", "FIL");
+      vertex.setProperty("sid", 1000L + i);
+      if (previous != null) {
+        graph.addEdge(null, previous, vertex, "covers").setProperty("lines", Arrays.asList(1, 2, 3, i));
+      }
+      previous = vertex;
+    }
+    StringWriter graphson = new StringWriter();
+    new GraphsonWriter().write(graph, graphson, GraphsonMode.EXTENDED);
+
+    int uncompressed = BinaryGraphReaderTest.write(graph, false).length;
+    int compressed = BinaryGraphReaderTest.write(graph, true).length;
+    assertThat(uncompressed).isLessThan(graphson.toString().length() / 3);
+    assertThat(compressed).isLessThan(uncompressed);
+  }
+
+  @Test
+  public void fail_on_unsupported_property_type() {
+    TinkerGraph graph = new TinkerGraph();
+    graph.addVertex("1").setProperty("date", new Date());
+    try {
+      BinaryGraphReaderTest.write(graph, true);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Unsupported type of graph property: class java.util.Date");
+    }
+  }
+}
@@ -22,6 +22,7 @@ package org.sonar.core.graph.jdbc;
 import org.junit.Before;
 import org.junit.Test;
 import org.sonar.core.persistence.AbstractDaoTestCase;
+import org.sonar.core.persistence.DbSession;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -72,6 +73,29 @@ public class GraphDaoTest extends AbstractDaoTestCase {
     assertThat(testPlan.getData()).isEqualTo("{testplan of snapshot 123}");
   }
 
+  @Test
+  public void insert_and_select_binary_graph() {
+    DbSession session = getMyBatis().openSession(false);
+    try {
+      session.getMapper(GraphDtoMapper.class).insert(new GraphDto()
+        .setResourceId(1L)
+        .setSnapshotId(10L)
+        .setFormat(GraphDto.FORMAT_BINARY)
+        .setVersion(1)
+        .setPerspective("testplan")
+        .setRootVertexId("12")
+        .setBinaryData(new byte[] {1, 2, 3}));
+      session.commit();
+    } finally {
+      session.close();
+    }
+
+    GraphDto testPlan = dao.selectBySnapshot("testplan", 10L);
+    assertThat(testPlan.getFormat()).isEqualTo("binary");
+    assertThat(testPlan.getData()).isNull();
+    assertThat(testPlan.getBinaryData()).isEqualTo(new byte[] {1, 2, 3});
+  }
+
   @Test
   public void select_by_missing_component() {
     assertThat(dao.selectByComponent("testplan", "org.other:unknown")).isNull();
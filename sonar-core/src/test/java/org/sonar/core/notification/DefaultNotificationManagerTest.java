@@ -37,6 +37,7 @@ import org.sonar.jpa.test.AbstractDbUnitTestCase;
 import java.io.InvalidClassException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +45,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -109,6 +111,41 @@ public class DefaultNotificationManagerTest extends AbstractDbUnitTestCase {
     inOrder.verify(notificationQueueDao).delete(dtos);
   }
 
+  @Test
+  public void get_batch_from_queue_and_delete_with_single_request() throws Exception {
+    List<NotificationQueueDto> dtos = Arrays.asList(
+      NotificationQueueDto.toNotificationQueueDto(new Notification("test1")),
+      NotificationQueueDto.toNotificationQueueDto(new Notification("test2")));
+    when(notificationQueueDao.findOldest(10)).thenReturn(dtos);
+
+    List<Notification> notifications = manager.getFromQueue(10);
+
+    assertThat(notifications).extracting("type").containsExactly("test1", "test2");
+    verify(notificationQueueDao, times(1)).delete(dtos);
+  }
+
+  @Test
+  public void get_empty_batch_from_queue() throws Exception {
+    when(notificationQueueDao.findOldest(10)).thenReturn(Collections.<NotificationQueueDto>emptyList());
+
+    assertThat(manager.getFromQueue(10)).isEmpty();
+    verify(notificationQueueDao, never()).delete(any(List.class));
+  }
+
+  @Test
+  public void cache_subscribers_until_caching_is_stopped() {
+    when(propertiesDao.findNotificationSubscribers("NewViolations", "Email", "struts")).thenReturn(Lists.newArrayList("user1"));
+
+    manager.startCachingSubscribers();
+    assertThat(manager.findNotificationSubscribers(dispatcher, "struts").keySet()).containsOnly("user1");
+    assertThat(manager.findNotificationSubscribers(dispatcher, "struts").keySet()).containsOnly("user1");
+    verify(propertiesDao, times(1)).findNotificationSubscribers("NewViolations", "Email", "struts");
+
+    manager.stopCachingSubscribers();
+    manager.findNotificationSubscribers(dispatcher, "struts");
+    verify(propertiesDao, times(2)).findNotificationSubscribers("NewViolations", "Email", "struts");
+  }
+
   // SONAR-4739
   @Test
   public void shouldNotFailWhenUnableToDeserialize() throws Exception {
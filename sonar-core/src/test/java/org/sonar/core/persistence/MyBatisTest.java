@@ -21,6 +21,7 @@ package org.sonar.core.persistence;
 
 import org.sonar.core.cluster.WorkQueue;
 
+import org.apache.commons.dbcp.BasicDataSource;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.hamcrest.core.Is;
@@ -28,10 +29,14 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.sonar.core.config.Logback;
+import org.sonar.core.persistence.profiling.PoolStatistics;
+import org.sonar.core.persistence.profiling.ProfiledDataSource;
+import org.sonar.core.persistence.profiling.SqlStatistics;
 import org.sonar.core.rule.RuleMapper;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class MyBatisTest {
   private static H2Database database;
@@ -73,4 +78,27 @@ public class MyBatisTest {
       session.close();
     }
   }
+
+  @Test
+  public void track_sessions_when_datasource_is_profiled() {
+    PoolStatistics poolStatistics = new PoolStatistics(0L);
+    Database profiledDatabase = mock(Database.class);
+    when(profiledDatabase.getDialect()).thenReturn(database.getDialect());
+    when(profiledDatabase.getDataSource()).thenReturn(
+      new ProfiledDataSource((BasicDataSource) database.getDataSource(), new SqlStatistics(1000L, 10), poolStatistics));
+    MyBatis myBatis = new MyBatis(profiledDatabase, logback, queue);
+    myBatis.start();
+
+    DbSession session = myBatis.openSession(false);
+    try {
+      assertThat(session.getMapper(RuleMapper.class).selectAll().size(), Is.is(0));
+      assertThat(poolStatistics.getOpenSessionCount(), Is.is(1));
+      assertThat(poolStatistics.getLongSessions().get(0).getStack(), notNullValue());
+    } finally {
+      session.close();
+    }
+    assertThat(poolStatistics.getOpenSessionCount(), Is.is(0));
+    assertThat(poolStatistics.getConnectionBorrowCount(), Is.is(1L));
+    assertThat(poolStatistics.getClosedLongSessionCount(), Is.is(1L));
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.persistence.profiling;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PoolStatisticsTest {
+
+  @Test
+  public void record_connection_wait_and_held_durations() {
+    PoolStatistics sut = new PoolStatistics(1000L);
+    assertThat(sut.getConnectionAverageWaitMs()).isEqualTo(0L);
+    assertThat(sut.getConnectionAverageHeldMs()).isEqualTo(0L);
+
+    sut.recordBorrow(2L);
+    sut.recordBorrow(10L);
+    sut.recordReturn(100L);
+    sut.recordReturn(300L);
+
+    assertThat(sut.getConnectionBorrowCount()).isEqualTo(2L);
+    assertThat(sut.getConnectionAverageWaitMs()).isEqualTo(6L);
+    assertThat(sut.getConnectionMaxWaitMs()).isEqualTo(10L);
+    assertThat(sut.getConnectionAverageHeldMs()).isEqualTo(200L);
+    assertThat(sut.getConnectionMaxHeldMs()).isEqualTo(300L);
+  }
+
+  @Test
+  public void track_open_sessions() {
+    PoolStatistics sut = new PoolStatistics(1000L);
+
+    PoolStatistics.OpenSession session1 = sut.openSession();
+    PoolStatistics.OpenSession session2 = sut.openSession();
+    assertThat(sut.getOpenedSessionCount()).isEqualTo(2L);
+    assertThat(sut.getOpenSessionCount()).isEqualTo(2);
+    assertThat(session1.getStack()).isNotEmpty();
+    assertThat(sut.getOpenSessionsByCaller()).hasSize(1);
+    assertThat(sut.getOpenSessionsByCaller().values()).containsOnly(2);
+    // not opened for more than 1 second
+    assertThat(sut.getLongSessions()).isEmpty();
+
+    session1.close();
+    // closing twice has no effect
+    session1.close();
+    assertThat(sut.getOpenSessionCount()).isEqualTo(1);
+    session2.close();
+    assertThat(sut.getOpenSessionCount()).isEqualTo(0);
+    assertThat(sut.getClosedLongSessionCount()).isEqualTo(0L);
+  }
+
+  @Test
+  public void caller_is_the_first_method_out_of_persistence_framework() {
+    PoolStatistics.OpenSession session = new PoolStatistics.OpenSession(new PoolStatistics(1000L), 0L, new StackTraceElement[] {
+      new StackTraceElement("org.sonar.core.persistence.profiling.PoolStatistics", "openSession", "PoolStatistics.java", 1),
+      new StackTraceElement("org.sonar.core.persistence.MyBatis", "openSession", "MyBatis.java", 2),
+      new StackTraceElement("org.sonar.server.db.DbClient", "openSession", "DbClient.java", 3),
+      new StackTraceElement("org.sonar.server.rule.RuleService", "search", "RuleService.java", 4)
+    });
+
+    assertThat(session.getCaller()).isEqualTo("org.sonar.server.rule.RuleService#search");
+  }
+
+  @Test
+  public void detect_long_sessions() {
+    PoolStatistics sut = new PoolStatistics(0L);
+
+    PoolStatistics.OpenSession session = sut.openSession();
+    assertThat(sut.getLongSessions()).containsExactly(session);
+
+    session.close();
+    assertThat(sut.getLongSessions()).isEmpty();
+    assertThat(sut.getClosedLongSessionCount()).isEqualTo(1L);
+  }
+
+  @Test
+  public void capture_stack_of_all_tracked_sessions() {
+    PoolStatistics sut = new PoolStatistics(1000L);
+
+    PoolStatistics.OpenSession session1 = sut.openSession();
+    PoolStatistics.OpenSession session2 = sut.openSession();
+
+    assertThat(session1.getStack()).isNotNull();
+    assertThat(session2.getStack()).isNotNull();
+    assertThat(sut.getOpenSessionsByCaller()).doesNotContainKey(PoolStatistics.UNKNOWN_CALLER);
+  }
+
+  @Test
+  public void limit_number_of_tracked_sessions() {
+    PoolStatistics sut = new PoolStatistics(0L);
+    for (int i = 0; i < PoolStatistics.MAX_TRACKED_SESSIONS; i++) {
+      // never closed
+      sut.openSession();
+    }
+
+    PoolStatistics.OpenSession untracked = sut.openSession();
+    assertThat(untracked.getStack()).isNull();
+    assertThat(sut.getOpenSessionCount()).isEqualTo(PoolStatistics.MAX_TRACKED_SESSIONS + 1);
+    assertThat(sut.getLongSessions()).hasSize(PoolStatistics.MAX_TRACKED_SESSIONS);
+
+    untracked.close();
+    assertThat(sut.getOpenSessionCount()).isEqualTo(PoolStatistics.MAX_TRACKED_SESSIONS);
+    assertThat(sut.getClosedLongSessionCount()).isEqualTo(1L);
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.dbcp.BasicDataSource;
 import org.junit.Rule;
 import org.junit.Test;
 import org.sonar.api.utils.log.LogTester;
+import org.sonar.api.utils.log.LoggerLevel;
 
 import java.io.ByteArrayInputStream;
 import java.lang.reflect.Method;
@@ -30,6 +31,7 @@ import java.lang.reflect.Modifier;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Statement;
 import java.sql.Timestamp;
 
@@ -64,7 +66,7 @@ public class ProfiledDataSourceTest {
     when(connection.createStatement()).thenReturn(statement);
     when(statement.execute(sql)).thenReturn(true);
 
-    ProfiledDataSource ds = new ProfiledDataSource(originDataSource);
+    ProfiledDataSource ds = new ProfiledDataSource(originDataSource, new SqlStatistics(1000L, 10), new PoolStatistics(1000L));
 
     assertThat(ds.getUrl()).isNull();
     assertThat(ds.getConnection().getClientInfo()).isNull();
@@ -84,10 +86,108 @@ public class ProfiledDataSourceTest {
     assertThat(logTester.logs().get(1)).contains(sql);
   }
 
+  @Test
+  public void collect_statistics_of_sql_requests() throws Exception {
+    logTester.setLevel(LoggerLevel.INFO);
+    BasicDataSource originDataSource = mock(BasicDataSource.class);
+    Connection connection = mock(Connection.class);
+    when(originDataSource.getConnection()).thenReturn(connection);
+
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(connection.prepareStatement("select id from projects where kee=?")).thenReturn(preparedStatement);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, true, false);
+
+    Statement statement = mock(Statement.class);
+    when(connection.createStatement()).thenReturn(statement);
+
+    SqlStatistics statistics = new SqlStatistics(0L, 10);
+    ProfiledDataSource ds = new ProfiledDataSource(originDataSource, statistics, new PoolStatistics(1000L));
+
+    PreparedStatement preparedStatementProxy = ds.getConnection().prepareStatement("select id from projects where kee=?");
+    for (int i = 0; i < 2; i++) {
+      preparedStatementProxy.setString(1, "KEY_" + i);
+      ResultSet rs = preparedStatementProxy.executeQuery();
+      while (rs.next()) {
+        // consume rows
+      }
+      rs.close();
+    }
+    ds.getConnection().createStatement().execute("delete from projects where id=12");
+    ds.getConnection().createStatement().execute("delete from projects where id=13");
+
+    // nothing is logged, but statistics are collected
+    assertThat(logTester.logs()).isEmpty();
+    assertThat(statistics.getExecutionCount()).isEqualTo(4);
+    SqlStatistics.StatementStats select = statistics.getStatement("select id from projects where kee=?");
+    assertThat(select.getExecutionCount()).isEqualTo(2);
+    // the mocked result set returns rows only on first execution
+    assertThat(select.getRows()).isEqualTo(2);
+    assertThat(statistics.getStatement("delete from projects where id=1").getExecutionCount()).isEqualTo(2);
+    // threshold is 0 ms, so all statements are slow
+    assertThat(statistics.getSlowStatements()).hasSize(4);
+    assertThat(statistics.getSlowStatements().get(0).getTemplate()).isEqualTo("delete from projects where id=?");
+  }
+
+  @Test
+  public void record_rows_of_result_sets_closed_implicitly() throws Exception {
+    BasicDataSource originDataSource = mock(BasicDataSource.class);
+    Connection connection = mock(Connection.class);
+    when(originDataSource.getConnection()).thenReturn(connection);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, false, true, true, false, true, true, true, false);
+    SqlStatistics statistics = new SqlStatistics(1000L, 10);
+    ProfiledDataSource ds = new ProfiledDataSource(originDataSource, statistics, new PoolStatistics(1000L));
+    String sql = "select id from projects where kee=?";
+
+    Connection connectionProxy = ds.getConnection();
+    PreparedStatement statementProxy = connectionProxy.prepareStatement(sql);
+    consume(statementProxy.executeQuery());
+    // result set is closed by the next execution
+    consume(statementProxy.executeQuery());
+    assertThat(statistics.getStatement(sql).getRows()).isEqualTo(1);
+    // ... then by the close of statement
+    statementProxy.close();
+    assertThat(statistics.getStatement(sql).getRows()).isEqualTo(3);
+    // ... or by the close of connection
+    consume(connectionProxy.prepareStatement(sql).executeQuery());
+    connectionProxy.close();
+    assertThat(statistics.getStatement(sql).getRows()).isEqualTo(6);
+    connectionProxy.close();
+    assertThat(statistics.getStatement(sql).getRows()).isEqualTo(6);
+  }
+
+  private static void consume(ResultSet rs) throws Exception {
+    while (rs.next()) {
+      // consume rows
+    }
+  }
+
+  @Test
+  public void collect_statistics_of_connection_usage() throws Exception {
+    BasicDataSource originDataSource = mock(BasicDataSource.class);
+    Connection connection = mock(Connection.class);
+    when(originDataSource.getConnection()).thenReturn(connection);
+    PoolStatistics poolStatistics = new PoolStatistics(1000L);
+    ProfiledDataSource ds = new ProfiledDataSource(originDataSource, new SqlStatistics(1000L, 10), poolStatistics);
+
+    Connection connectionProxy = ds.getConnection();
+    assertThat(poolStatistics.getConnectionBorrowCount()).isEqualTo(1L);
+    connectionProxy.close();
+    connectionProxy.close();
+
+    verify(connection, times(2)).close();
+    assertThat(poolStatistics.getConnectionAverageHeldMs()).isGreaterThanOrEqualTo(0L);
+  }
+
   @Test
   public void delegate_to_underlying_datasource() throws Exception {
     BasicDataSource delegate = mock(BasicDataSource.class);
-    ProfiledDataSource proxy = new ProfiledDataSource(delegate);
+    ProfiledDataSource proxy = new ProfiledDataSource(delegate, new SqlStatistics(1000L, 10), new PoolStatistics(1000L));
 
     // painful to call all methods
     // so using reflection to check that calls does not fail
@@ -0,0 +1,112 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.persistence.profiling;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatisticsTest {
+
+  SqlStatistics sut = new SqlStatistics(100L, 3);
+
+  @Test
+  public void template_removes_literals() {
+    assertThat(SqlStatistics.template("select * from projects where kee='foo' and id=12")).isEqualTo("select * from projects where kee=? and id=?");
+    assertThat(SqlStatistics.template("select * from projects where kee='it''s' and value > 3.14")).isEqualTo("select * from projects where kee=? and value > ?");
+    assertThat(SqlStatistics.template("select  p1.id\n  from projects p1 where p1.id=?")).isEqualTo("select p1.id from projects p1 where p1.id=?");
+  }
+
+  @Test
+  public void cache_templates() {
+    SqlStatistics statistics = new SqlStatistics(1000L, 10);
+    String sql = "select * from projects where id=12";
+
+    String template = statistics.templateOf(sql);
+    assertThat(template).isEqualTo("select * from projects where id=?");
+    assertThat(statistics.templateOf(new String(sql))).isSameAs(template);
+
+    for (int i = 0; i < SqlStatistics.MAX_CACHED_TEMPLATES + 10; i++) {
+      // cache is full, but templates are still computed
+      assertThat(statistics.templateOf("select * from t" + i)).isEqualTo("select * from t" + i);
+    }
+  }
+
+  @Test
+  public void record_executions_in_histogram() {
+    sut.recordExecution("select * from t", 0L);
+    sut.recordExecution("select * from t", 3L);
+    sut.recordExecution("select * from t", 12000L);
+    sut.recordRows("select * from t", 5L);
+
+    SqlStatistics.StatementStats stats = sut.getStatement("select * from t");
+    assertThat(stats.getExecutionCount()).isEqualTo(3);
+    assertThat(stats.getTotalDurationMs()).isEqualTo(12003L);
+    assertThat(stats.getMaxDurationMs()).isEqualTo(12000L);
+    assertThat(stats.getRows()).isEqualTo(5L);
+    long[] histogram = stats.getHistogram();
+    assertThat(histogram).hasSize(SqlStatistics.StatementStats.getBucketBoundsMs().length + 1);
+    // <= 1ms
+    assertThat(histogram[0]).isEqualTo(1);
+    // <= 5ms
+    assertThat(histogram[2]).isEqualTo(1);
+    // unbounded
+    assertThat(histogram[histogram.length - 1]).isEqualTo(1);
+    assertThat(sut.getExecutionCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void keep_last_slow_statements() {
+    sut.recordExecution("select * from t", 99L);
+    sut.recordExecution("select 2", 100L);
+    sut.recordExecution("select 3", 200L);
+    sut.recordExecution("select 4", 300L);
+    sut.recordExecution("select 5", 400L);
+
+    assertThat(sut.getSlowStatementCount()).isEqualTo(4);
+    List<SqlStatistics.SlowStatement> slowStatements = sut.getSlowStatements();
+    assertThat(slowStatements).hasSize(3);
+    assertThat(slowStatements.get(0).getTemplate()).isEqualTo("select 5");
+    assertThat(slowStatements.get(0).getDurationMs()).isEqualTo(400L);
+    assertThat(slowStatements.get(2).getTemplate()).isEqualTo("select 3");
+  }
+
+  @Test
+  public void number_of_templates_is_bounded() {
+    for (int i = 0; i < SqlStatistics.MAX_TEMPLATES + 10; i++) {
+      sut.recordExecution("select " + i + " from t" + i, 1L);
+    }
+
+    assertThat(sut.getStatements()).hasSize(SqlStatistics.MAX_TEMPLATES + 1);
+    assertThat(sut.getExecutionCount()).isEqualTo(SqlStatistics.MAX_TEMPLATES + 10);
+  }
+
+  @Test
+  public void reset() {
+    sut.recordExecution("select * from t", 500L);
+    sut.reset();
+
+    assertThat(sut.getStatements()).isEmpty();
+    assertThat(sut.getSlowStatements()).isEmpty();
+    assertThat(sut.getSlowStatementCount()).isEqualTo(0);
+  }
+}
@@ -22,12 +22,18 @@ package org.sonar.core.purge;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.Before;
 import org.junit.Test;
+import org.sonar.api.utils.log.Logger;
 import org.sonar.core.persistence.AbstractDaoTestCase;
+import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class PurgeCommandsTest extends AbstractDaoTestCase {
 
@@ -54,6 +60,54 @@ public class PurgeCommandsTest extends AbstractDaoTestCase {
     checkTables("shouldDeleteSnapshot", "snapshots", "project_measures", "duplications_index", "events", "dependencies");
   }
 
+  @Test
+  public void delete_snapshot_tables_concurrently() {
+    setupData("shouldDeleteSnapshot");
+    profiler = new PurgeProfiler(new TickingClock());
+
+    DbSession session = getMyBatis().openSession(false);
+    PurgeCommands commands = new PurgeCommands(session, session.getMapper(PurgeMapper.class), profiler, getMyBatis());
+    try {
+      commands.deleteSnapshots(PurgeSnapshotQuery.create().setId(5L));
+    } finally {
+      commands.close();
+      MyBatis.closeQuietly(session);
+    }
+    checkTables("shouldDeleteSnapshot", "snapshots", "project_measures", "duplications_index", "events", "dependencies");
+
+    Logger logger = mock(Logger.class);
+    profiler.dump(1000L, logger);
+    verify(logger).info(contains("deleteSnapshot (snapshots)"));
+  }
+
+  /**
+   * Each call takes 1ms, so that no table is ignored by {@link PurgeProfiler#dump(long, Logger)}
+   */
+  private static class TickingClock extends PurgeProfiler.Clock {
+    private final AtomicLong now = new AtomicLong();
+
+    @Override
+    public long now() {
+      return now.incrementAndGet();
+    }
+  }
+
+  @Test
+  public void purge_snapshot_tables_concurrently() {
+    setupData("shouldPurgeSnapshot");
+
+    DbSession session = getMyBatis().openSession(false);
+    PurgeCommands commands = new PurgeCommands(session, session.getMapper(PurgeMapper.class), profiler, getMyBatis());
+    try {
+      commands.purgeSnapshots(PurgeSnapshotQuery.create().setId(1L));
+    } finally {
+      commands.close();
+      MyBatis.closeQuietly(session);
+    }
+    checkTables("shouldPurgeSnapshot",
+      "snapshots", "project_measures", "duplications_index", "events", "dependencies");
+  }
+
   /**
    * Test that SQL queries execution do not fail with a huge number of parameter
    */
@@ -119,7 +173,7 @@ public class PurgeCommandsTest extends AbstractDaoTestCase {
       new PurgeCommands(session, profiler).deleteResources(newArrayList(new IdUuidPair(1L, "1")));
     }
 
-    assertEmptyTables("projects", "snapshots", "events", "issues", "issue_changes", "authors");
+    assertEmptyTables("projects", "snapshots", "events", "issues", "issue_changes", "authors", "last_measures");
   }
 
   /**
@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.sonar.api.utils.log.Logger;
 
 import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.endsWith;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -80,6 +81,20 @@ public class PurgeProfilerTest {
     verify(logger).info(contains("bar: 5ms"));
   }
 
+  @Test
+  public void dump_deleted_rows_per_second() {
+    profiler.start("foo");
+    clock.sleep(200);
+    profiler.stop(1000L);
+
+    profiler.record("bar", 10L, 0L);
+    profiler.record("bar", 10L, 0L);
+
+    profiler.dump(500, logger);
+    verify(logger).info(contains("foo: 200ms (40%), 1000 rows (5000 rows/s)"));
+    verify(logger).info(endsWith("bar: 20ms (4%)"));
+  }
+
   private class MockedClock extends org.sonar.core.purge.PurgeProfiler.Clock {
     private long now = 0;
 
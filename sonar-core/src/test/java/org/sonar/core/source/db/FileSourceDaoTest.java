@@ -65,6 +65,14 @@ public class FileSourceDaoTest extends AbstractDaoTestCase {
     assertThat(fileSourceDto.getUpdatedAt()).isEqualTo(1500000000000L);
   }
 
+  @Test
+  public void select_updated_at() throws Exception {
+    setupData("shared");
+
+    assertThat(dao.selectUpdatedAt("FILE1_UUID")).isEqualTo(1500000000000L);
+    assertThat(dao.selectUpdatedAt("unknown")).isNull();
+  }
+
   @Test
   public void select_data() throws Exception {
     setupData("shared");
@@ -0,0 +1,73 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.source.db;
+
+import org.junit.Test;
+import org.sonar.server.source.db.FileSourceDb;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileSourceDtoTest {
+
+  @Test
+  public void encode_and_decode_data() throws Exception {
+    FileSourceDb.Data data = newData(3);
+
+    byte[] bytes = FileSourceDto.encodeData(data);
+
+    assertThat(FileSourceDto.decodeData(bytes)).isEqualTo(data);
+  }
+
+  @Test
+  public void decode_range_of_lines() throws Exception {
+    byte[] bytes = FileSourceDto.encodeData(newData(10));
+
+    List<FileSourceDb.Line> lines = FileSourceDto.decodeLines(new ByteArrayInputStream(bytes), 3, 5);
+
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0).getLine()).isEqualTo(3);
+    assertThat(lines.get(0).getSource()).isEqualTo("line 3");
+    assertThat(lines.get(2).getLine()).isEqualTo(5);
+  }
+
+  @Test
+  public void decode_range_of_lines_greater_than_number_of_lines() throws Exception {
+    byte[] bytes = FileSourceDto.encodeData(newData(4));
+
+    assertThat(FileSourceDto.decodeLines(new ByteArrayInputStream(bytes), 3, Integer.MAX_VALUE)).hasSize(2);
+    assertThat(FileSourceDto.decodeLines(new ByteArrayInputStream(bytes), 5, 10)).isEmpty();
+  }
+
+  private static FileSourceDb.Data newData(int numberOfLines) {
+    FileSourceDb.Data.Builder data = FileSourceDb.Data.newBuilder();
+    for (int i = 1; i <= numberOfLines; i++) {
+      data.addLinesBuilder()
+        .setLine(i)
+        .setSource("line " + i)
+        .setScmAuthor("simon")
+        .addDuplication(i)
+        .build();
+    }
+    return data.build();
+  }
+}
@@ -23,6 +23,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.sonar.core.persistence.AbstractDaoTestCase;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -43,6 +46,13 @@ public class LoadedTemplateDaoTest extends AbstractDaoTestCase {
     assertThat(dao.countByTypeAndKey("PROFILE", "HOTSPOTS"), is(0));
   }
 
+  @Test
+  public void shouldSelectKeysByType() throws Exception {
+    setupData("shouldCountByTypeAndKey");
+    assertThat(dao.selectKeysByType("DASHBOARD"), is((List<String>) Arrays.asList("HOTSPOTS")));
+    assertThat(dao.selectKeysByType("PROFILE").isEmpty(), is(true));
+  }
+
   @Test
   public void shouldInsert() throws Exception {
     setupData("shouldInsert");
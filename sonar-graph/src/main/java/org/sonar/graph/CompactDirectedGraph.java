@@ -0,0 +1,263 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.graph;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable and memory-efficient copy of a {@link DirectedGraphAccessor}. Vertices are numbered
+ * by their iteration order, and adjacency is stored in compressed sparse rows:
+ * the outgoing edges of vertex <code>i</code> are at indices <code>outOffsets[i]</code> (inclusive) to
+ * <code>outOffsets[i + 1]</code> (exclusive) of the arrays <code>outTargets</code>, <code>weights</code> and <code>edges</code>,
+ * sorted by target. Weights are copied in a parallel int array, so that {@link #getWeight(Object, Object)}
+ * does not dereference the edge objects.
+ */
+public final class CompactDirectedGraph<V, E extends Edge<V>> implements DirectedGraphAccessor<V, E> {
+
+  private final Object[] vertices;
+  private final Map<V, Integer> ordinals;
+  private final int[] outOffsets;
+  private final int[] outTargets;
+  private final int[] weights;
+  private final Object[] edges;
+  private final int[] inOffsets;
+  private final int[] inSources;
+  // index in array edges
+  private final int[] inEdges;
+  private final Set<V> vertexSet = new VertexSet();
+
+  private CompactDirectedGraph(DirectedGraphAccessor<V, E> graph) {
+    Map<V, Integer> ordinalsByVertex = new HashMap<V, Integer>();
+    List<V> orderedVertices = new ArrayList<V>(graph.getVertices());
+    for (V vertex : orderedVertices) {
+      ordinalsByVertex.put(vertex, ordinalsByVertex.size());
+    }
+    int edgeCount = 0;
+    for (V vertex : graph.getVertices()) {
+      for (E edge : graph.getOutgoingEdges(vertex)) {
+        if (!ordinalsByVertex.containsKey(edge.getTo())) {
+          ordinalsByVertex.put(edge.getTo(), ordinalsByVertex.size());
+          orderedVertices.add(edge.getTo());
+        }
+        edgeCount++;
+      }
+    }
+    int size = orderedVertices.size();
+    this.ordinals = ordinalsByVertex;
+    this.vertices = orderedVertices.toArray();
+    this.outOffsets = new int[size + 1];
+    this.outTargets = new int[edgeCount];
+    this.weights = new int[edgeCount];
+    this.edges = new Object[edgeCount];
+    this.inOffsets = new int[size + 1];
+    this.inSources = new int[edgeCount];
+    this.inEdges = new int[edgeCount];
+
+    int index = 0;
+    for (int from = 0; from < size; from++) {
+      outOffsets[from] = index;
+      Collection<E> outgoingEdges = graph.getOutgoingEdges((V) vertices[from]);
+      Object[] sortedEdges = outgoingEdges.toArray();
+      long[] sortKeys = new long[sortedEdges.length];
+      for (int i = 0; i < sortedEdges.length; i++) {
+        int to = ordinals.get(((E) sortedEdges[i]).getTo());
+        // target in high bits, position in low bits
+        sortKeys[i] = ((long) to << 32) | i;
+      }
+      Arrays.sort(sortKeys);
+      for (long sortKey : sortKeys) {
+        E edge = (E) sortedEdges[(int) sortKey];
+        outTargets[index] = (int) (sortKey >>> 32);
+        weights[index] = edge.getWeight();
+        edges[index] = edge;
+        inOffsets[outTargets[index] + 1]++;
+        index++;
+      }
+    }
+    outOffsets[size] = index;
+
+    for (int to = 0; to < size; to++) {
+      inOffsets[to + 1] += inOffsets[to];
+    }
+    int[] nextIncoming = Arrays.copyOf(inOffsets, size);
+    for (int from = 0; from < size; from++) {
+      for (int i = outOffsets[from]; i < outOffsets[from + 1]; i++) {
+        int position = nextIncoming[outTargets[i]]++;
+        inSources[position] = from;
+        inEdges[position] = i;
+      }
+    }
+  }
+
+  public static <V, E extends Edge<V>> CompactDirectedGraph<V, E> copyOf(DirectedGraphAccessor<V, E> graph) {
+    return new CompactDirectedGraph<V, E>(graph);
+  }
+
+  public int getVertexCount() {
+    return vertices.length;
+  }
+
+  public int getEdgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * @return the ordinal of the vertex, or -1 if the graph does not contain it
+   */
+  public int getOrdinal(V vertex) {
+    Integer ordinal = ordinals.get(vertex);
+    return ordinal == null ? -1 : ordinal;
+  }
+
+  public V getVertex(int ordinal) {
+    return (V) vertices[ordinal];
+  }
+
+  /**
+   * @return the weight of the edge, or 0 if vertices are not linked
+   */
+  public int getWeight(V from, V to) {
+    int index = indexOf(from, to);
+    return index < 0 ? 0 : weights[index];
+  }
+
+  @Override
+  public E getEdge(V from, V to) {
+    int index = indexOf(from, to);
+    return index < 0 ? null : (E) edges[index];
+  }
+
+  @Override
+  public boolean hasEdge(V from, V to) {
+    return indexOf(from, to) >= 0;
+  }
+
+  @Override
+  public Set<V> getVertices() {
+    return vertexSet;
+  }
+
+  @Override
+  public Collection<E> getOutgoingEdges(V from) {
+    Integer ordinal = ordinals.get(from);
+    if (ordinal == null) {
+      return new EdgeList(null, 0, 0);
+    }
+    return new EdgeList(null, outOffsets[ordinal], outOffsets[ordinal + 1]);
+  }
+
+  @Override
+  public Collection<E> getIncomingEdges(V to) {
+    Integer ordinal = ordinals.get(to);
+    if (ordinal == null) {
+      return new EdgeList(null, 0, 0);
+    }
+    return new EdgeList(inEdges, inOffsets[ordinal], inOffsets[ordinal + 1]);
+  }
+
+  private int indexOf(V from, V to) {
+    Integer fromOrdinal = ordinals.get(from);
+    if (fromOrdinal == null || outOffsets[fromOrdinal] == outOffsets[fromOrdinal + 1]) {
+      return -1;
+    }
+    Integer toOrdinal = ordinals.get(to);
+    if (toOrdinal == null) {
+      return -1;
+    }
+    int start = outOffsets[fromOrdinal];
+    int index = Arrays.binarySearch(outTargets, start, outOffsets[fromOrdinal + 1], toOrdinal);
+    return index < start ? -1 : index;
+  }
+
+  private class EdgeList extends AbstractList<E> {
+    private final int[] indirection;
+    private final int start;
+    private final int end;
+
+    EdgeList(int[] indirection, int start, int end) {
+      this.indirection = indirection;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public E get(int i) {
+      if (i < 0 || i >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + i);
+      }
+      int index = start + i;
+      return (E) edges[indirection == null ? index : indirection[index]];
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+  }
+
+  private class VertexSet extends AbstractSet<V> {
+    @Override
+    public Iterator<V> iterator() {
+      return new Iterator<V>() {
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+          return next < vertices.length;
+        }
+
+        @Override
+        public V next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          V vertex = (V) vertices[next];
+          next++;
+          return vertex;
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return ordinals.containsKey(o);
+    }
+
+    @Override
+    public int size() {
+      return vertices.length;
+    }
+  }
+}
@@ -36,6 +36,7 @@ public class CycleDetector<V> {
   private int maxSearchDepth = -1;
   private boolean maxSearchDepthActivated = false;
   private int maxCyclesToFound = Integer.MAX_VALUE;
+  private StronglyConnectedComponents<V> components;
 
   public CycleDetector(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> vertices) {
     init(graph, vertices, new LinkedHashSet<Edge>());
@@ -53,6 +54,14 @@ public class CycleDetector<V> {
     init(graph, graph.getVertices(), edgesToExclude);
   }
 
+  /**
+   * Search is restricted to the edges inside the cyclic components
+   */
+  CycleDetector(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> vertices, Set<Edge> edgesToExclude, StronglyConnectedComponents<V> components) {
+    init(graph, vertices, edgesToExclude);
+    this.components = components;
+  }
+
   private void init(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> vertices, Set<Edge> edgesToExclude) {
     this.graph = graph;
     this.vertices = new LinkedHashSet<V>(vertices);
@@ -86,6 +95,9 @@ public class CycleDetector<V> {
     }
     try {
       for (V vertex : vertices) {
+        if (components != null && components.getCyclicComponentIndex(vertex) < 0) {
+          continue;
+        }
         if (maxSearchDepthActivated || !analyzedVertices.contains(vertex)) {
           Set<V> tmpAnalyzedVertices = new LinkedHashSet<V>();
           searchCycles(vertex, new ArrayList<V>(), tmpAnalyzedVertices);
@@ -103,7 +115,7 @@ public class CycleDetector<V> {
     tmpAnalyzedVertices.add(fromVertex);
     for (Edge<V> edge : graph.getOutgoingEdges(fromVertex)) {
       V toVertex = edge.getTo();
-      if (!edgesToExclude.contains(edge) && vertices.contains(toVertex)
+      if (!edgesToExclude.contains(edge) && vertices.contains(toVertex) && isInSameComponent(fromVertex, toVertex)
         && (maxSearchDepthActivated || !analyzedVertices.contains(toVertex))) {
         if (path.contains(toVertex)) {
           path.add(toVertex);
@@ -123,6 +135,10 @@ public class CycleDetector<V> {
     path.remove(path.size() - 1);
   }
 
+  private boolean isInSameComponent(V from, V to) {
+    return components == null || components.getCyclicComponentIndex(from) == components.getCyclicComponentIndex(to);
+  }
+
   private Cycle convertListOfVerticesToCycle(List<V> vertices) {
     List<Edge> edges = new ArrayList<Edge>();
     V firstVertex = vertices.get(0);
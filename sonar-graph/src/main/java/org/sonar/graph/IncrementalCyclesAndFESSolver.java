@@ -19,17 +19,27 @@
  */
 package org.sonar.graph;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * Cycles never span several strongly connected components, so they are searched only inside the
+ * cyclic components, and the minimum feedback edge set is solved independently for each of them.
+ * The solver of a component is executed again only when new cycles are found in this component.
+ */
 public class IncrementalCyclesAndFESSolver<V> {
 
   private Set<Cycle> cycles = new LinkedHashSet<Cycle>();
   private long searchCyclesCalls = 0;
   private static final int DEFAULT_MAX_SEARCH_DEPTH_AT_FIRST = 3;
   private static final int DEFAULT_MAX_CYCLES_TO_FOUND_BY_ITERATION = 100;
-  private MinimumFeedbackEdgeSetSolver solver;
+  private final StronglyConnectedComponents<V> components;
+  private final List<Set<Cycle>> cyclesByComponent = new ArrayList<Set<Cycle>>();
+  private final MinimumFeedbackEdgeSetSolver[] solvers;
+  private Set<Edge> feedbackEdges = new LinkedHashSet<Edge>();
   private int iterations = 0;
 
   public IncrementalCyclesAndFESSolver(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> vertices) {
@@ -39,35 +49,67 @@ public class IncrementalCyclesAndFESSolver<V> {
   public IncrementalCyclesAndFESSolver(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> vertices, int maxSearchDepthAtFirst,
     int maxCyclesToFoundByIteration) {
 
+    components = StronglyConnectedComponents.of(graph, vertices);
+    solvers = new MinimumFeedbackEdgeSetSolver[components.getCyclicComponents().size()];
+    for (int i = 0; i < solvers.length; i++) {
+      cyclesByComponent.add(new LinkedHashSet<Cycle>());
+    }
+    if (components.isAcyclic()) {
+      return;
+    }
+
     iterations++;
-    CycleDetector<V> cycleDetector = new CycleDetector<V>(graph, vertices);
+    CycleDetector<V> cycleDetector = new CycleDetector<V>(graph, vertices, new LinkedHashSet<Edge>(), components);
     cycleDetector.detectCyclesWithMaxSearchDepth(maxSearchDepthAtFirst);
     searchCyclesCalls += cycleDetector.getSearchCyclesCalls();
-    cycles.addAll(cycleDetector.getCycles());
-    solver = new MinimumFeedbackEdgeSetSolver(cycles);
-    Set<Edge> edgesToExclude = solver.getEdges();
+    solve(cycleDetector.getCycles());
 
     do {
       iterations++;
-      cycleDetector = new CycleDetector<V>(graph, vertices, edgesToExclude);
+      cycleDetector = new CycleDetector<V>(graph, vertices, feedbackEdges, components);
       cycleDetector.detectCyclesWithUpperLimit(maxCyclesToFoundByIteration);
       searchCyclesCalls += cycleDetector.getSearchCyclesCalls();
-      cycles.addAll(cycleDetector.getCycles());
-      solver = new MinimumFeedbackEdgeSetSolver(cycles);
-      edgesToExclude = solver.getEdges();
+      solve(cycleDetector.getCycles());
     } while (!cycleDetector.getCycles().isEmpty());
   }
 
+  private void solve(Set<Cycle> newCycles) {
+    boolean[] changedComponents = new boolean[solvers.length];
+    for (Cycle cycle : newCycles) {
+      if (cycles.add(cycle)) {
+        int component = components.getCyclicComponentIndex((V) cycle.getEdges()[0].getFrom());
+        cyclesByComponent.get(component).add(cycle);
+        changedComponents[component] = true;
+      }
+    }
+    Set<Edge> edges = new LinkedHashSet<Edge>();
+    for (int i = 0; i < solvers.length; i++) {
+      if (changedComponents[i] || solvers[i] == null) {
+        solvers[i] = new MinimumFeedbackEdgeSetSolver(cyclesByComponent.get(i));
+      }
+      edges.addAll(solvers[i].getEdges());
+    }
+    feedbackEdges = edges;
+  }
+
   public int getWeightOfFeedbackEdgeSet() {
-    return solver.getWeightOfFeedbackEdgeSet();
+    int weight = 0;
+    for (MinimumFeedbackEdgeSetSolver solver : solvers) {
+      weight += solver.getWeightOfFeedbackEdgeSet();
+    }
+    return weight;
   }
 
   public int getNumberOfLoops() {
-    return solver.getNumberOfLoops();
+    int loops = 0;
+    for (MinimumFeedbackEdgeSetSolver solver : solvers) {
+      loops += solver.getNumberOfLoops();
+    }
+    return loops;
   }
 
   public Set<Edge> getFeedbackEdgeSet() {
-    return solver.getEdges();
+    return feedbackEdges;
   }
 
   public Set<Cycle> getCycles() {
@@ -0,0 +1,187 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decomposition of a graph into strongly connected components, computed with an iterative version of
+ * Tarjan's algorithm on an int-indexed adjacency. Every cycle of the graph is included in a single
+ * component, so cycles can be searched component by component.
+ */
+public final class StronglyConnectedComponents<V> {
+
+  private final List<V> vertices;
+  private final int[] componentByVertex;
+  private final boolean[] selfLoop;
+  private final Map<V, Integer> ordinals;
+  private final List<Set<V>> cyclicComponents = new ArrayList<Set<V>>();
+
+  private StronglyConnectedComponents(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> subset) {
+    this.vertices = new ArrayList<V>(new LinkedHashSet<V>(subset));
+    int size = vertices.size();
+    this.ordinals = new HashMap<V, Integer>(size * 2);
+    for (int i = 0; i < size; i++) {
+      ordinals.put(vertices.get(i), i);
+    }
+    this.componentByVertex = new int[size];
+    this.selfLoop = new boolean[size];
+
+    // compressed adjacency: successors of vertex i are targets[offsets[i]] to targets[offsets[i + 1] - 1]
+    int[] offsets = new int[size + 1];
+    int[] targets = new int[16];
+    int edges = 0;
+    for (int i = 0; i < size; i++) {
+      offsets[i] = edges;
+      for (Edge<V> edge : graph.getOutgoingEdges(vertices.get(i))) {
+        Integer to = ordinals.get(edge.getTo());
+        if (to != null) {
+          if (edges == targets.length) {
+            targets = Arrays.copyOf(targets, edges * 2);
+          }
+          targets[edges] = to;
+          edges++;
+          if (to == i) {
+            selfLoop[i] = true;
+          }
+        }
+      }
+    }
+    offsets[size] = edges;
+    run(offsets, targets);
+  }
+
+  public static <V> StronglyConnectedComponents<V> of(DirectedGraphAccessor<V, ? extends Edge> graph) {
+    return new StronglyConnectedComponents<V>(graph, graph.getVertices());
+  }
+
+  /**
+   * Only the vertices of <code>subset</code> and the edges between them are considered.
+   */
+  public static <V> StronglyConnectedComponents<V> of(DirectedGraphAccessor<V, ? extends Edge> graph, Collection<V> subset) {
+    return new StronglyConnectedComponents<V>(graph, subset);
+  }
+
+  /**
+   * Components that contain at least one cycle, i.e. with several vertices or with a single vertex
+   * that references itself. Components are sorted in reverse topological order.
+   */
+  public List<Set<V>> getCyclicComponents() {
+    return cyclicComponents;
+  }
+
+  /**
+   * Index of the component in {@link #getCyclicComponents()}, or -1 if the vertex is not part of any cycle.
+   */
+  public int getCyclicComponentIndex(V vertex) {
+    Integer ordinal = ordinals.get(vertex);
+    return ordinal == null ? -1 : componentByVertex[ordinal];
+  }
+
+  public boolean isAcyclic() {
+    return cyclicComponents.isEmpty();
+  }
+
+  private void run(int[] offsets, int[] targets) {
+    int size = vertices.size();
+    int[] index = new int[size];
+    int[] lowLink = new int[size];
+    boolean[] onStack = new boolean[size];
+    int[] stack = new int[size];
+    int stackSize = 0;
+    // explicit call stack of the depth-first search: vertex and position in its successors
+    int[] callStack = new int[size];
+    int[] nextSuccessor = new int[size];
+    int counter = 0;
+    Arrays.fill(index, -1);
+
+    for (int root = 0; root < size; root++) {
+      if (index[root] >= 0) {
+        continue;
+      }
+      int depth = 0;
+      callStack[0] = root;
+      nextSuccessor[0] = offsets[root];
+      index[root] = counter;
+      lowLink[root] = counter;
+      counter++;
+      stack[stackSize++] = root;
+      onStack[root] = true;
+
+      while (depth >= 0) {
+        int v = callStack[depth];
+        if (nextSuccessor[depth] < offsets[v + 1]) {
+          int w = targets[nextSuccessor[depth]];
+          nextSuccessor[depth]++;
+          if (index[w] < 0) {
+            index[w] = counter;
+            lowLink[w] = counter;
+            counter++;
+            stack[stackSize++] = w;
+            onStack[w] = true;
+            depth++;
+            callStack[depth] = w;
+            nextSuccessor[depth] = offsets[w];
+          } else if (onStack[w]) {
+            lowLink[v] = Math.min(lowLink[v], index[w]);
+          }
+        } else {
+          if (lowLink[v] == index[v]) {
+            stackSize = popComponent(v, stack, stackSize, onStack);
+          }
+          depth--;
+          if (depth >= 0) {
+            int parent = callStack[depth];
+            lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+          }
+        }
+      }
+    }
+  }
+
+  private int popComponent(int root, int[] stack, int stackSize, boolean[] onStack) {
+    int start = stackSize - 1;
+    while (stack[start] != root) {
+      start--;
+    }
+    boolean cyclic = stackSize - start > 1 || selfLoop[root];
+    int componentIndex = cyclic ? cyclicComponents.size() : -1;
+    Set<V> component = cyclic ? new LinkedHashSet<V>() : null;
+    for (int i = start; i < stackSize; i++) {
+      int w = stack[i];
+      onStack[w] = false;
+      componentByVertex[w] = componentIndex;
+      if (component != null) {
+        component.add(vertices.get(w));
+      }
+    }
+    if (component != null) {
+      cyclicComponents.add(component);
+    }
+    return start;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.graph;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactDirectedGraphTest {
+
+  private DirectedGraph<String, StringEdge> graph;
+  private CompactDirectedGraph<String, StringEdge> compact;
+
+  @Before
+  public void init() {
+    graph = DirectedGraph.createStringDirectedGraph();
+    graph.addEdge("A", "B", 3).addEdge("A", "C").addEdge("B", "C", 2).addEdge("C", "A", 5);
+    graph.addVertex("D");
+    compact = CompactDirectedGraph.copyOf(graph);
+  }
+
+  @Test
+  public void vertices() {
+    assertThat(compact.getVertices()).containsExactly("A", "B", "C", "D");
+    assertThat(compact.getVertices().contains("D")).isTrue();
+    assertThat(compact.getVertices().contains("unknown")).isFalse();
+    assertThat(compact.getVertexCount()).isEqualTo(4);
+    assertThat(compact.getOrdinal("C")).isEqualTo(2);
+    assertThat(compact.getOrdinal("unknown")).isEqualTo(-1);
+    assertThat(compact.getVertex(1)).isEqualTo("B");
+  }
+
+  @Test
+  public void edges() {
+    assertThat(compact.getEdgeCount()).isEqualTo(4);
+    assertThat(compact.getEdge("A", "B")).isSameAs(graph.getEdge("A", "B"));
+    assertThat(compact.getEdge("B", "A")).isNull();
+    assertThat(compact.getEdge("unknown", "A")).isNull();
+    assertThat(compact.hasEdge("C", "A")).isTrue();
+    assertThat(compact.hasEdge("A", "D")).isFalse();
+    assertThat(compact.getWeight("A", "B")).isEqualTo(3);
+    assertThat(compact.getWeight("B", "A")).isEqualTo(0);
+  }
+
+  @Test
+  public void outgoing_and_incoming_edges() {
+    assertThat(compact.getOutgoingEdges("A")).containsOnly(graph.getEdge("A", "B"), graph.getEdge("A", "C"));
+    assertThat(compact.getIncomingEdges("C")).containsOnly(graph.getEdge("A", "C"), graph.getEdge("B", "C"));
+    assertThat(compact.getOutgoingEdges("D")).isEmpty();
+    assertThat(compact.getIncomingEdges("D")).isEmpty();
+    assertThat(compact.getOutgoingEdges("unknown")).isEmpty();
+  }
+
+  @Test
+  public void same_dsm_as_original_graph() {
+    Dsm<String> dsm = new Dsm<String>(graph);
+    Dsm<String> compactDsm = new Dsm<String>(compact);
+
+    for (int x = 0; x < dsm.getDimension(); x++) {
+      for (int y = 0; y < dsm.getDimension(); y++) {
+        assertThat(compactDsm.getCell(x, y).getWeight()).isEqualTo(dsm.getCell(x, y).getWeight());
+      }
+    }
+  }
+
+  @Test
+  public void same_cycles_and_feedback_edges_as_original_graph() {
+    IncrementalCyclesAndFESSolver<String> solver = new IncrementalCyclesAndFESSolver<String>(graph, graph.getVertices());
+    IncrementalCyclesAndFESSolver<String> compactSolver = new IncrementalCyclesAndFESSolver<String>(compact, compact.getVertices());
+
+    assertThat(compactSolver.getCycles()).isEqualTo(solver.getCycles());
+    assertThat(compactSolver.getFeedbackEdgeSet()).isEqualTo(solver.getFeedbackEdgeSet());
+
+    Dsm<String> dsm = new Dsm<String>(graph, solver.getFeedbackEdgeSet());
+    DsmTopologicalSorter.sort(dsm);
+    Dsm<String> compactDsm = new Dsm<String>(compact, compactSolver.getFeedbackEdgeSet());
+    DsmTopologicalSorter.sort(compactDsm);
+    for (int i = 0; i < dsm.getDimension(); i++) {
+      assertThat(compactDsm.getVertex(i)).isEqualTo(dsm.getVertex(i));
+    }
+  }
+
+  @Test
+  public void empty_graph() {
+    CompactDirectedGraph<String, StringEdge> empty = CompactDirectedGraph.copyOf(DirectedGraph.createStringDirectedGraph());
+
+    assertThat(empty.getVertices()).isEmpty();
+    assertThat(empty.getOutgoingEdges("A")).isEqualTo(Collections.emptyList());
+  }
+}
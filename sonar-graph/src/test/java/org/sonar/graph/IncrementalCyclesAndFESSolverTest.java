@@ -21,6 +21,10 @@ package org.sonar.graph;
 
 import org.junit.Test;
 
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -69,4 +73,72 @@ public class IncrementalCyclesAndFESSolverTest {
     cyclesAndFESSolver.getFeedbackEdgeSet();
   }
 
+  @Test
+  public void search_cycles_only_in_cyclic_components() {
+    DirectedGraph<String, StringEdge> dcg = DirectedGraph.createStringDirectedGraph();
+    dcg.addEdge("A", "B").addEdge("B", "A");
+    dcg.addEdge("B", "C").addEdge("C", "D").addEdge("D", "E");
+    dcg.addEdge("E", "F").addEdge("F", "E");
+
+    IncrementalCyclesAndFESSolver<String> cyclesAndFESSolver = new IncrementalCyclesAndFESSolver<String>(dcg, dcg.getVertices());
+    assertThat(cyclesAndFESSolver.getCycles().size(), is(2));
+    assertThat(cyclesAndFESSolver.getWeightOfFeedbackEdgeSet(), is(2));
+    // C and D are never visited
+    assertThat(cyclesAndFESSolver.getSearchCyclesCalls(), is(12L));
+  }
+
+  @Test
+  public void acyclic_graph() {
+    DirectedGraph<String, StringEdge> dag = DirectedGraph.createStringDirectedGraph();
+    dag.addEdge("A", "B").addEdge("B", "C");
+
+    IncrementalCyclesAndFESSolver<String> cyclesAndFESSolver = new IncrementalCyclesAndFESSolver<String>(dag, dag.getVertices());
+    assertThat(cyclesAndFESSolver.isAcyclicGraph(), is(true));
+    assertThat(cyclesAndFESSolver.getFeedbackEdgeSet().isEmpty(), is(true));
+    assertThat(cyclesAndFESSolver.getWeightOfFeedbackEdgeSet(), is(0));
+  }
+
+  @Test
+  public void same_results_as_search_on_whole_graph() {
+    Random random = new Random(1234L);
+    for (int i = 0; i < 300; i++) {
+      DirectedGraph<String, StringEdge> dcg = newRandomGraph(random, 3 + random.nextInt(8), 1 + random.nextInt(20));
+
+      IncrementalCyclesAndFESSolver<String> cyclesAndFESSolver = new IncrementalCyclesAndFESSolver<String>(dcg, dcg.getVertices());
+      MinimumFeedbackEdgeSetSolver wholeGraphSolver = solveOnWholeGraph(dcg);
+
+      assertThat(cyclesAndFESSolver.getWeightOfFeedbackEdgeSet(), is(wholeGraphSolver.getWeightOfFeedbackEdgeSet()));
+      assertThat(new CycleDetector<String>(dcg, cyclesAndFESSolver.getFeedbackEdgeSet()).detectCycles().isEmpty(), is(true));
+    }
+  }
+
+  /**
+   * Algorithm used before the decomposition in strongly connected components
+   */
+  private static MinimumFeedbackEdgeSetSolver solveOnWholeGraph(DirectedGraph<String, StringEdge> dcg) {
+    Set<Cycle> cycles = new LinkedHashSet<Cycle>();
+    CycleDetector<String> cycleDetector = new CycleDetector<String>(dcg, dcg.getVertices());
+    cycleDetector.detectCyclesWithMaxSearchDepth(3);
+    cycles.addAll(cycleDetector.getCycles());
+    MinimumFeedbackEdgeSetSolver solver = new MinimumFeedbackEdgeSetSolver(cycles);
+    do {
+      cycleDetector = new CycleDetector<String>(dcg, dcg.getVertices(), solver.getEdges());
+      cycleDetector.detectCyclesWithUpperLimit(100);
+      cycles.addAll(cycleDetector.getCycles());
+      solver = new MinimumFeedbackEdgeSetSolver(cycles);
+    } while (!cycleDetector.getCycles().isEmpty());
+    return solver;
+  }
+
+  private static DirectedGraph<String, StringEdge> newRandomGraph(Random random, int vertices, int edges) {
+    DirectedGraph<String, StringEdge> graph = DirectedGraph.createStringDirectedGraph();
+    for (int i = 0; i < edges; i++) {
+      String from = "V" + random.nextInt(vertices);
+      String to = "V" + random.nextInt(vertices);
+      if (!graph.hasEdge(from, to)) {
+        graph.addEdge(from, to);
+      }
+    }
+    return graph;
+  }
 }
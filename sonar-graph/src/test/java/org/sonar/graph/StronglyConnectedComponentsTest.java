@@ -0,0 +1,109 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.graph;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StronglyConnectedComponentsTest {
+
+  @Test
+  public void acyclic_graph() {
+    DirectedGraph<String, StringEdge> dag = DirectedGraph.createStringDirectedGraph();
+    dag.addEdge("A", "B").addEdge("B", "C").addEdge("A", "C");
+
+    StronglyConnectedComponents<String> components = StronglyConnectedComponents.of(dag);
+
+    assertThat(components.isAcyclic()).isTrue();
+    assertThat(components.getCyclicComponentIndex("A")).isEqualTo(-1);
+  }
+
+  @Test
+  public void cyclic_components() {
+    DirectedGraph<String, StringEdge> dcg = DirectedGraph.createStringDirectedGraph();
+    dcg.addEdge("A", "B").addEdge("B", "C").addEdge("C", "A");
+    dcg.addEdge("C", "D");
+    dcg.addEdge("D", "E").addEdge("E", "F").addEdge("F", "D");
+    dcg.addEdge("G", "G");
+    dcg.addEdge("F", "H");
+
+    StronglyConnectedComponents<String> components = StronglyConnectedComponents.of(dcg);
+
+    // reverse topological order
+    assertThat(components.getCyclicComponents()).hasSize(3);
+    assertThat(components.getCyclicComponents().get(0)).containsOnly("D", "E", "F");
+    assertThat(components.getCyclicComponents().get(1)).containsOnly("A", "B", "C");
+    assertThat(components.getCyclicComponents().get(2)).containsOnly("G");
+    assertThat(components.getCyclicComponentIndex("B")).isEqualTo(1);
+    assertThat(components.getCyclicComponentIndex("H")).isEqualTo(-1);
+    assertThat(components.getCyclicComponentIndex("unknown")).isEqualTo(-1);
+  }
+
+  @Test
+  public void ignore_vertices_outside_subset() {
+    DirectedGraph<String, StringEdge> dcg = DirectedGraph.createStringDirectedGraph();
+    dcg.addEdge("A", "B").addEdge("B", "C").addEdge("C", "A");
+
+    StronglyConnectedComponents<String> components = StronglyConnectedComponents.of(dcg, Arrays.asList("A", "B"));
+
+    assertThat(components.isAcyclic()).isTrue();
+  }
+
+  @Test
+  public void deep_graph_does_not_overflow_stack() {
+    DirectedGraph<Integer, Edge<Integer>> graph = new DirectedGraph<Integer, Edge<Integer>>();
+    int size = 100000;
+    for (int i = 0; i < size; i++) {
+      graph.addEdge(new TestEdge(i, (i + 1) % size));
+    }
+
+    StronglyConnectedComponents<Integer> components = StronglyConnectedComponents.of(graph);
+
+    assertThat(components.getCyclicComponents()).hasSize(1);
+    assertThat(components.getCyclicComponents().get(0)).hasSize(size);
+  }
+
+  static class TestEdge implements Edge<Integer> {
+    private final Integer from, to;
+
+    TestEdge(Integer from, Integer to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public int getWeight() {
+      return 1;
+    }
+
+    @Override
+    public Integer getFrom() {
+      return from;
+    }
+
+    @Override
+    public Integer getTo() {
+      return to;
+    }
+  }
+}